@@ -28,10 +28,15 @@ public class ChatMessageResponse {
     private Long reservationUserId;
 
     public static ChatMessageResponse fromChatMessage(ChatMessage chatMessage) {
+        return fromChatMessage(chatMessage, chatMessage.getSender().getName());
+    }
+
+    // 발신자가 id 참조(프록시)일 때 이름을 따로 전달해 추가 조회를 막는다.
+    public static ChatMessageResponse fromChatMessage(ChatMessage chatMessage, String senderName) {
         return ChatMessageResponse.builder()
                 .id(chatMessage.getId())
                 .senderId(chatMessage.getSender().getId())
-                .senderName(chatMessage.getSender().getName())
+                .senderName(senderName)
                 .content(chatMessage.getContent())
                 .imageUrl(chatMessage.getImageUrl())
                 .createdAt(chatMessage.getCreatedAt())
@@ -7,6 +7,7 @@ import org.example.tablenow.domain.chat.dto.response.ChatMessageResponse;
 import org.example.tablenow.domain.chat.dto.response.ChatReadStatusResponse;
 import org.example.tablenow.domain.chat.entity.ChatMessage;
 import org.example.tablenow.domain.chat.repository.ChatMessageRepository;
+import org.example.tablenow.domain.chat.service.ChatParticipantCache.ChatParticipants;
 import org.example.tablenow.domain.reservation.entity.Reservation;
 import org.example.tablenow.domain.reservation.service.ReservationService;
 import org.example.tablenow.domain.user.entity.User;
@@ -20,6 +21,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.example.tablenow.global.constant.RabbitConstant.CHAT_EXCHANGE;
@@ -33,9 +36,7 @@ public class ChatMessageService {
     private final ReservationService reservationService;
     private final UserService userService;
     private final RabbitTemplate rabbitTemplate;
-
-    // 참여자 정보 전달용 내부 record
-    private record ChatParticipants(Long ownerId, Long reservationUserId) {}
+    private final ChatParticipantCache chatParticipantCache;
 
     @Transactional
     public ChatMessageResponse saveMessageAndNotify(ChatMessageRequest request, Long senderId) {
@@ -49,7 +50,7 @@ public class ChatMessageService {
                 participants.reservationUserId()
         ));
 
-        ChatMessageResponse response = ChatMessageResponse.fromChatMessage(savedMessage);
+        ChatMessageResponse response = ChatMessageResponse.fromChatMessage(savedMessage, participants.getName(senderId));
 
         rabbitTemplate.convertAndSend(
                 CHAT_EXCHANGE,
@@ -104,34 +105,47 @@ public class ChatMessageService {
     }
 
     private ChatParticipants loadChatParticipants(Long reservationId) {
+        ChatParticipants cached = chatParticipantCache.get(reservationId);
+        if (cached != null) {
+            return cached;
+        }
+
+        ChatParticipants participants = loadChatParticipantsFromDb(reservationId);
+        chatParticipantCache.put(reservationId, participants);
+        return participants;
+    }
+
+    private ChatParticipants loadChatParticipantsFromDb(Long reservationId) {
         Optional<ChatMessage> lastMessageOpt =
                 chatMessageRepository.findTop1ByReservationIdOrderByCreatedAtDesc(reservationId);
 
+        Long ownerId;
+        Long reservationUserId;
         if (lastMessageOpt.isPresent()) {
             // 채팅한 내역이 있을 경우 chatMessage 정보로 참여자 정보 추출
             ChatMessage lastMessage = lastMessageOpt.get();
-            return new ChatParticipants(
-                    lastMessage.getOwnerId(),
-                    lastMessage.getReservationUserId()
-            );
+            ownerId = lastMessage.getOwnerId();
+            reservationUserId = lastMessage.getReservationUserId();
         } else {
             // 최초 채팅일 경우 reservation 정보로 참여자 정보 추출
             Reservation reservation = reservationService.getReservationWithStore(reservationId);
-            return new ChatParticipants(
-                    reservation.getStore().getUser().getId(),
-                    reservation.getUser().getId()
-            );
+            ownerId = reservation.getStore().getUser().getId();
+            reservationUserId = reservation.getUser().getId();
         }
+
+        Map<Long, String> names = userService.getUserNames(List.of(ownerId, reservationUserId));
+        return new ChatParticipants(ownerId, names.get(ownerId), reservationUserId, names.get(reservationUserId));
     }
 
     private void validateChatParticipant(Long userId, ChatParticipants participants) {
-        if (!userId.equals(participants.ownerId()) && !userId.equals(participants.reservationUserId())) {
+        if (!participants.isParticipant(userId)) {
             throw new HandledException(ErrorCode.INVALID_CHAT_PARTICIPANT);
         }
     }
 
     private ChatMessage buildChatMessage(ChatMessageRequest request, Long senderId, Long ownerId, Long reservationUserId) {
-        User sender = userService.getUser(senderId);
+        // 참여자 검증을 마친 발신자이므로 조회 없이 id 참조로 연결
+        User sender = userService.getUserReference(senderId);
         return ChatMessage.builder()
                 .reservationId(request.getReservationId())
                 .sender(sender)
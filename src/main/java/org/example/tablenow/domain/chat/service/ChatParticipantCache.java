@@ -0,0 +1,59 @@
+package org.example.tablenow.domain.chat.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.tablenow.global.util.TransactionUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+
+/**
+ * 예약별 채팅 참여자 캐시 (L1 Caffeine + L2 Redis, 캐시명: chatParticipants, key=reservationId)
+ * 메시지 전송마다 마지막 메시지/예약/발신자를 조회하지 않도록 참여자 id 와 이름을 함께 보관한다.
+ * 예약이 RESERVED 상태를 벗어나면(취소/완료 등) 커밋 후 삭제한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatParticipantCache {
+
+    public static final String CACHE_NAME = "chatParticipants";
+
+    private final CacheManager cacheManager;
+
+    public record ChatParticipants(Long ownerId, String ownerName,
+                                   Long reservationUserId, String reservationUserName) implements Serializable {
+
+        public boolean isParticipant(Long userId) {
+            return userId.equals(ownerId) || userId.equals(reservationUserId);
+        }
+
+        public String getName(Long userId) {
+            return userId.equals(ownerId) ? ownerName : reservationUserName;
+        }
+    }
+
+    /**
+     * @return 캐시된 참여자 정보, 없으면 null
+     */
+    public ChatParticipants get(Long reservationId) {
+        return getCache().get(toKey(reservationId), ChatParticipants.class);
+    }
+
+    public void put(Long reservationId, ChatParticipants participants) {
+        getCache().put(toKey(reservationId), participants);
+    }
+
+    public void evict(Long reservationId) {
+        TransactionUtils.runAfterCommit(() -> getCache().evict(toKey(reservationId)));
+    }
+
+    private Cache getCache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    // 다른 노드의 L1 무효화 메시지는 문자열 키로 전달되므로 키를 문자열로 통일
+    private static String toKey(Long reservationId) {
+        return String.valueOf(reservationId);
+    }
+}
@@ -47,4 +47,13 @@ public class EventJoinController {
     ) {
         return ResponseEntity.ok(eventJoinService.joinEventWithRedissonLock(eventId, authUser));
     }
+
+    @Operation(summary = "이벤트 참여 - Redis Lua 스크립트 방식 (Lock 없음)")
+    @PostMapping("/v4/events/{eventId}/join")
+    public ResponseEntity<EventJoinResponseDto> joinEventWithLuaScript(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable Long eventId
+    ) {
+        return ResponseEntity.ok(eventJoinService.joinEventWithLuaScript(eventId, authUser));
+    }
 }
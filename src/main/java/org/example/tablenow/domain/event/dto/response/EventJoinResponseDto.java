@@ -44,4 +44,17 @@ public class EventJoinResponseDto {
                 .message("이벤트 예약에 성공했습니다.")
                 .build();
     }
+
+    // 참여 기록이 비동기로 저장되므로 eventJoinId 는 응답 시점에 없다.
+    public static EventJoinResponseDto of(Long eventId, Long storeId, String storeName,
+                                          LocalDateTime eventTime, LocalDateTime joinedAt) {
+        return EventJoinResponseDto.builder()
+                .eventId(eventId)
+                .storeId(storeId)
+                .storeName(storeName)
+                .eventTime(eventTime)
+                .joinedAt(joinedAt)
+                .message("이벤트 예약에 성공했습니다.")
+                .build();
+    }
 }
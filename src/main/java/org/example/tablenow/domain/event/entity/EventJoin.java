@@ -12,7 +12,8 @@ import java.util.Optional;
 
 @Getter
 @Entity
-@Table(name = "event_join")
+@Table(name = "event_join",
+        uniqueConstraints = @UniqueConstraint(name = "uk_event_join_user_event", columnNames = {"user_id", "event_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class EventJoin {
     @Id
@@ -0,0 +1,32 @@
+package org.example.tablenow.domain.event.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 오픈 알림 샤드 발송 완료 기록 (event_id, shard_no 단위 1행)
+ * 알림 INSERT 와 같은 트랜잭션으로 저장해 커밋된 샤드만 완료로 본다.
+ */
+@Getter
+@Entity
+@Table(name = "event_open_shard_delivery",
+        uniqueConstraints = @UniqueConstraint(name = "uk_event_open_shard_delivery", columnNames = {"event_id", "shard_no"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventOpenShardDelivery {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "shard_no", nullable = false)
+    private int shardNo;
+
+    @Column(name = "delivered_at", nullable = false)
+    private LocalDateTime deliveredAt;
+}
@@ -0,0 +1,31 @@
+package org.example.tablenow.domain.event.message.consumer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.event.message.dto.EventJoinMessage;
+import org.example.tablenow.domain.event.repository.EventJoinBulkRepository;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static org.example.tablenow.global.constant.RabbitConstant.EVENT_JOIN_BATCH_LISTENER_FACTORY;
+import static org.example.tablenow.global.constant.RabbitConstant.EVENT_JOIN_QUEUE;
+
+/**
+ * 이벤트 참여 기록 write-behind 저장
+ * 배치 단위로 받아 multi-row INSERT 1회로 저장하며, (user_id, event_id) 중복은 무시되므로 재처리해도 안전하다.
+ * 저장에 실패하면 배치 전체가 DLQ 로 이동하고, 누락분은 EventJoinReconciler 가 Redis 기준으로 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventJoinConsumer {
+    private final EventJoinBulkRepository eventJoinBulkRepository;
+
+    @RabbitListener(queues = EVENT_JOIN_QUEUE, containerFactory = EVENT_JOIN_BATCH_LISTENER_FACTORY)
+    public void consume(List<EventJoinMessage> messages) {
+        int inserted = eventJoinBulkRepository.insertIgnoreDuplicates(messages);
+        log.info("[EventJoinConsumer] 이벤트 참여 기록 저장: 메시지 {}건 → 신규 {}건", messages.size(), inserted);
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.tablenow.domain.event.message.consumer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.event.message.dto.EventOpenShardMessage;
+import org.example.tablenow.domain.event.service.EventOpenFanoutService;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import static org.example.tablenow.global.constant.RabbitConstant.EVENT_OPEN_SHARD_QUEUE;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventOpenShardConsumer {
+    private final EventOpenFanoutService eventOpenFanoutService;
+
+    @RabbitListener(queues = EVENT_OPEN_SHARD_QUEUE, concurrency = "4")
+    public void consume(EventOpenShardMessage message) {
+        if (message == null || message.getEventId() == null || message.getShardNo() == null || message.getUserIds() == null) {
+            log.warn("[EventOpenShardConsumer] 잘못된 메시지 수신 → {}", message);
+            return;
+        }
+
+        try {
+            if (eventOpenFanoutService.deliverShard(message)) {
+                log.info("[EventOpenShardConsumer][Notification] 샤드 알림 전송 완료 → eventId={}, shardNo={}, size={}",
+                        message.getEventId(), message.getShardNo(), message.getUserIds().size());
+            }
+        } catch (Exception e) {
+            log.error("[EventOpenShardConsumer][Notification] 샤드 알림 전송 실패 → eventId={}, shardNo={}",
+                    message.getEventId(), message.getShardNo(), e);
+            throw new AmqpRejectAndDontRequeueException("[DLQ] 샤드 알림 전송 실패 → DLQ로 이동", e);
+        }
+    }
+}
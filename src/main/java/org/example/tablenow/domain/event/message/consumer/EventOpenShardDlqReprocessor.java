@@ -0,0 +1,21 @@
+package org.example.tablenow.domain.event.message.consumer;
+
+import lombok.RequiredArgsConstructor;
+import org.example.tablenow.domain.event.service.EventOpenRetryService;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import static org.example.tablenow.global.constant.RabbitConstant.*;
+
+@Component
+@RequiredArgsConstructor
+public class EventOpenShardDlqReprocessor {
+
+    private final EventOpenRetryService eventOpenRetryService;
+
+    @RabbitListener(queues = EVENT_OPEN_SHARD_DLQ)
+    public void reprocess(Message message) {
+        eventOpenRetryService.process(message, EVENT_OPEN_SHARD_RETRY_EXCHANGE, EVENT_OPEN_SHARD_RETRY_ROUTING_KEY);
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.tablenow.domain.event.message.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class EventJoinMessage {
+    private final Long eventId;
+    private final Long userId;
+    private final LocalDateTime joinedAt;
+
+    @Builder
+    public EventJoinMessage(Long eventId, Long userId, LocalDateTime joinedAt) {
+        this.eventId = eventId;
+        this.userId = userId;
+        this.joinedAt = joinedAt;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.tablenow.domain.event.message.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class EventOpenShardMessage {
+    private final Long eventId;
+    private final Long storeId;
+    private final String storeName;
+    private final Integer shardNo;
+    private final List<Long> userIds;
+
+    @Builder
+    public EventOpenShardMessage(Long eventId, Long storeId, String storeName, Integer shardNo, List<Long> userIds) {
+        this.eventId = eventId;
+        this.storeId = storeId;
+        this.storeName = storeName;
+        this.shardNo = shardNo;
+        this.userIds = userIds;
+    }
+}
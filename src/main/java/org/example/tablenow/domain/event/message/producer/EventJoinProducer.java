@@ -0,0 +1,33 @@
+package org.example.tablenow.domain.event.message.producer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.event.message.dto.EventJoinMessage;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import static org.example.tablenow.global.constant.RabbitConstant.EVENT_JOIN_EXCHANGE;
+import static org.example.tablenow.global.constant.RabbitConstant.EVENT_JOIN_ROUTING_KEY;
+
+/**
+ * Redis 에서 참여가 확정된 기록을 DB 저장 큐로 발행
+ * 발행 실패 시 호출 측에서 참여를 취소할 수 있도록 동기로 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventJoinProducer {
+    private final RabbitTemplate rabbitTemplate;
+
+    public void send(EventJoinMessage message) {
+        rabbitTemplate.convertAndSend(
+                EVENT_JOIN_EXCHANGE,
+                EVENT_JOIN_ROUTING_KEY,
+                message
+        );
+
+        log.debug("[EventJoinProducer] 이벤트 참여 메시지 발행 완료 → eventId={}, userId={}",
+                message.getEventId(),
+                message.getUserId());
+    }
+}
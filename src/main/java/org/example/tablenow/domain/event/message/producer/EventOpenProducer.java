@@ -3,19 +3,26 @@ package org.example.tablenow.domain.event.message.producer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.tablenow.domain.event.message.dto.EventOpenMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import static org.example.tablenow.global.constant.RabbitConstant.EVENT_OPEN_EXCHANGE;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-@Async
 public class EventOpenProducer {
     private final RabbitTemplate rabbitTemplate;
 
+    private static final long CONFIRM_TIMEOUT_SECONDS = 10;
+
+    @Async
     public void send(EventOpenMessage message) {
         rabbitTemplate.convertAndSend(
                 EVENT_OPEN_EXCHANGE,
@@ -28,4 +35,37 @@ public class EventOpenProducer {
                 message.getStoreId(),
                 message.getOpenAt());
     }
+
+    /**
+     * 배치 발행 후 publisher confirm 을 한 번에 기다린다. (동기)
+     * @return 브로커가 ack 한 이벤트 ID (nack/타임아웃 건은 제외)
+     */
+    public List<Long> sendAll(List<EventOpenMessage> messages) {
+        List<CorrelationData> correlations = new ArrayList<>(messages.size());
+        for (EventOpenMessage message : messages) {
+            CorrelationData correlation = new CorrelationData(String.valueOf(message.getEventId()));
+            rabbitTemplate.convertAndSend(EVENT_OPEN_EXCHANGE, "", message, correlation);
+            correlations.add(correlation);
+        }
+
+        List<Long> ackedIds = new ArrayList<>(messages.size());
+        for (CorrelationData correlation : correlations) {
+            try {
+                CorrelationData.Confirm confirm = correlation.getFuture().get(CONFIRM_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                if (confirm.isAck()) {
+                    ackedIds.add(Long.valueOf(correlation.getId()));
+                } else {
+                    log.warn("[EventOpenProducer] 발행 nack → eventId={}, reason={}", correlation.getId(), confirm.getReason());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("[EventOpenProducer] 발행 확인 실패 → eventId={}", correlation.getId(), e);
+            }
+        }
+
+        log.info("[EventOpenProducer] 이벤트 오픈 메시지 배치 발행 → 요청 {}건, ack {}건", messages.size(), ackedIds.size());
+        return ackedIds;
+    }
 }
@@ -0,0 +1,34 @@
+package org.example.tablenow.domain.event.message.producer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.event.message.dto.EventOpenShardMessage;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import static org.example.tablenow.global.constant.RabbitConstant.EVENT_OPEN_SHARD_EXCHANGE;
+import static org.example.tablenow.global.constant.RabbitConstant.EVENT_OPEN_SHARD_ROUTING_KEY;
+
+/**
+ * 이벤트 오픈 알림 샤드 발행
+ * 발행 진행 상황(커서)을 발행 성공 후에 기록해야 하므로 동기로 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventOpenShardProducer {
+    private final RabbitTemplate rabbitTemplate;
+
+    public void send(EventOpenShardMessage message) {
+        rabbitTemplate.convertAndSend(
+                EVENT_OPEN_SHARD_EXCHANGE,
+                EVENT_OPEN_SHARD_ROUTING_KEY,
+                message
+        );
+
+        log.debug("[EventOpenShardProducer] 샤드 메시지 발행 완료 → eventId={}, shardNo={}, size={}",
+                message.getEventId(),
+                message.getShardNo(),
+                message.getUserIds().size());
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.tablenow.domain.event.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.tablenow.domain.event.message.dto.EventJoinMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 이벤트 참여 기록 multi-row INSERT
+ * IDENTITY 전략이라 JPA 배치 INSERT 가 동작하지 않으므로 JdbcTemplate 으로 직접 작성한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventJoinBulkRepository {
+
+    private final JdbcTemplate dataJdbcTemplate;
+
+    private static final String INSERT_IGNORE_PREFIX =
+            "INSERT IGNORE INTO event_join (user_id, event_id, joined_at, is_notified) VALUES ";
+    private static final String VALUES_ROW = "(?, ?, ?, false)";
+
+    /**
+     * (user_id, event_id) 유니크 키 기준으로 이미 저장된 기록은 건너뛴다.
+     * @return 새로 저장된 건수
+     */
+    public int insertIgnoreDuplicates(List<EventJoinMessage> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        String sql = INSERT_IGNORE_PREFIX + String.join(", ", Collections.nCopies(messages.size(), VALUES_ROW));
+        List<Object> params = new ArrayList<>(messages.size() * 3);
+        for (EventJoinMessage message : messages) {
+            params.add(message.getUserId());
+            params.add(message.getEventId());
+            params.add(Timestamp.valueOf(message.getJoinedAt()));
+        }
+        return dataJdbcTemplate.update(sql, params.toArray());
+    }
+}
@@ -2,10 +2,20 @@ package org.example.tablenow.domain.event.repository;
 
 import org.example.tablenow.domain.event.entity.Event;
 import org.example.tablenow.domain.event.entity.EventJoin;
+import org.example.tablenow.domain.event.message.dto.EventJoinMessage;
 import org.example.tablenow.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface EventJoinRepository extends JpaRepository<EventJoin, Long> {
     boolean existsByUserAndEvent(User user, Event event);
     int countByEvent(Event event);
+
+    // 대사 복원 시 먼저 참여한 순서대로 정원을 채우도록 참여 시각 순 정렬
+    @Query("SELECT new org.example.tablenow.domain.event.message.dto.EventJoinMessage(ej.event.id, ej.user.id, ej.joinedAt) " +
+            "FROM EventJoin ej WHERE ej.event.id = :eventId ORDER BY ej.joinedAt")
+    List<EventJoinMessage> findJoinsByEventId(@Param("eventId") Long eventId);
 }
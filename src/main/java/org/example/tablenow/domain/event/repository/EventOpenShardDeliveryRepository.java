@@ -0,0 +1,23 @@
+package org.example.tablenow.domain.event.repository;
+
+import org.example.tablenow.domain.event.entity.EventOpenShardDelivery;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface EventOpenShardDeliveryRepository extends JpaRepository<EventOpenShardDelivery, Long> {
+
+    // (event_id, shard_no) 유니크 키로 이미 완료(또는 다른 트랜잭션이 처리 중)인 샤드는 0 반환
+    // 처리 중인 트랜잭션이 있으면 유니크 키 잠금으로 그 트랜잭션이 끝날 때까지 기다린다.
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO event_open_shard_delivery (event_id, shard_no, delivered_at)
+            VALUES (:eventId, :shardNo, :deliveredAt)
+            """, nativeQuery = true)
+    int insertIgnore(@Param("eventId") Long eventId,
+                     @Param("shardNo") int shardNo,
+                     @Param("deliveredAt") LocalDateTime deliveredAt);
+}
@@ -5,19 +5,42 @@ import org.example.tablenow.domain.event.entity.Event;
 import org.example.tablenow.domain.event.enums.EventStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
     boolean existsByStore_IdAndEventTime(Long storeId, LocalDateTime eventTime);
     Page<Event> findByStatus(EventStatus status, Pageable pageable);
+    List<Event> findAllByStatus(EventStatus status);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT e FROM Event e WHERE e.id = :id")
     Optional<Event> findByIdForUpdate(@Param("id") Long id);
+
+    @EntityGraph(attributePaths = {"store"})
+    Optional<Event> findWithStoreById(Long id);
+
+    @EntityGraph(attributePaths = {"store"})
+    List<Event> findAllWithStoreByIdIn(Collection<Long> ids);
+
+    // READY 상태인 이벤트만 한 번에 오픈 (문장 단위 트랜잭션)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Event e
+        SET e.status = 'OPENED', e.updatedAt = :now
+        WHERE e.status = 'READY'
+        AND e.id IN :ids
+        """)
+    int openAllReadyByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,119 @@
+package org.example.tablenow.domain.event.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.example.tablenow.domain.event.entity.Event;
+import org.example.tablenow.domain.event.enums.EventStatus;
+import org.example.tablenow.domain.event.message.dto.EventJoinMessage;
+import org.example.tablenow.domain.event.repository.EventJoinBulkRepository;
+import org.example.tablenow.domain.event.repository.EventJoinRepository;
+import org.example.tablenow.domain.event.repository.EventRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.EVENT_JOIN_PREFIX;
+
+/**
+ * 이벤트 참여 대사(reconcile)
+ * 오픈 중인 이벤트마다 Redis 참여 ZSET 과 event_join 테이블을 비교한다.
+ * - Redis 에만 있는 참여: 큐 유실/DLQ 이동분으로 보고 ZSET score(참여 시각)로 INSERT IGNORE
+ * - DB 에만 있는 참여: Redis 유실분으로 보고 DB joined_at 을 score 로 ZSET 에 다시 등록
+ *   (참여 시각 순으로, 복원 시점의 ZCARD 가 정원 미만일 때만 등록해 대사와 겹친 신규 참여가 정원을 넘기지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventJoinReconciler {
+    private final EventRepository eventRepository;
+    private final EventJoinRepository eventJoinRepository;
+    private final EventJoinBulkRepository eventJoinBulkRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    // KEYS[1]=joinKey, ARGV[1]=limitPeople, ARGV[2..]=(joinedAt, userId) 쌍
+    // 이미 있는 참여는 건너뛰고, 정원이 차면 중단, 복원 건수 반환
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            local limit = tonumber(ARGV[1])
+            local restored = 0
+            for i = 2, #ARGV, 2 do
+                if not redis.call('ZSCORE', KEYS[1], ARGV[i + 1]) then
+                    if redis.call('ZCARD', KEYS[1]) >= limit then break end
+                    redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1])
+                    restored = restored + 1
+                end
+            end
+            return restored
+            """, Long.class);
+
+    // 오픈 이벤트 전체를 훑어 기본 lockAtMostFor(1m)를 넘길 수 있으므로, 다음 주기(5분) 전까지만 잠금 유지
+    @SchedulerLock(name = "EventJoinReconciler.reconcile", lockAtMostFor = "4m")
+    @Scheduled(fixedRate = 300000)
+    public void reconcile() {
+        try {
+            for (Event event : eventRepository.findAllByStatus(EventStatus.OPENED)) {
+                reconcileEvent(event);
+            }
+        } catch (Exception e) {
+            log.error("이벤트 참여 대사 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    public void reconcileEvent(Event event) {
+        Long eventId = event.getId();
+        String joinKey = EVENT_JOIN_PREFIX + eventId;
+        Set<ZSetOperations.TypedTuple<String>> redisJoins = redisTemplate.opsForZSet().rangeWithScores(joinKey, 0, -1);
+        List<EventJoinMessage> dbJoins = eventJoinRepository.findJoinsByEventId(eventId);
+        Set<Long> dbUserIds = new HashSet<>();
+        dbJoins.forEach(join -> dbUserIds.add(join.getUserId()));
+
+        List<EventJoinMessage> missingInDb = new ArrayList<>();
+        Set<Long> redisUserIds = new HashSet<>();
+        if (redisJoins != null) {
+            for (ZSetOperations.TypedTuple<String> join : redisJoins) {
+                Long userId = Long.valueOf(join.getValue());
+                redisUserIds.add(userId);
+                if (!dbUserIds.contains(userId)) {
+                    missingInDb.add(EventJoinMessage.builder()
+                            .eventId(eventId)
+                            .userId(userId)
+                            .joinedAt(EventJoinScriptExecutor.toLocalDateTime(join.getScore().longValue()))
+                            .build());
+                }
+            }
+        }
+
+        int inserted = eventJoinBulkRepository.insertIgnoreDuplicates(missingInDb);
+
+        List<EventJoinMessage> missingInRedis = dbJoins.stream()
+                .filter(join -> !redisUserIds.contains(join.getUserId()))
+                .toList();
+        long restored = restoreToRedis(joinKey, event.getLimitPeople(), missingInRedis);
+
+        if (inserted > 0 || restored > 0) {
+            log.warn("이벤트 참여 대사 보정: eventId={}, DB 저장 {}건, Redis 복원 {}건", eventId, inserted, restored);
+        }
+        if (restored < missingInRedis.size()) {
+            log.warn("이벤트 참여 대사 정원 초과로 Redis 복원 생략: eventId={}, 생략 {}건", eventId, missingInRedis.size() - restored);
+        }
+    }
+
+    private long restoreToRedis(String joinKey, int limitPeople, List<EventJoinMessage> joins) {
+        if (joins.isEmpty()) {
+            return 0;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(limitPeople));
+        for (EventJoinMessage join : joins) {
+            args.add(String.valueOf(EventJoinScriptExecutor.toEpochMillis(join.getJoinedAt())));
+            args.add(String.valueOf(join.getUserId()));
+        }
+        Long restored = redisTemplate.execute(RESTORE_SCRIPT, List.of(joinKey), args.toArray());
+        return restored != null ? restored : 0;
+    }
+}
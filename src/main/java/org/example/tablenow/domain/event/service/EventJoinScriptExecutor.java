@@ -0,0 +1,118 @@
+package org.example.tablenow.domain.event.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.event.dto.response.EventJoinResponseDto;
+import org.example.tablenow.domain.event.message.dto.EventJoinMessage;
+import org.example.tablenow.domain.event.message.producer.EventJoinProducer;
+import org.example.tablenow.domain.user.entity.User;
+import org.example.tablenow.global.dto.AuthUser;
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.EVENT_JOIN_PREFIX;
+
+/**
+ * 이벤트 참여 (Lock 없음)
+ * 상태 확인, 중복 확인, 정원 확인, 참여 등록을 Lua 스크립트 1회로 원자적으로 처리한다.
+ * 이벤트 상태와 정원은 EventMetaCache 에서 읽으므로 참여 판단에 DB 조회가 없다.
+ * 참여 기록은 큐로 발행하고 EventJoinConsumer 가 배치 저장하므로(write-behind) 요청 경로에 DB 쓰기도 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventJoinScriptExecutor {
+
+    private final StringRedisTemplate redisTemplate;
+    private final EventMetaCache eventMetaCache;
+    private final EventJoinProducer eventJoinProducer;
+
+    private static final long META_NOT_CACHED = -3L;
+    private static final long NOT_OPENED = -2L;
+    private static final long ALREADY_JOINED = -1L;
+    private static final long FULL = 0L;
+
+    // KEYS[1]=metaKey, KEYS[2]=joinKey, ARGV[1]=userId, ARGV[2]=joinedAt
+    private static final RedisScript<Long> JOIN_SCRIPT = new DefaultRedisScript<>("""
+            local meta = redis.call('HMGET', KEYS[1], 'status', 'limitPeople')
+            if not meta[1] then return -3 end
+            if meta[1] ~= 'OPENED' then return -2 end
+            if redis.call('ZSCORE', KEYS[2], ARGV[1]) then return -1 end
+            if redis.call('ZCARD', KEYS[2]) >= tonumber(meta[2]) then return 0 end
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    public EventJoinResponseDto execute(Long eventId, AuthUser authUser) {
+        User user = User.fromAuthUser(authUser);
+        String userId = String.valueOf(user.getId());
+        String joinKey = EVENT_JOIN_PREFIX + eventId;
+
+        // ZSET score 와 DB joined_at 을 같은 값으로 맞춰 대사(reconcile) 시 그대로 복원할 수 있게 한다.
+        long joinedAtMillis = System.currentTimeMillis();
+        Long result = tryJoin(eventId, joinKey, userId, joinedAtMillis);
+        if (Long.valueOf(META_NOT_CACHED).equals(result)) {
+            eventMetaCache.load(eventId);
+            result = tryJoin(eventId, joinKey, userId, joinedAtMillis);
+        }
+        validateJoinResult(result);
+
+        LocalDateTime joinedAt = toLocalDateTime(joinedAtMillis);
+        try {
+            eventJoinProducer.send(EventJoinMessage.builder()
+                    .eventId(eventId)
+                    .userId(user.getId())
+                    .joinedAt(joinedAt)
+                    .build());
+        } catch (Exception e) {
+            redisTemplate.opsForZSet().remove(joinKey, userId);
+            log.warn("참여 기록 발행 실패로 Redis 자리 반환: userId={}, eventId={}", user.getId(), eventId);
+            throw e;
+        }
+
+        log.info("이벤트 신청 성공: user={}, event={}", user.getEmail(), eventId);
+        EventMetaCache.EventMeta meta = eventMetaCache.get(eventId);
+        return EventJoinResponseDto.of(eventId, meta.storeId(), meta.storeName(), meta.eventTime(), joinedAt);
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private Long tryJoin(Long eventId, String joinKey, String userId, long joinedAtMillis) {
+        return redisTemplate.execute(
+                JOIN_SCRIPT,
+                List.of(EventMetaCache.getKey(eventId), joinKey),
+                userId,
+                String.valueOf(joinedAtMillis)
+        );
+    }
+
+    private static void validateJoinResult(Long result) {
+        if (result == null || result == META_NOT_CACHED) {
+            throw new HandledException(ErrorCode.EVENT_NOT_FOUND);
+        }
+        if (result == NOT_OPENED) {
+            throw new HandledException(ErrorCode.EVENT_NOT_OPENED);
+        }
+        if (result == ALREADY_JOINED) {
+            throw new HandledException(ErrorCode.EVENT_ALREADY_JOINED);
+        }
+        if (result == FULL) {
+            throw new HandledException(ErrorCode.EVENT_FULL);
+        }
+    }
+}
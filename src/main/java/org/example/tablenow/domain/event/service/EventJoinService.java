@@ -13,6 +13,7 @@ import org.example.tablenow.global.dto.AuthUser;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.example.tablenow.global.constant.RedisKeyConstants.EVENT_LOCK_KEY_PREFIX;
@@ -26,6 +27,7 @@ public class EventJoinService {
     private final EventJoinRepository eventJoinRepository;
     private final EventRepository eventRepository;
     private final EventJoinExecutor eventJoinExecutor;
+    private final EventJoinScriptExecutor eventJoinScriptExecutor;
 
     public EventJoinResponseDto joinEventWithoutLock(Long eventId, AuthUser authUser) {
         User user = User.fromAuthUser(authUser);
@@ -81,4 +83,10 @@ public class EventJoinService {
     public EventJoinResponseDto joinEventWithRedissonLock(Long eventId, AuthUser authUser) {
         return eventJoinExecutor.execute(eventId, authUser);
     }
+
+    // 참여 판단은 Redis 에서만 이루어지므로 거절되는 요청이 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EventJoinResponseDto joinEventWithLuaScript(Long eventId, AuthUser authUser) {
+        return eventJoinScriptExecutor.execute(eventId, authUser);
+    }
 }
@@ -0,0 +1,107 @@
+package org.example.tablenow.domain.event.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.tablenow.domain.event.entity.Event;
+import org.example.tablenow.domain.event.repository.EventRepository;
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
+import org.example.tablenow.global.util.TransactionUtils;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.EVENT_META_PREFIX;
+
+/**
+ * 이벤트 참여 판단용 메타 정보 (Redis Hash: event:meta:{eventId})
+ * - status, limitPeople: Lua 참여 스크립트에서 사용
+ * - storeId, storeName, eventTime: DB 조회 없이 참여 응답 구성
+ * 오픈/마감 시 갱신, 수정/삭제 시 삭제하며 캐시가 없으면 DB 기준으로 재구성한다.
+ * 갱신/삭제는 커밋 후 반영한다. (롤백된 상태가 참여 스크립트에 노출되지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class EventMetaCache {
+
+    private final StringRedisTemplate redisTemplate;
+    private final EventRepository eventRepository;
+
+    private static final String STATUS = "status";
+    private static final String LIMIT_PEOPLE = "limitPeople";
+    private static final String STORE_ID = "storeId";
+    private static final String STORE_NAME = "storeName";
+    private static final String EVENT_TIME = "eventTime";
+    private static final Duration TTL_AFTER_END = Duration.ofDays(1);
+
+    public record EventMeta(Long storeId, String storeName, LocalDateTime eventTime) {
+    }
+
+    public void put(Event event) {
+        // 엔티티 값은 트랜잭션 안에서 읽어 두고 Redis 반영만 커밋 후 실행
+        Map<String, String> meta = toMeta(event);
+        Duration ttl = getTtl(event);
+        TransactionUtils.runAfterCommit(() -> write(event.getId(), meta, ttl));
+    }
+
+    /**
+     * 캐시 미스 시 DB 기준으로 재구성 (참여 스크립트 실행 전에 필요하므로 즉시 반영)
+     */
+    public void load(Long eventId) {
+        Event event = eventRepository.findWithStoreById(eventId)
+                .orElseThrow(() -> new HandledException(ErrorCode.EVENT_NOT_FOUND));
+        write(event.getId(), toMeta(event), getTtl(event));
+    }
+
+    public EventMeta get(Long eventId) {
+        List<Object> values = redisTemplate.opsForHash()
+                .multiGet(getKey(eventId), List.of(STORE_ID, STORE_NAME, EVENT_TIME));
+        return new EventMeta(
+                values.get(0) != null ? Long.valueOf((String) values.get(0)) : null,
+                (String) values.get(1),
+                values.get(2) != null ? LocalDateTime.parse((String) values.get(2)) : null
+        );
+    }
+
+    public void evict(Long eventId) {
+        TransactionUtils.runAfterCommit(() -> redisTemplate.delete(getKey(eventId)));
+    }
+
+    public static String getKey(Long eventId) {
+        return EVENT_META_PREFIX + eventId;
+    }
+
+    private static Duration getTtl(Event event) {
+        if (event.getEndAt() == null) {
+            return TTL_AFTER_END;
+        }
+        Duration untilEnd = Duration.between(LocalDateTime.now(), event.getEndAt());
+        return untilEnd.isNegative() ? TTL_AFTER_END : untilEnd.plus(TTL_AFTER_END);
+    }
+
+    private static Map<String, String> toMeta(Event event) {
+        Map<String, String> meta = new HashMap<>();
+        meta.put(STATUS, event.getStatus().name());
+        meta.put(LIMIT_PEOPLE, String.valueOf(event.getLimitPeople()));
+        if (event.getStoreId() != null) {
+            meta.put(STORE_ID, String.valueOf(event.getStoreId()));
+        }
+        if (event.getStoreName() != null) {
+            meta.put(STORE_NAME, event.getStoreName());
+        }
+        if (event.getEventTime() != null) {
+            meta.put(EVENT_TIME, event.getEventTime().toString());
+        }
+        return meta;
+    }
+
+    private void write(Long eventId, Map<String, String> meta, Duration ttl) {
+        String key = getKey(eventId);
+        redisTemplate.opsForHash().putAll(key, meta);
+        redisTemplate.expire(key, ttl);
+    }
+}
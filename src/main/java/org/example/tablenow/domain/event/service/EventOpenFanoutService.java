@@ -0,0 +1,111 @@
+package org.example.tablenow.domain.event.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.event.message.dto.EventOpenMessage;
+import org.example.tablenow.domain.event.message.dto.EventOpenShardMessage;
+import org.example.tablenow.domain.event.message.producer.EventOpenShardProducer;
+import org.example.tablenow.domain.event.repository.EventOpenShardDeliveryRepository;
+import org.example.tablenow.domain.notification.enums.NotificationType;
+import org.example.tablenow.domain.notification.service.NotificationService;
+import org.example.tablenow.domain.user.service.UserService;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.example.tablenow.global.constant.RabbitConstant.EVENT_OPEN_SHARD_SIZE;
+import static org.example.tablenow.global.constant.RedisKeyConstants.EVENT_OPEN_FANOUT_PREFIX;
+
+/**
+ * 이벤트 오픈 알림 샤드 분할 발송
+ * 1. 알림 수신 유저 ID 를 keyset 커서로 EVENT_OPEN_SHARD_SIZE 씩 읽어 샤드 메시지로 발행
+ *    (발행할 때마다 커서와 다음 샤드 번호를 기록하므로 재시도 시 이어서 발행)
+ * 2. 샤드 소비 시 완료 기록(event_open_shard_delivery)과 알림 배치 INSERT 를 한 트랜잭션으로 저장
+ *    (완료 기록이 이미 있는 샤드는 재전달되어도 건너뛰고, 저장 실패/프로세스 종료 시 함께 롤백되어 재전달 시 다시 처리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventOpenFanoutService {
+
+    private final UserService userService;
+    private final NotificationService notificationService;
+    private final EventOpenShardProducer eventOpenShardProducer;
+    private final StringRedisTemplate redisTemplate;
+    private final EventOpenShardDeliveryRepository shardDeliveryRepository;
+
+    private static final String EVENT_OPENED_MSG_TEMPLATE = "%s의 이벤트가 오픈되었습니다!";
+    private static final String CURSOR = "cursor";
+    private static final String NEXT_SHARD = "nextShard";
+    private static final Duration PROGRESS_TTL = Duration.ofDays(1);
+
+    public int fanOut(EventOpenMessage message) {
+        String progressKey = getProgressKey(message.getEventId());
+        Map<Object, Object> progress = redisTemplate.opsForHash().entries(progressKey);
+        long lastUserId = Long.parseLong((String) progress.getOrDefault(CURSOR, "0"));
+        int shardNo = Integer.parseInt((String) progress.getOrDefault(NEXT_SHARD, "0"));
+        int startShardNo = shardNo;
+
+        while (true) {
+            List<Long> userIds = userService.getAlarmEnabledUserIdsAfter(lastUserId, EVENT_OPEN_SHARD_SIZE);
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            eventOpenShardProducer.send(EventOpenShardMessage.builder()
+                    .eventId(message.getEventId())
+                    .storeId(message.getStoreId())
+                    .storeName(message.getStoreName())
+                    .shardNo(shardNo)
+                    .userIds(userIds)
+                    .build());
+
+            lastUserId = userIds.get(userIds.size() - 1);
+            shardNo++;
+            redisTemplate.opsForHash().putAll(progressKey, Map.of(
+                    CURSOR, String.valueOf(lastUserId),
+                    NEXT_SHARD, String.valueOf(shardNo)
+            ));
+            redisTemplate.expire(progressKey, PROGRESS_TTL);
+
+            if (userIds.size() < EVENT_OPEN_SHARD_SIZE) {
+                break;
+            }
+        }
+
+        log.info("[EventOpenFanoutService] 샤드 발행 완료 → eventId={}, 이번 발행 {}개, 전체 {}개",
+                message.getEventId(), shardNo - startShardNo, shardNo);
+        return shardNo - startShardNo;
+    }
+
+    /**
+     * 샤드 완료 기록을 INSERT IGNORE 로 남기고, 같은 트랜잭션에서 알림을 생성
+     * 완료 기록은 알림과 함께 커밋되므로 커밋 전에 소비자가 죽으면 둘 다 롤백되고,
+     * 같은 샤드가 동시에 재전달되면 유니크 키 잠금으로 먼저 처리한 트랜잭션의 결과를 기다린다.
+     * (알림 저장은 dataJdbcTemplate 이라 dataTransactionManager 트랜잭션에 참여)
+     * @return 이미 완료된 샤드라 건너뛰었으면 false
+     */
+    @Transactional(transactionManager = "dataTransactionManager")
+    public boolean deliverShard(EventOpenShardMessage message) {
+        if (shardDeliveryRepository.insertIgnore(message.getEventId(), message.getShardNo(), LocalDateTime.now()) == 0) {
+            log.info("[EventOpenFanoutService] 완료된 샤드 건너뜀 → eventId={}, shardNo={}", message.getEventId(), message.getShardNo());
+            return false;
+        }
+
+        notificationService.createNotifications(
+                message.getUserIds(),
+                NotificationType.EVENT_OPEN,
+                String.format(EVENT_OPENED_MSG_TEMPLATE, message.getStoreName())
+        );
+        return true;
+    }
+
+    private static String getProgressKey(Long eventId) {
+        return EVENT_OPEN_FANOUT_PREFIX + eventId;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.tablenow.domain.event.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.event.message.dto.EventOpenMessage;
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.EVENT_OPEN_MESSAGE_KEY;
+
+/**
+ * 오픈 예약된 이벤트의 오픈 메시지 (Redis Hash: event:open:message, field=eventId)
+ * 지연 작업 큐에는 eventId 만 두고 메시지 본문은 여기에 둔다.
+ * 오픈 메시지 발행이 확인(ack)되거나 이벤트가 취소되면 삭제하므로, 필드가 남아 있으면 아직 발행되지 않은 이벤트다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventOpenMessageStore {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void put(EventOpenMessage message) {
+        try {
+            redisTemplate.opsForHash().put(EVENT_OPEN_MESSAGE_KEY, String.valueOf(message.getEventId()),
+                    objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new HandledException(ErrorCode.EVENT_SERIALIZATION_FAILED);
+        }
+    }
+
+    /**
+     * @return 메시지가 남아 있는 이벤트만 (eventId → 메시지)
+     */
+    public Map<Long, EventOpenMessage> getAll(Collection<Long> eventIds) {
+        List<Object> fields = eventIds.stream().map(String::valueOf).map(Object.class::cast).toList();
+        List<Object> values = redisTemplate.opsForHash().multiGet(EVENT_OPEN_MESSAGE_KEY, fields);
+
+        Map<Long, EventOpenMessage> messages = new LinkedHashMap<>();
+        Iterator<Long> ids = eventIds.iterator();
+        for (Object value : values) {
+            Long eventId = ids.next();
+            if (value == null) {
+                continue;
+            }
+            try {
+                messages.put(eventId, objectMapper.readValue((String) value, EventOpenMessage.class));
+            } catch (JsonProcessingException e) {
+                log.warn("[EventOpenMessage] 역직렬화 실패로 제외 → eventId={}", eventId);
+            }
+        }
+        return messages;
+    }
+
+    public void remove(Long eventId) {
+        removeAll(List.of(eventId));
+    }
+
+    public void removeAll(Collection<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForHash().delete(EVENT_OPEN_MESSAGE_KEY, eventIds.stream().map(String::valueOf).toArray());
+    }
+}
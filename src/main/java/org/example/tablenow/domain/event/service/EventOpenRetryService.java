@@ -20,6 +20,11 @@ public class EventOpenRetryService {
     private static final int MAX_RETRY_COUNT = 3;
 
     public void process(Message message) {
+        process(message, EVENT_OPEN_RETRY_EXCHANGE, EVENT_OPEN_RETRY_ROUTING_KEY);
+    }
+
+    // 샤드 메시지 등 다른 RetryQueue 로 재전송할 때 사용
+    public void process(Message message, String retryExchange, String retryRoutingKey) {
         MessageProperties props = message.getMessageProperties();
         Integer retryCount = (Integer) props.getHeaders().getOrDefault(RETRY_HEADER, 0);
 
@@ -36,12 +41,12 @@ public class EventOpenRetryService {
                 .build();
 
         rabbitTemplate.send(
-                EVENT_OPEN_RETRY_EXCHANGE,
-                EVENT_OPEN_RETRY_ROUTING_KEY,
+                retryExchange,
+                retryRoutingKey,
                 retryMessage
         );
 
         log.info("[EventOpentRetryService] DLQ 메시지 재전송 완료 → retryCount={}, routingKey={}, message={}",
-                retryCount + 1, EVENT_OPEN_RETRY_ROUTING_KEY, new String(retryMessage.getBody()));
+                retryCount + 1, retryRoutingKey, new String(retryMessage.getBody()));
     }
 }
\ No newline at end of file
@@ -3,17 +3,21 @@ package org.example.tablenow.domain.event.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.example.tablenow.global.delayedjob.DelayedJobHandler;
+import org.example.tablenow.global.delayedjob.DelayedJobType;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class EventOpenScheduler {
+public class EventOpenScheduler implements DelayedJobHandler {
     private final EventService eventService;
 
+    // 전환 이전에 전역 ZSET 으로 등록된 오픈 예약 처리
     @SchedulerLock(name = "EventOpenScheduler.runEventOpen")
     @Scheduled(fixedRate = 60000)
     public void runEventOpen() {
@@ -24,4 +28,14 @@ public class EventOpenScheduler {
             log.error("이벤트 스케줄러 실행 중 오류가 발생했습니다.", e);
         }
     }
+
+    @Override
+    public DelayedJobType getJobType() {
+        return DelayedJobType.EVENT_OPEN;
+    }
+
+    @Override
+    public List<String> handle(List<String> eventIds) {
+        return eventService.openEvents(eventIds);
+    }
 }
@@ -16,6 +16,8 @@ import org.example.tablenow.domain.event.message.producer.EventOpenProducer;
 import org.example.tablenow.domain.event.repository.EventRepository;
 import org.example.tablenow.domain.store.entity.Store;
 import org.example.tablenow.domain.store.service.StoreService;
+import org.example.tablenow.global.delayedjob.DelayedJobQueue;
+import org.example.tablenow.global.delayedjob.DelayedJobType;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
 import org.springframework.data.domain.Page;
@@ -26,7 +28,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.example.tablenow.global.constant.RedisKeyConstants.EVENT_JOIN_PREFIX;
 import static org.example.tablenow.global.constant.RedisKeyConstants.EVENT_OPEN_KEY;
@@ -41,6 +48,9 @@ public class EventService {
     private final StoreService storeService;
     private final StringRedisTemplate redisTemplate;
     private final EventOpenProducer eventOpenProducer;
+    private final EventMetaCache eventMetaCache;
+    private final DelayedJobQueue delayedJobQueue;
+    private final EventOpenMessageStore eventOpenMessageStore;
 
     private final ObjectMapper objectMapper;
 
@@ -73,6 +83,7 @@ public class EventService {
         );
 
         saveEventOpenToRedis(event);
+        eventMetaCache.evict(event.getId());
 
         return EventResponseDto.fromEvent(event);
     }
@@ -97,6 +108,7 @@ public class EventService {
         eventRepository.delete(event);
         eventRepository.save(event); // dirty checking 오류로 추가
         removeEventOpenFromRedis(event);
+        eventMetaCache.evict(event.getId());
 
         return EventDeleteResponseDto.fromEvent(event);
     }
@@ -108,11 +120,16 @@ public class EventService {
         event.close();
         eventRepository.save(event); // dirty checking 오류로 추가
         removeEventOpenFromRedis(event);
+        eventMetaCache.put(event);
 
         return EventCloseResponseDto.fromEvent(event);
     }
 
-    @Transactional
+    /**
+     * 전역 ZSET(EVENT_OPEN_KEY)에서 오픈 시각이 도래한 이벤트 오픈
+     * 신규 오픈 예약은 샤드 분할 지연 작업 큐(DelayedJobPoller → openEvents)로 등록되며, 전환 이전에 등록된 항목만 처리한다.
+     * 이벤트별 저장이 각각 커밋되도록 트랜잭션을 걸지 않는다. (한 건 실패가 다른 건을 롤백하지 않음)
+     */
     public void openEventsIfDue() {
         long now = LocalDateTime.now().atZone(ZONE_ID_ASIA_SEOUL).toEpochSecond();
         Set<String> dueMessages = redisTemplate.opsForZSet()
@@ -125,11 +142,13 @@ public class EventService {
             try {
                 EventOpenMessage message = objectMapper.readValue(messageJson, EventOpenMessage.class);
 
-                Event event = getEvent(message.getEventId());
+                Event event = eventRepository.findWithStoreById(message.getEventId())
+                        .orElseThrow(() -> new HandledException(ErrorCode.EVENT_NOT_FOUND));
                 if (!event.isReady()) continue;
 
                 event.open();
                 eventRepository.save(event); // dirty checking 오류로 추가
+                eventMetaCache.put(event);
 
                 // MQ 발행
                 eventOpenProducer.send(message);
@@ -146,6 +165,54 @@ public class EventService {
         }
     }
 
+    /**
+     * 지연 작업 큐에서 점유한 이벤트 일괄 오픈
+     * 1. READY 이벤트를 UPDATE 1회로 오픈 (문장 단위 트랜잭션, 이벤트별 조건부 갱신이라 서로 롤백되지 않음)
+     * 2. 오픈된 이벤트의 메타 캐시 갱신 후 오픈 메시지를 배치 발행, publisher confirm 으로 ack 된 건만 완료 처리
+     * 발행이 확인되지 않은 건은 오픈 메시지가 남아 있으므로 리스 만료 후 재발행된다.
+     * @return 완료된 이벤트 ID (이미 마감/삭제된 이벤트 포함)
+     */
+    public List<String> openEvents(List<String> eventIds) {
+        List<Long> ids = eventIds.stream().map(Long::valueOf).toList();
+        Map<Long, EventOpenMessage> messages = eventOpenMessageStore.getAll(ids);
+
+        List<Long> completed = new ArrayList<>();
+        // 오픈 메시지가 없으면 이미 발행됐거나 취소된 이벤트
+        ids.stream().filter(id -> !messages.containsKey(id)).forEach(completed::add);
+        if (messages.isEmpty()) {
+            return toStringIds(completed);
+        }
+
+        int openedCount = eventRepository.openAllReadyByIdIn(messages.keySet(), LocalDateTime.now());
+        log.info("[EventOpen] 오픈 대상 {}건 중 {}건 오픈", messages.size(), openedCount);
+
+        Map<Long, Event> events = eventRepository.findAllWithStoreByIdIn(messages.keySet()).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        List<EventOpenMessage> publishTargets = new ArrayList<>();
+        for (Map.Entry<Long, EventOpenMessage> entry : messages.entrySet()) {
+            Event event = events.get(entry.getKey());
+            if (event == null || event.getStatus() != EventStatus.OPENED) {
+                completed.add(entry.getKey());
+                continue;
+            }
+
+            try {
+                eventMetaCache.put(event);
+                publishTargets.add(entry.getValue());
+            } catch (Exception e) {
+                log.error("이벤트 메타 캐시 갱신 실패: eventId={}", event.getId(), e);
+            }
+        }
+
+        if (!publishTargets.isEmpty()) {
+            completed.addAll(eventOpenProducer.sendAll(publishTargets));
+        }
+
+        eventOpenMessageStore.removeAll(completed);
+        return toStringIds(completed);
+    }
+
     public Event getEvent(Long id) {
         return eventRepository.findById(id)
                 .orElseThrow(() -> new HandledException(ErrorCode.EVENT_NOT_FOUND));
@@ -157,19 +224,19 @@ public class EventService {
         }
     }
 
-    private void saveEventOpenToRedis(Event event) {
-        long openEpoch = event.getOpenAt().atZone(ZONE_ID_ASIA_SEOUL).toEpochSecond();
-        EventOpenMessage message = EventOpenMessage.fromEvent(event);
+    private static List<String> toStringIds(List<Long> ids) {
+        return ids.stream().map(String::valueOf).toList();
+    }
 
-        try {
-            String messageJson = objectMapper.writeValueAsString(message);
-            redisTemplate.opsForZSet().add(EVENT_OPEN_KEY, messageJson, openEpoch);
-        } catch (JsonProcessingException e) {
-            throw new HandledException(ErrorCode.EVENT_SERIALIZATION_FAILED);
-        }
+    private void saveEventOpenToRedis(Event event) {
+        eventOpenMessageStore.put(EventOpenMessage.fromEvent(event));
+        delayedJobQueue.schedule(DelayedJobType.EVENT_OPEN, String.valueOf(event.getId()), event.getOpenAt());
     }
 
+    // 지연 작업 큐와 전환 이전 전역 ZSET 에서 모두 제거
     private void removeEventOpenFromRedis(Event event) {
+        delayedJobQueue.cancel(DelayedJobType.EVENT_OPEN, String.valueOf(event.getId()));
+        eventOpenMessageStore.remove(event.getId());
         EventOpenMessage message = EventOpenMessage.fromEvent(event);
         try {
             String messageJson = objectMapper.writeValueAsString(message);
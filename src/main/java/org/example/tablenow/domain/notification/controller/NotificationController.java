@@ -9,6 +9,7 @@ import org.example.tablenow.domain.notification.dto.request.NotificationRequestD
 import org.example.tablenow.domain.notification.dto.request.NotificationSearchRequestDto;
 import org.example.tablenow.domain.notification.dto.response.NotificationAlarmResponseDto;
 import org.example.tablenow.domain.notification.dto.response.NotificationResponseDto;
+import org.example.tablenow.domain.notification.dto.response.NotificationUnreadCountResponseDto;
 import org.example.tablenow.domain.notification.dto.response.NotificationUpdateReadResponseDto;
 import org.example.tablenow.domain.notification.service.NotificationService;
 import org.example.tablenow.global.dto.AuthUser;
@@ -46,6 +47,13 @@ public class NotificationController {
         ));
     }
 
+    // 읽지 않은 알림 수 조회
+    @Operation(summary = "읽지 않은 알림 수 조회")
+    @GetMapping("/v1/notifications/unread-count")
+    public ResponseEntity<NotificationUnreadCountResponseDto> getUnreadCount(@AuthenticationPrincipal AuthUser authUser) {
+        return ResponseEntity.ok(notificationService.getUnreadCount(authUser.getId()));
+    }
+
     // 알림 읽음 처리
     @Operation(summary = "알림 읽음 처리")
     @PatchMapping("/v1/notifications/{notificationId}")
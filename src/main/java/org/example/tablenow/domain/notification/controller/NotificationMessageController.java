@@ -0,0 +1,38 @@
+package org.example.tablenow.domain.notification.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.notification.dto.response.NotificationResponseDto;
+import org.example.tablenow.domain.notification.service.NotificationService;
+import org.example.tablenow.global.constant.WebSocketConstants;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class NotificationMessageController {
+
+    private final NotificationService notificationService;
+
+    /* 재연결 직후 구독하면 마지막으로 받은 알림 이후의 미읽음 알림을 해당 세션에만 응답 */
+    @SubscribeMapping(WebSocketConstants.NOTIFICATION_MISSED_DEST)
+    public List<NotificationResponseDto> getMissedNotifications(
+            @Header(name = WebSocketConstants.HEADER_LAST_NOTIFICATION_ID, required = false) Long lastNotificationId,
+            SimpMessageHeaderAccessor headerAccessor) {
+        Map<String, Object> sessionAttributes = headerAccessor.getSessionAttributes();
+        if (sessionAttributes == null || !(sessionAttributes.get("userId") instanceof Long userId)) {
+            log.warn("[WebSocket] 사용자 정보 없음 (sessionAttributes 또는 userId 누락)");
+            return List.of();
+        }
+
+        List<NotificationResponseDto> missed = notificationService.findMissedNotifications(userId, lastNotificationId);
+        log.info("[WebSocket] 놓친 알림 복구 - userId: {}, lastNotificationId: {}, count: {}", userId, lastNotificationId, missed.size());
+        return missed;
+    }
+}
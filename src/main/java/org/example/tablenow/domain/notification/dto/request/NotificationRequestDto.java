@@ -7,6 +7,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.tablenow.domain.notification.enums.NotificationType;
 
+import java.time.LocalDate;
+
 @Getter
 @NoArgsConstructor
 public class NotificationRequestDto {
@@ -16,16 +18,24 @@ public class NotificationRequestDto {
 
     private Long storeId;
 
+    // 빈자리 알림일 때 알림 대상 대기 날짜 (해당 날짜의 대기만 알림 완료 처리)
+    private LocalDate waitDate;
+
     @NotNull(message = "알림 타입을 입력해주세요.")
     private NotificationType type;
 
     @NotBlank(message = "알림 내용을 입력해주세요.")
     private String content;
 
-    @Builder
     public NotificationRequestDto(Long userId, Long storeId, NotificationType type, String content) {
+        this(userId, storeId, null, type, content);
+    }
+
+    @Builder
+    public NotificationRequestDto(Long userId, Long storeId, LocalDate waitDate, NotificationType type, String content) {
         this.userId = userId;
         this.storeId = storeId;
+        this.waitDate = waitDate;
         this.type = type;
         this.content = content;
     }
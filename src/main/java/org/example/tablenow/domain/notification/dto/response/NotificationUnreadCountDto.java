@@ -0,0 +1,14 @@
+package org.example.tablenow.domain.notification.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class NotificationUnreadCountDto {
+    private final Long userId;
+    private final Long count;
+
+    public NotificationUnreadCountDto(Long userId, Long count) {
+        this.userId = userId;
+        this.count = count;
+    }
+}
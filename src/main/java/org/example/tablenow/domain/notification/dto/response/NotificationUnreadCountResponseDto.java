@@ -0,0 +1,20 @@
+package org.example.tablenow.domain.notification.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class NotificationUnreadCountResponseDto {
+    private final long unreadCount;
+
+    @Builder
+    public NotificationUnreadCountResponseDto(long unreadCount) {
+        this.unreadCount = unreadCount;
+    }
+
+    public static NotificationUnreadCountResponseDto of(long unreadCount) {
+        return NotificationUnreadCountResponseDto.builder()
+            .unreadCount(unreadCount)
+            .build();
+    }
+}
@@ -22,5 +22,13 @@ public class NotificationUpdateReadResponseDto {
             .isRead(notification.getIsRead())
             .build();
     }
+
+    // bulk update 로 읽음 처리된 알림 (엔티티 없이 ID 로 생성)
+    public static NotificationUpdateReadResponseDto fromReadNotificationId(Long notificationId) {
+        return NotificationUpdateReadResponseDto.builder()
+            .notificationId(notificationId)
+            .isRead(true)
+            .build();
+    }
 }
 
@@ -0,0 +1,200 @@
+package org.example.tablenow.domain.notification.message.vacancy.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.notification.dto.request.NotificationRequestDto;
+import org.example.tablenow.domain.notification.enums.NotificationType;
+import org.example.tablenow.domain.notification.service.NotificationService;
+import org.example.tablenow.domain.reservation.service.ReservationService;
+import org.example.tablenow.domain.store.entity.Store;
+import org.example.tablenow.domain.store.service.StoreService;
+import org.example.tablenow.domain.user.entity.User;
+import org.example.tablenow.domain.waitlist.entity.Waitlist;
+import org.example.tablenow.domain.waitlist.repository.WaitlistRepository;
+import org.example.tablenow.domain.waitlist.service.WaitlistClaimStore;
+import org.example.tablenow.domain.waitlist.service.WaitlistQueue;
+import org.example.tablenow.global.delayedjob.DelayedJobHandler;
+import org.example.tablenow.global.delayedjob.DelayedJobQueue;
+import org.example.tablenow.global.delayedjob.DelayedJobType;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.example.tablenow.global.constant.TimeConstants.ZONE_ID_ASIA_SEOUL;
+
+/**
+ * 빈자리 배정 (가게/날짜 단위)
+ * 1. 예약 취소 시 DEBOUNCE 뒤로 배정 작업을 한 번만 예약 (연속 취소는 같은 작업으로 합쳐짐)
+ * 2. 배정 시 남은 좌석 수 - 유효한 선점 수 만큼만 대기열(FIFO)에서 꺼내 알림
+ * 3. 알림받은 대기자는 CLAIM_TTL 동안 좌석을 선점하며, 만료되면 다시 배정 작업이 돌아 다음 대기자에게 넘어간다.
+ *    선점한 대기자가 예약하면 ReservationService 가 선점을 해제한다. (WaitlistClaimStore)
+ * 4. 꺼낸 대기자 중 DB 저장 전(등록 스크립트 경로, PENDING_GRACE 이내)인 대기자는 대기열에 되돌린다.
+ *    알림/선점 도중 실패하면 처리 중이던 배치도 함께 되돌린 뒤 작업을 실패로 남겨 재시도한다.
+ * 취소 1건마다 전체 대기자에게 알림을 보내던 방식 대비 DB 조회와 예약 락 경합이 좌석 수 만큼으로 줄어든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VacancyDispatcher implements DelayedJobHandler {
+
+    private final DelayedJobQueue delayedJobQueue;
+    private final WaitlistQueue waitlistQueue;
+    private final WaitlistRepository waitlistRepository;
+    private final StoreService storeService;
+    private final ReservationService reservationService;
+    private final NotificationService notificationService;
+    private final WaitlistClaimStore waitlistClaimStore;
+
+    private static final Duration DEBOUNCE = Duration.ofSeconds(3);
+    private static final Duration CLAIM_TTL = Duration.ofMinutes(10);
+
+    public void requestDispatch(Long storeId, LocalDate waitDate) {
+        delayedJobQueue.scheduleEarliest(DelayedJobType.VACANCY_DISPATCH, toJobId(storeId, waitDate), LocalDateTime.now().plus(DEBOUNCE));
+    }
+
+    @Override
+    public DelayedJobType getJobType() {
+        return DelayedJobType.VACANCY_DISPATCH;
+    }
+
+    /**
+     * @return 완료된 작업 ID (실패 건은 리스 만료 후 재시도)
+     */
+    @Override
+    public List<String> handle(List<String> jobIds) {
+        List<String> completed = new ArrayList<>(jobIds.size());
+        for (String jobId : jobIds) {
+            try {
+                String[] parts = jobId.split(":");
+                dispatch(Long.valueOf(parts[0]), LocalDate.parse(parts[1]));
+                completed.add(jobId);
+            } catch (Exception e) {
+                log.error("[VacancyDispatcher] 빈자리 배정 실패 → jobId={}", jobId, e);
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * @return 이번 배정에서 알림을 보낸 대기자 수
+     */
+    public int dispatch(Long storeId, LocalDate waitDate) {
+        if (waitDate.isBefore(LocalDate.now(ZONE_ID_ASIA_SEOUL))) {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        long activeClaims = waitlistClaimStore.countActive(storeId, waitDate, now);
+
+        Store store = storeService.getStore(storeId);
+        long seats = reservationService.getRemainingSeats(store, waitDate) - activeClaims;
+
+        int notifiedCount = seats > 0 ? notifyWaiters(store, waitDate, seats, now) : 0;
+        scheduleClaimExpiry(storeId, waitDate);
+
+        log.info("[VacancyDispatcher] 빈자리 배정 → storeId={}, waitDate={}, seats={}, notified={}",
+                storeId, waitDate, Math.max(seats, 0), notifiedCount);
+        return notifiedCount;
+    }
+
+    private int notifyWaiters(Store store, LocalDate waitDate, long seats, long now) {
+        if (!waitlistQueue.isLoaded(store.getId(), waitDate)) {
+            waitlistQueue.load(store.getId(), waitDate, waitlistRepository.findWaitingList(store, waitDate));
+        }
+
+        int notifiedCount = 0;
+        Map<Long, Long> pending = new LinkedHashMap<>();
+        Map<Long, Long> inFlight = Map.of();
+        try {
+            while (notifiedCount < seats) {
+                Map<Long, Long> popped = waitlistQueue.pop(store.getId(), waitDate, seats - notifiedCount);
+                if (popped.isEmpty()) {
+                    break;
+                }
+                inFlight = popped;
+
+                List<Waitlist> waitlists = waitlistRepository.findWaitingListByUserIdIn(store, waitDate, List.copyOf(popped.keySet()));
+                collectPending(popped, waitlists, now, pending);
+
+                // 이미 알림받았거나 알림 비활성인 대기자는 건너뛰고 다음 대기자를 꺼낸다.
+                List<NotificationRequestDto> dtos = waitlists.stream()
+                        .filter(this::isAlarmEnabled)
+                        .map(waitlist -> toNotificationRequest(store, waitlist))
+                        .toList();
+                if (!dtos.isEmpty()) {
+                    notificationService.createNotifications(dtos);
+                    waitlistClaimStore.claim(store.getId(), waitDate,
+                            dtos.stream().map(NotificationRequestDto::getUserId).toList(), now + CLAIM_TTL.toMillis());
+                    notifiedCount += dtos.size();
+                }
+                inFlight = Map.of();
+            }
+        } finally {
+            // 루프 안에서 되돌리면 같은 대기자를 다시 꺼내므로 배정이 끝난 뒤 한 번에 되돌린다.
+            // 조회/알림/선점 도중 실패하면 꺼낸 배치 전체를 되돌린다. (이미 알림받은 대기자는 다음 배정의 DB 조회에서 걸러진다)
+            Map<Long, Long> requeue = new LinkedHashMap<>(pending);
+            requeue.putAll(inFlight);
+            waitlistQueue.requeue(store.getId(), waitDate, requeue);
+        }
+        return notifiedCount;
+    }
+
+    // 등록 스크립트 경로로 막 등록돼 DB 저장(MQ 소비) 전인 대기자는 유실되지 않도록 대기열로 되돌릴 대상에 모은다.
+    private void collectPending(Map<Long, Long> popped, List<Waitlist> waitlists, long now, Map<Long, Long> pending) {
+        Set<Long> savedUserIds = new HashSet<>();
+        waitlists.forEach(waitlist -> savedUserIds.add(waitlist.getUser().getId()));
+
+        popped.forEach((userId, registeredAt) -> {
+            if (!savedUserIds.contains(userId) && registeredAt > now - WaitlistQueue.PENDING_GRACE_MILLIS) {
+                pending.put(userId, registeredAt);
+            }
+        });
+    }
+
+    // 가장 먼저 만료되는 선점 시각에 다시 배정
+    private void scheduleClaimExpiry(Long storeId, LocalDate waitDate) {
+        Long expireAt = waitlistClaimStore.getEarliestExpireAt(storeId, waitDate);
+        if (expireAt == null) {
+            return;
+        }
+        LocalDateTime runAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(expireAt), ZONE_ID_ASIA_SEOUL);
+        delayedJobQueue.scheduleEarliest(DelayedJobType.VACANCY_DISPATCH, toJobId(storeId, waitDate), runAt);
+    }
+
+    private boolean isAlarmEnabled(Waitlist waitlist) {
+        User findUser = waitlist.getUser();
+
+        if (!Boolean.TRUE.equals(findUser.getIsAlarmEnabled())) {
+            log.info("[VacancyDispatcher] 알림 비활성 유저 → userId={}", findUser.getId());
+            return false;
+        }
+        return true;
+    }
+
+    private NotificationRequestDto toNotificationRequest(Store store, Waitlist waitlist) {
+        return NotificationRequestDto.builder()
+            .userId(waitlist.getUser().getId())
+            .storeId(store.getId())
+            .waitDate(waitlist.getWaitDate())
+            .type(NotificationType.VACANCY)
+            .content(vacancyMessage(store.getName(), waitlist.getWaitDate()))
+            .build();
+    }
+
+    private String vacancyMessage(String storeName, LocalDate waitDate) {
+        return String.format("%s가게 %s에 빈자리가 생겼습니다.", storeName, waitDate);
+    }
+
+    public static String toJobId(Long storeId, LocalDate waitDate) {
+        return storeId + ":" + waitDate;
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.tablenow.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.tablenow.domain.notification.dto.request.NotificationRequestDto;
+import org.example.tablenow.domain.notification.enums.NotificationType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 JDBC 배치 INSERT
+ * IDENTITY 전략이라 JPA 배치 INSERT 가 동작하지 않으므로 JdbcTemplate batchUpdate 로 직접 작성한다.
+ * 생성된 ID 는 입력 순서대로 반환한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+    private final JdbcTemplate dataJdbcTemplate;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (user_id, type, content, is_read, created_at) VALUES (?, ?, ?, false, ?)";
+
+    // 같은 내용의 알림을 여러 유저에게 저장
+    public List<Long> insertAll(List<Long> userIds, NotificationType type, String content, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        return batchInsert(userIds.stream()
+                .map(userId -> new Object[]{userId, type.name(), content, timestamp})
+                .toList());
+    }
+
+    public List<Long> insertAll(List<NotificationRequestDto> requestDtos, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        return batchInsert(requestDtos.stream()
+                .map(dto -> new Object[]{dto.getUserId(), dto.getType().name(), dto.getContent(), timestamp})
+                .toList());
+    }
+
+    private List<Long> batchInsert(List<Object[]> params) {
+        if (params.isEmpty()) {
+            return List.of();
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        dataJdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Object[] row = params.get(i);
+                        for (int j = 0; j < row.length; j++) {
+                            ps.setObject(j + 1, row[j]);
+                        }
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return params.size();
+                    }
+                },
+                keyHolder
+        );
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+}
@@ -1,17 +1,51 @@
 package org.example.tablenow.domain.notification.repository;
 
+import org.example.tablenow.domain.notification.dto.response.NotificationUnreadCountDto;
 import org.example.tablenow.domain.notification.entity.Notification;
 import org.example.tablenow.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     Page<Notification> findAllByUserAndIsRead(User user, Boolean isRead, Pageable pageable);
 
+    /**
+     * 미사용메서드 - bulk update 방식(findUnreadIdsByUserId + updateAllAsReadByUserId)으로 변경
+     * 성능 비교 테스트를 위해 유지
+     */
     List<Notification> findAllByUserAndIsReadFalse(User user);
 
+    // 읽지 않은 알림 ID 만 조회 (엔티티 미생성)
+    @Query("SELECT n.id FROM Notification n WHERE n.user.id = :userId AND n.isRead = false ORDER BY n.id ASC")
+    List<Long> findUnreadIdsByUserId(@Param("userId") Long userId);
+
+    // 조회 시점의 마지막 ID(maxId)까지만 bulk update 로 읽음 처리 (이후 생성된 알림은 제외)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Notification n
+        SET n.isRead = true
+        WHERE n.user.id = :userId
+        AND n.isRead = false
+        AND n.id <= :maxId
+        """)
+    int updateAllAsReadByUserId(@Param("userId") Long userId, @Param("maxId") Long maxId);
+
     Page<Notification> findAllByUser(User user, Pageable pageable);
+
+    // 유저별 읽지 않은 알림 수 (미읽음 카운터 대사용, 알림이 없는 유저는 결과에 포함되지 않음)
+    @Query("""
+        SELECT new org.example.tablenow.domain.notification.dto.response.NotificationUnreadCountDto(n.user.id, COUNT(n))
+        FROM Notification n
+        WHERE n.user.id IN :userIds
+        AND n.isRead = false
+        GROUP BY n.user.id
+        """)
+    List<NotificationUnreadCountDto> countUnreadByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
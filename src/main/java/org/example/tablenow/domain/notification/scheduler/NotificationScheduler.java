@@ -6,7 +6,6 @@ import org.example.tablenow.domain.notification.enums.NotificationType;
 import org.example.tablenow.domain.notification.service.NotificationService;
 import org.example.tablenow.domain.reservation.entity.Reservation;
 import org.example.tablenow.domain.reservation.repository.ReservationRepository;
-import org.example.tablenow.domain.user.entity.User;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,24 +31,23 @@ public class NotificationScheduler {
             targetTime.plusMinutes(5)
         );
 
-        for (Reservation reservation : reservations) {
-            User user = reservation.getUser();
-            if (Boolean.TRUE.equals(user.getIsAlarmEnabled())) {
-                notifyReminder(reservation);
-            }
-        }
+        List<NotificationRequestDto> dtos = reservations.stream()
+            .filter(reservation -> Boolean.TRUE.equals(reservation.getUser().getIsAlarmEnabled()))
+            .map(this::toReminderRequest)
+            .toList();
+
+        notificationService.createNotifications(dtos);
     }
 
 
-    //  예약 리마인더 알림 생성
-    private void notifyReminder(Reservation reservation) {
-        NotificationRequestDto dto = new NotificationRequestDto(
+    //  예약 리마인더 알림 요청 생성
+    private NotificationRequestDto toReminderRequest(Reservation reservation) {
+        return new NotificationRequestDto(
             reservation.getUser().getId(),
             reservation.getStoreId(),
             NotificationType.REMIND,
             String.format("내일 %s 가게 방문예정일 입니다.", reservation.getStoreName())
         );
-        notificationService.createNotification(dto);
     }
 
 }
\ No newline at end of file
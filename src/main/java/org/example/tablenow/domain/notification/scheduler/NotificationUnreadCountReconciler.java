@@ -0,0 +1,58 @@
+package org.example.tablenow.domain.notification.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.example.tablenow.domain.notification.dto.response.NotificationUnreadCountDto;
+import org.example.tablenow.domain.notification.repository.NotificationRepository;
+import org.example.tablenow.domain.notification.service.NotificationUnreadCounter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미읽음 알림 카운터 대사(reconcile)
+ * 카운터가 변경됐거나 없던 유저를 배치로 꺼내 GROUP BY 쿼리 1회로 DB 미읽음 수를 구하고 카운터를 덮어쓴다.
+ * 덮어쓰기는 DB 조회 전에 읽은 카운터 버전이 그대로일 때만 하며,
+ * 대사 도중 카운터가 변경된 유저는 다시 대사 대상으로 등록되므로 다음 주기에 보정된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCountReconciler {
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final NotificationRepository notificationRepository;
+
+    public static final int RECONCILE_BATCH_SIZE = 500;
+
+    @SchedulerLock(name = "NotificationUnreadCountReconciler.reconcile")
+    @Scheduled(fixedRate = 60000)
+    public void reconcile() {
+        try {
+            int reconciledCount = 0;
+            List<Long> userIds;
+            while (!(userIds = notificationUnreadCounter.popReconcileTargets(RECONCILE_BATCH_SIZE)).isEmpty()) {
+                reconcileUsers(userIds);
+                reconciledCount += userIds.size();
+            }
+            if (reconciledCount > 0) {
+                log.info("미읽음 알림 카운터 대사 완료: {}명", reconciledCount);
+            }
+        } catch (Exception e) {
+            log.error("미읽음 알림 카운터 대사 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    public void reconcileUsers(List<Long> userIds) {
+        Map<Long, String> versionByUserId = notificationUnreadCounter.getVersions(userIds);
+        Map<Long, Long> countByUserId = new HashMap<>();
+        userIds.forEach(userId -> countByUserId.put(userId, 0L));
+        for (NotificationUnreadCountDto dto : notificationRepository.countUnreadByUserIdIn(userIds)) {
+            countByUserId.put(dto.getUserId(), dto.getCount());
+        }
+        notificationUnreadCounter.setAll(countByUserId, versionByUserId);
+    }
+}
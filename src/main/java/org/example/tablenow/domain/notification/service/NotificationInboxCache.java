@@ -0,0 +1,265 @@
+package org.example.tablenow.domain.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.notification.dto.response.NotificationResponseDto;
+import org.example.tablenow.global.util.TransactionUtils;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.NOTIFICATION_INBOX_BODY_PREFIX;
+import static org.example.tablenow.global.constant.RedisKeyConstants.NOTIFICATION_INBOX_PREFIX;
+import static org.example.tablenow.global.constant.RedisKeyConstants.NOTIFICATION_INBOX_VERSION_PREFIX;
+
+/**
+ * 유저별 미읽음 알림 인박스
+ * - notification:inbox:{userId}      ZSET (member=notificationId, score=createdAt epoch millis)
+ * - notification:inbox:body:{userId} Hash (field=notificationId, value=NotificationResponseDto JSON)
+ * - notification:inbox:version:{userId} String (추가/제거/삭제마다 INCR)
+ * Hash 의 loaded 필드로 적재 여부를 구분하며, 적재된 인박스에만 추가(ZADD)하고 읽음 처리 시 제거(ZREM)한다.
+ * 추가로 INBOX_MAX_SIZE 를 넘으면 인박스를 지우고, 이후 조회는 미읽음 수 확인 후 DB 로 돌아간다.
+ * 추가/제거/삭제는 커밋 후 반영하고, 적재는 DB 조회 전에 읽은 버전이 그대로이고 아직 적재되지 않은 경우에만 채운다.
+ * (DB 조회와 적재 사이에 생긴 변경을 이전 스냅샷으로 덮어쓰지 않도록)
+ * 페이지는 ZREVRANGE 로 잘라 내므로 페이지 번호와 무관하게 정확하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationInboxCache {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public static final int INBOX_MAX_SIZE = 1000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    // KEYS[1]=inboxKey, KEYS[2]=bodyKey, ARGV[1]=start, ARGV[2]=end
+    // 반환: 적재 안됨 → nil, 적재됨 → {total, body...}
+    private static final RedisScript<List> PAGE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[2], 'loaded') == 0 then return nil end
+            local result = {tostring(redis.call('ZCARD', KEYS[1]))}
+            local ids = redis.call('ZREVRANGE', KEYS[1], ARGV[1], ARGV[2])
+            if #ids > 0 then
+                local bodies = redis.call('HMGET', KEYS[2], unpack(ids))
+                for i = 1, #ids do
+                    if bodies[i] then table.insert(result, bodies[i]) end
+                end
+            end
+            return result
+            """, List.class);
+
+    // KEYS[1]=inboxKey, KEYS[2]=bodyKey, KEYS[3]=versionKey, ARGV[1]=version, ARGV[2]=ttl(ms), ARGV[3..]=(id, score, body) 반복
+    // DB 조회 이후 버전이 바뀌었거나 이미 적재되었으면 채우지 않음
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[3]) or '0'
+            if version ~= ARGV[1] then return 0 end
+            if redis.call('HEXISTS', KEYS[2], 'loaded') == 1 then return 0 end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            redis.call('HSET', KEYS[2], 'loaded', '1')
+            for i = 3, #ARGV, 3 do
+                redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+                redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 2])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=inboxKey, KEYS[2]=bodyKey, KEYS[3]=versionKey, ARGV[1]=notificationId, ARGV[2]=score, ARGV[3]=body, ARGV[4]=version ttl(ms), ARGV[5]=maxSize
+    // 적재되지 않은 인박스에 추가하면 일부만 담긴 인박스가 되므로 적재된 경우에만 추가 (버전은 항상 증가)
+    // 추가 후 한도를 넘으면 인박스를 지워 DB 조회로 돌아가게 한다. (오래된 미읽음을 잘라내면 목록/전체 수가 틀어짐)
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[3])
+            redis.call('PEXPIRE', KEYS[3], ARGV[4])
+            local ttl = redis.call('PTTL', KEYS[2])
+            if ttl <= 0 then return 0 end
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            if redis.call('ZCARD', KEYS[1]) > tonumber(ARGV[5]) then
+                redis.call('DEL', KEYS[1], KEYS[2])
+                return -1
+            end
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ttl)
+            return 1
+            """, Long.class);
+
+    /**
+     * @return 적재되지 않았으면 null
+     */
+    public PageImpl<NotificationResponseDto> getPage(Long userId, Pageable pageable) {
+        long start = pageable.getOffset();
+        long end = start + pageable.getPageSize() - 1;
+        List<?> result = redisTemplate.execute(
+                PAGE_SCRIPT,
+                List.of(getInboxKey(userId), getBodyKey(userId)),
+                String.valueOf(start),
+                String.valueOf(end)
+        );
+        if (result == null || result.isEmpty()) {
+            return null;
+        }
+
+        long total = Long.parseLong((String) result.get(0));
+        List<NotificationResponseDto> content = new ArrayList<>();
+        for (int i = 1; i < result.size(); i++) {
+            NotificationResponseDto dto = deserialize((String) result.get(i));
+            if (dto != null) {
+                content.add(dto);
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 적재 전 DB 조회보다 먼저 읽어 load 에 전달
+     */
+    public String getVersion(Long userId) {
+        String version = redisTemplate.opsForValue().get(getVersionKey(userId));
+        return version != null ? version : "0";
+    }
+
+    /**
+     * DB 에서 읽은 미읽음 알림 전체로 인박스 재구성 (version 이후 변경이 있었거나 이미 적재되었으면 건너뜀)
+     */
+    public void load(Long userId, String version, List<NotificationResponseDto> notifications) {
+        List<String> args = new ArrayList<>(2 + notifications.size() * 3);
+        args.add(version);
+        args.add(String.valueOf(TTL.toMillis()));
+        for (NotificationResponseDto notification : notifications) {
+            args.add(String.valueOf(notification.getNotificationId()));
+            args.add(String.valueOf(toScore(notification.getCreatedAt())));
+            args.add(serialize(notification));
+        }
+
+        redisTemplate.execute(
+                LOAD_SCRIPT,
+                List.of(getInboxKey(userId), getBodyKey(userId), getVersionKey(userId)),
+                args.toArray()
+        );
+    }
+
+    public void append(Long userId, NotificationResponseDto notification) {
+        appendAll(Map.of(userId, List.of(notification)));
+    }
+
+    /**
+     * 커밋 후 적재된 인박스에만 추가 (EVALSHA 파이프라인 1회, 스크립트가 없으면 적재 후 1회 재시도)
+     */
+    public void appendAll(Map<Long, List<NotificationResponseDto>> notificationsByUserId) {
+        if (notificationsByUserId.isEmpty()) {
+            return;
+        }
+
+        TransactionUtils.runAfterCommit(() -> {
+            try {
+                appendPipelined(notificationsByUserId);
+            } catch (RedisPipelineException e) {
+                // NOSCRIPT (Redis 재시작/SCRIPT FLUSH) → 스크립트 적재 후 재시도 (ZADD/HSET 이라 재실행해도 결과 동일)
+                loadAppendScript();
+                appendPipelined(notificationsByUserId);
+            }
+        });
+    }
+
+    public void remove(Long userId, Long notificationId) {
+        String id = String.valueOf(notificationId);
+        TransactionUtils.runAfterCommit(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.zRem(getInboxKey(userId), id);
+            conn.hDel(getBodyKey(userId), id);
+            increaseVersion(conn, userId);
+            return null;
+        }));
+    }
+
+    public void evict(Long userId) {
+        TransactionUtils.runAfterCommit(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.del(getInboxKey(userId), getBodyKey(userId));
+            increaseVersion(conn, userId);
+            return null;
+        }));
+    }
+
+    public static String getInboxKey(Long userId) {
+        return NOTIFICATION_INBOX_PREFIX + userId;
+    }
+
+    public static String getBodyKey(Long userId) {
+        return NOTIFICATION_INBOX_BODY_PREFIX + userId;
+    }
+
+    public static String getVersionKey(Long userId) {
+        return NOTIFICATION_INBOX_VERSION_PREFIX + userId;
+    }
+
+    private void appendPipelined(Map<Long, List<NotificationResponseDto>> notificationsByUserId) {
+        String sha = APPEND_SCRIPT.getSha1();
+        String versionTtl = String.valueOf(TTL.toMillis());
+        String maxSize = String.valueOf(INBOX_MAX_SIZE);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            notificationsByUserId.forEach((userId, notifications) -> {
+                for (NotificationResponseDto notification : notifications) {
+                    conn.evalSha(sha, ReturnType.INTEGER, 3,
+                            getInboxKey(userId),
+                            getBodyKey(userId),
+                            getVersionKey(userId),
+                            String.valueOf(notification.getNotificationId()),
+                            String.valueOf(toScore(notification.getCreatedAt())),
+                            serialize(notification),
+                            versionTtl,
+                            maxSize);
+                }
+            });
+            return null;
+        });
+    }
+
+    private void loadAppendScript() {
+        redisTemplate.execute((RedisCallback<String>) connection ->
+                connection.scriptingCommands().scriptLoad(APPEND_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void increaseVersion(StringRedisConnection conn, Long userId) {
+        conn.incr(getVersionKey(userId));
+        conn.pExpire(getVersionKey(userId), TTL.toMillis());
+    }
+
+    private static double toScore(LocalDateTime createdAt) {
+        return createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String serialize(NotificationResponseDto notification) {
+        try {
+            return objectMapper.writeValueAsString(notification);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 인박스 직렬화 실패", e);
+        }
+    }
+
+    private NotificationResponseDto deserialize(String body) {
+        try {
+            return objectMapper.readValue(body, NotificationResponseDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("[NotificationInbox] 역직렬화 실패로 건너뜀 → {}", e.getMessage());
+            return null;
+        }
+    }
+}
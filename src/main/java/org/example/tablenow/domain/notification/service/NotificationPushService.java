@@ -0,0 +1,62 @@
+package org.example.tablenow.domain.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.notification.dto.response.NotificationResponseDto;
+import org.example.tablenow.global.constant.WebSocketConstants;
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
+import org.example.tablenow.global.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 생성된 알림을 유저별 STOMP 토픽으로 푸시
+ * 커밋 이후에 전송하며, 전송 실패는 로그만 남긴다.
+ * (알림 원본은 DB 와 인박스에 있으므로 재연결 시 /app/notification/missed 구독으로 복구)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPushService {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Value("${chat.broker}")
+    private String brokerType;
+
+    public void push(Long userId, NotificationResponseDto notification) {
+        pushAll(Map.of(userId, List.of(notification)));
+    }
+
+    public void pushAll(Map<Long, List<NotificationResponseDto>> notificationsByUserId) {
+        if (notificationsByUserId.isEmpty()) {
+            return;
+        }
+        TransactionUtils.runAfterCommit(() -> notificationsByUserId.forEach((userId, notifications) -> {
+            String destination = getDestination(userId);
+            for (NotificationResponseDto notification : notifications) {
+                try {
+                    messagingTemplate.convertAndSend(destination, notification);
+                } catch (Exception e) {
+                    log.warn("[WebSocket] 알림 푸시 실패 - userId: {}, notificationId: {}", userId, notification.getNotificationId(), e);
+                }
+            }
+        }));
+    }
+
+    private String getDestination(Long userId) {
+        if ("simple".equalsIgnoreCase(brokerType)) {
+            // [SimpleBroker] 서버 메모리 브로커 사용
+            return WebSocketConstants.TOPIC_NOTIFICATION_PREFIX_SIMPLE + userId;
+        } else if ("rabbit".equalsIgnoreCase(brokerType)) {
+            // [RabbitMQ Relay] MQ로 relay
+            return WebSocketConstants.TOPIC_NOTIFICATION_PREFIX_RELAY + userId;
+        }
+        throw new HandledException(ErrorCode.UNSUPPORTED_CHAT_BROKER_TYPE);
+    }
+}
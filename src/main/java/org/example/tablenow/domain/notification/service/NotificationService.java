@@ -1,15 +1,15 @@
 package org.example.tablenow.domain.notification.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.tablenow.domain.notification.dto.request.NotificationRequestDto;
 import org.example.tablenow.domain.notification.dto.response.NotificationAlarmResponseDto;
 import org.example.tablenow.domain.notification.dto.response.NotificationResponseDto;
+import org.example.tablenow.domain.notification.dto.response.NotificationUnreadCountResponseDto;
 import org.example.tablenow.domain.notification.dto.response.NotificationUpdateReadResponseDto;
 import org.example.tablenow.domain.notification.entity.Notification;
 import org.example.tablenow.domain.notification.enums.NotificationType;
+import org.example.tablenow.domain.notification.repository.NotificationBulkRepository;
 import org.example.tablenow.domain.notification.repository.NotificationRepository;
 import org.example.tablenow.domain.store.entity.Store;
 import org.example.tablenow.domain.store.service.StoreService;
@@ -21,13 +21,12 @@ import org.example.tablenow.domain.waitlist.repository.WaitlistRepository;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
 import org.springframework.data.domain.*;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -37,12 +36,14 @@ public class NotificationService {
     private final UserService userService;
     private final StoreService storeService;
     private final WaitlistRepository waitlistRepository;
-    private final StringRedisTemplate stringRedisTemplate;
-    private final ObjectMapper objectMapper;
     private final UserRepository userRepository;
+    private final NotificationBulkRepository notificationBulkRepository;
+    private final NotificationInboxCache notificationInboxCache;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final NotificationPushService notificationPushService;
 
-    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
-    private static final String CACHE_PREFIX = "notifications:";
+    // 재연결 시 인박스에서 복구해 주는 최대 알림 수
+    public static final int MISSED_NOTIFICATION_LIMIT = 100;
 
 
     // 알림 생성
@@ -57,54 +58,140 @@ public class NotificationService {
         if (NotificationType.VACANCY.equals(requestDto.getType())) {
             handleVacancyNotification(findUser, requestDto.getStoreId());
         }
-        stringRedisTemplate.delete(CACHE_PREFIX + requestDto.getUserId());
 
+        NotificationResponseDto responseDto = NotificationResponseDto.fromNotification(savedNotification);
+        notificationInboxCache.append(requestDto.getUserId(), responseDto);
+        notificationUnreadCounter.increment(requestDto.getUserId());
+        notificationPushService.push(requestDto.getUserId(), responseDto);
+        return responseDto;
+    }
+
+    // 알림 일괄 생성
+    // 유저 존재 여부는 id IN 쿼리 1회로 확인하고(없는 유저는 건너뜀), 배치 INSERT 후 인박스에 파이프라인으로 추가한다.
+    @Transactional
+    public int createNotifications(List<NotificationRequestDto> requestDtos) {
+        if (requestDtos.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> existingUserIds = new HashSet<>(userRepository.findExistingIdsByIdIn(
+            requestDtos.stream().map(NotificationRequestDto::getUserId).collect(Collectors.toSet())));
+        List<NotificationRequestDto> validDtos = requestDtos.stream()
+            .filter(dto -> existingUserIds.contains(dto.getUserId()))
+            .toList();
+        if (validDtos.size() < requestDtos.size()) {
+            log.warn("존재하지 않는 유저 알림 {}건 제외", requestDtos.size() - validDtos.size());
+        }
+
+        List<NotificationRequestDto> vacancyDtos = validDtos.stream()
+            .filter(dto -> NotificationType.VACANCY.equals(dto.getType()))
+            .toList();
+        if (vacancyDtos.stream().anyMatch(dto -> dto.getStoreId() == null)) {
+            throw new HandledException(ErrorCode.NOTIFICATION_BAD_REQUEST);
+        }
+        if (vacancyDtos.stream().anyMatch(dto -> dto.getWaitDate() == null)) {
+            throw new HandledException(ErrorCode.NOTIFICATION_WAIT_DATE_REQUIRED);
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Long> notificationIds = notificationBulkRepository.insertAll(validDtos, createdAt);
+
+        // 빈자리 대기 알림은 가게/대기 날짜별로 isNotified = true 일괄 업데이트 (다른 날짜의 대기는 유지)
+        vacancyDtos.stream()
+            .collect(Collectors.groupingBy(NotificationRequestDto::getStoreId,
+                Collectors.groupingBy(NotificationRequestDto::getWaitDate,
+                    Collectors.mapping(NotificationRequestDto::getUserId, Collectors.toSet()))))
+            .forEach((storeId, userIdsByDate) -> userIdsByDate.forEach((waitDate, userIds) ->
+                waitlistRepository.updateNotifiedByStoreIdAndWaitDateAndUserIds(storeId, waitDate, userIds)));
+
+        Map<Long, List<NotificationResponseDto>> inboxEntries = new HashMap<>();
+        for (int i = 0; i < notificationIds.size(); i++) {
+            NotificationRequestDto dto = validDtos.get(i);
+            inboxEntries.computeIfAbsent(dto.getUserId(), userId -> new ArrayList<>())
+                .add(toResponseDto(notificationIds.get(i), dto.getType(), dto.getContent(), createdAt));
+        }
+        notificationInboxCache.appendAll(inboxEntries);
+        notificationUnreadCounter.incrementAll(countByUserId(inboxEntries));
+        notificationPushService.pushAll(inboxEntries);
+        return validDtos.size();
+    }
+
+    // 같은 내용의 알림 일괄 생성 (유저 ID 를 DB 에서 바로 읽어온 경우, 유저 확인 생략)
+    @Transactional
+    public void createNotifications(List<Long> userIds, NotificationType type, String content) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Long> notificationIds = notificationBulkRepository.insertAll(userIds, type, content, createdAt);
 
-        return NotificationResponseDto.fromNotification(savedNotification);
+        Map<Long, List<NotificationResponseDto>> inboxEntries = new HashMap<>();
+        for (int i = 0; i < notificationIds.size(); i++) {
+            inboxEntries.computeIfAbsent(userIds.get(i), userId -> new ArrayList<>())
+                .add(toResponseDto(notificationIds.get(i), type, content, createdAt));
+        }
+        notificationInboxCache.appendAll(inboxEntries);
+        notificationUnreadCounter.incrementAll(countByUserId(inboxEntries));
+        notificationPushService.pushAll(inboxEntries);
+    }
+
+    // 읽지 않은 알림 수 (뱃지용, Redis 카운터만 조회)
+    public NotificationUnreadCountResponseDto getUnreadCount(Long userId) {
+        return NotificationUnreadCountResponseDto.of(notificationUnreadCounter.get(userId));
     }
 
     // 알림 조회
     @Transactional(readOnly = true)
     public Page<NotificationResponseDto> findNotifications(Long userId, int page, int size, Boolean isRead) {
 
-        String key = CACHE_PREFIX + userId;
         Pageable pageable = PageRequest.of(page - 1, size, Sort.by("createdAt").descending());
 
         User findUser = userService.getUser(userId);
 
 
         if (Boolean.FALSE.equals(isRead)) {
-            String cachedJson = stringRedisTemplate.opsForValue().get(key);
-            if (cachedJson != null) {
-                try {
-                    List<NotificationResponseDto> cachedList = objectMapper.readValue(
-                        cachedJson, new TypeReference<>() {
-                        });
-                    log.info(">> Redis hit for {}", key);
-                    return toPage(cachedList, pageable);
-                } catch (Exception e) {
-                    log.warn(">> Redis JSON parse 실패: {}", e.getMessage());
+            Page<NotificationResponseDto> cachedPage = notificationInboxCache.getPage(userId, pageable);
+            if (cachedPage != null) {
+                log.info(">> Redis inbox hit for userId={}", userId);
+                return cachedPage;
+            }
+            log.info(">> Redis inbox miss for userId={}", userId);
+
+            // 미읽음 알림 전체로 인박스 적재 (미읽음 카운터로 INBOX_MAX_SIZE 초과 유저를 먼저 걸러 DB 페이지 조회)
+            if (notificationUnreadCounter.get(userId) <= NotificationInboxCache.INBOX_MAX_SIZE) {
+                String inboxVersion = notificationInboxCache.getVersion(userId);
+                Page<Notification> unread = notificationRepository.findAllByUserAndIsRead(findUser, false,
+                    PageRequest.of(0, NotificationInboxCache.INBOX_MAX_SIZE, pageable.getSort()));
+                List<NotificationResponseDto> unreadList = unread.map(NotificationResponseDto::fromNotification).getContent();
+                if (unread.getTotalElements() <= NotificationInboxCache.INBOX_MAX_SIZE) {
+                    notificationInboxCache.load(userId, inboxVersion, unreadList);
+                    return toPage(unreadList, pageable);
+                }
+                // 카운터가 실제보다 작았던 경우: 조회한 최신 INBOX_MAX_SIZE 건 안의 페이지면 그대로 사용
+                if (pageable.getOffset() + pageable.getPageSize() <= unreadList.size()) {
+                    int start = (int) pageable.getOffset();
+                    return new PageImpl<>(unreadList.subList(start, start + pageable.getPageSize()), pageable, unread.getTotalElements());
                 }
             }
-            log.info(">> Redis miss for {}", key);
         }
         Page<Notification> notifications = (isRead != null)
             ? notificationRepository.findAllByUserAndIsRead(findUser, isRead, pageable)
             : notificationRepository.findAllByUser(findUser, pageable);
 
-        List<NotificationResponseDto> result = notifications.map(NotificationResponseDto::fromNotification).getContent();
+        return notifications.map(NotificationResponseDto::fromNotification);
+    }
 
-        // 캐시 저장
-        if (Boolean.FALSE.equals(isRead) && !result.isEmpty()) {
-            try {
-                String json = objectMapper.writeValueAsString(result);
-                stringRedisTemplate.opsForValue().set(key, json, CACHE_TTL);
-            } catch (Exception e) {
-                log.warn(">> Redis 캐싱 실패: {}", e.getMessage());
-            }
+    // 재연결 시 놓친 알림 조회 (lastNotificationId 이후의 미읽음 알림, 인박스 우선)
+    @Transactional(readOnly = true)
+    public List<NotificationResponseDto> findMissedNotifications(Long userId, Long lastNotificationId) {
+        List<NotificationResponseDto> unread = findNotifications(userId, 1, MISSED_NOTIFICATION_LIMIT, false).getContent();
+        if (lastNotificationId == null) {
+            return unread;
         }
-
-        return toPage(result, pageable);
+        return unread.stream()
+            .filter(notification -> notification.getNotificationId() > lastNotificationId)
+            .toList();
     }
 
     // 알림 읽음 처리
@@ -117,33 +204,38 @@ public class NotificationService {
             throw new HandledException(ErrorCode.NOTIFICATION_MISMATCH);
         }
 
+        boolean wasUnread = !Boolean.TRUE.equals(findNotification.getIsRead());
         findNotification.updateRead();
         notificationRepository.save(findNotification);
 
-        // 캐시에서 해당 알림 제거
-        deleteNotificationCacheById(userId, notificationId);
+        // 인박스에서 해당 알림 제거
+        notificationInboxCache.remove(userId, notificationId);
+        if (wasUnread) {
+            notificationUnreadCounter.decrement(userId);
+        }
 
         return NotificationUpdateReadResponseDto.fromNotification(findNotification);
     }
 
-    // 알림 전체 읽음 처리
+    // 알림 전체 읽음 처리 (ID 조회 1회 + bulk update 1회)
     @Transactional
     public List<NotificationUpdateReadResponseDto> updateAllNotificationRead(Long userId) {
-        User findUser = userService.getUser(userId);
-
-        List<Notification> notificationList = notificationRepository.findAllByUserAndIsReadFalse(findUser);
-
-        List<NotificationUpdateReadResponseDto> result = new ArrayList<>();
+        userService.getUser(userId);
 
-        for (Notification notification : notificationList) {
-            notification.updateRead();
-            notificationRepository.save(notification);
-            result.add(NotificationUpdateReadResponseDto.fromNotification(notification));
+        List<Long> unreadIds = notificationRepository.findUnreadIdsByUserId(userId);
+        // 카운터 초기화는 커밋 후 실행되며, 조회 이후 생성된 알림은 함께 등록되는 대사로 보정된다.
+        notificationUnreadCounter.reset(userId);
+        if (unreadIds.isEmpty()) {
+            return List.of();
         }
-        stringRedisTemplate.delete(CACHE_PREFIX + userId);
 
+        int changedCount = notificationRepository.updateAllAsReadByUserId(userId, unreadIds.get(unreadIds.size() - 1));
+        log.info("알림 전체 읽음 처리 → userId={}, count={}", userId, changedCount);
+        notificationInboxCache.evict(userId);
 
-        return result;
+        return unreadIds.stream()
+            .map(NotificationUpdateReadResponseDto::fromReadNotificationId)
+            .toList();
     }
 
     //알람 수신 여부
@@ -175,27 +267,26 @@ public class NotificationService {
 
     // 전체 알림 리스트를 페이징된 Page 객체로 변환
     private Page<NotificationResponseDto> toPage(List<NotificationResponseDto> list, Pageable pageable) {
-        int start = (int) pageable.getOffset();
+        int start = (int) Math.min(pageable.getOffset(), list.size());
         int end = Math.min(start + pageable.getPageSize(), list.size());
         List<NotificationResponseDto> sublist = list.subList(start, end);
         return new PageImpl<>(sublist, pageable, list.size());
     }
 
-    private void deleteNotificationCacheById(Long userId, Long notificationId) {
-        String key = CACHE_PREFIX + userId;
-        String cachedJson = stringRedisTemplate.opsForValue().get(key);
-        if (cachedJson != null) {
-            try {
-                List<NotificationResponseDto> cachedList = objectMapper.readValue(
-                    cachedJson, new TypeReference<>() {
-                    });
-                cachedList.removeIf(n -> n.getNotificationId().equals(notificationId));
-                stringRedisTemplate.opsForValue().set(key,
-                    objectMapper.writeValueAsString(cachedList), CACHE_TTL);
-            } catch (Exception e) {
-                log.warn(">> Redis 캐시 동기화 실패: {}", e.getMessage());
-            }
-        }
+    private Map<Long, Long> countByUserId(Map<Long, List<NotificationResponseDto>> inboxEntries) {
+        Map<Long, Long> countByUserId = new HashMap<>();
+        inboxEntries.forEach((userId, notifications) -> countByUserId.put(userId, (long) notifications.size()));
+        return countByUserId;
+    }
+
+    private NotificationResponseDto toResponseDto(Long notificationId, NotificationType type, String content, LocalDateTime createdAt) {
+        return NotificationResponseDto.builder()
+            .notificationId(notificationId)
+            .type(type)
+            .content(content)
+            .isRead(false)
+            .createdAt(createdAt)
+            .build();
     }
 
 
@@ -0,0 +1,172 @@
+package org.example.tablenow.domain.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.tablenow.global.util.TransactionUtils;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.NOTIFICATION_UNREAD_COUNT_PREFIX;
+import static org.example.tablenow.global.constant.RedisKeyConstants.NOTIFICATION_UNREAD_RECONCILE_KEY;
+import static org.example.tablenow.global.constant.RedisKeyConstants.NOTIFICATION_UNREAD_VERSION_PREFIX;
+
+/**
+ * 유저별 미읽음 알림 수 (Redis String: notification:unread:{userId})
+ * 뱃지 조회는 GET 1회이며 MySQL 을 조회하지 않는다.
+ * 증감/초기화는 커밋 후 반영하고(롤백된 알림이 카운터에 남지 않도록), 변경마다 버전(notification:unread-version:{userId})을 올린다.
+ * 카운터가 없으면 증감하지 않고(부분 값 방지) 대사 대상으로만 등록하며,
+ * 음수로 내려간 경우와 전체 읽음으로 초기화한 경우에도 대사 대상으로 등록해
+ * NotificationUnreadCountReconciler 가 DB 기준으로 보정한다.
+ * 대사는 DB 조회 전에 읽은 버전이 그대로일 때만 덮어쓰고, 그 사이 변경된 유저는 다시 대사 대상으로 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+    private final StringRedisTemplate redisTemplate;
+
+    // KEYS[1]=countKey, KEYS[2]=reconcileKey, KEYS[3]=versionKey, ARGV[1]=delta, ARGV[2]=userId
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[3])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('SADD', KEYS[2], ARGV[2])
+                return -1
+            end
+            local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if count < 0 then
+                redis.call('SET', KEYS[1], 0)
+                redis.call('SADD', KEYS[2], ARGV[2])
+                return 0
+            end
+            return count
+            """, Long.class);
+
+    // KEYS[1]=countKey, KEYS[2]=reconcileKey, KEYS[3]=versionKey, ARGV[1]=count, ARGV[2]=DB 조회 전 버전, ARGV[3]=userId
+    // DB 조회 이후 증감/초기화가 있었으면 덮어쓰지 않고 다시 대사 대상으로 등록
+    private static final RedisScript<Long> SET_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[3]) or '0'
+            if version ~= ARGV[2] then
+                redis.call('SADD', KEYS[2], ARGV[3])
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * @return 카운터가 아직 없으면 0 (대사 대상으로 등록)
+     */
+    public long get(Long userId) {
+        String count = redisTemplate.opsForValue().get(getKey(userId));
+        if (count == null) {
+            redisTemplate.opsForSet().add(NOTIFICATION_UNREAD_RECONCILE_KEY, String.valueOf(userId));
+            return 0L;
+        }
+        return Long.parseLong(count);
+    }
+
+    public void increment(Long userId) {
+        adjust(userId, 1L);
+    }
+
+    public void decrement(Long userId) {
+        adjust(userId, -1L);
+    }
+
+    /**
+     * 일괄 생성 커밋 후 유저별 증가분을 파이프라인 1회로 반영
+     */
+    public void incrementAll(Map<Long, Long> deltaByUserId) {
+        if (deltaByUserId.isEmpty()) {
+            return;
+        }
+
+        TransactionUtils.runAfterCommit(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            deltaByUserId.forEach((userId, delta) -> conn.eval(
+                    ADJUST_SCRIPT.getScriptAsString(), ReturnType.INTEGER, 3,
+                    getKey(userId), NOTIFICATION_UNREAD_RECONCILE_KEY, getVersionKey(userId),
+                    String.valueOf(delta), String.valueOf(userId)));
+            return null;
+        }));
+    }
+
+    /**
+     * 전체 읽음 처리 커밋 후 0으로 초기화하고 대사 대상으로 등록
+     * (커밋 전에 초기화하면 그 사이 대사가 UPDATE 반영 전 DB 값으로 되돌리고, 조회 이후 생성된 알림은 대사로 보정)
+     */
+    public void reset(Long userId) {
+        TransactionUtils.runAfterCommit(() -> {
+            redisTemplate.opsForValue().set(getKey(userId), "0");
+            redisTemplate.opsForValue().increment(getVersionKey(userId));
+            redisTemplate.opsForSet().add(NOTIFICATION_UNREAD_RECONCILE_KEY, String.valueOf(userId));
+        });
+    }
+
+    /**
+     * 대사 대상 유저 ID 를 최대 count 건 꺼낸다.
+     */
+    public List<Long> popReconcileTargets(long count) {
+        List<String> userIds = redisTemplate.opsForSet().pop(NOTIFICATION_UNREAD_RECONCILE_KEY, count);
+        if (userIds == null) {
+            return List.of();
+        }
+        return userIds.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 대사 DB 조회 전에 읽어 setAll 에 전달 (카운터 변경이 없던 유저는 "0")
+     */
+    public Map<Long, String> getVersions(List<Long> userIds) {
+        List<String> keys = userIds.stream().map(NotificationUnreadCounter::getVersionKey).toList();
+        List<String> versions = redisTemplate.opsForValue().multiGet(keys);
+
+        Map<Long, String> versionByUserId = new HashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            String version = versions == null ? null : versions.get(i);
+            versionByUserId.put(userIds.get(i), version != null ? version : "0");
+        }
+        return versionByUserId;
+    }
+
+    /**
+     * DB 기준 미읽음 수로 덮어쓰기 (파이프라인 1회)
+     * 버전이 바뀐 유저는 덮어쓰지 않고 다음 주기 대사 대상으로 다시 등록한다.
+     */
+    public void setAll(Map<Long, Long> countByUserId, Map<Long, String> versionByUserId) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            countByUserId.forEach((userId, count) -> conn.eval(
+                    SET_IF_UNCHANGED_SCRIPT.getScriptAsString(), ReturnType.INTEGER, 3,
+                    getKey(userId), NOTIFICATION_UNREAD_RECONCILE_KEY, getVersionKey(userId),
+                    String.valueOf(count), versionByUserId.getOrDefault(userId, "0"), String.valueOf(userId)));
+            return null;
+        });
+    }
+
+    public static String getKey(Long userId) {
+        return NOTIFICATION_UNREAD_COUNT_PREFIX + userId;
+    }
+
+    public static String getVersionKey(Long userId) {
+        return NOTIFICATION_UNREAD_VERSION_PREFIX + userId;
+    }
+
+    // 커밋 전에 반영하면 롤백된 알림이 카운터에 남고, 카운터가 있는 유저는 대사 대상이 아니라 보정되지 않는다.
+    private void adjust(Long userId, long delta) {
+        TransactionUtils.runAfterCommit(() -> redisTemplate.execute(
+                ADJUST_SCRIPT,
+                List.of(getKey(userId), NOTIFICATION_UNREAD_RECONCILE_KEY, getVersionKey(userId)),
+                String.valueOf(delta),
+                String.valueOf(userId)
+        ));
+    }
+}
@@ -8,9 +8,12 @@ import org.example.tablenow.domain.reservation.dto.request.ReservationRequestDto
 import org.example.tablenow.domain.reservation.dto.request.ReservationSearchRequest;
 import org.example.tablenow.domain.reservation.dto.request.ReservationStatusChangeRequestDto;
 import org.example.tablenow.domain.reservation.dto.request.ReservationUpdateRequestDto;
+import org.example.tablenow.domain.reservation.dto.request.StoreAvailabilityRequestDto;
 import org.example.tablenow.domain.reservation.dto.response.ReservationResponseDto;
 import org.example.tablenow.domain.reservation.dto.response.ReservationStatusResponseDto;
+import org.example.tablenow.domain.reservation.dto.response.StoreAvailabilityResponseDto;
 import org.example.tablenow.domain.reservation.service.ReservationService;
+import org.example.tablenow.domain.reservation.service.StoreAvailabilityService;
 import org.example.tablenow.domain.user.enums.UserRole;
 import org.example.tablenow.global.dto.AuthUser;
 import org.springframework.data.domain.Page;
@@ -28,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final StoreAvailabilityService storeAvailabilityService;
 
     @Operation(summary = "예약 생성")
     @PostMapping("/v1/reservations")
@@ -47,6 +51,15 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.makeReservationWithLock(authUser, request));
     }
 
+    @Operation(summary = "예약 생성 (Redis 좌석 카운터)")
+    @PostMapping("/v3/reservations")
+    public ResponseEntity<ReservationResponseDto> makeReservationWithCapacityLedger(
+            @AuthenticationPrincipal AuthUser authUser,
+            @Valid @RequestBody ReservationRequestDto request
+    ) {
+        return ResponseEntity.ok(reservationService.makeReservationWithCapacityLedger(authUser, request));
+    }
+
     @Operation(summary = "예약 수정")
     @PatchMapping("/v1/reservations/{id}")
     public ResponseEntity<ReservationResponseDto> updateReservation(
@@ -79,6 +92,15 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.getStoreReservations(authUser, storeId, request.getStatus(), request.getPage(), request.getSize()));
     }
 
+    @Operation(summary = "가게 빈자리 달력 조회 (최대 60일)")
+    @GetMapping("/v1/stores/{storeId}/availability")
+    public ResponseEntity<StoreAvailabilityResponseDto> getStoreAvailability(
+            @PathVariable Long storeId,
+            @Valid @ModelAttribute StoreAvailabilityRequestDto request
+    ) {
+        return ResponseEntity.ok(storeAvailabilityService.getAvailability(storeId, request.getFrom(), request.getTo()));
+    }
+
     @Operation(summary = "예약 확정/완료 처리 (사장님)")
     @Secured(UserRole.Authority.OWNER)
     @PatchMapping("/v1/owner/reservations/{id}")
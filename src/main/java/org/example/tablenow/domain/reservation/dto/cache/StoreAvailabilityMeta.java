@@ -0,0 +1,35 @@
+package org.example.tablenow.domain.reservation.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.tablenow.domain.store.entity.Store;
+
+import java.time.LocalTime;
+
+/**
+ * 빈자리 달력 계산에 필요한 가게 정보 (정원, 영업시간)
+ * Redis 에는 "capacity|HH:mm|HH:mm" 형식으로 저장한다.
+ */
+@Getter
+@AllArgsConstructor
+public class StoreAvailabilityMeta {
+
+    private static final String DELIMITER = "|";
+
+    private final int capacity;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    public static StoreAvailabilityMeta fromStore(Store store) {
+        return new StoreAvailabilityMeta(store.getCapacity(), store.getStartTime(), store.getEndTime());
+    }
+
+    public static StoreAvailabilityMeta decode(String encoded) {
+        String[] parts = encoded.split("\\" + DELIMITER);
+        return new StoreAvailabilityMeta(Integer.parseInt(parts[0]), LocalTime.parse(parts[1]), LocalTime.parse(parts[2]));
+    }
+
+    public String encode() {
+        return capacity + DELIMITER + startTime + DELIMITER + endTime;
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.tablenow.domain.reservation.dto.cache;
+
+import org.example.tablenow.domain.reservation.dto.response.ReservationSlotCountDto;
+
+import java.nio.ByteBuffer;
+import java.time.LocalTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 가게/날짜별 30분 슬롯 예약 수 (슬롯 48개 short 배열)
+ * Redis 에는 Base64(96 byte) 문자열로 저장한다.
+ */
+public class StoreDayAvailability {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    private final short[] reservedCounts;
+    private final int reservedTotal;
+
+    private StoreDayAvailability(short[] reservedCounts) {
+        this.reservedCounts = reservedCounts;
+        int total = 0;
+        for (short count : reservedCounts) {
+            total += count;
+        }
+        this.reservedTotal = total;
+    }
+
+    public static StoreDayAvailability empty() {
+        return new StoreDayAvailability(new short[SLOTS_PER_DAY]);
+    }
+
+    // 같은 날짜의 슬롯 집계 결과로 생성
+    public static StoreDayAvailability fromSlotCounts(List<ReservationSlotCountDto> slotCounts) {
+        short[] counts = new short[SLOTS_PER_DAY];
+        for (ReservationSlotCountDto slotCount : slotCounts) {
+            int index = toSlotIndex(slotCount.getReservedAt().toLocalTime());
+            counts[index] = (short) Math.min(counts[index] + slotCount.getCount(), Short.MAX_VALUE);
+        }
+        return new StoreDayAvailability(counts);
+    }
+
+    public static StoreDayAvailability decode(String encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+        short[] counts = new short[SLOTS_PER_DAY];
+        for (int i = 0; i < SLOTS_PER_DAY && buffer.remaining() >= Short.BYTES; i++) {
+            counts[i] = buffer.getShort();
+        }
+        return new StoreDayAvailability(counts);
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(SLOTS_PER_DAY * Short.BYTES);
+        for (short count : reservedCounts) {
+            buffer.putShort(count);
+        }
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    public int getReservedTotal() {
+        return reservedTotal;
+    }
+
+    // 영업시간(start ~ end, 양끝 포함) 슬롯만 잘라서 반환
+    public short[] slice(LocalTime startTime, LocalTime endTime) {
+        int from = toSlotIndex(startTime);
+        int to = toSlotIndex(endTime);
+        if (to < from) {
+            return new short[0];
+        }
+        short[] sliced = new short[to - from + 1];
+        System.arraycopy(reservedCounts, from, sliced, 0, sliced.length);
+        return sliced;
+    }
+
+    private static int toSlotIndex(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+    }
+}
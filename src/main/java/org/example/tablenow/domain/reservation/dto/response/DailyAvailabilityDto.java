@@ -0,0 +1,16 @@
+package org.example.tablenow.domain.reservation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class DailyAvailabilityDto {
+    private final LocalDate date;
+    // 하루 기준 남은 좌석 수 (Store.capacity 가 일 단위)
+    private final int remainingSeats;
+    // 영업 시작 슬롯부터 30분 단위 예약 수
+    private final short[] reservedCounts;
+}
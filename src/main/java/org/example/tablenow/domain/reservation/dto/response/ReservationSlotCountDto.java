@@ -0,0 +1,16 @@
+package org.example.tablenow.domain.reservation.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ReservationSlotCountDto {
+    private final LocalDateTime reservedAt;
+    private final Long count;
+
+    public ReservationSlotCountDto(LocalDateTime reservedAt, Long count) {
+        this.reservedAt = reservedAt;
+        this.count = count;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.tablenow.domain.reservation.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Getter;
+import org.example.tablenow.domain.reservation.dto.cache.StoreAvailabilityMeta;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.example.tablenow.global.constant.TimeConstants.TIME_HH_MM;
+
+@Getter
+@Builder
+public class StoreAvailabilityResponseDto {
+    private final Long storeId;
+    private final int capacity;
+    @JsonFormat(pattern = TIME_HH_MM)
+    private final LocalTime startTime;
+    @JsonFormat(pattern = TIME_HH_MM)
+    private final LocalTime endTime;
+    private final int slotMinutes;
+    private final List<DailyAvailabilityDto> days;
+
+    public static StoreAvailabilityResponseDto of(Long storeId, StoreAvailabilityMeta meta, int slotMinutes, List<DailyAvailabilityDto> days) {
+        return StoreAvailabilityResponseDto.builder()
+                .storeId(storeId)
+                .capacity(meta.getCapacity())
+                .startTime(meta.getStartTime())
+                .endTime(meta.getEndTime())
+                .slotMinutes(slotMinutes)
+                .days(days)
+                .build();
+    }
+}
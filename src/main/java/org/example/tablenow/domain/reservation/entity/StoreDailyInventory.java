@@ -0,0 +1,63 @@
+package org.example.tablenow.domain.reservation.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.tablenow.global.entity.TimeStamped;
+
+import java.time.LocalDate;
+
+/**
+ * 가게의 날짜별 예약 수 (store_id, inventory_date 단위 1행)
+ * Store.capacity 가 하루 기준이므로 정원/빈자리 검증은 이 행 하나만 읽는다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "store_daily_inventory",
+        uniqueConstraints = @UniqueConstraint(name = "uk_store_daily_inventory", columnNames = {"store_id", "inventory_date"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreDailyInventory extends TimeStamped {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "inventory_date", nullable = false)
+    private LocalDate inventoryDate;
+
+    @Column(nullable = false)
+    private int reservedCount;
+
+    @Version
+    private Long version;
+
+    public StoreDailyInventory(Long storeId, LocalDate inventoryDate, int reservedCount) {
+        this.storeId = storeId;
+        this.inventoryDate = inventoryDate;
+        this.reservedCount = reservedCount;
+    }
+
+    public int getRemainingSeats(int capacity) {
+        return Math.max(capacity - this.reservedCount, 0);
+    }
+
+    public void increase() {
+        this.reservedCount++;
+    }
+
+    public void decrease() {
+        if (this.reservedCount > 0) {
+            this.reservedCount--;
+        }
+    }
+
+    // 예약 테이블 집계로 재계산 (버전 검증으로 집계 이후 변경이 있으면 flush 시 충돌)
+    public void recount(int reservedCount) {
+        this.reservedCount = reservedCount;
+    }
+}
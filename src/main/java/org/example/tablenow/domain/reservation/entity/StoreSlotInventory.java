@@ -0,0 +1,58 @@
+package org.example.tablenow.domain.reservation.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.tablenow.global.entity.TimeStamped;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가게의 30분 슬롯별 예약 수 (store_id, slot_start 단위 1행)
+ */
+@Getter
+@Entity
+@Table(
+        name = "store_slot_inventory",
+        uniqueConstraints = @UniqueConstraint(name = "uk_store_slot_inventory", columnNames = {"store_id", "slot_start"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreSlotInventory extends TimeStamped {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "slot_start", nullable = false)
+    private LocalDateTime slotStart;
+
+    @Column(nullable = false)
+    private int reservedCount;
+
+    @Version
+    private Long version;
+
+    public StoreSlotInventory(Long storeId, LocalDateTime slotStart, int reservedCount) {
+        this.storeId = storeId;
+        this.slotStart = slotStart;
+        this.reservedCount = reservedCount;
+    }
+
+    public void increase() {
+        this.reservedCount++;
+    }
+
+    public void decrease() {
+        if (this.reservedCount > 0) {
+            this.reservedCount--;
+        }
+    }
+
+    // 예약 테이블 집계로 재계산 (버전 검증으로 집계 이후 변경이 있으면 flush 시 충돌)
+    public void recount(int reservedCount) {
+        this.reservedCount = reservedCount;
+    }
+}
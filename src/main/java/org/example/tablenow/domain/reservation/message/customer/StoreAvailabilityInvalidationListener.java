@@ -0,0 +1,28 @@
+package org.example.tablenow.domain.reservation.message.customer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.reservation.service.StoreAvailabilityService;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreAvailabilityInvalidationListener implements MessageListener {
+
+    private final StoreAvailabilityService storeAvailabilityService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            storeAvailabilityService.evictLocal(body);
+        } catch (Exception e) {
+            log.error("[Availability] 로컬 캐시 무효화 실패 → message={}", body, e);
+        }
+    }
+}
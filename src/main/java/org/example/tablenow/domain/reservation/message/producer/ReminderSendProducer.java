@@ -3,19 +3,26 @@ package org.example.tablenow.domain.reservation.message.producer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.tablenow.domain.reservation.message.dto.ReminderMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 import static org.example.tablenow.global.constant.RabbitConstant.*;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-@Async
 public class ReminderSendProducer {
     private final RabbitTemplate rabbitTemplate;
 
+    private static final long CONFIRM_TIMEOUT_SECONDS = 10;
+
+    @Async
     public void send(ReminderMessage message) {
         rabbitTemplate.convertAndSend(
                 RESERVATION_REMINDER_SEND_EXCHANGE,
@@ -28,4 +35,37 @@ public class ReminderSendProducer {
                 message.getReservationId(),
                 message.getRemindAt());
     }
+
+    /**
+     * 배치 발행 후 publisher confirm 을 한 번에 기다린다. (동기)
+     * @return 브로커가 ack 한 예약 ID (nack/타임아웃 건은 제외)
+     */
+    public List<Long> sendAll(List<ReminderMessage> messages) {
+        List<CorrelationData> correlations = new ArrayList<>(messages.size());
+        for (ReminderMessage message : messages) {
+            CorrelationData correlation = new CorrelationData(String.valueOf(message.getReservationId()));
+            rabbitTemplate.convertAndSend(RESERVATION_REMINDER_SEND_EXCHANGE, "", message, correlation);
+            correlations.add(correlation);
+        }
+
+        List<Long> ackedIds = new ArrayList<>(messages.size());
+        for (CorrelationData correlation : correlations) {
+            try {
+                CorrelationData.Confirm confirm = correlation.getFuture().get(CONFIRM_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                if (confirm.isAck()) {
+                    ackedIds.add(Long.valueOf(correlation.getId()));
+                } else {
+                    log.warn("[ReminderSendProducer] 발행 nack → reservationId={}, reason={}", correlation.getId(), confirm.getReason());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("[ReminderSendProducer] 발행 확인 실패 → reservationId={}", correlation.getId(), e);
+            }
+        }
+
+        log.info("[ReminderSendProducer] 리마인드 알림 배치 발행 → 요청 {}건, ack {}건", messages.size(), ackedIds.size());
+        return ackedIds;
+    }
 }
@@ -1,5 +1,6 @@
 package org.example.tablenow.domain.reservation.repository;
 
+import org.example.tablenow.domain.reservation.dto.response.ReservationSlotCountDto;
 import org.example.tablenow.domain.reservation.entity.Reservation;
 import org.example.tablenow.domain.reservation.entity.ReservationStatus;
 import org.example.tablenow.domain.store.entity.Store;
@@ -11,12 +12,14 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     boolean existsByUser_IdAndStore_IdAndReservedAt(Long userId, Long storeId, LocalDateTime reservedAt);
     boolean existsByStore_IdAndReservedAtAndIdNot(Long storeId, LocalDateTime reservedAt, Long id);
+    long countByStore_IdAndReservedAtAndStatus(Long storeId, LocalDateTime reservedAt, ReservationStatus status);
 
     @Query("""
         SELECT r FROM Reservation r
@@ -48,6 +51,20 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     """)
     long countReservedTablesByDate(@Param("store") Store store, @Param("date") LocalDate date);
 
+    // 가게의 특정 기간 예약 수를 30분 슬롯(reservedAt) 단위로 집계
+    @Query("""
+    SELECT new org.example.tablenow.domain.reservation.dto.response.ReservationSlotCountDto(r.reservedAt, COUNT(r))
+    FROM Reservation r
+    WHERE r.store.id = :storeId
+      AND r.status = 'RESERVED'
+      AND r.reservedAt >= :start
+      AND r.reservedAt < :end
+    GROUP BY r.reservedAt
+    """)
+    List<ReservationSlotCountDto> countReservedSlotsBetween(@Param("storeId") Long storeId,
+                                                           @Param("start") LocalDateTime start,
+                                                           @Param("end") LocalDateTime end);
+
     @Query("""
             SELECT r
             FROM Reservation r
@@ -56,6 +73,14 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
         """)
     Optional<Reservation> findWithStoreById(@Param("id") Long id);
 
+    @Query("""
+            SELECT r
+            FROM Reservation r
+            JOIN FETCH r.store
+            WHERE r.id IN :ids
+        """)
+    List<Reservation> findAllWithStoreByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("""
             SELECT COUNT(r) > 0
             FROM Reservation r
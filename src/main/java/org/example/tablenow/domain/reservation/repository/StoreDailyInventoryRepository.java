@@ -0,0 +1,31 @@
+package org.example.tablenow.domain.reservation.repository;
+
+import org.example.tablenow.domain.reservation.entity.StoreDailyInventory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface StoreDailyInventoryRepository extends JpaRepository<StoreDailyInventory, Long> {
+    Optional<StoreDailyInventory> findByStoreIdAndInventoryDate(Long storeId, LocalDate inventoryDate);
+
+    // 재계산 대상 (id 기준 키셋 페이징)
+    Slice<StoreDailyInventory> findByInventoryDateGreaterThanEqualAndIdGreaterThanOrderById(
+            LocalDate inventoryDate, Long id, Pageable pageable
+    );
+
+    // 정원 검증이 끝난 경로에서 사용 (버전도 함께 올려 동시 수정 감지)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE StoreDailyInventory d
+        SET d.reservedCount = d.reservedCount + 1, d.version = d.version + 1
+        WHERE d.storeId = :storeId
+          AND d.inventoryDate = :inventoryDate
+        """)
+    int increaseReservedCount(@Param("storeId") Long storeId, @Param("inventoryDate") LocalDate inventoryDate);
+}
@@ -0,0 +1,29 @@
+package org.example.tablenow.domain.reservation.repository;
+
+import org.example.tablenow.domain.reservation.entity.StoreSlotInventory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoreSlotInventoryRepository extends JpaRepository<StoreSlotInventory, Long> {
+    Optional<StoreSlotInventory> findByStoreIdAndSlotStart(Long storeId, LocalDateTime slotStart);
+
+    List<StoreSlotInventory> findAllByStoreIdAndSlotStartGreaterThanEqualAndSlotStartLessThanOrderBySlotStart(
+            Long storeId, LocalDateTime start, LocalDateTime end
+    );
+
+    // 정원 검증이 끝난 경로에서 사용 (버전도 함께 올려 동시 수정 감지)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE StoreSlotInventory s
+        SET s.reservedCount = s.reservedCount + 1, s.version = s.version + 1
+        WHERE s.storeId = :storeId
+          AND s.slotStart = :slotStart
+        """)
+    int increaseReservedCount(@Param("storeId") Long storeId, @Param("slotStart") LocalDateTime slotStart);
+}
@@ -4,28 +4,58 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.example.tablenow.domain.reservation.entity.Reservation;
+import org.example.tablenow.domain.reservation.entity.ReservationStatus;
 import org.example.tablenow.domain.reservation.message.dto.ReminderMessage;
 import org.example.tablenow.domain.reservation.message.producer.ReminderSendProducer;
+import org.example.tablenow.global.delayedjob.DelayedJobHandler;
+import org.example.tablenow.global.delayedjob.DelayedJobType;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.Set;
+import java.util.*;
 
+import static org.example.tablenow.global.constant.RedisKeyConstants.REMINDER_PROCESSING_ZSET_KEY;
 import static org.example.tablenow.global.constant.RedisKeyConstants.REMINDER_ZSET_KEY;
 import static org.example.tablenow.global.constant.TimeConstants.ZONE_ID_ASIA_SEOUL;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ReminderScheduler {
+public class ReminderScheduler implements DelayedJobHandler {
     private final StringRedisTemplate redisTemplate;
     private final ReminderSendProducer sendProducer;
     private final ReservationService reservationService;
 
-    @SchedulerLock(name = "ReminderScheduler.pollAndSend")
-    @Scheduled(fixedRateString = "60000")
+    public static int CLAIM_BATCH_SIZE = 500;
+    private static final long LEASE_SECONDS = 300;
+
+    // KEYS[1]=reminderKey, KEYS[2]=processingKey, ARGV[1]=now, ARGV[2]=leaseUntil, ARGV[3]=limit
+    // 리스가 만료된 처리 중 항목(발행 후 제거 전에 노드가 죽은 경우)을 먼저 재점유하고, 남은 수만큼 도래 항목을 옮긴다.
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local limit = tonumber(ARGV[3])
+            local claimed = redis.call('ZRANGEBYSCORE', KEYS[2], 0, ARGV[1], 'LIMIT', 0, limit)
+            for i = 1, #claimed do
+                redis.call('ZADD', KEYS[2], ARGV[2], claimed[i])
+            end
+            if #claimed < limit then
+                local due = redis.call('ZRANGEBYSCORE', KEYS[1], 0, ARGV[1], 'LIMIT', 0, limit - #claimed)
+                for i = 1, #due do
+                    redis.call('ZREM', KEYS[1], due[i])
+                    redis.call('ZADD', KEYS[2], ARGV[2], due[i])
+                    table.insert(claimed, due[i])
+                end
+            end
+            return claimed
+            """, List.class);
+
+    /**
+     * 미사용메서드 - 배치 점유 방식(claimAndDispatch)으로 변경
+     * 건별 DB 조회, 발행, ZREM 으로 도래 건수 x 3 회 왕복이 발생하며, 발행과 ZREM 사이에 노드가 죽으면 중복 발송된다.
+     */
     public void pollAndSend() {
         long now = LocalDateTime.now().atZone(ZONE_ID_ASIA_SEOUL).toEpochSecond();
         Set<String> reservationIdsToSend = redisTemplate.opsForZSet().rangeByScore(REMINDER_ZSET_KEY, 0, now);
@@ -41,8 +71,91 @@ public class ReminderScheduler {
         }
     }
 
+    /**
+     * 전역 ZSET(REMINDER_ZSET_KEY)의 도래 리마인더를 배치 단위로 처리
+     * 신규 리마인더는 샤드 분할 지연 작업 큐(DelayedJobPoller → handle)로 등록되며, 이 스케줄은 전환 이전에 등록된 항목만 비운다.
+     * 1. Lua 로 최대 CLAIM_BATCH_SIZE 건을 처리 중 ZSET 으로 옮기며 리스(LEASE_SECONDS) 부여
+     * 2. handle 로 발송 후 완료된 건만 처리 중 ZSET 에서 제거
+     */
+    @SchedulerLock(name = "ReminderScheduler.pollAndSend")
+    @Scheduled(fixedRateString = "60000")
+    public void claimAndDispatch() {
+        try {
+            int completedCount = 0;
+            List<String> claimed;
+            do {
+                claimed = claim();
+                if (claimed.isEmpty()) {
+                    break;
+                }
+                List<String> completed = handle(claimed);
+                if (!completed.isEmpty()) {
+                    redisTemplate.opsForZSet().remove(REMINDER_PROCESSING_ZSET_KEY, completed.toArray());
+                }
+                completedCount += completed.size();
+            } while (claimed.size() >= CLAIM_BATCH_SIZE);
+
+            if (completedCount > 0) {
+                log.info("[ReminderScheduler] 리마인드 알림 배치 처리 완료 → {}건", completedCount);
+            }
+        } catch (Exception e) {
+            log.error("[ReminderScheduler] 리마인드 알림 배치 발송 실패", e);
+        }
+    }
+
+    @Override
+    public DelayedJobType getJobType() {
+        return DelayedJobType.RESERVATION_REMINDER;
+    }
+
+    /**
+     * 점유한 리마인더 발송
+     * 1. IN + fetch join 쿼리 1회로 예약 조회
+     * 2. 배치 발행 후 publisher confirm 으로 ack 된 건과 발송 대상이 아닌 건을 완료로 반환
+     * nack/타임아웃 건은 리스 만료 후 다음 점유에서 재발행된다.
+     */
+    @Override
+    public List<String> handle(List<String> reservationIdValues) {
+        Set<Long> reservationIds = new HashSet<>();
+        reservationIdValues.forEach(id -> reservationIds.add(Long.valueOf(id)));
+        List<Reservation> reservations = reservationService.getReservationsWithStore(reservationIds);
+
+        // 삭제되었거나 점유 이후 취소된 예약은 발송 없이 제거
+        List<Reservation> reserved = reservations.stream()
+                .filter(reservation -> ReservationStatus.RESERVED.equals(reservation.getStatus()))
+                .toList();
+        Set<Long> completedIds = new HashSet<>(reservationIds);
+        reserved.forEach(reservation -> completedIds.remove(reservation.getId()));
+        if (!completedIds.isEmpty()) {
+            log.warn("[ReminderScheduler] 발송 대상 예약이 아니어서 제외 → reservationIds={}", completedIds);
+        }
+
+        List<ReminderMessage> messages = reserved.stream()
+                .map(ReminderMessage::fromReservation)
+                .toList();
+        List<Long> ackedIds = messages.isEmpty() ? List.of() : sendProducer.sendAll(messages);
+        completedIds.addAll(ackedIds);
+
+        return completedIds.stream().map(String::valueOf).toList();
+    }
+
+    private List<String> claim() {
+        long now = LocalDateTime.now().atZone(ZONE_ID_ASIA_SEOUL).toEpochSecond();
+        List<?> claimed = redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(REMINDER_ZSET_KEY, REMINDER_PROCESSING_ZSET_KEY),
+                String.valueOf(now),
+                String.valueOf(now + LEASE_SECONDS),
+                String.valueOf(CLAIM_BATCH_SIZE)
+        );
+        if (claimed == null) {
+            return List.of();
+        }
+        return claimed.stream().map(String::valueOf).toList();
+    }
+
     private ReminderMessage buildMessage(String id) {
         Reservation reservation = reservationService.getReservationWithStore(Long.valueOf(id));
         return ReminderMessage.fromReservation(reservation);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,278 @@
+package org.example.tablenow.domain.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.reservation.dto.response.ReservationSlotCountDto;
+import org.example.tablenow.domain.reservation.repository.ReservationRepository;
+import org.example.tablenow.domain.store.entity.Store;
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.RESERVATION_CAPACITY_KEY_PREFIX;
+import static org.example.tablenow.global.constant.RedisKeyConstants.RESERVATION_CAPACITY_LOCK_KEY_PREFIX;
+import static org.example.tablenow.global.constant.TimeConstants.TIME_HH_MM;
+
+/**
+ * 가게/날짜별 예약 좌석 카운터 (Redis Hash)
+ * - total: 해당 날짜의 RESERVED 예약 수
+ * - HH:mm: 30분 슬롯별 RESERVED 예약 수
+ * 키가 없으면 MySQL 기준으로 재구성하며, 락은 재구성 시에만 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationCapacityLedger {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReservationRepository reservationRepository;
+    private final RedissonClient redissonClient;
+
+    private static final DateTimeFormatter SLOT_FORMATTER = DateTimeFormatter.ofPattern(TIME_HH_MM);
+    private static final long NOT_INITIALIZED = -1L;
+    private static final long RESERVED = 1L;
+    private static final int LOCK_WAIT_TIME = 3;
+    private static final int LOCK_LEASE_TIME = 3;
+    private static final Duration LEDGER_TTL_AFTER_DATE = Duration.ofDays(1);
+
+    // KEYS[1]=ledgerKey, ARGV[1]=capacity, ARGV[2]=slot
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            local reserved = tonumber(redis.call('HGET', KEYS[1], 'total') or '0')
+            if reserved >= tonumber(ARGV[1]) then return 0 end
+            redis.call('HINCRBY', KEYS[1], 'total', 1)
+            redis.call('HINCRBY', KEYS[1], ARGV[2], 1)
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=ledgerKey, ARGV[1]=slot
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            if tonumber(redis.call('HGET', KEYS[1], 'total') or '0') > 0 then
+                redis.call('HINCRBY', KEYS[1], 'total', -1)
+            end
+            if tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') > 0 then
+                redis.call('HINCRBY', KEYS[1], ARGV[1], -1)
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=ledgerKey, ARGV[1]=fromSlot, ARGV[2]=toSlot
+    private static final RedisScript<Long> MOVE_SLOT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            if tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') > 0 then
+                redis.call('HINCRBY', KEYS[1], ARGV[1], -1)
+            end
+            redis.call('HINCRBY', KEYS[1], ARGV[2], 1)
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=ledgerKey, ARGV[1]=ttlSeconds, ARGV[2]=total, ARGV[3..]=slot, count 쌍
+    private static final RedisScript<Long> INIT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            redis.call('HSET', KEYS[1], 'total', ARGV[2])
+            for i = 3, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 좌석 선점. 정원이 남아있으면 true, 가득 찼으면 false
+     * 트랜잭션 안에서 호출되면 롤백 시 선점한 좌석을 자동으로 반환한다.
+     */
+    public boolean tryReserve(Store store, LocalDateTime reservedAt) {
+        boolean reserved = reserve(store.getId(), reservedAt, store.getCapacity());
+        if (reserved) {
+            releaseOnRollback(store.getId(), reservedAt);
+        }
+        return reserved;
+    }
+
+    /**
+     * 정원 검증을 이미 마친 경로(V1, V2)에서 예약 저장 후 카운터만 맞춰준다.
+     * 카운터가 없으면 그냥 넘어가지 않고 재구성한다. 진행 중인 재구성은 락으로 끝날 때까지 기다리므로,
+     * 이 예약을 세기 전에 집계한 재구성이 뒤늦게 카운터를 만들어도 그 위에 이 예약을 더한다.
+     * - 직접 재구성한 경우: 저장된 이 예약까지 집계했으므로 증가하지 않는다.
+     * - 다른 재구성이 먼저 만든 경우: 카운터에 이 예약을 증가한다.
+     */
+    public void applyReserved(Long storeId, LocalDateTime reservedAt) {
+        LocalDate date = reservedAt.toLocalDate();
+        Long result = execute(RESERVE_SCRIPT, storeId, date, String.valueOf(Integer.MAX_VALUE), toSlot(reservedAt));
+
+        if (result == null || result == NOT_INITIALIZED) {
+            if (rebuild(storeId, date)) {
+                releaseOnRollback(storeId, reservedAt);
+                return;
+            }
+            result = execute(RESERVE_SCRIPT, storeId, date, String.valueOf(Integer.MAX_VALUE), toSlot(reservedAt));
+        }
+        if (Long.valueOf(RESERVED).equals(result)) {
+            releaseOnRollback(storeId, reservedAt);
+        }
+    }
+
+    /**
+     * 좌석 반환. 트랜잭션 안에서 호출되면 커밋 이후에 반환한다.
+     */
+    public void release(Long storeId, LocalDateTime reservedAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            releaseNow(storeId, reservedAt);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseNow(storeId, reservedAt);
+            }
+        });
+    }
+
+    /**
+     * 예약 시간 변경
+     * - 같은 날짜: 슬롯 카운터만 이동 (정원 변화 없음, 롤백 시 되돌림)
+     * - 다른 날짜: 새 날짜 좌석을 선점한 후 기존 날짜 좌석 반환
+     */
+    public boolean move(Store store, LocalDateTime from, LocalDateTime to) {
+        if (from.toLocalDate().equals(to.toLocalDate())) {
+            Long result = execute(MOVE_SLOT_SCRIPT, store.getId(), from.toLocalDate(), toSlot(from), toSlot(to));
+            if (Long.valueOf(RESERVED).equals(result)) {
+                moveBackOnRollback(store.getId(), from, to);
+            }
+            return true;
+        }
+
+        if (!tryReserve(store, to)) {
+            return false;
+        }
+        release(store.getId(), from);
+        return true;
+    }
+
+    /**
+     * MySQL 기준으로 카운터 재구성 (콜드 스타트, 키 만료 시)
+     * @return 이 호출이 카운터를 만들었으면 true, 이미 있었으면(다른 재구성이 먼저 만듦) false
+     */
+    public boolean rebuild(Long storeId, LocalDate date) {
+        String lockKey = RESERVATION_CAPACITY_LOCK_KEY_PREFIX + storeId + ":" + date;
+        RLock lock = redissonClient.getLock(lockKey);
+
+        boolean available = false;
+        try {
+            available = lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS);
+            if (!available) {
+                throw new HandledException(ErrorCode.RESERVATION_LOCK_TIMEOUT);
+            }
+
+            String ledgerKey = getLedgerKey(storeId, date);
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(ledgerKey))) {
+                return false;
+            }
+
+            List<ReservationSlotCountDto> slotCounts = reservationRepository.countReservedSlotsBetween(
+                    storeId, date.atStartOfDay(), date.plusDays(1).atStartOfDay()
+            );
+
+            long total = 0;
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(getTtlSeconds(date)));
+            args.add(null); // total 자리
+            for (ReservationSlotCountDto slotCount : slotCounts) {
+                args.add(toSlot(slotCount.getReservedAt()));
+                args.add(String.valueOf(slotCount.getCount()));
+                total += slotCount.getCount();
+            }
+            args.set(1, String.valueOf(total));
+
+            Long initialized = redisTemplate.execute(INIT_SCRIPT, List.of(ledgerKey), args.toArray());
+            log.info("[CapacityLedger] 좌석 카운터 재구성 → storeId={}, date={}, reserved={}", storeId, date, total);
+            return Long.valueOf(1L).equals(initialized);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HandledException(ErrorCode.RESERVATION_LOCK_TIMEOUT);
+        } finally {
+            if (available && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    public static String getLedgerKey(Long storeId, LocalDate date) {
+        return RESERVATION_CAPACITY_KEY_PREFIX + storeId + ":" + date;
+    }
+
+    public static String toSlot(LocalDateTime reservedAt) {
+        return reservedAt.toLocalTime().format(SLOT_FORMATTER);
+    }
+
+    private boolean reserve(Long storeId, LocalDateTime reservedAt, int capacity) {
+        LocalDate date = reservedAt.toLocalDate();
+        Long result = execute(RESERVE_SCRIPT, storeId, date, String.valueOf(capacity), toSlot(reservedAt));
+
+        if (result == null || result == NOT_INITIALIZED) {
+            rebuild(storeId, date);
+            result = execute(RESERVE_SCRIPT, storeId, date, String.valueOf(capacity), toSlot(reservedAt));
+        }
+        return Long.valueOf(RESERVED).equals(result);
+    }
+
+    private void releaseNow(Long storeId, LocalDateTime reservedAt) {
+        execute(RELEASE_SCRIPT, storeId, reservedAt.toLocalDate(), toSlot(reservedAt));
+    }
+
+    private Long execute(RedisScript<Long> script, Long storeId, LocalDate date, String... args) {
+        return redisTemplate.execute(script, List.of(getLedgerKey(storeId, date)), (Object[]) args);
+    }
+
+    private void releaseOnRollback(Long storeId, LocalDateTime reservedAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    releaseNow(storeId, reservedAt);
+                    log.warn("[CapacityLedger] 트랜잭션 롤백으로 좌석 반환 → storeId={}, reservedAt={}", storeId, reservedAt);
+                }
+            }
+        });
+    }
+
+    private void moveBackOnRollback(Long storeId, LocalDateTime from, LocalDateTime to) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    execute(MOVE_SLOT_SCRIPT, storeId, to.toLocalDate(), toSlot(to), toSlot(from));
+                    log.warn("[CapacityLedger] 트랜잭션 롤백으로 슬롯 이동 취소 → storeId={}, from={}, to={}", storeId, from, to);
+                }
+            }
+        });
+    }
+
+    private long getTtlSeconds(LocalDate date) {
+        LocalDateTime expireAt = date.plusDays(1).atStartOfDay().plus(LEDGER_TTL_AFTER_DATE);
+        long seconds = Duration.between(LocalDateTime.now(), expireAt).getSeconds();
+        return Math.max(seconds, LEDGER_TTL_AFTER_DATE.getSeconds());
+    }
+}
@@ -2,6 +2,7 @@ package org.example.tablenow.domain.reservation.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.chat.service.ChatParticipantCache;
 import org.example.tablenow.domain.notification.message.vacancy.producer.VacancyProducer;
 import org.example.tablenow.domain.reservation.dto.request.ReservationRequestDto;
 import org.example.tablenow.domain.reservation.dto.request.ReservationStatusChangeRequestDto;
@@ -16,10 +17,14 @@ import org.example.tablenow.domain.reservation.repository.ReservationRepository;
 import org.example.tablenow.domain.store.entity.Store;
 import org.example.tablenow.domain.store.service.StoreService;
 import org.example.tablenow.domain.user.entity.User;
+import org.example.tablenow.domain.waitlist.service.WaitlistClaimStore;
 import org.example.tablenow.global.annotation.DistributedLock;
 import org.example.tablenow.global.dto.AuthUser;
+import org.example.tablenow.global.delayedjob.DelayedJobQueue;
+import org.example.tablenow.global.delayedjob.DelayedJobType;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
+import org.example.tablenow.global.util.TransactionUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -29,6 +34,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 import static org.example.tablenow.global.constant.RedisKeyConstants.REMINDER_ZSET_KEY;
 import static org.example.tablenow.global.constant.RedisKeyConstants.RESERVATION_LOCK_KEY_PREFIX;
@@ -43,15 +50,22 @@ public class ReservationService {
     private final VacancyProducer vacancyProducer;
     private final ReminderRegisterProducer reminderRegisterProducer;
     private final StringRedisTemplate redisTemplate;
+    private final ReservationCapacityLedger capacityLedger;
+    private final StoreSlotInventoryService slotInventoryService;
+    private final StoreAvailabilityService storeAvailabilityService;
+    private final DelayedJobQueue delayedJobQueue;
+    private final ChatParticipantCache chatParticipantCache;
+    private final WaitlistClaimStore waitlistClaimStore;
+    private final StoreInventoryWriteBehind inventoryWriteBehind;
 
     @Transactional
     public ReservationResponseDto makeReservation(AuthUser authUser, ReservationRequestDto request) {
         User user = User.fromAuthUser(authUser);
         Store store = storeService.getStore(request.getStoreId());
 
-        validateStoreCapacity(store, request.getReservedAt());
         validateReservationDuplication(user, store, request.getReservedAt());
         validateStoreOpening(store, request.getReservedAt());
+        slotInventoryService.reserve(store, request.getReservedAt());
 
         Reservation reservation = Reservation.builder()
                 .user(user)
@@ -61,7 +75,10 @@ public class ReservationService {
         validateReservationOwner(reservation, user);
 
         Reservation savedReservation = reservationRepository.save(reservation);
+        storeAvailabilityService.evictDay(store.getId(), savedReservation.getReservedAt().toLocalDate());
+        capacityLedger.applyReserved(store.getId(), savedReservation.getReservedAt());
         reminderRegisterProducer.send(ReminderMessage.fromReservation(savedReservation));
+        releaseVacancyClaim(savedReservation);
 
         return ReservationResponseDto.fromReservation(savedReservation);
     }
@@ -79,9 +96,9 @@ public class ReservationService {
         User user = User.fromAuthUser(authUser);
         Store store = storeService.getStore(request.getStoreId());
 
-        validateStoreCapacity(store, request.getReservedAt());
         validateReservationDuplication(user, store, request.getReservedAt());
         validateStoreOpening(store, request.getReservedAt());
+        slotInventoryService.reserve(store, request.getReservedAt());
 
         Reservation reservation = Reservation.builder()
                 .user(user)
@@ -90,7 +107,38 @@ public class ReservationService {
                 .build();
 
         Reservation savedReservation = reservationRepository.save(reservation);
+        storeAvailabilityService.evictDay(store.getId(), savedReservation.getReservedAt().toLocalDate());
+        capacityLedger.applyReserved(store.getId(), savedReservation.getReservedAt());
         reminderRegisterProducer.send(ReminderMessage.fromReservation(savedReservation));
+        releaseVacancyClaim(savedReservation);
+        return ReservationResponseDto.fromReservation(savedReservation);
+    }
+
+    @Transactional
+    public ReservationResponseDto makeReservationWithCapacityLedger(AuthUser authUser, ReservationRequestDto request) {
+        User user = User.fromAuthUser(authUser);
+        Store store = storeService.getStore(request.getStoreId());
+
+        validateReservationDuplication(user, store, request.getReservedAt());
+        validateStoreOpening(store, request.getReservedAt());
+
+        // 좌석 선점 (Redis 원자 연산, 롤백 시 자동 반환)
+        if (!capacityLedger.tryReserve(store, request.getReservedAt())) {
+            throw new HandledException(ErrorCode.STORE_TABLE_CAPACITY_EXCEEDED);
+        }
+
+        Reservation reservation = Reservation.builder()
+                .user(user)
+                .store(store)
+                .reservedAt(request.getReservedAt())
+                .build();
+
+        Reservation savedReservation = reservationRepository.save(reservation);
+        // 재고 행 갱신은 커밋 후 비동기로 (예약 트랜잭션이 store_daily_inventory 행 락을 잡지 않도록)
+        TransactionUtils.runAfterCommit(() -> inventoryWriteBehind.applyReserved(store, savedReservation.getReservedAt()));
+        storeAvailabilityService.evictDay(store.getId(), savedReservation.getReservedAt().toLocalDate());
+        reminderRegisterProducer.send(ReminderMessage.fromReservation(savedReservation));
+        releaseVacancyClaim(savedReservation);
         return ReservationResponseDto.fromReservation(savedReservation);
     }
 
@@ -100,10 +148,17 @@ public class ReservationService {
         Reservation reservation = getReservation(id);
 
         validateUpdatableReservation(user, id, request, reservation);
-        redisTemplate.opsForZSet().remove(REMINDER_ZSET_KEY, String.valueOf(id));
+        removeReminder(id);
+        slotInventoryService.move(reservation.getStore(), reservation.getReservedAt(), request.getReservedAt());
+        if (!capacityLedger.move(reservation.getStore(), reservation.getReservedAt(), request.getReservedAt())) {
+            throw new HandledException(ErrorCode.STORE_TABLE_CAPACITY_EXCEEDED);
+        }
+        storeAvailabilityService.evictDay(reservation.getStoreId(), reservation.getReservedAt().toLocalDate());
+        storeAvailabilityService.evictDay(reservation.getStoreId(), request.getReservedAt().toLocalDate());
         reservation.updateReservedAt(request.getReservedAt());
         reservationRepository.save(reservation);
         reminderRegisterProducer.send(ReminderMessage.fromReservation(reservation));
+        releaseVacancyClaim(reservation);
 
         return ReservationResponseDto.fromReservation(reservation);
     }
@@ -135,6 +190,12 @@ public class ReservationService {
         Reservation reservation = getReservation(id);
         storeService.validateStoreOwnerId(reservation.getStore(), user);
 
+        if (request.getStatus() != ReservationStatus.RESERVED) {
+            slotInventoryService.release(reservation.getStore(), reservation.getReservedAt());
+            capacityLedger.release(reservation.getStoreId(), reservation.getReservedAt());
+            storeAvailabilityService.evictDay(reservation.getStoreId(), reservation.getReservedAt().toLocalDate());
+            chatParticipantCache.evict(reservation.getId());
+        }
         reservation.updateStatus(request.getStatus());
         reservationRepository.save(reservation);
 
@@ -147,14 +208,18 @@ public class ReservationService {
         Reservation reservation = getReservation(id);
         validateReservationOwner(reservation, user);
 
+        slotInventoryService.release(reservation.getStore(), reservation.getReservedAt());
+        capacityLedger.release(reservation.getStoreId(), reservation.getReservedAt());
+        storeAvailabilityService.evictDay(reservation.getStoreId(), reservation.getReservedAt().toLocalDate());
         reservation.tryCancel();
         reservationRepository.save(reservation);
+        chatParticipantCache.evict(id);
 
         vacancyProducer.sendVacancyEvent(
             reservation.getStore().getId(),
             reservation.getReservedAt().toLocalDate()
         );
-        redisTemplate.opsForZSet().remove(REMINDER_ZSET_KEY, String.valueOf(id));
+        removeReminder(id);
 
         return ReservationStatusResponseDto.fromReservation(reservation);
     }
@@ -169,6 +234,10 @@ public class ReservationService {
                 .orElseThrow(() -> new HandledException(ErrorCode.RESERVATION_NOT_FOUND));
     }
 
+    public List<Reservation> getReservationsWithStore(Collection<Long> ids) {
+        return reservationRepository.findAllWithStoreByIdIn(ids);
+    }
+
     public void validateCreateRating(Long userId, Long storeId) {
         if (!reservationRepository.existsReviewableReservation(userId, storeId)) {
             throw new HandledException(ErrorCode.RATING_RESERVATION_NOT_FOUND);
@@ -176,8 +245,11 @@ public class ReservationService {
     }
 
     public boolean hasVacancyDate(Store store, LocalDate date){
-        long reservedCount = reservationRepository.countReservedTablesByDate(store, date);
-        return store.hasVacancy(reservedCount);
+        return slotInventoryService.hasVacancy(store, date);
+    }
+
+    public long getRemainingSeats(Store store, LocalDate date) {
+        return slotInventoryService.getRemainingSeats(store, date);
     }
 
     private void validateUpdatableReservation(User user, Long id, ReservationUpdateRequestDto request, Reservation reservation) {
@@ -203,15 +275,6 @@ public class ReservationService {
         }
     }
 
-    private void validateStoreCapacity(Store store, LocalDateTime reservedAt) {
-        LocalDate date = reservedAt.toLocalDate();
-        long reservedCount = reservationRepository.countReservedTablesByDate(store, date);
-
-        if (reservedCount >= store.getCapacity()) {
-            throw new HandledException(ErrorCode.STORE_TABLE_CAPACITY_EXCEEDED);
-        }
-    }
-
     private void validateReservationDuplication(User user, Store store, LocalDateTime reservedAt) {
         boolean exists = reservationRepository.existsByUser_IdAndStore_IdAndReservedAt(
                 user.getId(), store.getId(), reservedAt
@@ -227,4 +290,15 @@ public class ReservationService {
             throw new HandledException(ErrorCode.STORE_CLOSED_TIME);
         }
     }
-}
\ No newline at end of file
+
+    // 지연 작업 큐와 전환 이전 전역 ZSET 에서 모두 제거
+    // 빈자리 알림으로 선점한 좌석이면 예약과 선점이 이중 차감되지 않도록 해제
+    private void releaseVacancyClaim(Reservation reservation) {
+        waitlistClaimStore.release(reservation.getStoreId(), reservation.getReservedAt().toLocalDate(), reservation.getUser().getId());
+    }
+
+    private void removeReminder(Long id) {
+        delayedJobQueue.cancel(DelayedJobType.RESERVATION_REMINDER, String.valueOf(id));
+        redisTemplate.opsForZSet().remove(REMINDER_ZSET_KEY, String.valueOf(id));
+    }
+}
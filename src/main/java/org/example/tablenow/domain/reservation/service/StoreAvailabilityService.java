@@ -0,0 +1,273 @@
+package org.example.tablenow.domain.reservation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.reservation.dto.cache.StoreAvailabilityMeta;
+import org.example.tablenow.domain.reservation.dto.cache.StoreDayAvailability;
+import org.example.tablenow.domain.reservation.dto.response.DailyAvailabilityDto;
+import org.example.tablenow.domain.reservation.dto.response.ReservationSlotCountDto;
+import org.example.tablenow.domain.reservation.dto.response.StoreAvailabilityResponseDto;
+import org.example.tablenow.domain.reservation.repository.ReservationRepository;
+import org.example.tablenow.domain.store.service.StoreService;
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
+import org.example.tablenow.global.util.TransactionUtils;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.STORE_AVAILABILITY_INVALIDATE_CHANNEL;
+import static org.example.tablenow.global.constant.RedisKeyConstants.STORE_AVAILABILITY_KEY_PREFIX;
+
+/**
+ * 가게 빈자리 달력
+ * - L1: 로컬 Caffeine (가게/날짜별 슬롯 배열)
+ * - L2: Redis Hash store:availability:{storeId} (field: 날짜, meta)
+ * - 미스 시에만 MySQL 슬롯 집계 쿼리 1회
+ * 예약 변경/가게 수정 시 L2 를 삭제하고 Redis Pub/Sub 으로 모든 노드의 L1 을 무효화한다.
+ * 무효화마다 Hash 의 gen 필드를 올리고, 미스 채우기는 DB 조회 전에 읽은 gen 이 그대로일 때만 저장한다.
+ * (DB 조회와 캐시 저장 사이의 무효화가 이전 스냅샷으로 덮이지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreAvailabilityService {
+
+    private final StoreService storeService;
+    private final ReservationRepository reservationRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    public static final int MAX_RANGE_DAYS = 60;
+    private static final String META_FIELD = "meta";
+    private static final String GEN_FIELD = "gen";
+    private static final Duration L2_TTL = Duration.ofHours(1);
+    private static final String KEY_DELIMITER = ":";
+
+    // KEYS[1]=key, ARGV[1]=date, ARGV[2]=ttl(ms)
+    private static final RedisScript<Long> EVICT_DAY_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HDEL', KEYS[1], ARGV[1])
+            local gen = redis.call('HINCRBY', KEYS[1], 'gen', 1)
+            if redis.call('PTTL', KEYS[1]) < 0 then redis.call('PEXPIRE', KEYS[1], ARGV[2]) end
+            return gen
+            """, Long.class);
+
+    // KEYS[1]=key, ARGV[1]=ttl(ms)
+    // 키를 지워도 gen 은 이어서 증가시켜야 이전 gen 을 읽은 채우기가 통과하지 않는다.
+    private static final RedisScript<Long> EVICT_STORE_SCRIPT = new DefaultRedisScript<>("""
+            local gen = redis.call('HINCRBY', KEYS[1], 'gen', 1)
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'gen', gen)
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return gen
+            """, Long.class);
+
+    // KEYS[1]=key, ARGV[1]=DB 조회 전 gen, ARGV[2]=ttl(ms), ARGV[3..]=(field, value) 반복
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            local gen = redis.call('HGET', KEYS[1], 'gen') or '0'
+            if gen ~= ARGV[1] then return 0 end
+            for i = 3, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final Cache<String, StoreDayAvailability> dayCache = Caffeine.newBuilder()
+            .maximumSize(200_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    private final Cache<Long, StoreAvailabilityMeta> metaCache = Caffeine.newBuilder()
+            .maximumSize(20_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    public StoreAvailabilityResponseDto getAvailability(Long storeId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        StoreAvailabilityMeta meta = getMeta(storeId);
+        Map<LocalDate, StoreDayAvailability> days = getDays(storeId, from, to);
+
+        List<DailyAvailabilityDto> response = new ArrayList<>(days.size());
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            StoreDayAvailability day = days.get(date);
+            int remainingSeats = Math.max(meta.getCapacity() - day.getReservedTotal(), 0);
+            response.add(new DailyAvailabilityDto(date, remainingSeats, day.slice(meta.getStartTime(), meta.getEndTime())));
+        }
+        return StoreAvailabilityResponseDto.of(storeId, meta, StoreDayAvailability.SLOT_MINUTES, response);
+    }
+
+    /**
+     * 예약 변경 시 해당 날짜만 무효화 (트랜잭션 커밋 이후)
+     */
+    public void evictDay(Long storeId, LocalDate date) {
+        TransactionUtils.runAfterCommit(() -> {
+            redisTemplate.execute(EVICT_DAY_SCRIPT, List.of(getKey(storeId)), date.toString(), String.valueOf(L2_TTL.toMillis()));
+            redisTemplate.convertAndSend(STORE_AVAILABILITY_INVALIDATE_CHANNEL, storeId + KEY_DELIMITER + date);
+        });
+    }
+
+    /**
+     * 가게 정보(정원, 영업시간) 변경/삭제 시 가게 전체 무효화
+     */
+    public void evictStore(Long storeId) {
+        TransactionUtils.runAfterCommit(() -> {
+            redisTemplate.execute(EVICT_STORE_SCRIPT, List.of(getKey(storeId)), String.valueOf(L2_TTL.toMillis()));
+            redisTemplate.convertAndSend(STORE_AVAILABILITY_INVALIDATE_CHANNEL, String.valueOf(storeId));
+        });
+    }
+
+    /**
+     * Pub/Sub 수신 시 로컬 캐시 무효화 ("storeId" 또는 "storeId:yyyy-MM-dd")
+     */
+    public void evictLocal(String message) {
+        int delimiterIndex = message.indexOf(KEY_DELIMITER);
+        if (delimiterIndex < 0) {
+            Long storeId = Long.valueOf(message);
+            String prefix = storeId + KEY_DELIMITER;
+            metaCache.invalidate(storeId);
+            dayCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+            return;
+        }
+        dayCache.invalidate(message);
+    }
+
+    private StoreAvailabilityMeta getMeta(Long storeId) {
+        StoreAvailabilityMeta cached = metaCache.getIfPresent(storeId);
+        if (cached != null) {
+            return cached;
+        }
+
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        List<String> values = hashOps.multiGet(getKey(storeId), List.of(META_FIELD, GEN_FIELD));
+        String encoded = values == null ? null : values.get(0);
+        if (encoded != null) {
+            StoreAvailabilityMeta meta = StoreAvailabilityMeta.decode(encoded);
+            metaCache.put(storeId, meta);
+            return meta;
+        }
+
+        StoreAvailabilityMeta meta = StoreAvailabilityMeta.fromStore(storeService.getStore(storeId));
+        if (fill(storeId, values == null ? null : values.get(1), Map.of(META_FIELD, meta.encode()))) {
+            metaCache.put(storeId, meta);
+        }
+        return meta;
+    }
+
+    private Map<LocalDate, StoreDayAvailability> getDays(Long storeId, LocalDate from, LocalDate to) {
+        Map<LocalDate, StoreDayAvailability> result = new HashMap<>();
+        List<LocalDate> l1Misses = new ArrayList<>();
+
+        // L1
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            StoreDayAvailability day = dayCache.getIfPresent(getLocalKey(storeId, date));
+            if (day != null) {
+                result.put(date, day);
+            } else {
+                l1Misses.add(date);
+            }
+        }
+        if (l1Misses.isEmpty()) {
+            return result;
+        }
+
+        // L2 (HMGET 1회, 마지막 필드는 채우기 검사용 gen)
+        HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+        List<String> fields = new ArrayList<>(l1Misses.size() + 1);
+        l1Misses.forEach(date -> fields.add(date.toString()));
+        fields.add(GEN_FIELD);
+        List<String> values = hashOps.multiGet(getKey(storeId), fields);
+        String gen = values == null ? null : values.get(l1Misses.size());
+        List<LocalDate> l2Misses = new ArrayList<>();
+        for (int i = 0; i < l1Misses.size(); i++) {
+            LocalDate date = l1Misses.get(i);
+            String value = values == null ? null : values.get(i);
+            if (value == null) {
+                l2Misses.add(date);
+                continue;
+            }
+            StoreDayAvailability day = StoreDayAvailability.decode(value);
+            dayCache.put(getLocalKey(storeId, date), day);
+            result.put(date, day);
+        }
+        if (l2Misses.isEmpty()) {
+            return result;
+        }
+
+        // MySQL (슬롯 집계 1회) → L2, L1 저장 (조회 중 무효화되었으면 저장하지 않고 응답만)
+        Map<LocalDate, StoreDayAvailability> loaded = loadDays(storeId, l2Misses);
+        Map<String, String> toCache = new HashMap<>();
+        loaded.forEach((date, day) -> toCache.put(date.toString(), day.encode()));
+        if (fill(storeId, gen, toCache)) {
+            loaded.forEach((date, day) -> dayCache.put(getLocalKey(storeId, date), day));
+        }
+        result.putAll(loaded);
+
+        log.debug("[Availability] 캐시 미스 → storeId={}, L1 미스={}, DB 조회={}", storeId, l1Misses.size(), l2Misses.size());
+        return result;
+    }
+
+    private Map<LocalDate, StoreDayAvailability> loadDays(Long storeId, List<LocalDate> dates) {
+        LocalDate first = dates.get(0);
+        LocalDate last = dates.get(dates.size() - 1);
+        Map<LocalDate, List<ReservationSlotCountDto>> slotCountsByDate = reservationRepository
+                .countReservedSlotsBetween(storeId, first.atStartOfDay(), last.plusDays(1).atStartOfDay())
+                .stream()
+                .collect(Collectors.groupingBy(slotCount -> slotCount.getReservedAt().toLocalDate()));
+
+        Map<LocalDate, StoreDayAvailability> loaded = new HashMap<>();
+        for (LocalDate date : dates) {
+            List<ReservationSlotCountDto> slotCounts = slotCountsByDate.get(date);
+            loaded.put(date, slotCounts == null ? StoreDayAvailability.empty() : StoreDayAvailability.fromSlotCounts(slotCounts));
+        }
+        return loaded;
+    }
+
+    /**
+     * @param gen DB 조회 전에 읽은 gen (없으면 null)
+     * @return 그 사이 무효화가 없어 L2 에 저장했으면 true
+     */
+    private boolean fill(Long storeId, String gen, Map<String, String> fieldValues) {
+        List<String> args = new ArrayList<>(2 + fieldValues.size() * 2);
+        args.add(gen != null ? gen : "0");
+        args.add(String.valueOf(L2_TTL.toMillis()));
+        fieldValues.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+
+        Long filled = redisTemplate.execute(FILL_SCRIPT, List.of(getKey(storeId)), args.toArray());
+        if (!Long.valueOf(1L).equals(filled)) {
+            log.debug("[Availability] 조회 중 무효화되어 캐시 저장 생략 → storeId={}", storeId);
+            return false;
+        }
+        return true;
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new HandledException(ErrorCode.RESERVATION_AVAILABILITY_RANGE_INVALID);
+        }
+    }
+
+    private static String getKey(Long storeId) {
+        return STORE_AVAILABILITY_KEY_PREFIX + storeId;
+    }
+
+    private static String getLocalKey(Long storeId, LocalDate date) {
+        return storeId + KEY_DELIMITER + date;
+    }
+}
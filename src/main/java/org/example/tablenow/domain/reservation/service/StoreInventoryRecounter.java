@@ -0,0 +1,95 @@
+package org.example.tablenow.domain.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.example.tablenow.domain.reservation.entity.StoreDailyInventory;
+import org.example.tablenow.domain.reservation.repository.StoreDailyInventoryRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.RESERVATION_INVENTORY_RECOUNT_KEY;
+
+/**
+ * 재고 행(store_daily_inventory, store_slot_inventory) 재계산
+ * - 커밋 후 재고 반영(StoreInventoryWriteBehind)에 실패한 가게/날짜는 재계산 대상(SET: storeId:date)으로 등록되어 1분 주기로 보정
+ * - 오늘 이후 재고 행 전체를 30분 주기로 예약 테이블 기준으로 다시 맞춘다. (유실된 등록, 프로세스 종료로 반영되지 못한 건 포함)
+ * 재계산이 버전 충돌 등으로 실패하면 다시 대상으로 등록해 다음 주기에 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreInventoryRecounter {
+    private final StoreSlotInventoryService slotInventoryService;
+    private final StoreDailyInventoryRepository dailyInventoryRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    public static final int RECOUNT_BATCH_SIZE = 500;
+    private static final String KEY_DELIMITER = ":";
+
+    public void register(Long storeId, LocalDate date) {
+        redisTemplate.opsForSet().add(RESERVATION_INVENTORY_RECOUNT_KEY, storeId + KEY_DELIMITER + date);
+    }
+
+    @SchedulerLock(name = "StoreInventoryRecounter.recountRegistered")
+    @Scheduled(fixedDelay = 60000)
+    public void recountRegistered() {
+        try {
+            int recountedCount = 0;
+            List<String> targets;
+            while (!(targets = pop()).isEmpty()) {
+                for (String target : targets) {
+                    int delimiterIndex = target.indexOf(KEY_DELIMITER);
+                    recount(Long.valueOf(target.substring(0, delimiterIndex)), LocalDate.parse(target.substring(delimiterIndex + 1)));
+                }
+                recountedCount += targets.size();
+            }
+            if (recountedCount > 0) {
+                log.info("재고 재계산 완료: {}건", recountedCount);
+            }
+        } catch (Exception e) {
+            log.error("재고 재계산 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    // 오늘 이후 재고 행 전체를 훑으므로 기본 lockAtMostFor(1m)를 넘길 수 있어 다음 주기(30분) 전까지만 잠금 유지
+    @SchedulerLock(name = "StoreInventoryRecounter.recountUpcoming", lockAtMostFor = "25m")
+    @Scheduled(fixedRate = 1800000)
+    public void recountUpcoming() {
+        try {
+            LocalDate today = LocalDate.now();
+            long lastId = 0L;
+            Slice<StoreDailyInventory> inventories;
+            do {
+                inventories = dailyInventoryRepository.findByInventoryDateGreaterThanEqualAndIdGreaterThanOrderById(
+                        today, lastId, PageRequest.of(0, RECOUNT_BATCH_SIZE));
+                for (StoreDailyInventory inventory : inventories) {
+                    recount(inventory.getStoreId(), inventory.getInventoryDate());
+                    lastId = inventory.getId();
+                }
+            } while (inventories.hasNext());
+        } catch (Exception e) {
+            log.error("예정 재고 전체 재계산 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void recount(Long storeId, LocalDate date) {
+        try {
+            slotInventoryService.recount(storeId, date);
+        } catch (RuntimeException e) {
+            log.warn("[InventoryRecount] 재계산 실패로 재등록 → storeId={}, date={}, error={}", storeId, date, e.getMessage());
+            register(storeId, date);
+        }
+    }
+
+    private List<String> pop() {
+        List<String> targets = redisTemplate.opsForSet().pop(RESERVATION_INVENTORY_RECOUNT_KEY, RECOUNT_BATCH_SIZE);
+        return targets != null ? targets : List.of();
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.tablenow.domain.reservation.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.store.entity.Store;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Redis 좌석 카운터(V3) 예약의 DB 재고 반영 (커밋 후 전용 스레드에서 실행)
+ * 정원 판단은 ReservationCapacityLedger 가 하므로 예약 트랜잭션에서 store_daily_inventory 행 락을 잡지 않는다.
+ * (같은 가게/날짜 요청이 재고 행에서 다시 직렬화되고 버전 충돌로 실패하는 것을 방지)
+ * 반영에 실패하면 응답에 영향을 주지 않고 StoreInventoryRecounter 재계산 대상으로 등록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreInventoryWriteBehind {
+
+    private static final int WRITE_BEHIND_THREADS = 4;
+
+    private final StoreSlotInventoryService slotInventoryService;
+    private final StoreInventoryRecounter inventoryRecounter;
+
+    // @EnableAsync 를 켜면 기존 @Async 프로듀서들의 동작까지 바뀌므로 재고 반영 전용 풀을 따로 둔다.
+    private final ExecutorService writeBehindExecutor = Executors.newFixedThreadPool(WRITE_BEHIND_THREADS);
+
+    public void applyReserved(Store store, LocalDateTime reservedAt) {
+        writeBehindExecutor.execute(() -> {
+            try {
+                // applyCommitted 는 dataTransactionManager 새 트랜잭션으로 실행
+                slotInventoryService.applyCommitted(store, reservedAt);
+            } catch (Exception e) {
+                log.error("[InventoryWriteBehind] 재고 반영 실패로 재계산 등록 → storeId={}, reservedAt={}", store.getId(), reservedAt, e);
+                inventoryRecounter.register(store.getId(), reservedAt.toLocalDate());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeBehindExecutor.shutdown();
+    }
+}
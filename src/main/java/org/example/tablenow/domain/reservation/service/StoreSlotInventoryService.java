@@ -0,0 +1,186 @@
+package org.example.tablenow.domain.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.reservation.dto.response.ReservationSlotCountDto;
+import org.example.tablenow.domain.reservation.entity.ReservationStatus;
+import org.example.tablenow.domain.reservation.entity.StoreDailyInventory;
+import org.example.tablenow.domain.reservation.entity.StoreSlotInventory;
+import org.example.tablenow.domain.reservation.repository.ReservationRepository;
+import org.example.tablenow.domain.reservation.repository.StoreDailyInventoryRepository;
+import org.example.tablenow.domain.reservation.repository.StoreSlotInventoryRepository;
+import org.example.tablenow.domain.store.entity.Store;
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 가게 좌석 재고 (store_daily_inventory, store_slot_inventory)
+ * - 예약 생성/취소/수정 시 @Version 기반 낙관적 락으로 갱신 (버전 충돌은 즉시 flush 해 RESERVATION_INVENTORY_CONFLICT 로 변환)
+ * - 재고 행이 없으면 최초 갱신 시점에 예약 테이블 기준으로 생성
+ * - Redis 좌석 카운터 경로(V3)는 커밋 후 StoreInventoryWriteBehind 가 비동기로 반영
+ * - 반영 실패분과 예정 날짜 전체는 StoreInventoryRecounter 가 예약 테이블 기준으로 재계산
+ * 예약 상태 변경 전에 호출해야 초기화 집계가 중복되지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreSlotInventoryService {
+
+    private final StoreDailyInventoryRepository dailyInventoryRepository;
+    private final StoreSlotInventoryRepository slotInventoryRepository;
+    private final ReservationRepository reservationRepository;
+
+    /**
+     * 정원 검증 후 좌석 차감 (단건 조회 + 버전 검증)
+     */
+    public void reserve(Store store, LocalDateTime reservedAt) {
+        StoreDailyInventory dailyInventory = getOrCreateDailyInventory(store, reservedAt.toLocalDate());
+        if (!store.hasVacancy(dailyInventory.getReservedCount())) {
+            throw new HandledException(ErrorCode.STORE_TABLE_CAPACITY_EXCEEDED);
+        }
+
+        dailyInventory.increase();
+        getOrCreateSlotInventory(store, reservedAt).increase();
+        flushInventory();
+    }
+
+    /**
+     * 정원 검증이 이미 끝나고 커밋된 예약(Redis 좌석 카운터 경로)을 재고에 반영
+     * 재고 행이 없으면 예약 테이블 집계로 생성하며, 커밋된 예약이 집계에 이미 포함되므로 따로 증가시키지 않는다.
+     */
+    @Transactional(transactionManager = "dataTransactionManager", propagation = Propagation.REQUIRES_NEW)
+    public void applyCommitted(Store store, LocalDateTime reservedAt) {
+        if (dailyInventoryRepository.increaseReservedCount(store.getId(), reservedAt.toLocalDate()) == 0) {
+            getOrCreateDailyInventory(store, reservedAt.toLocalDate());
+        }
+        if (slotInventoryRepository.increaseReservedCount(store.getId(), reservedAt) == 0) {
+            getOrCreateSlotInventory(store, reservedAt);
+        }
+    }
+
+    public void release(Store store, LocalDateTime reservedAt) {
+        getOrCreateDailyInventory(store, reservedAt.toLocalDate()).decrease();
+        getOrCreateSlotInventory(store, reservedAt).decrease();
+        flushInventory();
+    }
+
+    /**
+     * 예약 시간 변경
+     * - 같은 날짜: 슬롯 재고만 이동
+     * - 다른 날짜: 새 날짜 정원 검증 후 차감, 기존 날짜 반환
+     */
+    public void move(Store store, LocalDateTime from, LocalDateTime to) {
+        if (from.toLocalDate().equals(to.toLocalDate())) {
+            if (!from.equals(to)) {
+                getOrCreateSlotInventory(store, from).decrease();
+                getOrCreateSlotInventory(store, to).increase();
+                flushInventory();
+            }
+            return;
+        }
+
+        reserve(store, to);
+        release(store, from);
+    }
+
+    /**
+     * 예약 테이블 집계로 일별/슬롯별 재고 행을 다시 맞춘다. (행이 없으면 다음 갱신 시 집계로 생성되므로 만들지 않음)
+     * 재고 행을 먼저 읽고 집계하므로, 그 사이 다른 예약이 행을 갱신했으면 버전 충돌로 실패하고 다음 재계산에서 다시 맞춘다.
+     */
+    @Transactional(transactionManager = "dataTransactionManager", propagation = Propagation.REQUIRES_NEW)
+    public void recount(Long storeId, LocalDate date) {
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = date.plusDays(1).atStartOfDay();
+        Optional<StoreDailyInventory> dailyInventory = dailyInventoryRepository.findByStoreIdAndInventoryDate(storeId, date);
+        List<StoreSlotInventory> slotInventories = slotInventoryRepository
+                .findAllByStoreIdAndSlotStartGreaterThanEqualAndSlotStartLessThanOrderBySlotStart(storeId, start, end);
+
+        Map<LocalDateTime, Long> countBySlot = new HashMap<>();
+        long total = 0;
+        for (ReservationSlotCountDto slotCount : reservationRepository.countReservedSlotsBetween(storeId, start, end)) {
+            countBySlot.put(slotCount.getReservedAt(), slotCount.getCount());
+            total += slotCount.getCount();
+        }
+
+        int reservedCount = (int) total;
+        dailyInventory.ifPresent(inventory -> inventory.recount(reservedCount));
+        slotInventories.forEach(inventory -> inventory.recount(countBySlot.getOrDefault(inventory.getSlotStart(), 0L).intValue()));
+        flushInventory();
+    }
+
+    /**
+     * 빈자리 여부 (단건 조회). 재고 행이 아직 없으면 예약 테이블을 집계한다.
+     */
+    public boolean hasVacancy(Store store, LocalDate date) {
+        return store.hasVacancy(getReservedCount(store, date));
+    }
+
+    /**
+     * 남은 좌석 수 (단건 조회)
+     */
+    public long getRemainingSeats(Store store, LocalDate date) {
+        return store.getRemainingSeats(getReservedCount(store, date));
+    }
+
+    private long getReservedCount(Store store, LocalDate date) {
+        return dailyInventoryRepository.findByStoreIdAndInventoryDate(store.getId(), date)
+                .map(StoreDailyInventory::getReservedCount)
+                .map(Integer::longValue)
+                .orElseGet(() -> reservationRepository.countReservedTablesByDate(store, date));
+    }
+
+    private StoreDailyInventory getOrCreateDailyInventory(Store store, LocalDate date) {
+        return dailyInventoryRepository.findByStoreIdAndInventoryDate(store.getId(), date)
+                .orElseGet(() -> {
+                    long reservedCount = reservationRepository.countReservedTablesByDate(store, date);
+                    return saveInventory(() -> dailyInventoryRepository.save(
+                            new StoreDailyInventory(store.getId(), date, (int) reservedCount)
+                    ));
+                });
+    }
+
+    private StoreSlotInventory getOrCreateSlotInventory(Store store, LocalDateTime slotStart) {
+        return slotInventoryRepository.findByStoreIdAndSlotStart(store.getId(), slotStart)
+                .orElseGet(() -> {
+                    long reservedCount = reservationRepository.countByStore_IdAndReservedAtAndStatus(
+                            store.getId(), slotStart, ReservationStatus.RESERVED
+                    );
+                    return saveInventory(() -> slotInventoryRepository.save(
+                            new StoreSlotInventory(store.getId(), slotStart, (int) reservedCount)
+                    ));
+                });
+    }
+
+    // 버전 충돌을 커밋 시점이 아닌 예약 처리 안에서 감지해 예약 충돌로 응답
+    private void flushInventory() {
+        try {
+            dailyInventoryRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("[SlotInventory] 재고 동시 수정 충돌 → entity={}", e.getPersistentClassName());
+            throw new HandledException(ErrorCode.RESERVATION_INVENTORY_CONFLICT);
+        }
+    }
+
+    // 동시에 같은 재고 행을 생성하면 유니크 제약 위반 → 충돌로 응답
+    private <T> T saveInventory(Supplier<T> saver) {
+        try {
+            return saver.get();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[SlotInventory] 재고 행 동시 생성 충돌: {}", e.getMessage());
+            throw new HandledException(ErrorCode.RESERVATION_INVENTORY_CONFLICT);
+        }
+    }
+}
@@ -2,13 +2,17 @@ package org.example.tablenow.domain.store.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.tablenow.domain.store.dto.request.StoreCursorSearchRequestDto;
 import org.example.tablenow.domain.store.dto.request.StoreSearchRequestDto;
 import org.example.tablenow.domain.store.dto.response.StoreDocumentResponseDto;
+import org.example.tablenow.domain.store.dto.response.StoreReindexResponseDto;
 import org.example.tablenow.domain.store.service.StoreElasticsearchIndexer;
 import org.example.tablenow.domain.store.service.StoreSearchService;
 import org.example.tablenow.domain.user.enums.UserRole;
 import org.example.tablenow.global.dto.AuthUser;
+import org.example.tablenow.global.dto.CursorResponse;
 import org.example.tablenow.global.dto.PageResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
@@ -24,13 +28,20 @@ public class StoreSearchController {
     private final StoreSearchService storeSearchService;
     private final StoreElasticsearchIndexer storeElasticsearchIndexer;
 
-    // Elastic Index 수동 갱신
-    @Operation(summary = "Elastic 인덱스 수동 갱신 (관리자)")
+    // Elastic Index 수동 갱신 (새 버전 인덱스 적재 후 alias 전환, 비동기 실행)
+    @Operation(summary = "Elastic 인덱스 무중단 재색인 시작 (관리자)")
     @Secured(UserRole.Authority.ADMIN)
     @PostMapping("/v3/admin/stores/index")
-    public ResponseEntity<Void> reindexAllStores() {
-        storeElasticsearchIndexer.reindexAllStores();
-        return ResponseEntity.ok().build();
+    public ResponseEntity<StoreReindexResponseDto> reindexAllStores() {
+        return ResponseEntity.accepted().body(storeElasticsearchIndexer.startReindexWithAlias());
+    }
+
+    // 재색인 진행 상태 조회
+    @Operation(summary = "Elastic 인덱스 재색인 상태 조회 (관리자)")
+    @Secured(UserRole.Authority.ADMIN)
+    @GetMapping("/v3/admin/stores/index/{jobId}")
+    public ResponseEntity<StoreReindexResponseDto> getReindexStatus(@PathVariable String jobId) {
+        return ResponseEntity.ok(storeElasticsearchIndexer.getReindexStatus(jobId));
     }
 
     // 가게 검색 v3 (ElasticSearch + Redis)
@@ -40,4 +51,12 @@ public class StoreSearchController {
                                                                               @ModelAttribute StoreSearchRequestDto request) {
         return ResponseEntity.ok(storeSearchService.getStoresV3(authUser, request.getPage(), request.getSize(), request.getSort(), request.getDirection(), request.getCategoryId(), request.getKeyword()));
     }
+
+    // 가게 검색 v4 (ElasticSearch search_after 커서)
+    @Operation(summary = "가게 검색 V4 (Elastic 커서 기반 무한 스크롤)")
+    @GetMapping("/v4/stores")
+    public ResponseEntity<CursorResponse<StoreDocumentResponseDto>> getStoresV4(@AuthenticationPrincipal AuthUser authUser,
+                                                                                @Valid @ModelAttribute StoreCursorSearchRequestDto request) {
+        return ResponseEntity.ok(storeSearchService.getStoresV4(authUser, request.getSize(), request.getSort(), request.getDirection(), request.getCategoryId(), request.getKeyword(), request.getCursor(), request.isWithTotal()));
+    }
 }
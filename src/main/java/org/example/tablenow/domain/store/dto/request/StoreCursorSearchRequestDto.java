@@ -0,0 +1,20 @@
+package org.example.tablenow.domain.store.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class StoreCursorSearchRequestDto {
+    @Positive
+    @Max(100)
+    private int size = 10;
+    private String sort = "ratingCount";
+    private String direction = "desc";
+    private Long categoryId;
+    private String keyword;
+    private String cursor;
+    private boolean withTotal = false;
+}
@@ -0,0 +1,24 @@
+package org.example.tablenow.domain.store.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.tablenow.domain.store.enums.StoreReindexStatus;
+
+@Getter
+public class StoreReindexResponseDto {
+    private final String jobId;
+    private final StoreReindexStatus status;
+
+    @Builder
+    public StoreReindexResponseDto(String jobId, StoreReindexStatus status) {
+        this.jobId = jobId;
+        this.status = status;
+    }
+
+    public static StoreReindexResponseDto of(String jobId, StoreReindexStatus status) {
+        return StoreReindexResponseDto.builder()
+                .jobId(jobId)
+                .status(status)
+                .build();
+    }
+}
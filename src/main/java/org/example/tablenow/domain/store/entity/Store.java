@@ -118,6 +118,10 @@ public class Store extends TimeStamped {
         return reservedCount < this.capacity;
     }
 
+    public long getRemainingSeats(long reservedCount) {
+        return Math.max(this.capacity - reservedCount, 0);
+    }
+
     public void applyRating(Integer rating) {
         Integer newRatingCount = this.ratingCount + 1;
         Double newRating = ((this.rating * this.ratingCount) + rating) / newRatingCount;
@@ -0,0 +1,7 @@
+package org.example.tablenow.domain.store.enums;
+
+public enum StoreReindexStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -1,13 +1,14 @@
 package org.example.tablenow.domain.store.message.consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.reservation.service.StoreAvailabilityService;
 import org.example.tablenow.domain.store.entity.StoreDocument;
 import org.example.tablenow.domain.store.repository.StoreElasticRepository;
+import org.example.tablenow.domain.store.service.StoreElasticsearchIndexer;
 import org.example.tablenow.domain.store.service.StoreSearchService;
-import org.example.tablenow.global.exception.ErrorCode;
-import org.example.tablenow.global.exception.HandledException;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageBuilder;
 import org.springframework.amqp.core.MessageProperties;
@@ -16,6 +17,9 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.example.tablenow.global.constant.RabbitConstant.*;
 
@@ -27,42 +31,42 @@ public class StoreConsumer {
     private final RabbitTemplate rabbitTemplate;
     private final StoreElasticRepository storeElasticRepository;
     private final StoreSearchService storeSearchService;
+    private final StoreElasticsearchIndexer storeElasticsearchIndexer;
+    private final StoreAvailabilityService storeAvailabilityService;
     private final ObjectMapper objectMapper;
 
     private static final int MAX_RETRY_COUNT = 3;
 
-    @RabbitListener(queues = STORE_CREATE_QUEUE)
-    public void handleCreate(Message message) {
-        try {
-            StoreDocument storeDocument = updateIndexAndGetStoreDocument(message);
-            storeSearchService.evictSearchCacheForNewStore(storeDocument);
-        } catch (Exception e) {
-            log.error("[StoreDocumentConsumer] MQ 처리 중 예외 발생 (create)", e);
-            throw new HandledException(ErrorCode.STORE_RABBIT_MQ_MESSAGE_FAILED);
-        }
+    /**
+     * 가게 변경 메시지는 배치 단위로 받아 _bulk 요청 1회로 반영한다.
+     * - 같은 가게에 대한 메시지는 마지막 메시지만 반영 (last write wins)
+     * - _bulk 응답 확인 후 성공한 메시지만 ack, 실패한 메시지는 nack → DLQ 재시도
+     */
+    @RabbitListener(queues = STORE_CREATE_QUEUE, containerFactory = STORE_BATCH_LISTENER_FACTORY)
+    public void handleCreate(List<Message> messages, Channel channel) {
+        processBatch(messages, channel, "create", StoreDocument.class, StoreDocument::getId,
+                storeDocuments -> storeElasticRepository.bulkUpdateStoreIndex(storeDocuments, List.of()),
+                storeSearchService::evictSearchCacheForNewStore);
     }
 
-    @RabbitListener(queues = STORE_UPDATE_QUEUE)
-    public void handleUpdate(Message message) {
-        try {
-            StoreDocument storeDocument = updateIndexAndGetStoreDocument(message);
-            storeSearchService.evictSearchCacheByStoreId(storeDocument.getId());
-        } catch (Exception e) {
-            log.error("[StoreDocumentConsumer] MQ 처리 중 예외 발생 (update)", e);
-            throw new HandledException(ErrorCode.STORE_RABBIT_MQ_MESSAGE_FAILED);
-        }
+    @RabbitListener(queues = STORE_UPDATE_QUEUE, containerFactory = STORE_BATCH_LISTENER_FACTORY)
+    public void handleUpdate(List<Message> messages, Channel channel) {
+        processBatch(messages, channel, "update", StoreDocument.class, StoreDocument::getId,
+                storeDocuments -> storeElasticRepository.bulkUpdateStoreIndex(storeDocuments, List.of()),
+                storeDocument -> {
+                    storeSearchService.evictSearchCacheByStoreId(storeDocument.getId());
+                    storeAvailabilityService.evictStore(storeDocument.getId());
+                });
     }
 
-    @RabbitListener(queues = STORE_DELETE_QUEUE)
-    public void handleDelete(Message message) {
-        try {
-            Long storeId = objectMapper.readValue(message.getBody(), Long.class);
-            storeElasticRepository.deleteStoreIndex(storeId);
-            storeSearchService.evictSearchCacheByStoreId(storeId);
-        } catch (Exception e) {
-            log.error("[StoreDocumentConsumer] MQ 처리 중 예외 발생 (delete)", e);
-            throw new HandledException(ErrorCode.STORE_RABBIT_MQ_MESSAGE_FAILED);
-        }
+    @RabbitListener(queues = STORE_DELETE_QUEUE, containerFactory = STORE_BATCH_LISTENER_FACTORY)
+    public void handleDelete(List<Message> messages, Channel channel) {
+        processBatch(messages, channel, "delete", Long.class, Function.identity(),
+                storeIds -> storeElasticRepository.bulkUpdateStoreIndex(List.of(), storeIds),
+                storeId -> {
+                    storeSearchService.evictSearchCacheByStoreId(storeId);
+                    storeAvailabilityService.evictStore(storeId);
+                });
     }
 
     // DLQ Consumers
@@ -105,9 +109,72 @@ public class StoreConsumer {
         return retryMessage;
     }
 
-    private StoreDocument updateIndexAndGetStoreDocument(Message message) throws IOException {
-        StoreDocument storeDocument = objectMapper.readValue(message.getBody(), StoreDocument.class);
-        storeElasticRepository.updateStoreIndex(storeDocument);
-        return storeDocument;
+    private <T> void processBatch(List<Message> messages, Channel channel, String type, Class<T> payloadType,
+                                  Function<T, Long> storeIdExtractor,
+                                  Function<Collection<T>, Set<Long>> bulkAction,
+                                  Consumer<T> afterIndexed) {
+        Map<Long, T> latestPayloads = new LinkedHashMap<>();
+        Map<Long, List<Long>> deliveryTags = new HashMap<>();
+
+        for (Message message : messages) {
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            try {
+                T payload = objectMapper.readValue(message.getBody(), payloadType);
+                Long storeId = storeIdExtractor.apply(payload);
+                latestPayloads.put(storeId, payload);
+                deliveryTags.computeIfAbsent(storeId, id -> new ArrayList<>()).add(deliveryTag);
+            } catch (Exception e) {
+                log.error("[StoreDocumentConsumer] 메시지 역직렬화 실패 ({}) → DLQ 이동", type, e);
+                nack(channel, deliveryTag);
+            }
+        }
+
+        if (latestPayloads.isEmpty()) {
+            return;
+        }
+
+        Set<Long> failedStoreIds;
+        try {
+            storeElasticsearchIndexer.recordChangedStores(latestPayloads.keySet());
+            failedStoreIds = bulkAction.apply(latestPayloads.values());
+        } catch (Exception e) {
+            log.error("[StoreDocumentConsumer] Bulk 요청 실패 ({}) → 메시지 {}건 DLQ 이동", type, messages.size(), e);
+            deliveryTags.values().forEach(tags -> tags.forEach(tag -> nack(channel, tag)));
+            return;
+        }
+
+        latestPayloads.forEach((storeId, payload) -> {
+            List<Long> tags = deliveryTags.get(storeId);
+            if (failedStoreIds.contains(storeId)) {
+                tags.forEach(tag -> nack(channel, tag));
+                return;
+            }
+            try {
+                afterIndexed.accept(payload);
+                tags.forEach(tag -> ack(channel, tag));
+            } catch (Exception e) {
+                log.error("[StoreDocumentConsumer] 캐시 무효화 실패 ({}) → storeId={} DLQ 이동", type, storeId, e);
+                tags.forEach(tag -> nack(channel, tag));
+            }
+        });
+
+        log.info("[StoreDocumentConsumer] {} 배치 처리 완료: 메시지 {}건 → 문서 {}건 (실패 {}건)",
+                type, messages.size(), latestPayloads.size(), failedStoreIds.size());
+    }
+
+    private void ack(Channel channel, long deliveryTag) {
+        try {
+            channel.basicAck(deliveryTag, false);
+        } catch (IOException e) {
+            log.error("[StoreDocumentConsumer] ack 실패 → deliveryTag={}", deliveryTag, e);
+        }
+    }
+
+    private void nack(Channel channel, long deliveryTag) {
+        try {
+            channel.basicNack(deliveryTag, false, false);
+        } catch (IOException e) {
+            log.error("[StoreDocumentConsumer] nack 실패 → deliveryTag={}", deliveryTag, e);
+        }
     }
 }
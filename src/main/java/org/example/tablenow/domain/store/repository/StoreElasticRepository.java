@@ -1,10 +1,15 @@
 package org.example.tablenow.domain.store.repository;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
 import co.elastic.clients.elasticsearch.core.*;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.tablenow.domain.store.entity.StoreDocument;
@@ -17,9 +22,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 
 import static org.example.tablenow.domain.store.util.StoreConstant.STORE_INDEX;
 
@@ -30,6 +33,9 @@ public class StoreElasticRepository {
 
     private final ElasticsearchClient elasticsearchClient;
 
+    private static final String ID_FIELD = "id";
+    private static final String DEFAULT_REFRESH_INTERVAL = "1s";
+
     /**
      * 가게 검색 Elastic 인덱스 조회
      */
@@ -57,8 +63,61 @@ public class StoreElasticRepository {
         }
     }
 
+    /**
+     * 가게 검색 커서 조회 (search_after)
+     * - 정렬 필드 + id(tiebreaker) 기준으로 이어서 조회하므로 깊은 페이지도 비용이 일정하다.
+     * - size + 1 건을 조회해 다음 페이지 존재 여부를 판단한다.
+     * - trackTotalHits 가 false 이면 전체 건수를 집계하지 않는다.
+     */
+    public SearchAfterSlice searchAfterByKeywordAndCategoryId(String keyword, Long categoryId, Sort sort,
+                                                             List<FieldValue> searchAfter, int size, boolean trackTotalHits) {
+        try {
+            BoolQuery.Builder boolQueryBuilder = new BoolQuery.Builder();
+
+            whereDeletedAtIsNull(boolQueryBuilder);
+
+            whereKeywordContains(keyword, boolQueryBuilder);
+
+            whereCategoryIdEq(categoryId, boolQueryBuilder);
+
+            List<SortOptions> sortOptions = convertSort(sort);
+            sortOptions.add(SortOptions.of(s -> s.field(f -> f.field(ID_FIELD).order(SortOrder.Asc))));
+
+            SearchResponse<StoreDocument> response = elasticsearchClient.search(s -> {
+                        s.index(STORE_INDEX)
+                                .query(q -> q.bool(boolQueryBuilder.build()))
+                                .size(size + 1)
+                                .sort(sortOptions)
+                                .trackTotalHits(t -> t.enabled(trackTotalHits));
+                        if (searchAfter != null && !searchAfter.isEmpty()) {
+                            s.searchAfter(searchAfter);
+                        }
+                        return s;
+                    },
+                    StoreDocument.class
+            );
+
+            List<Hit<StoreDocument>> hits = response.hits().hits();
+            boolean hasNext = hits.size() > size;
+            List<Hit<StoreDocument>> pageHits = hasNext ? hits.subList(0, size) : hits;
+
+            List<StoreDocument> results = convertResponseToList(pageHits);
+            List<FieldValue> lastSortValues = pageHits.isEmpty() ? List.of() : pageHits.get(pageHits.size() - 1).sort();
+            Long totalHits = trackTotalHits && response.hits().total() != null ? response.hits().total().value() : null;
+
+            return new SearchAfterSlice(results, lastSortValues, hasNext, totalHits);
+
+        } catch (IOException e) {
+            throw new HandledException(ErrorCode.STORE_ELASTICSEARCH_QUERY_FAILED);
+        }
+    }
+
     private List<StoreDocument> convertResponseToList(SearchResponse<StoreDocument> response) {
-        return response.hits().hits().stream()
+        return convertResponseToList(response.hits().hits());
+    }
+
+    private List<StoreDocument> convertResponseToList(List<Hit<StoreDocument>> hits) {
+        return hits.stream()
                 .map(h -> {
                     StoreDocument doc = h.source();
                     if (doc != null) {
@@ -103,6 +162,113 @@ public class StoreElasticRepository {
         }
     }
 
+    /**
+     * 인덱스 문서 일괄 반영 (_bulk)
+     * 같은 가게에 대한 색인/삭제는 호출 측에서 하나로 합쳐서 전달한다.
+     * @return 반영에 실패한 가게 ID
+     */
+    public Set<Long> bulkUpdateStoreIndex(Collection<StoreDocument> storeDocuments, Collection<Long> deletedStoreIds) {
+        return bulkUpdateStoreIndex(STORE_INDEX, storeDocuments, deletedStoreIds);
+    }
+
+    /**
+     * 지정한 인덱스(alias 또는 재색인 중인 버전 인덱스)에 문서 일괄 반영
+     */
+    public Set<Long> bulkUpdateStoreIndex(String indexName, Collection<StoreDocument> storeDocuments, Collection<Long> deletedStoreIds) {
+        List<BulkOperation> operations = new ArrayList<>();
+        storeDocuments.forEach(storeDocument -> operations.add(BulkOperation.of(b -> b
+                .index(i -> i
+                        .index(indexName)
+                        .id(String.valueOf(storeDocument.getId()))
+                        .document(storeDocument)
+                )
+        )));
+        deletedStoreIds.forEach(storeId -> operations.add(BulkOperation.of(b -> b
+                .delete(d -> d
+                        .index(indexName)
+                        .id(String.valueOf(storeId))
+                )
+        )));
+
+        if (operations.isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            BulkResponse response = elasticsearchClient.bulk(BulkRequest.of(b -> b.operations(operations)));
+            if (!response.errors()) {
+                log.info("[ElasticSearch] Bulk 반영 완료({}): {}건, {}ms", indexName, operations.size(), response.took());
+                return Set.of();
+            }
+
+            // 삭제 대상 문서가 없는 경우(404)는 error 없이 내려오므로 실패로 보지 않음
+            Set<Long> failedStoreIds = new HashSet<>();
+            for (BulkResponseItem item : response.items()) {
+                if (item.error() != null) {
+                    log.warn("[ElasticSearch] Bulk 항목 실패 → id={}, reason={}", item.id(), item.error().reason());
+                    failedStoreIds.add(Long.valueOf(item.id()));
+                }
+            }
+            return failedStoreIds;
+        } catch (IOException e) {
+            throw new HandledException(ErrorCode.STORE_ELASTICSEARCH_INDEX_FAILED);
+        }
+    }
+
+    /**
+     * store alias 가 가리키는 실제 인덱스 목록
+     * alias 도입 이전의 단일 인덱스(store)인 경우 해당 인덱스 이름을 반환한다.
+     */
+    public Set<String> findStoreIndices() {
+        try {
+            if (!elasticsearchClient.indices().exists(e -> e.index(STORE_INDEX)).value()) {
+                return Set.of();
+            }
+            return elasticsearchClient.indices().get(g -> g.index(STORE_INDEX)).result().keySet();
+        } catch (IOException e) {
+            throw new HandledException(ErrorCode.STORE_ELASTICSEARCH_INDEX_FAILED);
+        }
+    }
+
+    /**
+     * 벌크 적재를 마친 인덱스의 refresh 주기를 기본값으로 되돌리고 검색 가능 상태로 refresh
+     */
+    public void completeBulkLoad(String indexName) {
+        try {
+            elasticsearchClient.indices().putSettings(p -> p
+                    .index(indexName)
+                    .settings(st -> st.refreshInterval(t -> t.time(DEFAULT_REFRESH_INTERVAL)))
+            );
+            elasticsearchClient.indices().refresh(r -> r.index(indexName));
+        } catch (IOException e) {
+            throw new HandledException(ErrorCode.STORE_ELASTICSEARCH_INDEX_FAILED);
+        }
+    }
+
+    /**
+     * store alias 를 새 인덱스로 원자적으로 전환하고 기존 인덱스는 같은 요청에서 삭제
+     */
+    public void switchStoreAlias(String newIndexName, Collection<String> oldIndexNames) {
+        List<Action> actions = new ArrayList<>();
+        oldIndexNames.forEach(oldIndexName -> actions.add(Action.of(a -> a.removeIndex(r -> r.index(oldIndexName)))));
+        actions.add(Action.of(a -> a.add(ad -> ad.index(newIndexName).alias(STORE_INDEX))));
+
+        try {
+            elasticsearchClient.indices().updateAliases(u -> u.actions(actions));
+            log.info("[ElasticSearch] alias 전환 완료: {} → {} (삭제: {})", STORE_INDEX, newIndexName, oldIndexNames);
+        } catch (IOException e) {
+            throw new HandledException(ErrorCode.STORE_ELASTICSEARCH_INDEX_FAILED);
+        }
+    }
+
+    public void deleteIndex(String indexName) {
+        try {
+            elasticsearchClient.indices().delete(d -> d.index(indexName));
+        } catch (IOException e) {
+            throw new HandledException(ErrorCode.STORE_ELASTICSEARCH_INDEX_FAILED);
+        }
+    }
+
     private void whereDeletedAtIsNull(BoolQuery.Builder boolQueryBuilder) {
         boolQueryBuilder.mustNot(m -> m
                 .exists(e -> e
@@ -144,8 +310,12 @@ public class StoreElasticRepository {
     }
 
     private List<SortOptions> convertSort(Pageable pageable) {
+        return convertSort(pageable.getSort());
+    }
+
+    private List<SortOptions> convertSort(Sort sort) {
         List<SortOptions> sortOptions = new ArrayList<>();
-        for (Sort.Order order : pageable.getSort()) {
+        for (Sort.Order order : sort) {
             sortOptions.add(SortOptions.of(s -> s
                     .field(f -> f
                             .field(order.getProperty())
@@ -167,4 +337,7 @@ public class StoreElasticRepository {
         );
         return response;
     }
+
+    public record SearchAfterSlice(List<StoreDocument> documents, List<FieldValue> lastSortValues, boolean hasNext, Long totalHits) {
+    }
 }
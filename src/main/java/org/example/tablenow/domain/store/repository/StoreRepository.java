@@ -1,10 +1,13 @@
 package org.example.tablenow.domain.store.repository;
 
 import org.example.tablenow.domain.store.entity.Store;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +18,16 @@ public interface StoreRepository extends JpaRepository<Store, Long>, StoreQueryR
     @EntityGraph(attributePaths = {"user", "category"})
     @Query("SELECT s FROM Store s WHERE s.deletedAt IS NULL")
     List<Store> findAllWithUserAndCategory();
+
+    // 재색인 keyset 스트리밍: (lastId, maxId] 구간을 id 순으로 pageable 크기만큼 조회
+    @EntityGraph(attributePaths = {"user", "category"})
+    @Query("SELECT s FROM Store s WHERE s.deletedAt IS NULL AND s.id > :lastId AND s.id <= :maxId ORDER BY s.id ASC")
+    List<Store> findNextBatchWithUserAndCategory(@Param("lastId") Long lastId, @Param("maxId") Long maxId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "category"})
+    @Query("SELECT s FROM Store s WHERE s.deletedAt IS NULL AND s.id IN :ids")
+    List<Store> findAllWithUserAndCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM Store s")
+    Long findMaxId();
 }
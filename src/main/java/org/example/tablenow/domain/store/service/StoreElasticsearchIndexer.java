@@ -1,19 +1,34 @@
 package org.example.tablenow.domain.store.service;
 
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.tablenow.domain.store.entity.Store;
+import org.example.tablenow.domain.store.dto.response.StoreReindexResponseDto;
 import org.example.tablenow.domain.store.entity.StoreDocument;
+import org.example.tablenow.domain.store.enums.StoreReindexStatus;
+import org.example.tablenow.domain.store.repository.StoreElasticRepository;
 import org.example.tablenow.domain.store.repository.StoreRepository;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
+import static org.example.tablenow.domain.store.util.StoreConstant.*;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -21,29 +36,205 @@ public class StoreElasticsearchIndexer {
 
     private final StoreRepository storeRepository;
     private final ElasticsearchOperations operations;
+    private final StoreElasticRepository storeElasticRepository;
+    private final StringRedisTemplate redisTemplate;
     public static int INDEX_BATCH_SIZE = 1000;
+    public static int REINDEX_PARALLELISM = 4;
+    private static final Duration REINDEX_TTL = Duration.ofHours(6);
+    private static final Duration REINDEX_STATUS_TTL = Duration.ofDays(1);
+
+    // 재색인은 한 번에 하나만 진행되므로 단일 스레드로 충분
+    private final ExecutorService reindexExecutor = Executors.newSingleThreadExecutor();
+
+    /**
+     * 무중단 재색인 비동기 시작 (관리자 요청은 작업 ID 만 받고 바로 반환)
+     * 진행 중 여부는 요청 스레드에서 확인하고, 진행 상태는 getReindexStatus 로 조회한다.
+     * @return 작업 ID (새 버전 인덱스 이름)
+     */
+    public StoreReindexResponseDto startReindexWithAlias() {
+        String newIndexName = acquireReindex();
+        try {
+            reindexExecutor.execute(() -> {
+                try {
+                    runReindex(newIndexName);
+                } catch (Exception e) {
+                    log.error("[ElasticSearch] 비동기 재색인 실패: {}", newIndexName, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            saveStatus(newIndexName, StoreReindexStatus.FAILED);
+            redisTemplate.delete(STORE_REINDEX_TARGET_KEY);
+            throw new HandledException(ErrorCode.STORE_ELASTICSEARCH_INDEX_FAILED);
+        }
+        return StoreReindexResponseDto.of(newIndexName, StoreReindexStatus.RUNNING);
+    }
+
+    public StoreReindexResponseDto getReindexStatus(String jobId) {
+        String status = redisTemplate.opsForValue().get(STORE_REINDEX_STATUS_PREFIX + jobId);
+        if (status == null) {
+            throw new HandledException(ErrorCode.STORE_REINDEX_JOB_NOT_FOUND);
+        }
+        return StoreReindexResponseDto.of(jobId, StoreReindexStatus.valueOf(status));
+    }
+
+    /**
+     * 무중단 재색인 (호출 스레드에서 끝까지 실행)
+     * 1. 새 버전 인덱스(store_v{timestamp})를 refresh 비활성 상태로 생성
+     * 2. id 구간을 워커 수만큼 나누고, 각 워커가 keyset 커서로 MySQL 에서 배치 단위로 읽어 _bulk 적재
+     *    (힙 사용량은 워커 수 x 배치 크기로 고정)
+     * 3. 적재 중 변경된 가게를 새 인덱스에 재반영한 뒤 store alias 를 원자적으로 전환
+     * 4. 전환 직전까지 기존 인덱스에만 반영된 변경분을 alias 기준으로 한 번 더 재반영
+     */
+    public void reindexAllStoresWithAlias() {
+        runReindex(acquireReindex());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reindexExecutor.shutdownNow();
+    }
+
+    /**
+     * 재색인 진행 중이면 변경된 가게 ID 기록 (색인 반영 전에 호출)
+     */
+    public void recordChangedStores(Collection<Long> storeIds) {
+        if (storeIds.isEmpty() || !Boolean.TRUE.equals(redisTemplate.hasKey(STORE_REINDEX_TARGET_KEY))) {
+            return;
+        }
+        redisTemplate.opsForSet().add(STORE_REINDEX_CHANGED_KEY, storeIds.stream().map(String::valueOf).toArray(String[]::new));
+        redisTemplate.expire(STORE_REINDEX_CHANGED_KEY, REINDEX_TTL);
+    }
 
-    public void reindexAllStores() {
-        IndexOperations indexOperations = operations.indexOps(StoreDocument.class);
-        if (indexOperations.exists()) {
-            indexOperations.delete();
+    private String acquireReindex() {
+        String newIndexName = STORE_INDEX_VERSION_PREFIX + System.currentTimeMillis();
+        Boolean started = redisTemplate.opsForValue().setIfAbsent(STORE_REINDEX_TARGET_KEY, newIndexName, REINDEX_TTL);
+        if (!Boolean.TRUE.equals(started)) {
+            throw new HandledException(ErrorCode.STORE_REINDEX_IN_PROGRESS);
         }
-        indexOperations.create();
-        indexOperations.putMapping();
+        saveStatus(newIndexName, StoreReindexStatus.RUNNING);
+        return newIndexName;
+    }
+
+    private void runReindex(String newIndexName) {
+        redisTemplate.delete(STORE_REINDEX_CHANGED_KEY);
+
+        try {
+            Set<String> oldIndexNames = storeElasticRepository.findStoreIndices();
+            createVersionedIndex(newIndexName);
+
+            long indexedCount = indexAllSlices(newIndexName);
+            storeElasticRepository.completeBulkLoad(newIndexName);
+            long replayedCount = replayChangedStores(newIndexName);
+
+            storeElasticRepository.switchStoreAlias(newIndexName, oldIndexNames);
+            log.info("[ElasticSearch] 무중단 재색인 완료: {} (적재 {}건, 재반영 {}건)", newIndexName, indexedCount, replayedCount);
+        } catch (Exception e) {
+            log.error("[ElasticSearch] 무중단 재색인 실패 → 새 인덱스 삭제: {}", newIndexName, e);
+            deleteQuietly(newIndexName);
+            redisTemplate.delete(List.of(STORE_REINDEX_TARGET_KEY, STORE_REINDEX_CHANGED_KEY));
+            saveStatus(newIndexName, StoreReindexStatus.FAILED);
+            throw new HandledException(ErrorCode.STORE_ELASTICSEARCH_INDEX_FAILED);
+        }
+
+        // alias 전환 이후에는 새 인덱스가 이미 서비스 중이므로, 재반영이 실패해도 완료로 기록하고 변경 기록만 정리한다.
+        try {
+            redisTemplate.delete(STORE_REINDEX_TARGET_KEY);
+            replayChangedStores(STORE_INDEX);
+        } catch (Exception e) {
+            log.error("[ElasticSearch] alias 전환 후 변경분 재반영 실패 (전환은 완료): {}", newIndexName, e);
+        } finally {
+            redisTemplate.delete(STORE_REINDEX_CHANGED_KEY);
+            saveStatus(newIndexName, StoreReindexStatus.COMPLETED);
+        }
+    }
+
+    private void saveStatus(String jobId, StoreReindexStatus status) {
+        redisTemplate.opsForValue().set(STORE_REINDEX_STATUS_PREFIX + jobId, status.name(), REINDEX_STATUS_TTL);
+    }
 
-        List<Store> stores = storeRepository.findAllWithUserAndCategory();
+    private void createVersionedIndex(String indexName) {
+        IndexOperations entityIndexOperations = operations.indexOps(StoreDocument.class);
+        Settings settings = entityIndexOperations.createSettings();
+        // 적재 중에는 refresh 를 끄고 완료 후 기본값으로 복구
+        settings.put("index.refresh_interval", "-1");
+        operations.indexOps(IndexCoordinates.of(indexName)).create(settings, entityIndexOperations.createMapping());
+    }
+
+    private long indexAllSlices(String indexName) {
+        long maxId = storeRepository.findMaxId();
+        long sliceSize = maxId / REINDEX_PARALLELISM + 1;
+
+        ExecutorService executor = Executors.newFixedThreadPool(REINDEX_PARALLELISM);
+        try {
+            List<CompletableFuture<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < REINDEX_PARALLELISM; i++) {
+                long fromId = i * sliceSize;
+                long toId = Math.min(fromId + sliceSize, maxId);
+                futures.add(CompletableFuture.supplyAsync(() -> indexSlice(indexName, fromId, toId), executor));
+            }
+            return futures.stream().mapToLong(CompletableFuture::join).sum();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // (fromId, toId] 구간을 id 순 keyset 커서로 배치 적재
+    private long indexSlice(String indexName, long fromId, long toId) {
+        long lastId = fromId;
+        long indexedCount = 0;
+
+        while (lastId < toId) {
+            List<Store> stores = storeRepository.findNextBatchWithUserAndCategory(lastId, toId, PageRequest.of(0, INDEX_BATCH_SIZE));
+            if (stores.isEmpty()) {
+                break;
+            }
+
+            bulkIndex(indexName, stores, List.of());
+            lastId = stores.get(stores.size() - 1).getId();
+            indexedCount += stores.size();
+        }
+
+        log.info("[ElasticSearch] 재색인 구간 ({}, {}] 적재 {}건", fromId, toId, indexedCount);
+        return indexedCount;
+    }
+
+    // 변경 기록된 가게를 MySQL 최신 상태로 다시 읽어 반영 (삭제된 가게는 문서 삭제)
+    private long replayChangedStores(String indexName) {
+        long replayedCount = 0;
+        while (true) {
+            List<String> changedIds = redisTemplate.opsForSet().pop(STORE_REINDEX_CHANGED_KEY, INDEX_BATCH_SIZE);
+            if (changedIds == null || changedIds.isEmpty()) {
+                break;
+            }
+
+            Set<Long> storeIds = changedIds.stream().map(Long::valueOf).collect(Collectors.toSet());
+            List<Store> stores = storeRepository.findAllWithUserAndCategoryByIdIn(storeIds);
+
+            Set<Long> deletedStoreIds = new HashSet<>(storeIds);
+            stores.forEach(store -> deletedStoreIds.remove(store.getId()));
+
+            bulkIndex(indexName, stores, deletedStoreIds);
+            replayedCount += storeIds.size();
+        }
+        return replayedCount;
+    }
+
+    private void bulkIndex(String indexName, List<Store> stores, Collection<Long> deletedStoreIds) {
         List<StoreDocument> storeDocuments = stores.stream()
                 .map(StoreDocument::fromStore)
-                .collect(Collectors.toList());
-
-        for (int i = 0; i < storeDocuments.size(); i += INDEX_BATCH_SIZE) {
-            List<StoreDocument> batch = storeDocuments.subList(i, Math.min(i + INDEX_BATCH_SIZE, storeDocuments.size()));
-            try {
-                operations.save(batch);
-            } catch (Exception e) {
-                log.error("[ElasticSearch] 인덱스 생성 예외 발생", e.getMessage());
-                throw new HandledException(ErrorCode.STORE_ELASTICSEARCH_INDEX_FAILED);
-            }
+                .toList();
+        Set<Long> failedStoreIds = storeElasticRepository.bulkUpdateStoreIndex(indexName, storeDocuments, deletedStoreIds);
+        if (!failedStoreIds.isEmpty()) {
+            log.error("[ElasticSearch] 재색인 Bulk 실패 {}건: {}", failedStoreIds.size(), failedStoreIds);
+            throw new HandledException(ErrorCode.STORE_ELASTICSEARCH_INDEX_FAILED);
+        }
+    }
+
+    private void deleteQuietly(String indexName) {
+        try {
+            storeElasticRepository.deleteIndex(indexName);
+        } catch (Exception e) {
+            log.warn("[ElasticSearch] 실패한 재색인 인덱스 삭제 실패: {}", indexName);
         }
     }
 }
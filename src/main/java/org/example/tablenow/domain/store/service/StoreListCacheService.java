@@ -0,0 +1,200 @@
+package org.example.tablenow.domain.store.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.store.dto.response.StoreSearchResponseDto;
+import org.example.tablenow.global.util.TransactionUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.tablenow.domain.store.util.StoreConstant.*;
+
+/**
+ * 가게 목록(V2) 캐시 역인덱스
+ * - store:list-cache-keys:store:{storeId} → 해당 가게가 포함된 페이지 캐시 키
+ * - store:list-cache-keys:category:{categoryId|all} → 해당 카테고리 조건으로 조회한 페이지 캐시 키
+ * 가게 변경 시 allEntries 대신 변경된 가게가 포함될 수 있는 페이지만 삭제한다.
+ * 무효화는 관련 카테고리(+ 전체)의 세대(store:list-cache-gen:category:{categoryId|all})를 먼저 올리고,
+ * 캐시 미스 저장은 DB 조회 전에 읽은 세대가 그대로일 때만 역인덱스에 등록하며 바뀌었으면 저장한 페이지를 지운다.
+ * (DB 조회와 저장 사이의 무효화가 변경 전 페이지를 TTL 동안 남기지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreListCacheService {
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final long INDEX_TTL_DAYS = 1;
+
+    // KEYS[1]=genKey, KEYS[2..]=indexKeys, ARGV[1]=조회 전 세대, ARGV[2]=cacheKey, ARGV[3]=ttlSeconds
+    // 세대가 그대로면 역인덱스 등록 후 1, 바뀌었으면 등록하지 않고 0
+    private static final RedisScript<Long> REGISTER_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>("""
+            local gen = redis.call('GET', KEYS[1]) or '0'
+            if gen ~= ARGV[1] then return 0 end
+            for i = 2, #KEYS do
+                redis.call('SADD', KEYS[i], ARGV[2])
+                redis.call('EXPIRE', KEYS[i], ARGV[3])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * @return 캐시된 페이지, 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public Page<StoreSearchResponseDto> get(String cacheKey) {
+        Cache cache = cacheManager.getCache(STORE_LIST_CACHE_NAME);
+        if (cache == null) {
+            return null;
+        }
+        Cache.ValueWrapper cached = cache.get(cacheKey);
+        return cached != null ? (Page<StoreSearchResponseDto>) cached.get() : null;
+    }
+
+    /**
+     * 캐시 미스 DB 조회 전에 읽어 put 에 전달
+     */
+    public String getGeneration(Long categoryId) {
+        String generation = stringRedisTemplate.opsForValue().get(getGenerationKey(categoryId));
+        return generation != null ? generation : "0";
+    }
+
+    /**
+     * 캐시 미스로 조회한 페이지를 저장한 뒤, 조회 전 세대가 그대로면 캐시 키를 역인덱스에 등록
+     * - 등록을 먼저 하면 그 사이 무효화가 역인덱스만 지우고, 뒤이어 저장된 페이지는 어떤 역인덱스에도 남지 않는다.
+     * - 세대가 바뀌었으면(조회 이후 무효화) 방금 저장한 변경 전 페이지를 지운다.
+     * 세대 확인 이후의 무효화는 등록된 역인덱스로 이 페이지를 찾아 지운다.
+     */
+    public void put(String cacheKey, Long categoryId, String generation, Page<StoreSearchResponseDto> page) {
+        Cache cache = cacheManager.getCache(STORE_LIST_CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        cache.put(cacheKey, page);
+        if (!registerCacheKey(cacheKey, categoryId, generation, page)) {
+            cache.evict(cacheKey);
+            log.debug("[Cache] 조회 중 가게 목록이 무효화되어 저장 취소 → {}", cacheKey);
+        }
+    }
+
+    /**
+     * 가게 등록: 해당 카테고리 목록과 전체 목록의 페이지 구성이 바뀐다.
+     */
+    public void evictForCreate(Long categoryId) {
+        TransactionUtils.runAfterCommit(() -> evict(
+                getGenerationKeys(categoryId),
+                Set.of(getCategoryIndexKey(categoryId), getCategoryIndexKey(null))
+        ));
+    }
+
+    /**
+     * 가게 수정
+     * - 노출 정보만 바뀐 경우: 해당 가게가 포함된 페이지만 삭제
+     * - 카테고리/이름 변경: 필터, 정렬 결과가 바뀌므로 기존/변경 카테고리 목록과 전체 목록까지 삭제
+     * 조회 중인 페이지에도 이 가게가 포함될 수 있으므로 세대는 두 경우 모두 올린다.
+     */
+    public void evictForUpdate(Long storeId, Long beforeCategoryId, Long afterCategoryId, boolean orderChanged) {
+        Set<String> indexKeys = new LinkedHashSet<>();
+        indexKeys.add(STORE_LIST_CACHE_STORE_KEY + storeId);
+        if (orderChanged || !Objects.equals(beforeCategoryId, afterCategoryId)) {
+            indexKeys.add(getCategoryIndexKey(beforeCategoryId));
+            indexKeys.add(getCategoryIndexKey(afterCategoryId));
+            indexKeys.add(getCategoryIndexKey(null));
+        }
+        Set<String> generationKeys = getGenerationKeys(beforeCategoryId, afterCategoryId);
+        TransactionUtils.runAfterCommit(() -> evict(generationKeys, indexKeys));
+    }
+
+    /**
+     * 가게 삭제: 뒤 페이지가 한 칸씩 당겨지므로 카테고리 목록과 전체 목록까지 삭제
+     */
+    public void evictForDelete(Long storeId, Long categoryId) {
+        TransactionUtils.runAfterCommit(() -> evict(
+                getGenerationKeys(categoryId),
+                Set.of(STORE_LIST_CACHE_STORE_KEY + storeId, getCategoryIndexKey(categoryId), getCategoryIndexKey(null))
+        ));
+    }
+
+    // 세대를 먼저 올려야 역인덱스를 읽은 뒤 등록되는 조회 중 페이지도 put 에서 걸러진다.
+    private void evict(Collection<String> generationKeys, Collection<String> indexKeys) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String generationKey : generationKeys) {
+                conn.incr(generationKey);
+            }
+            return null;
+        });
+        evictByIndexKeys(indexKeys);
+    }
+
+    private void evictByIndexKeys(Collection<String> indexKeys) {
+        Cache cache = cacheManager.getCache(STORE_LIST_CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+
+        Set<String> cacheKeys = new LinkedHashSet<>();
+        for (String indexKey : indexKeys) {
+            Set<String> members = stringRedisTemplate.opsForSet().members(indexKey);
+            if (members != null) {
+                cacheKeys.addAll(members);
+            }
+        }
+
+        cacheKeys.forEach(cache::evict);
+        stringRedisTemplate.delete(indexKeys);
+        log.info("[Cache Evict] 가게 목록 캐시 {}개 키 삭제 (역인덱스: {})", cacheKeys.size(), indexKeys);
+    }
+
+    // 세대 비교 + 카테고리/가게 역인덱스 SADD + EXPIRE 를 스크립트 1회로 등록
+    private boolean registerCacheKey(String cacheKey, Long categoryId, String generation, Page<StoreSearchResponseDto> page) {
+        List<String> keys = new ArrayList<>();
+        keys.add(getGenerationKey(categoryId));
+        keys.add(getCategoryIndexKey(categoryId));
+        page.getContent().stream()
+                .map(StoreSearchResponseDto::getStoreId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(storeId -> keys.add(STORE_LIST_CACHE_STORE_KEY + storeId));
+
+        long ttlSeconds = TimeUnit.DAYS.toSeconds(INDEX_TTL_DAYS);
+        Long registered = stringRedisTemplate.execute(REGISTER_IF_UNCHANGED_SCRIPT, keys,
+                generation, cacheKey, String.valueOf(ttlSeconds));
+        return registered != null && registered == 1L;
+    }
+
+    private static String getCategoryIndexKey(Long categoryId) {
+        return STORE_LIST_CACHE_CATEGORY_KEY + (categoryId != null ? categoryId : STORE_LIST_CACHE_ALL_CATEGORY);
+    }
+
+    private static String getGenerationKey(Long categoryId) {
+        return STORE_LIST_CACHE_GEN_KEY + (categoryId != null ? categoryId : STORE_LIST_CACHE_ALL_CATEGORY);
+    }
+
+    // 변경된 카테고리 + 전체 목록 세대 키
+    private static Set<String> getGenerationKeys(Long... categoryIds) {
+        Set<String> generationKeys = new LinkedHashSet<>();
+        for (Long categoryId : categoryIds) {
+            generationKeys.add(getGenerationKey(categoryId));
+        }
+        generationKeys.add(getGenerationKey(null));
+        return generationKeys;
+    }
+}
@@ -1,8 +1,8 @@
 package org.example.tablenow.domain.store.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.tablenow.domain.store.dto.response.StoreDocumentResponseDto;
@@ -10,7 +10,10 @@ import org.example.tablenow.domain.store.entity.StoreDocument;
 import org.example.tablenow.domain.store.enums.StoreSortField;
 import org.example.tablenow.domain.store.repository.StoreElasticRepository;
 import org.example.tablenow.domain.store.util.StoreKeyGenerator;
+import org.example.tablenow.domain.store.util.StoreSearchCursor;
+import org.example.tablenow.global.cache.CachePayloadStore;
 import org.example.tablenow.global.dto.AuthUser;
+import org.example.tablenow.global.dto.CursorResponse;
 import org.example.tablenow.global.dto.PageResponse;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
@@ -18,16 +21,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.redis.connection.RedisConnection;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -42,10 +50,12 @@ public class StoreSearchService {
     private final StoreTextAnalyzerService storeTextAnalyzerService;
     private final StoreService storeService;
     private final StringRedisTemplate stringRedisTemplate;
-    private final ObjectMapper objectMapper;
+    private final CachePayloadStore cachePayloadStore;
+
+    private static final long CACHE_TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
 
     private static final JavaType STORE_PAGE_RESPONSE_TYPE =
-            new ObjectMapper().getTypeFactory()
+            TypeFactory.defaultInstance()
                     .constructParametricType(PageResponse.class, StoreDocumentResponseDto.class);
 
     @Transactional(readOnly = true)
@@ -65,14 +75,58 @@ public class StoreSearchService {
         return fetchFromElasticAndCache(categoryId, keyword, pageable, cacheKey);
     }
 
+    /**
+     * 가게 검색 V4 (search_after 커서)
+     * 무한 스크롤용으로 페이지 깊이와 무관하게 비용이 일정하며, withTotal 요청 시에만 전체 건수를 집계한다.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<StoreDocumentResponseDto> getStoresV4(AuthUser authUser, int size, String sort, String direction, Long categoryId, String keyword, String cursor, boolean withTotal) {
+        Sort sortOption = resolveSort(sort, direction);
+        Sort.Order order = sortOption.iterator().next();
+        String sortProperty = order.getProperty();
+        String sortDirection = order.getDirection().name();
+
+        List<FieldValue> searchAfter = StoreSearchCursor.decode(cursor, sortProperty, sortDirection);
+
+        // 스크롤 요청은 검색 횟수로 집계하지 않음
+        if (searchAfter.isEmpty()) {
+            storeService.savePopularKeyword(authUser, keyword);
+        }
+
+        StoreElasticRepository.SearchAfterSlice slice = storeElasticRepository.searchAfterByKeywordAndCategoryId(
+                keyword, categoryId, sortOption, searchAfter, size, withTotal
+        );
+
+        return CursorResponse.<StoreDocumentResponseDto>builder()
+                .content(slice.documents().stream().map(StoreDocumentResponseDto::fromStoreDocument).toList())
+                .size(size)
+                .hasNext(slice.hasNext())
+                .nextCursor(slice.hasNext() ? StoreSearchCursor.encode(sortProperty, sortDirection, slice.lastSortValues()) : null)
+                .totalElements(slice.totalHits())
+                .build();
+    }
+
+    /**
+     * 가게 등록 시 검색어 없는 조회 + 가게명 토큰이 들어간 검색어 조회 캐시 삭제
+     * 가게명을 분석한 토큰의 역인덱스만 읽으며, 검색어 토큰은 캐시 저장 시 ES 호출 없이 같은 규칙(2~3gram)으로 만든다.
+     */
     public void evictSearchCacheForNewStore(StoreDocument storeDocument) {
-        Set<String> keysToDelete = new HashSet<>();
-        keysToDelete.addAll(scanKeysByKeywordTokens(storeDocument.getName()));
+        Set<String> nameTokens = storeTextAnalyzerService.analyzeText(STORE_INDEX, STORE_ANALYZER, storeDocument.getName());
+
+        List<String> indexKeys = new ArrayList<>();
+        indexKeys.add(STORE_SEARCH_TOKEN_KEY + STORE_SEARCH_ALL_TOKEN);
+        nameTokens.forEach(token -> indexKeys.add(STORE_SEARCH_TOKEN_KEY + token));
 
-        if (!keysToDelete.isEmpty()) {
-            stringRedisTemplate.delete(keysToDelete);
-            log.info("[Cache Evict] 삭제된 키 수: {}", keysToDelete.size());
+        Set<String> cacheKeys = findCacheKeysByIndexKeys(indexKeys);
+        if (cacheKeys.isEmpty()) {
+            return;
         }
+
+        // 캐시 키 + 사용한 역인덱스를 DEL 1회로 삭제
+        Set<String> keysToDelete = new HashSet<>(cacheKeys);
+        keysToDelete.addAll(indexKeys);
+        stringRedisTemplate.delete(keysToDelete);
+        log.info("[Cache Evict] 가게명 토큰 {}개 기준 삭제된 키 수: {}", nameTokens.size(), cacheKeys.size());
     }
 
     public void evictSearchCacheByStoreId(Long storeId) {
@@ -86,91 +140,107 @@ public class StoreSearchService {
     }
 
     private Pageable resolvePageable(int page, int size, String sort, String direction) {
+        return PageRequest.of(page - 1, size, resolveSort(sort, direction));
+    }
+
+    private Sort resolveSort(String sort, String direction) {
         try {
             String sortProperty = StoreSortField.fromString(sort);
             if (sortProperty.contains("name")) {
                 sortProperty += ".keyword";
             }
-            Sort sortOption = Sort.by(Sort.Direction.fromString(direction.toUpperCase()), sortProperty);
-            return PageRequest.of(page - 1, size, sortOption);
+            return Sort.by(Sort.Direction.fromString(direction.toUpperCase()), sortProperty);
         } catch (IllegalArgumentException e) {
             throw new HandledException(ErrorCode.INVALID_ORDER_VALUE);
         }
     }
 
     private PageResponse<StoreDocumentResponseDto> getFromCache(String cacheKey) {
-        try {
-            String cacheValue = stringRedisTemplate.opsForValue().get(cacheKey);
-            if (StringUtils.hasText(cacheValue)) {
-                return objectMapper.readValue(cacheValue, STORE_PAGE_RESPONSE_TYPE);
-            } else {
-                log.debug("[Redis] 캐시 미스 - 키: {}", cacheKey);
-            }
-        } catch (JsonProcessingException e) {
-            log.error("[Redis] Value Json 변환 중 에러 발생", e);
+        PageResponse<StoreDocumentResponseDto> cached = cachePayloadStore.get(cacheKey, STORE_PAGE_RESPONSE_TYPE);
+        if (cached == null) {
+            log.debug("[Redis] 캐시 미스 - 키: {}", cacheKey);
         }
-        return null;
+        return cached;
     }
 
 
     private PageResponse<StoreDocumentResponseDto> fetchFromElasticAndCache(Long categoryId, String keyword, Pageable pageable, String storeKey) {
         Page<StoreDocument> storeDocuments = storeElasticRepository.searchByKeywordAndCategoryId(keyword, categoryId, pageable);
         PageResponse<StoreDocumentResponseDto> response = new PageResponse<>(storeDocuments.map(StoreDocumentResponseDto::fromStoreDocument));
-        saveToCache(storeKey, response);
+        saveToCache(storeKey, keyword, response);
         return response;
     }
 
-    private void saveToCache(String storeKey, PageResponse<StoreDocumentResponseDto> response) {
+    private void saveToCache(String storeKey, String keyword, PageResponse<StoreDocumentResponseDto> response) {
+        byte[] payload;
         try {
-            // 검색 결과 Redis 캐시 저장
-            stringRedisTemplate.opsForValue().set(storeKey, objectMapper.writeValueAsString(response), 1, TimeUnit.DAYS);
-
-            // 역인덱스 추가
-            Long[] storeIds = response.getContent().stream().map(StoreDocumentResponseDto::getStoreId).distinct().toArray(Long[]::new);
-
-            for (Long storeId : storeIds) {
-                stringRedisTemplate.opsForSet().add(STORE_CACHE_KEY + storeId, storeKey);
-                stringRedisTemplate.expire(STORE_CACHE_KEY + storeId, 1, TimeUnit.DAYS);
-            }
-        } catch (JsonProcessingException e) {
-            log.error("[Redis] Value Json 변환 중 에러 발생", e);
+            payload = cachePayloadStore.encode(response);
+        } catch (SerializationException e) {
+            log.error("[Redis] 캐시 페이로드 인코딩 중 에러 발생", e);
+            return;
+        }
+        byte[] rawStoreKey = RedisSerializer.string().serialize(storeKey);
+
+        // 역인덱스 대상: 페이지에 포함된 가게 + 검색어 토큰 (가게 등록 시 무효화 대상, 조회 경로에서는 ES 분석을 호출하지 않음)
+        List<String> indexKeys = new ArrayList<>();
+        response.getContent().stream()
+                .map(StoreDocumentResponseDto::getStoreId)
+                .distinct()
+                .forEach(storeId -> indexKeys.add(STORE_CACHE_KEY + storeId));
+        Set<String> keywordTokens = toSearchTokens(keyword);
+        if (keywordTokens.isEmpty()) {
+            indexKeys.add(STORE_SEARCH_TOKEN_KEY + STORE_SEARCH_ALL_TOKEN);
         }
+        keywordTokens.forEach(token -> indexKeys.add(STORE_SEARCH_TOKEN_KEY + token));
+
+        // SET + (SADD, EXPIRE) x N 을 파이프라인 1회 왕복으로 전송
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.stringCommands().setEx(rawStoreKey, CACHE_TTL_SECONDS, payload);
+            for (String indexKey : indexKeys) {
+                stringConnection.sAdd(indexKey, storeKey);
+                stringConnection.expire(indexKey, CACHE_TTL_SECONDS);
+            }
+            return null;
+        });
     }
 
-    private Set<String> scanKeysByKeywordTokens(String storeName) {
-        Set<String> keys = new HashSet<>();
-        Set<String> tokens = storeTextAnalyzerService.analyzeText(STORE_INDEX, STORE_ANALYZER, storeName);
-
-        String emptyKeyword = StoreKeyGenerator.generateStoreKeyByPattern(STORE_SEARCH_KEY, "keyword", "");
-        keys.addAll(scanKeys(emptyKeyword));
-
-        for (String token : tokens) {
-            String pattern = StoreKeyGenerator.generateStoreKeyByPattern(STORE_SEARCH_KEY, "keyword", "*" + token + "*");
-            keys.addAll(scanKeys(pattern));
+    // ngram_analyzer(ngram 2~3, token_chars: letter/digit/whitespace, lowercase)와 같은 규칙으로 검색어 토큰 생성
+    // 가게명 토큰이 검색어에 포함되면 검색어 토큰 중 하나와 같으므로 가게명 토큰의 역인덱스만 읽으면 된다.
+    // 토큰이 나오지 않는 1글자 검색어는 대조할 수 없으므로 빈 Set (all 역인덱스로 등록되어 항상 무효화)
+    private static Set<String> toSearchTokens(String keyword) {
+        Set<String> tokens = new HashSet<>();
+        if (!StringUtils.hasText(keyword)) {
+            return tokens;
         }
 
-        return keys;
-    }
-
-    private Set<String> scanKeys(String pattern) {
-        Set<String> keys = new HashSet<>();
-        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(500).build();
-
-        try (
-                RedisConnection connection = stringRedisTemplate.getConnectionFactory().getConnection();
-                Cursor<byte[]> cursor = connection.scan(options)
-        ) {
-            StringRedisSerializer stringSerializer = new StringRedisSerializer();
-            while (cursor.hasNext()) {
-                String key = stringSerializer.deserialize(cursor.next());
-                if (key != null) {
-                    keys.add(key);
+        String normalized = keyword.toLowerCase(Locale.ROOT);
+        for (String segment : normalized.split("[^\\p{L}\\p{N}\\s]+")) {
+            for (int gram = 2; gram <= 3; gram++) {
+                for (int start = 0; start + gram <= segment.length(); start++) {
+                    tokens.add(segment.substring(start, start + gram));
                 }
             }
-        } catch (Exception e) {
-            log.error("[Redis] 키 스캔 실패 - 패턴: {}", pattern, e);
         }
+        return tokens;
+    }
 
-        return keys;
+    // 역인덱스 SMEMBERS 를 파이프라인으로 한 번에 조회
+    private Set<String> findCacheKeysByIndexKeys(List<String> indexKeys) {
+        StringRedisSerializer stringSerializer = new StringRedisSerializer();
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String indexKey : indexKeys) {
+                connection.setCommands().sMembers(stringSerializer.serialize(indexKey));
+            }
+            return null;
+        });
+
+        Set<String> cacheKeys = new HashSet<>();
+        for (Object result : results) {
+            if (result instanceof Collection<?> members) {
+                members.forEach(member -> cacheKeys.add(String.valueOf(member)));
+            }
+        }
+        return cacheKeys;
     }
 }
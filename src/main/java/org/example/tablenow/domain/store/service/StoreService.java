@@ -12,19 +12,20 @@ import org.example.tablenow.domain.store.enums.StoreSortField;
 import org.example.tablenow.domain.store.message.producer.StoreProducer;
 import org.example.tablenow.domain.store.repository.StoreRepository;
 import org.example.tablenow.domain.store.util.StoreConstant;
+import org.example.tablenow.domain.store.util.StoreKeyGenerator;
 import org.example.tablenow.domain.store.util.StoreUtils;
 import org.example.tablenow.domain.user.entity.User;
 import org.example.tablenow.global.dto.AuthUser;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -46,13 +47,22 @@ public class StoreService {
     private final ImageService imageService;
     private final StringRedisTemplate stringRedisTemplate;
     private final StoreProducer storeProducer;
+    private final StoreListCacheService storeListCacheService;
 
     private static final Long MAX_STORES_COUNT = 3L;
     private static final Integer TARGET_HOUR_LENGTH = 10;
     private static final Integer TARGET_DAY_LENGTH = 8;
     private static final DateTimeFormatter TIME_KEY_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final long KEYWORD_TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    // KEYS[1]=userKey, KEYS[2]=rankKey, ARGV[1]=keyword, ARGV[2]=ttlSeconds
+    private static final RedisScript<Long> POPULAR_KEYWORD_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[2]) then return 0 end
+            redis.call('ZINCRBY', KEYS[2], 1, ARGV[1])
+            redis.call('EXPIRE', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
 
-    @CacheEvict(value = "stores", allEntries = true)
     @Transactional
     public StoreCreateResponseDto createStore(AuthUser authUser, StoreCreateRequestDto request) {
         User user = User.fromAuthUser(authUser);
@@ -82,6 +92,7 @@ public class StoreService {
 
         Store savedStore = storeRepository.save(store);
         storeProducer.publishStoreCreate(savedStore); // Index + Redis 갱신
+        storeListCacheService.evictForCreate(category.getId());
         return StoreCreateResponseDto.fromStore(savedStore);
     }
 
@@ -91,7 +102,6 @@ public class StoreService {
         return storeRepository.findAllByUserId(user.getId());
     }
 
-    @CacheEvict(value = "stores", allEntries = true)
     @Transactional
     public StoreUpdateResponseDto updateStore(Long storeId, AuthUser authUser, StoreUpdateRequestDto request) {
         User user = User.fromAuthUser(authUser);
@@ -99,6 +109,9 @@ public class StoreService {
         validateStoreOwnerId(store, user);
         validateUpdateStoreTime(request, store);
 
+        Long beforeCategoryId = store.getCategoryId();
+        String beforeName = store.getName();
+
         if (request.getCategoryId() != null) {
             Category category = categoryService.findCategory(request.getCategoryId());
             store.updateCategory(category);
@@ -142,10 +155,10 @@ public class StoreService {
         }
 
         storeProducer.publishStoreUpdate(store); // Index + Redis 갱신
+        storeListCacheService.evictForUpdate(storeId, beforeCategoryId, store.getCategoryId(), !Objects.equals(beforeName, store.getName()));
         return StoreUpdateResponseDto.fromStore(store);
     }
 
-    @CacheEvict(value = "stores", allEntries = true)
     @Transactional
     public StoreDeleteResponseDto deleteStore(Long storeId, AuthUser authUser) {
         User user = User.fromAuthUser(authUser);
@@ -160,6 +173,7 @@ public class StoreService {
 
         store.deleteStore();
         storeProducer.publishStoreDelete(store.getId());
+        storeListCacheService.evictForDelete(store.getId(), store.getCategoryId());
 
         return StoreDeleteResponseDto.fromStore(store.getId());
     }
@@ -169,13 +183,19 @@ public class StoreService {
         return findAllStores(authUser, page, size, sort, direction, categoryId, keyword);
     }
 
-    @Cacheable(
-            value = "stores",
-            key = "T(org.example.tablenow.domain.store.util.StoreKeyGenerator).generateStoreListKey(#page, #size, #sort, #direction, #categoryId, #keyword)"
-    )
     @Transactional(readOnly = true)
     public Page<StoreSearchResponseDto> getStoresV2(AuthUser authUser, int page, int size, String sort, String direction, Long categoryId, String keyword) {
-        return findAllStores(authUser, page, size, sort, direction, categoryId, keyword);
+        String cacheKey = StoreKeyGenerator.generateStoreListKey(page, size, sort, direction, categoryId, keyword);
+        Page<StoreSearchResponseDto> cached = storeListCacheService.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 조회 전 세대를 읽어 두고, 조회 중 무효화가 있었으면 put 에서 저장한 페이지를 버린다.
+        String generation = storeListCacheService.getGeneration(categoryId);
+        Page<StoreSearchResponseDto> result = findAllStores(authUser, page, size, sort, direction, categoryId, keyword);
+        storeListCacheService.put(cacheKey, categoryId, generation, result);
+        return result;
     }
 
     @Transactional(readOnly = true)
@@ -217,21 +237,17 @@ public class StoreService {
             // 로그인 사용자 기준 어뷰징 방지
             String normalizeKeyword = StoreUtils.normalizeKeyword(keyword);
             String userKey = StoreConstant.STORE_KEYWORD_USER_KEY + normalizeKeyword + ":" + authUser.getId();
-            boolean alreadySearched = stringRedisTemplate.hasKey(userKey);
 
-            if (!alreadySearched) {
-                // 사용자별 조회 기록: 1일 중복 방지
-                stringRedisTemplate.opsForValue().set(userKey, "1", 1, TimeUnit.DAYS);
+            // 시간 단위 랭킹 키 생성
+            String hourKey = LocalDateTime.now().format(TIME_KEY_FORMATTER);
+            String rankKey = StoreConstant.STORE_KEYWORD_RANK_KEY + ":" + hourKey;
 
-                // 시간 단위 랭킹 키 생성
-                String hourKey = LocalDateTime.now().format(TIME_KEY_FORMATTER);
-                String rankKey = StoreConstant.STORE_KEYWORD_RANK_KEY + ":" + hourKey;
-
-                // 키워드 랭킹 score 증가
-                stringRedisTemplate.opsForZSet().incrementScore(rankKey, normalizeKeyword, 1);
-                // 인기 검색어 TTL 1일 설정
-                stringRedisTemplate.expire(rankKey, 1, TimeUnit.DAYS);
-            }
+            // 중복 검사 + 사용자 기록(1일) + 랭킹 score 증가 + TTL(1일)을 1회 왕복으로 처리
+            stringRedisTemplate.execute(
+                    POPULAR_KEYWORD_SCRIPT,
+                    List.of(userKey, rankKey),
+                    normalizeKeyword, String.valueOf(KEYWORD_TTL_SECONDS)
+            );
         }
     }
 
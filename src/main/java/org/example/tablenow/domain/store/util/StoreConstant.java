@@ -11,7 +11,25 @@ public class StoreConstant {
     // 역인덱스 key
     public static final String STORE_CACHE_KEY = "store:cache-keys:";
 
+    // 검색어 토큰(2~3gram) → 검색 캐시 키 역인덱스 key (검색어 없는 조회와 토큰이 없는 1글자 검색어는 all)
+    public static final String STORE_SEARCH_TOKEN_KEY = "store:search-token-keys:";
+    public static final String STORE_SEARCH_ALL_TOKEN = "all";
+
+    // 가게 목록(V2) 캐시 역인덱스 key
+    public static final String STORE_LIST_CACHE_NAME = "stores";
+    public static final String STORE_LIST_CACHE_STORE_KEY = "store:list-cache-keys:store:";
+    public static final String STORE_LIST_CACHE_CATEGORY_KEY = "store:list-cache-keys:category:";
+    public static final String STORE_LIST_CACHE_ALL_CATEGORY = "all";
+    // 가게 목록(V2) 카테고리별 무효화 세대 (캐시 미스 저장 시 조회 전 세대와 비교)
+    public static final String STORE_LIST_CACHE_GEN_KEY = "store:list-cache-gen:category:";
+
     // ElasticSearch
     public static final String STORE_INDEX = "store";
     public static final String STORE_ANALYZER = "ngram_analyzer";
+
+    // 무중단 재색인: 버전 인덱스(store_v{timestamp}) + 진행 중 변경된 가게 ID
+    public static final String STORE_INDEX_VERSION_PREFIX = STORE_INDEX + "_v";
+    public static final String STORE_REINDEX_TARGET_KEY = "store:reindex:target";
+    public static final String STORE_REINDEX_CHANGED_KEY = "store:reindex:changed-ids";
+    public static final String STORE_REINDEX_STATUS_PREFIX = "store:reindex:status:";
 }
@@ -0,0 +1,107 @@
+package org.example.tablenow.domain.store.util;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 가게 검색 V4 커서 토큰
+ * search_after 정렬 값과 정렬 조건을 Base64(URL-safe) JSON 으로 감싼다.
+ * 정렬 조건이 바뀐 채로 커서를 재사용하면 예외를 던진다.
+ */
+public class StoreSearchCursor {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(DeserializationFeature.USE_LONG_FOR_INTS);
+    private static final String SORT = "sort";
+    private static final String DIRECTION = "direction";
+    private static final String VALUES = "values";
+
+    private StoreSearchCursor() {
+    }
+
+    public static String encode(String sort, String direction, List<FieldValue> sortValues) {
+        if (sortValues == null || sortValues.isEmpty()) {
+            return null;
+        }
+
+        ObjectNode root = MAPPER.createObjectNode()
+                .put(SORT, sort)
+                .put(DIRECTION, direction);
+        ArrayNode values = root.putArray(VALUES);
+        for (FieldValue value : sortValues) {
+            if (value.isLong()) {
+                values.add(value.longValue());
+            } else if (value.isDouble()) {
+                values.add(value.doubleValue());
+            } else if (value.isBoolean()) {
+                values.add(value.booleanValue());
+            } else if (value.isString()) {
+                values.add(value.stringValue());
+            } else {
+                values.addNull();
+            }
+        }
+
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(root));
+        } catch (IOException e) {
+            throw new HandledException(ErrorCode.STORE_INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서가 없으면 빈 목록(첫 페이지)
+     */
+    public static List<FieldValue> decode(String cursor, String sort, String direction) {
+        if (!StringUtils.hasText(cursor)) {
+            return List.of();
+        }
+
+        try {
+            JsonNode root = MAPPER.readTree(Base64.getUrlDecoder().decode(cursor));
+            if (!sort.equals(root.path(SORT).asText()) || !direction.equalsIgnoreCase(root.path(DIRECTION).asText())) {
+                throw new HandledException(ErrorCode.STORE_INVALID_CURSOR);
+            }
+
+            List<FieldValue> sortValues = new ArrayList<>();
+            for (JsonNode value : root.path(VALUES)) {
+                sortValues.add(toFieldValue(value));
+            }
+            if (sortValues.isEmpty()) {
+                throw new HandledException(ErrorCode.STORE_INVALID_CURSOR);
+            }
+            return sortValues;
+        } catch (IOException | IllegalArgumentException e) {
+            throw new HandledException(ErrorCode.STORE_INVALID_CURSOR);
+        }
+    }
+
+    private static FieldValue toFieldValue(JsonNode value) {
+        if (value.isIntegralNumber()) {
+            return FieldValue.of(value.longValue());
+        }
+        if (value.isNumber()) {
+            return FieldValue.of(value.doubleValue());
+        }
+        if (value.isBoolean()) {
+            return FieldValue.of(value.booleanValue());
+        }
+        if (value.isNull()) {
+            return FieldValue.NULL;
+        }
+        return FieldValue.of(value.asText());
+    }
+}
@@ -1,8 +1,12 @@
 package org.example.tablenow.domain.user.repository;
 
 import org.example.tablenow.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +17,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     List<User> findAllByIsAlarmEnabledTrue();
+
+    @Query("SELECT u.id FROM User u WHERE u.isAlarmEnabled = true AND u.deletedAt IS NULL AND u.id > :lastId ORDER BY u.id ASC")
+    List<Long> findAlarmEnabledUserIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIdsByIdIn(@Param("ids") Collection<Long> ids);
 }
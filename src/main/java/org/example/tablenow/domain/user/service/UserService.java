@@ -18,12 +18,16 @@ import org.example.tablenow.global.dto.AuthUser;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
 import org.example.tablenow.global.security.enums.BlacklistReason;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
@@ -141,6 +145,18 @@ public class UserService {
                 .orElseThrow(() -> new HandledException(ErrorCode.USER_NOT_FOUND));
     }
 
+    // 연관관계 지정용 프록시 (조회 쿼리 없음)
+    public User getUserReference(Long id) {
+        return userRepository.getReferenceById(id);
+    }
+
+    // 유저 ID → 이름 (이름이 없는 유저도 포함)
+    public Map<Long, String> getUserNames(Collection<Long> ids) {
+        Map<Long, String> names = new HashMap<>();
+        userRepository.findAllById(ids).forEach(user -> names.put(user.getId(), user.getName()));
+        return names;
+    }
+
     public User getUserByEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new HandledException(ErrorCode.USER_NOT_FOUND));
@@ -150,6 +166,11 @@ public class UserService {
         return userRepository.findAllByIsAlarmEnabledTrue();
     }
 
+    // 알림 수신 유저 ID 를 id 순 keyset 커서로 조회 (lastId 초과, 최대 size 건)
+    public List<Long> getAlarmEnabledUserIdsAfter(Long lastId, int size) {
+        return userRepository.findAlarmEnabledUserIdsAfter(lastId, PageRequest.of(0, size));
+    }
+
     private void validatePassword(User user, String rawPassword) {
         if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
             throw new HandledException(ErrorCode.INCORRECT_PASSWORD);
@@ -47,6 +47,17 @@ public class WaitlistController {
         return ResponseEntity.ok(waitlistResponseDto);
     }
 
+    // 빈자리 대기 등록 - Redis 대기열 (Lock 없음, 비동기 저장)
+    @Operation(summary = "빈자리 대기 등록 (Redis Lua)")
+    @PostMapping("/v3/waitlist")
+    public ResponseEntity<WaitlistResponseDto> registerWaitlistV3(
+        @Valid @RequestBody WaitlistRequestDto requestDto,
+        @AuthenticationPrincipal AuthUser authUser) {
+
+        WaitlistResponseDto waitlistResponseDto = waitlistService.registerScriptWaitlist(authUser.getId(), requestDto);
+        return ResponseEntity.ok(waitlistResponseDto);
+    }
+
     // 내 대기 목록 조회
     @Operation(summary = "내 대기 목록 조회")
     public ResponseEntity<List<WaitlistFindResponseDto>> getMyWaitlist(@AuthenticationPrincipal AuthUser authUser) {
@@ -12,7 +12,8 @@ import java.time.LocalDate;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "waitlist")
+@Table(name = "waitlist",
+        uniqueConstraints = @UniqueConstraint(name = "uk_waitlist_open", columnNames = {"user_id", "store_id", "wait_date", "open_flag"}))
 public class Waitlist extends TimeStamped {
 
     @Id
@@ -33,6 +34,12 @@ public class Waitlist extends TimeStamped {
     @Column(name = "wait_date", nullable = false)
     private LocalDate waitDate;
 
+    // 알림 미수신(대기 중)이면 1, 알림 후 NULL (MySQL 생성 컬럼)
+    // 유니크 키는 NULL 을 중복으로 보지 않으므로 같은 유저/가게/날짜의 대기 중인 행은 하나만 남는다.
+    @Column(name = "open_flag", insertable = false, updatable = false,
+            columnDefinition = "TINYINT GENERATED ALWAYS AS (IF(is_notified, NULL, 1)) VIRTUAL")
+    private Integer openFlag;
+
     public Waitlist(User user, Store store, LocalDate waitDate) {
         this.user = user;
         this.store = store;
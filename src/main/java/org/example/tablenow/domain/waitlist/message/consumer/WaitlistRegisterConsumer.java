@@ -0,0 +1,31 @@
+package org.example.tablenow.domain.waitlist.message.consumer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.waitlist.message.dto.WaitlistRegisterMessage;
+import org.example.tablenow.domain.waitlist.repository.WaitlistBulkRepository;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static org.example.tablenow.global.constant.RabbitConstant.WAITLIST_REGISTER_BATCH_LISTENER_FACTORY;
+import static org.example.tablenow.global.constant.RabbitConstant.WAITLIST_REGISTER_QUEUE;
+
+/**
+ * 빈자리 대기 등록 write-behind 저장
+ * 배치 단위로 받아 INSERT 1회로 저장하며, 이미 대기 중인 (유저, 가게, 날짜)는 건너뛰므로 재처리해도 안전하다.
+ * 저장에 실패하면 배치 전체가 DLQ 로 이동하고, 누락분은 WaitlistReconciler 가 Redis 기준으로 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistRegisterConsumer {
+    private final WaitlistBulkRepository waitlistBulkRepository;
+
+    @RabbitListener(queues = WAITLIST_REGISTER_QUEUE, containerFactory = WAITLIST_REGISTER_BATCH_LISTENER_FACTORY)
+    public void consume(List<WaitlistRegisterMessage> messages) {
+        int inserted = waitlistBulkRepository.insertIgnoreDuplicates(messages);
+        log.info("[WaitlistRegisterConsumer] 대기 등록 기록 저장: 메시지 {}건 → 신규 {}건", messages.size(), inserted);
+    }
+}
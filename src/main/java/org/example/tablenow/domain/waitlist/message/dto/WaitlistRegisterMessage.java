@@ -0,0 +1,23 @@
+package org.example.tablenow.domain.waitlist.message.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+public class WaitlistRegisterMessage {
+    private final Long storeId;
+    private final Long userId;
+    private final LocalDate waitDate;
+    private final LocalDateTime registeredAt;
+
+    @Builder
+    public WaitlistRegisterMessage(Long storeId, Long userId, LocalDate waitDate, LocalDateTime registeredAt) {
+        this.storeId = storeId;
+        this.userId = userId;
+        this.waitDate = waitDate;
+        this.registeredAt = registeredAt;
+    }
+}
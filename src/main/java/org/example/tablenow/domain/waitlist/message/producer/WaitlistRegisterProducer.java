@@ -0,0 +1,34 @@
+package org.example.tablenow.domain.waitlist.message.producer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.waitlist.message.dto.WaitlistRegisterMessage;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+
+import static org.example.tablenow.global.constant.RabbitConstant.WAITLIST_REGISTER_EXCHANGE;
+import static org.example.tablenow.global.constant.RabbitConstant.WAITLIST_REGISTER_ROUTING_KEY;
+
+/**
+ * Redis 대기열에 등록된 대기 기록을 DB 저장 큐로 발행
+ * 발행 실패 시 호출 측에서 등록을 취소할 수 있도록 동기로 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistRegisterProducer {
+    private final RabbitTemplate rabbitTemplate;
+
+    public void send(WaitlistRegisterMessage message) {
+        rabbitTemplate.convertAndSend(
+                WAITLIST_REGISTER_EXCHANGE,
+                WAITLIST_REGISTER_ROUTING_KEY,
+                message
+        );
+
+        log.debug("[WaitlistRegisterProducer] 대기 등록 메시지 발행 완료 → storeId={}, userId={}, waitDate={}",
+                message.getStoreId(),
+                message.getUserId(),
+                message.getWaitDate());
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.tablenow.domain.waitlist.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.tablenow.domain.waitlist.message.dto.WaitlistRegisterMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 빈자리 대기 등록 multi-row INSERT
+ * 대기 중인 행은 (user_id, store_id, wait_date, open_flag) 유니크 키로 하나만 허용되므로,
+ * 소비자와 WaitlistReconciler 가 같은 대기를 동시에 저장해도 INSERT IGNORE 로 한 건만 남는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WaitlistBulkRepository {
+
+    private final JdbcTemplate dataJdbcTemplate;
+
+    private static final String INSERT_IGNORE_PREFIX =
+            "INSERT IGNORE INTO waitlist (user_id, store_id, wait_date, is_notified, created_at, updated_at) VALUES ";
+    private static final String VALUES_ROW = "(?, ?, ?, false, ?, ?)";
+
+    /**
+     * @return 새로 저장된 건수
+     */
+    public int insertIgnoreDuplicates(List<WaitlistRegisterMessage> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        String sql = INSERT_IGNORE_PREFIX + String.join(", ", Collections.nCopies(messages.size(), VALUES_ROW));
+        List<Object> params = new ArrayList<>(messages.size() * 5);
+        for (WaitlistRegisterMessage message : messages) {
+            Timestamp registeredAt = Timestamp.valueOf(message.getRegisteredAt());
+            params.add(message.getUserId());
+            params.add(message.getStoreId());
+            params.add(Date.valueOf(message.getWaitDate()));
+            params.add(registeredAt);
+            params.add(registeredAt);
+        }
+        return dataJdbcTemplate.update(sql, params.toArray());
+    }
+}
@@ -4,10 +4,12 @@ import org.example.tablenow.domain.store.entity.Store;
 import org.example.tablenow.domain.user.entity.User;
 import org.example.tablenow.domain.waitlist.entity.Waitlist;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,4 +42,34 @@ public interface WaitlistRepository extends JpaRepository<Waitlist, Long> {
         """)
     List<Waitlist> findWaitingList(@Param("store") Store store,
                                                                        @Param("waitDate") LocalDate waitDate);
+
+    // 대기열 대사 시 사용 (알림 미수신만)
+    List<Waitlist> findAllByStore_IdAndWaitDateAndIsNotifiedFalse(Long storeId, LocalDate waitDate);
+
+    // 빈자리 배정 대상 대기자 조회 (대기열에서 꺼낸 유저만)
+    @Query("""
+            SELECT w FROM Waitlist w
+            JOIN FETCH w.user
+            WHERE w.store = :store
+              AND w.waitDate = :waitDate
+              AND w.user.id IN :userIds
+              AND w.isNotified = false
+        """)
+    List<Waitlist> findWaitingListByUserIdIn(@Param("store") Store store,
+                                             @Param("waitDate") LocalDate waitDate,
+                                             @Param("userIds") Collection<Long> userIds);
+
+    // 빈자리 알림 일괄 전송 후 대기 목록 알림 여부 bulk update
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Waitlist w
+        SET w.isNotified = true
+        WHERE w.store.id = :storeId
+        AND w.waitDate = :waitDate
+        AND w.user.id IN :userIds
+        AND w.isNotified = false
+        """)
+    int updateNotifiedByStoreIdAndWaitDateAndUserIds(@Param("storeId") Long storeId,
+                                                     @Param("waitDate") LocalDate waitDate,
+                                                     @Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package org.example.tablenow.domain.waitlist.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.tablenow.global.util.TransactionUtils;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.WAITLIST_CLAIM_PREFIX;
+
+/**
+ * 빈자리 알림을 받은 대기자의 좌석 선점 (Redis ZSET: waitlist:claim:{storeId}:{date}, member=userId, score=만료 시각 epoch millis)
+ * 선점은 만료되거나, 대기자가 해당 가게/날짜로 예약을 마치면 해제된다.
+ * (예약 후에도 선점이 남아 있으면 같은 좌석이 예약과 선점으로 두 번 차감된다)
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitlistClaimStore {
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 만료된 선점을 정리하고 유효한 선점 수를 반환
+     */
+    public long countActive(Long storeId, LocalDate waitDate, long nowMillis) {
+        String key = getKey(storeId, waitDate);
+        redisTemplate.opsForZSet().removeRangeByScore(key, 0, nowMillis);
+        Long count = redisTemplate.opsForZSet().zCard(key);
+        return count != null ? count : 0L;
+    }
+
+    public void claim(Long storeId, LocalDate waitDate, Collection<Long> userIds, long expireAtMillis) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> claims = new HashSet<>();
+        for (Long userId : userIds) {
+            claims.add(ZSetOperations.TypedTuple.of(String.valueOf(userId), (double) expireAtMillis));
+        }
+        String key = getKey(storeId, waitDate);
+        redisTemplate.opsForZSet().add(key, claims);
+        redisTemplate.expire(key, WaitlistQueue.getTtl(waitDate));
+    }
+
+    /**
+     * @return 가장 먼저 만료되는 선점 시각 (없으면 null)
+     */
+    public Long getEarliestExpireAt(Long storeId, LocalDate waitDate) {
+        Set<ZSetOperations.TypedTuple<String>> earliest = redisTemplate.opsForZSet().rangeWithScores(getKey(storeId, waitDate), 0, 0);
+        if (earliest == null || earliest.isEmpty()) {
+            return null;
+        }
+        Double score = earliest.iterator().next().getScore();
+        return score != null ? score.longValue() : null;
+    }
+
+    /**
+     * 예약 완료 시 선점 해제 (커밋 전에 풀면 배정이 아직 반영되지 않은 예약 수로 좌석을 계산한다)
+     */
+    public void release(Long storeId, LocalDate waitDate, Long userId) {
+        TransactionUtils.runAfterCommit(() -> redisTemplate.opsForZSet().remove(getKey(storeId, waitDate), String.valueOf(userId)));
+    }
+
+    public static String getKey(Long storeId, LocalDate waitDate) {
+        return WAITLIST_CLAIM_PREFIX + storeId + ":" + waitDate;
+    }
+}
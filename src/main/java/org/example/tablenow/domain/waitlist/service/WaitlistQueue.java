@@ -0,0 +1,189 @@
+package org.example.tablenow.domain.waitlist.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.tablenow.domain.waitlist.entity.Waitlist;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.WAITLIST_QUEUE_INDEX_KEY;
+import static org.example.tablenow.global.constant.RedisKeyConstants.WAITLIST_QUEUE_PREFIX;
+
+/**
+ * 가게/날짜별 빈자리 대기열 (Redis ZSET: waitlist:queue:{storeId}:{date}, member=userId, score=등록 시각 epoch millis)
+ * 등록 순서대로 꺼내므로 FIFO 를 보장한다.
+ * DB(waitlist)가 원본이며, 키가 없으면 등록/배정 시점에 알림 미수신 대기자로 다시 적재한다.
+ * 등록 스크립트가 쓴 대기열은 waitlist:queues 에 모아 두고 WaitlistReconciler 가 DB 와 대사한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitlistQueue {
+
+    private final StringRedisTemplate redisTemplate;
+
+    public static final long NOT_LOADED = -2L;
+    public static final long ALREADY_REGISTERED = -1L;
+    public static final long FULL = 0L;
+
+    // 등록 스크립트 경로는 DB 저장(MQ 소비)이 늦으므로, 이 시간 안의 등록은 DB 에 없어도 유실로 보지 않는다.
+    public static final long PENDING_GRACE_MILLIS = 60_000;
+
+    private static final Duration TTL_AFTER_WAIT_DATE = Duration.ofDays(1);
+
+    // KEYS[1]=queueKey, ARGV[1]=score, ARGV[2]=userId
+    // 적재되지 않은 대기열에 추가하면 기존 대기자가 빠진 채로 적재된 것처럼 보이므로, 키가 있을 때만 추가한다.
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            return redis.call('ZADD', KEYS[1], 'NX', ARGV[1], ARGV[2])
+            """, Long.class);
+
+    // KEYS[1]=queueKey, KEYS[2]=indexKey
+    // ARGV[1]=userId, ARGV[2]=registeredAt, ARGV[3]=maxWaiting, ARGV[4]=loaded(1: 방금 DB 에서 적재), ARGV[5]=indexMember, ARGV[6]=ttlSeconds
+    private static final RedisScript<Long> REGISTER_SCRIPT = new DefaultRedisScript<>("""
+            if ARGV[4] == '0' and redis.call('EXISTS', KEYS[1]) == 0 then return -2 end
+            if redis.call('ZSCORE', KEYS[1], ARGV[1]) then return -1 end
+            if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[3]) then return 0 end
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[6])
+            redis.call('SADD', KEYS[2], ARGV[5])
+            return 1
+            """, Long.class);
+
+    /**
+     * 중복 확인, 인원 제한 확인, 등록을 원자적으로 처리
+     * @param loaded 호출 직전에 DB 대기자로 적재했으면 true (대기자가 없어 키가 생기지 않은 경우)
+     * @return 1: 등록, NOT_LOADED / ALREADY_REGISTERED / FULL
+     */
+    public Long register(Long storeId, LocalDate waitDate, Long userId, long registeredAtMillis, int maxWaiting, boolean loaded) {
+        return redisTemplate.execute(
+                REGISTER_SCRIPT,
+                List.of(getKey(storeId, waitDate), WAITLIST_QUEUE_INDEX_KEY),
+                String.valueOf(userId),
+                String.valueOf(registeredAtMillis),
+                String.valueOf(maxWaiting),
+                loaded ? "1" : "0",
+                toIndexMember(storeId, waitDate),
+                String.valueOf(getTtl(waitDate).toSeconds())
+        );
+    }
+
+    public void appendIfLoaded(Waitlist waitlist) {
+        redisTemplate.execute(
+                APPEND_SCRIPT,
+                List.of(getKey(waitlist.getStore().getId(), waitlist.getWaitDate())),
+                String.valueOf(toScore(waitlist)),
+                String.valueOf(waitlist.getUser().getId())
+        );
+    }
+
+    public boolean isLoaded(Long storeId, LocalDate waitDate) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(getKey(storeId, waitDate)));
+    }
+
+    public void load(Long storeId, LocalDate waitDate, List<Waitlist> waitlists) {
+        if (waitlists.isEmpty()) {
+            return;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (Waitlist waitlist : waitlists) {
+            tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(waitlist.getUser().getId()), (double) toScore(waitlist)));
+        }
+
+        String key = getKey(storeId, waitDate);
+        redisTemplate.opsForZSet().add(key, tuples);
+        redisTemplate.expire(key, getTtl(waitDate));
+    }
+
+    /**
+     * 등록 순으로 최대 count 명을 꺼낸다.
+     * @return userId → 등록 시각 (epoch millis), 등록 순
+     */
+    public Map<Long, Long> pop(Long storeId, LocalDate waitDate, long count) {
+        Set<ZSetOperations.TypedTuple<String>> popped = redisTemplate.opsForZSet().popMin(getKey(storeId, waitDate), count);
+        Map<Long, Long> registeredAtByUserId = new LinkedHashMap<>();
+        if (popped != null) {
+            for (ZSetOperations.TypedTuple<String> entry : popped) {
+                registeredAtByUserId.put(Long.valueOf(entry.getValue()), entry.getScore().longValue());
+            }
+        }
+        return registeredAtByUserId;
+    }
+
+    /**
+     * 꺼냈지만 아직 처리할 수 없는 대기자를 원래 등록 시각(순서) 그대로 되돌린다.
+     */
+    public void requeue(Long storeId, LocalDate waitDate, Map<Long, Long> registeredAtByUserId) {
+        if (registeredAtByUserId.isEmpty()) {
+            return;
+        }
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        registeredAtByUserId.forEach((userId, registeredAt) ->
+                tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(userId), (double) registeredAt)));
+
+        String key = getKey(storeId, waitDate);
+        redisTemplate.opsForZSet().add(key, tuples);
+        redisTemplate.expire(key, getTtl(waitDate));
+    }
+
+    public void remove(Long storeId, LocalDate waitDate, Long userId) {
+        redisTemplate.opsForZSet().remove(getKey(storeId, waitDate), String.valueOf(userId));
+    }
+
+    /**
+     * @return userId → 등록 시각 (epoch millis)
+     */
+    public Map<Long, Long> getEntries(Long storeId, LocalDate waitDate) {
+        Set<ZSetOperations.TypedTuple<String>> entries = redisTemplate.opsForZSet().rangeWithScores(getKey(storeId, waitDate), 0, -1);
+        Map<Long, Long> registeredAtByUserId = new LinkedHashMap<>();
+        if (entries != null) {
+            for (ZSetOperations.TypedTuple<String> entry : entries) {
+                registeredAtByUserId.put(Long.valueOf(entry.getValue()), entry.getScore().longValue());
+            }
+        }
+        return registeredAtByUserId;
+    }
+
+    public Set<String> getIndexedQueues() {
+        Set<String> members = redisTemplate.opsForSet().members(WAITLIST_QUEUE_INDEX_KEY);
+        return members != null ? members : Set.of();
+    }
+
+    public void removeFromIndex(String indexMember) {
+        redisTemplate.opsForSet().remove(WAITLIST_QUEUE_INDEX_KEY, indexMember);
+    }
+
+    public static String getKey(Long storeId, LocalDate waitDate) {
+        return WAITLIST_QUEUE_PREFIX + toIndexMember(storeId, waitDate);
+    }
+
+    public static String toIndexMember(Long storeId, LocalDate waitDate) {
+        return storeId + ":" + waitDate;
+    }
+
+    public static Duration getTtl(LocalDate waitDate) {
+        Duration untilEnd = Duration.between(LocalDateTime.now(), waitDate.plusDays(1).atStartOfDay());
+        return untilEnd.isNegative() ? TTL_AFTER_WAIT_DATE : untilEnd.plus(TTL_AFTER_WAIT_DATE);
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toScore(Waitlist waitlist) {
+        if (waitlist.getCreatedAt() == null) {
+            return System.currentTimeMillis();
+        }
+        return waitlist.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.tablenow.domain.waitlist.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.example.tablenow.domain.waitlist.entity.Waitlist;
+import org.example.tablenow.domain.waitlist.message.dto.WaitlistRegisterMessage;
+import org.example.tablenow.domain.waitlist.repository.WaitlistBulkRepository;
+import org.example.tablenow.domain.waitlist.repository.WaitlistRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 빈자리 대기열 대사(reconcile)
+ * 등록 스크립트가 쓴 대기열(waitlist:queues)마다 Redis 대기열과 waitlist 테이블(알림 미수신)을 비교한다.
+ * - Redis 에만 있는 대기: 큐 유실/DLQ 이동분으로 보고 ZSET score(등록 시각)로 저장 (저장 대기 중일 수 있는 최근 등록은 제외)
+ * - DB 에만 있는 대기: Redis 유실분으로 보고 대기열에 다시 등록
+ * 날짜가 지났거나 대기열이 비어 키가 사라지면 대사 대상에서 뺀다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistReconciler {
+    private final WaitlistQueue waitlistQueue;
+    private final WaitlistRepository waitlistRepository;
+    private final WaitlistBulkRepository waitlistBulkRepository;
+
+    @SchedulerLock(name = "WaitlistReconciler.reconcile")
+    @Scheduled(fixedRate = 300000)
+    public void reconcile() {
+        try {
+            for (String indexMember : waitlistQueue.getIndexedQueues()) {
+                reconcileQueue(indexMember);
+            }
+        } catch (Exception e) {
+            log.error("빈자리 대기열 대사 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    public void reconcileQueue(String indexMember) {
+        String[] parts = indexMember.split(":");
+        Long storeId = Long.valueOf(parts[0]);
+        LocalDate waitDate = LocalDate.parse(parts[1]);
+
+        if (waitDate.isBefore(LocalDate.now()) || !waitlistQueue.isLoaded(storeId, waitDate)) {
+            waitlistQueue.removeFromIndex(indexMember);
+            return;
+        }
+
+        Map<Long, Long> redisEntries = waitlistQueue.getEntries(storeId, waitDate);
+        List<Waitlist> dbWaitlists = waitlistRepository.findAllByStore_IdAndWaitDateAndIsNotifiedFalse(storeId, waitDate);
+        Set<Long> dbUserIds = new HashSet<>();
+        dbWaitlists.forEach(waitlist -> dbUserIds.add(waitlist.getUser().getId()));
+
+        long pendingLimit = System.currentTimeMillis() - WaitlistQueue.PENDING_GRACE_MILLIS;
+        List<WaitlistRegisterMessage> missingInDb = new ArrayList<>();
+        redisEntries.forEach((userId, registeredAt) -> {
+            if (!dbUserIds.contains(userId) && registeredAt < pendingLimit) {
+                missingInDb.add(WaitlistRegisterMessage.builder()
+                        .storeId(storeId)
+                        .userId(userId)
+                        .waitDate(waitDate)
+                        .registeredAt(WaitlistQueue.toLocalDateTime(registeredAt))
+                        .build());
+            }
+        });
+        int inserted = waitlistBulkRepository.insertIgnoreDuplicates(missingInDb);
+
+        List<Waitlist> missingInRedis = dbWaitlists.stream()
+                .filter(waitlist -> !redisEntries.containsKey(waitlist.getUser().getId()))
+                .toList();
+        waitlistQueue.load(storeId, waitDate, missingInRedis);
+
+        if (inserted > 0 || !missingInRedis.isEmpty()) {
+            log.warn("빈자리 대기열 대사 보정: storeId={}, waitDate={}, DB 저장 {}건, Redis 복원 {}건",
+                    storeId, waitDate, inserted, missingInRedis.size());
+        }
+    }
+}
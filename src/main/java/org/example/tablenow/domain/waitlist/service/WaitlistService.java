@@ -1,6 +1,7 @@
 package org.example.tablenow.domain.waitlist.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.tablenow.domain.reservation.service.ReservationService;
 import org.example.tablenow.domain.store.entity.Store;
 import org.example.tablenow.domain.store.service.StoreService;
@@ -10,6 +11,8 @@ import org.example.tablenow.domain.waitlist.dto.request.WaitlistRequestDto;
 import org.example.tablenow.domain.waitlist.dto.response.WaitlistFindResponseDto;
 import org.example.tablenow.domain.waitlist.dto.response.WaitlistResponseDto;
 import org.example.tablenow.domain.waitlist.entity.Waitlist;
+import org.example.tablenow.domain.waitlist.message.dto.WaitlistRegisterMessage;
+import org.example.tablenow.domain.waitlist.message.producer.WaitlistRegisterProducer;
 import org.example.tablenow.domain.waitlist.repository.WaitlistRepository;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
@@ -20,10 +23,12 @@ import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class WaitlistService {
@@ -32,6 +37,8 @@ public class WaitlistService {
     private final StoreService storeService;
     private final ReservationService reservationService;
     private final RedissonClient redissonClient;
+    private final WaitlistQueue waitlistQueue;
+    private final WaitlistRegisterProducer waitlistRegisterProducer;
 
     private static final int MAX_WAITING = 100;
     private static final int LOCK_WAIT_TIME = 2;
@@ -59,6 +66,7 @@ public class WaitlistService {
 
         Waitlist waitlist = new Waitlist(findUser, findStore, requestDto.getWaitDate());
         Waitlist savedWaitlist = waitlistRepository.save(waitlist);
+        waitlistQueue.appendIfLoaded(savedWaitlist);
 
         return WaitlistResponseDto.fromWaitlist(savedWaitlist);
     }
@@ -100,6 +108,7 @@ public class WaitlistService {
 
             Waitlist waitlist = new Waitlist(findUser, findStore, requestDto.getWaitDate());
             Waitlist savedWaitlist = waitlistRepository.save(waitlist);
+            waitlistQueue.appendIfLoaded(savedWaitlist);
 
             return WaitlistResponseDto.fromWaitlist(savedWaitlist);
         } catch (InterruptedException e) {
@@ -112,6 +121,50 @@ public class WaitlistService {
         }
     }
 
+    /**
+     * 빈자리 대기 등록 - Redis 대기열 (Lock 없음)
+     * 중복 확인과 인원 제한은 대기열 Lua 스크립트 1회로 원자적으로 처리하고,
+     * 대기 기록은 큐로 발행해 WaitlistRegisterConsumer 가 배치 저장한다. (write-behind)
+     * 요청 경로의 DB 접근은 가게 조회와 빈자리 확인뿐이다.
+     */
+    public WaitlistResponseDto registerScriptWaitlist(Long userId, WaitlistRequestDto requestDto) {
+        Store findStore = storeService.getStore(requestDto.getStoreId());
+        LocalDate waitDate = requestDto.getWaitDate();
+
+        // 빈자리 있는 경우 대기 등록 안됨
+        validateNoVacancy(findStore, waitDate);
+
+        long registeredAtMillis = System.currentTimeMillis();
+        Long result = waitlistQueue.register(findStore.getId(), waitDate, userId, registeredAtMillis, MAX_WAITING, false);
+        if (Long.valueOf(WaitlistQueue.NOT_LOADED).equals(result)) {
+            waitlistQueue.load(findStore.getId(), waitDate, waitlistRepository.findWaitingList(findStore, waitDate));
+            result = waitlistQueue.register(findStore.getId(), waitDate, userId, registeredAtMillis, MAX_WAITING, true);
+        }
+        validateRegisterResult(result);
+
+        LocalDateTime registeredAt = WaitlistQueue.toLocalDateTime(registeredAtMillis);
+        try {
+            waitlistRegisterProducer.send(WaitlistRegisterMessage.builder()
+                .storeId(findStore.getId())
+                .userId(userId)
+                .waitDate(waitDate)
+                .registeredAt(registeredAt)
+                .build());
+        } catch (Exception e) {
+            waitlistQueue.remove(findStore.getId(), waitDate, userId);
+            log.warn("대기 기록 발행 실패로 대기열에서 제거: userId={}, storeId={}, waitDate={}", userId, findStore.getId(), waitDate);
+            throw e;
+        }
+
+        // 대기 ID 는 비동기 저장 후 발급되므로 응답에 포함하지 않는다.
+        return WaitlistResponseDto.builder()
+            .storeId(findStore.getId())
+            .storeName(findStore.getName())
+            .isNotified(false)
+            .createdAt(registeredAt)
+            .build();
+    }
+
     // 내 대기 목록 조회
     @Transactional(readOnly = true)
     public List<WaitlistFindResponseDto> findMyWaitlist(Long userId) {
@@ -124,6 +177,18 @@ public class WaitlistService {
             .toList();
     }
 
+    private static void validateRegisterResult(Long result) {
+        if (result == null || result == WaitlistQueue.NOT_LOADED) {
+            throw new HandledException(ErrorCode.WAITLIST_REQUEST_TIMEOUT);
+        }
+        if (result == WaitlistQueue.ALREADY_REGISTERED) {
+            throw new HandledException(ErrorCode.WAITLIST_ALREADY_REGISTERED);
+        }
+        if (result == WaitlistQueue.FULL) {
+            throw new HandledException(ErrorCode.WAITLIST_FULL);
+        }
+    }
+
     private void validateNoVacancy(Store store, LocalDate waitDate) {
         if (reservationService.hasVacancyDate(store, waitDate)) {
             throw new HandledException(ErrorCode.WAITLIST_NOT_ALLOWED);
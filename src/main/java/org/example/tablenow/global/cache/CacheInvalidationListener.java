@@ -0,0 +1,27 @@
+package org.example.tablenow.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final LayeredCacheManager layeredCacheManager;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            layeredCacheManager.handleInvalidation(body);
+        } catch (Exception e) {
+            log.error("[LayeredCache] 로컬 캐시 무효화 실패 → message={}", body, e);
+        }
+    }
+}
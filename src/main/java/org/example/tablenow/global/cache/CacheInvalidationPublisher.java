@@ -0,0 +1,51 @@
+package org.example.tablenow.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.CACHE_INVALIDATE_CHANNEL;
+
+/**
+ * 로컬 캐시(L1) 무효화 브로드캐스트
+ * 메시지 형식: {nodeId}|{cacheName}|{key} (key 가 비어있으면 전체 삭제)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+    public static final String DELIMITER = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public void publishEvict(String cacheName, Object key) {
+        // 문자열 키가 아니면 다른 노드에서 동일 키를 복원할 수 없으므로 전체 삭제
+        if (!(key instanceof String stringKey)) {
+            publishClear(cacheName);
+            return;
+        }
+        publish(cacheName, stringKey);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(cacheName, "");
+    }
+
+    public boolean isFromThisNode(String senderNodeId) {
+        return nodeId.equals(senderNodeId);
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(CACHE_INVALIDATE_CHANNEL, nodeId + DELIMITER + cacheName + DELIMITER + key);
+        } catch (Exception e) {
+            // 브로드캐스트 실패 시 다른 노드는 L1 TTL 만료까지 이전 값을 볼 수 있음
+            log.error("[LayeredCache] 무효화 메시지 발행 실패 → cache={}, key={}", cacheName, key, e);
+        }
+    }
+}
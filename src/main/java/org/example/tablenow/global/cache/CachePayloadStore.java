@@ -0,0 +1,59 @@
+package org.example.tablenow.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.global.cache.codec.CacheCodec;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+
+/**
+ * CacheCodec 으로 인코딩한 바이트 페이로드를 Redis String 값으로 읽고 쓴다.
+ * 디코딩에 실패한 값(포맷 변경 이전 값 등)은 캐시 미스로 처리한다.
+ */
+@Slf4j
+public class CachePayloadStore {
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final CacheCodec cacheCodec;
+
+    public CachePayloadStore(RedisConnectionFactory connectionFactory, CacheCodec cacheCodec) {
+        this.binaryRedisTemplate = new RedisTemplate<>();
+        this.binaryRedisTemplate.setConnectionFactory(connectionFactory);
+        this.binaryRedisTemplate.setKeySerializer(RedisSerializer.string());
+        this.binaryRedisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        this.binaryRedisTemplate.afterPropertiesSet();
+        this.cacheCodec = cacheCodec;
+    }
+
+    public <T> T get(String key, JavaType type) {
+        byte[] payload = binaryRedisTemplate.opsForValue().get(key);
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return cacheCodec.decode(payload, type);
+        } catch (SerializationException e) {
+            log.warn("[CachePayload] 디코딩 실패로 캐시 미스 처리 → key={}, reason={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    public void set(String key, Object value, Duration ttl) {
+        try {
+            binaryRedisTemplate.opsForValue().set(key, cacheCodec.encode(value), ttl);
+        } catch (SerializationException e) {
+            log.warn("[CachePayload] 인코딩 실패로 캐시 저장 생략 → key={}, reason={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 파이프라인 등 직접 쓰기 경로에서 사용할 인코딩 결과
+     */
+    public byte[] encode(Object value) {
+        return cacheCodec.encode(value);
+    }
+}
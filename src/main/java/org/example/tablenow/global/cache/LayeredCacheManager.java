@@ -0,0 +1,86 @@
+package org.example.tablenow.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지정한 캐시만 L1(Caffeine) + L2(Redis) 2단 구성으로 감싸고, 나머지는 Redis 캐시를 그대로 사용
+ */
+@Slf4j
+public class LayeredCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, LocalCacheSpec> localCacheSpecs;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LayeredCache> layeredCaches = new ConcurrentHashMap<>();
+
+    public LayeredCacheManager(CacheManager remoteCacheManager,
+                               Map<String, LocalCacheSpec> localCacheSpecs,
+                               CacheInvalidationPublisher invalidationPublisher,
+                               MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localCacheSpecs = localCacheSpecs;
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        LocalCacheSpec spec = localCacheSpecs.get(name);
+        if (spec == null) {
+            return remoteCacheManager.getCache(name);
+        }
+        return layeredCaches.computeIfAbsent(name, cacheName -> createLayeredCache(cacheName, spec));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 처리
+     */
+    public void handleInvalidation(String message) {
+        String[] parts = message.split("\\" + CacheInvalidationPublisher.DELIMITER, 3);
+        if (parts.length < 3 || invalidationPublisher.isFromThisNode(parts[0])) {
+            return;
+        }
+
+        LayeredCache cache = layeredCaches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        if (parts[2].isEmpty()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+        log.debug("[LayeredCache] 원격 무효화 수신 → cache={}, key={}", parts[1], parts[2]);
+    }
+
+    private LayeredCache createLayeredCache(String name, LocalCacheSpec spec) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Cache.ValueWrapper> localCache = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name);
+
+        return new LayeredCache(name, localCache, remoteCacheManager.getCache(name), invalidationPublisher, meterRegistry);
+    }
+
+    public record LocalCacheSpec(long maximumSize, Duration ttl) {
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.tablenow.global.cache.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Redis 캐시 페이로드 인코더/디코더
+ * 구현체를 교체해도 호출부(검색 캐시, 알림 캐시)는 바이트 배열만 다룬다.
+ */
+public interface CacheCodec {
+
+    byte[] encode(Object value) throws SerializationException;
+
+    <T> T decode(byte[] bytes, JavaType type) throws SerializationException;
+}
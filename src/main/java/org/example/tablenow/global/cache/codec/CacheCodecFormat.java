@@ -0,0 +1,21 @@
+package org.example.tablenow.global.cache.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+public enum CacheCodecFormat {
+    JSON {
+        @Override
+        JsonFactory createFactory() {
+            return new JsonFactory();
+        }
+    },
+    SMILE {
+        @Override
+        JsonFactory createFactory() {
+            return new SmileFactory();
+        }
+    };
+
+    abstract JsonFactory createFactory();
+}
@@ -0,0 +1,30 @@
+package org.example.tablenow.global.cache.codec;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Spring Cache(RedisCacheManager) 값 직렬화에 압축 프레임을 적용
+ * 헤더가 없는 기존 값은 압축 없이 delegate 로 그대로 역직렬화한다.
+ */
+@RequiredArgsConstructor
+public class CompressingRedisSerializer<T> implements RedisSerializer<T> {
+
+    private final RedisSerializer<T> delegate;
+    private final int compressThreshold;
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        byte[] payload = delegate.serialize(value);
+        return payload == null ? null : PayloadCompressor.wrap(payload, compressThreshold);
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null) {
+            return null;
+        }
+        return delegate.deserialize(PayloadCompressor.unwrap(bytes));
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.tablenow.global.cache.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * Jackson 기반 캐시 코덱 (JSON / Smile)
+ * 애플리케이션 ObjectMapper 의 모듈(JavaTime, 파라미터 이름 등)을 그대로 사용하고
+ * 임계값 이상인 페이로드만 압축한다.
+ */
+public class JacksonCacheCodec implements CacheCodec {
+
+    private final ObjectMapper mapper;
+    private final int compressThreshold;
+
+    public JacksonCacheCodec(ObjectMapper objectMapper, CacheCodecFormat format, int compressThreshold) {
+        this.mapper = objectMapper.copyWith(format.createFactory());
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return PayloadCompressor.wrap(mapper.writeValueAsBytes(value), compressThreshold);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 페이로드 인코딩 실패", e);
+        }
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, JavaType type) {
+        if (!PayloadCompressor.isFramed(bytes)) {
+            throw new SerializationException("코덱 헤더가 없는 캐시 페이로드입니다.");
+        }
+        try {
+            return mapper.readValue(PayloadCompressor.unwrap(bytes), type);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 페이로드 디코딩 실패", e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.tablenow.global.cache.codec;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 캐시 페이로드 압축 프레임
+ * - [0x00][원본] : 임계값 미만, 압축하지 않음
+ * - [0x01][deflate] : 임계값 이상
+ * 헤더가 없는 값(코덱 도입 이전에 저장된 값)은 그대로 반환한다.
+ */
+public final class PayloadCompressor {
+
+    static final byte PLAIN = 0x00;
+    static final byte DEFLATE = 0x01;
+    private static final int BUFFER_SIZE = 4_096;
+
+    private PayloadCompressor() {
+    }
+
+    public static byte[] wrap(byte[] payload, int compressThreshold) {
+        if (payload.length < compressThreshold) {
+            return withHeader(PLAIN, payload, payload.length);
+        }
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2 + 1);
+            out.write(DEFLATE);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static byte[] unwrap(byte[] framed) {
+        if (framed.length == 0) {
+            return framed;
+        }
+        return switch (framed[0]) {
+            case PLAIN -> Arrays.copyOfRange(framed, 1, framed.length);
+            case DEFLATE -> inflate(framed);
+            default -> framed;
+        };
+    }
+
+    public static boolean isFramed(byte[] bytes) {
+        return bytes.length > 0 && (bytes[0] == PLAIN || bytes[0] == DEFLATE);
+    }
+
+    private static byte[] inflate(byte[] framed) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(framed, 1, framed.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(framed.length * 3);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && inflater.needsInput()) {
+                    throw new SerializationException("압축 페이로드가 잘려 있습니다.");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new SerializationException("압축 페이로드 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] withHeader(byte header, byte[] payload, int length) {
+        byte[] framed = new byte[length + 1];
+        framed[0] = header;
+        System.arraycopy(payload, 0, framed, 1, length);
+        return framed;
+    }
+}
@@ -1,11 +1,25 @@
 package org.example.tablenow.global.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.tablenow.global.cache.CacheInvalidationPublisher;
+import org.example.tablenow.global.cache.CachePayloadStore;
+import org.example.tablenow.global.cache.LayeredCacheManager;
+import org.example.tablenow.global.cache.LayeredCacheManager.LocalCacheSpec;
+import org.example.tablenow.global.cache.codec.CacheCodec;
+import org.example.tablenow.global.cache.codec.CacheCodecFormat;
+import org.example.tablenow.global.cache.codec.CompressingRedisSerializer;
+import org.example.tablenow.global.cache.codec.JacksonCacheCodec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
@@ -15,10 +29,34 @@ import java.util.Map;
 @EnableCaching
 public class CacheConfig {
 
+    @Value("${cache.codec.format:SMILE}")
+    private CacheCodecFormat codecFormat;
+
+    @Value("${cache.codec.compress-threshold:1024}")
+    private int compressThreshold;
+
+    @Bean
+    public CacheCodec cacheCodec(ObjectMapper objectMapper) {
+        return new JacksonCacheCodec(objectMapper, codecFormat, compressThreshold);
+    }
+
+    // 검색 결과, 알림 목록 등 직접 관리하는 캐시의 바이너리 저장소
+    @Bean
+    public CachePayloadStore cachePayloadStore(RedisConnectionFactory connectionFactory, CacheCodec cacheCodec) {
+        return new CachePayloadStore(connectionFactory, cacheCodec);
+    }
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+        // Page 구현체(PageImpl)는 Jackson 역직렬화가 불가능하므로 JDK 직렬화를 유지하고 압축만 적용
+        RedisSerializationContext.SerializationPair<Object> compressedValue = RedisSerializationContext.SerializationPair
+                .fromSerializer(new CompressingRedisSerializer<>(RedisSerializer.java(), compressThreshold));
+
         Map<String, RedisCacheConfiguration> configMap = new HashMap<>();
         configMap.put("stores", RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(compressedValue)
+                .entryTtl(Duration.ofDays(1)));
+        configMap.put("chatParticipants", RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofDays(1)));
 
         return RedisCacheManager.builder(connectionFactory)
@@ -26,4 +64,17 @@ public class CacheConfig {
                 .withInitialCacheConfigurations(configMap)
                 .build();
     }
+
+    // L1(Caffeine) + L2(Redis) 캐시 매니저. 로컬 캐시 대상만 localCacheSpecs 에 등록
+    @Bean
+    @Primary
+    public LayeredCacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                            CacheInvalidationPublisher cacheInvalidationPublisher,
+                                            MeterRegistry meterRegistry) {
+        Map<String, LocalCacheSpec> localCacheSpecs = new HashMap<>();
+        localCacheSpecs.put("stores", new LocalCacheSpec(10_000, Duration.ofMinutes(1)));
+        localCacheSpecs.put("chatParticipants", new LocalCacheSpec(10_000, Duration.ofMinutes(10)));
+
+        return new LayeredCacheManager(redisCacheManager, localCacheSpecs, cacheInvalidationPublisher, meterRegistry);
+    }
 }
@@ -7,6 +7,7 @@ import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
@@ -63,4 +64,10 @@ public class DataDBConfig {
 
         return transactionManager;
     }
+
+    // 메타 DB 가 @Primary 이므로 서비스 DB 용 JdbcTemplate 을 별도로 등록 (multi-row INSERT 등 JPA 로 처리하기 어려운 쓰기)
+    @Bean
+    public JdbcTemplate dataJdbcTemplate() {
+        return new JdbcTemplate(dataDBSource());
+    }
 }
@@ -110,6 +110,128 @@ public class RabbitConfig {
                 .with(EVENT_OPEN_RETRY_ROUTING_KEY);
     }
 
+    // 이벤트 오픈 알림 샤드 Queue, Exchange, Binding
+    @Bean
+    public Queue eventOpenShardQueue() {
+        return QueueBuilder.durable(EVENT_OPEN_SHARD_QUEUE)
+                .withArgument("x-dead-letter-exchange", EVENT_OPEN_SHARD_DLX)
+                .withArgument("x-dead-letter-routing-key", EVENT_OPEN_SHARD_DLQ_ROUTING_KEY)
+                .build();
+    }
+
+    @Bean
+    public DirectExchange eventOpenShardExchange() {
+        return new DirectExchange(EVENT_OPEN_SHARD_EXCHANGE);
+    }
+
+    @Bean
+    public Binding eventOpenShardBinding(Queue eventOpenShardQueue, DirectExchange eventOpenShardExchange) {
+        return bind(eventOpenShardQueue, eventOpenShardExchange, EVENT_OPEN_SHARD_ROUTING_KEY);
+    }
+
+    @Bean
+    public DirectExchange eventOpenShardDlx() {
+        return new DirectExchange(EVENT_OPEN_SHARD_DLX);
+    }
+
+    @Bean
+    public Queue eventOpenShardDlq() {
+        return buildDlqQueue(EVENT_OPEN_SHARD_DLQ);
+    }
+
+    @Bean
+    public Binding eventOpenShardDlqBinding(Queue eventOpenShardDlq, DirectExchange eventOpenShardDlx) {
+        return bind(eventOpenShardDlq, eventOpenShardDlx, EVENT_OPEN_SHARD_DLQ_ROUTING_KEY);
+    }
+
+    // 이벤트 오픈 알림 샤드 RetryQueue (TTL 만료 시 샤드 Exchange 로 재발행)
+    @Bean
+    public Queue eventOpenShardRetryQueue() {
+        return QueueBuilder.durable(EVENT_OPEN_SHARD_RETRY_QUEUE)
+                .withArgument("x-message-ttl", TTL_MILLIS)
+                .withArgument("x-dead-letter-exchange", EVENT_OPEN_SHARD_EXCHANGE)
+                .withArgument("x-dead-letter-routing-key", EVENT_OPEN_SHARD_ROUTING_KEY)
+                .build();
+    }
+
+    @Bean
+    public DirectExchange eventOpenShardRetryExchange() {
+        return new DirectExchange(EVENT_OPEN_SHARD_RETRY_EXCHANGE);
+    }
+
+    @Bean
+    public Binding eventOpenShardRetryBinding(Queue eventOpenShardRetryQueue, DirectExchange eventOpenShardRetryExchange) {
+        return bind(eventOpenShardRetryQueue, eventOpenShardRetryExchange, EVENT_OPEN_SHARD_RETRY_ROUTING_KEY);
+    }
+
+    // 이벤트 참여 기록 Queue, Exchange, Binding
+    @Bean
+    public Queue eventJoinQueue() {
+        return QueueBuilder.durable(EVENT_JOIN_QUEUE)
+                .withArgument("x-dead-letter-exchange", EVENT_JOIN_DLX)
+                .withArgument("x-dead-letter-routing-key", EVENT_JOIN_DLQ)
+                .build();
+    }
+
+    @Bean
+    public DirectExchange eventJoinExchange() {
+        return new DirectExchange(EVENT_JOIN_EXCHANGE);
+    }
+
+    @Bean
+    public Binding eventJoinBinding(Queue eventJoinQueue, DirectExchange eventJoinExchange) {
+        return bind(eventJoinQueue, eventJoinExchange, EVENT_JOIN_ROUTING_KEY);
+    }
+
+    @Bean
+    public DirectExchange eventJoinDlx() {
+        return new DirectExchange(EVENT_JOIN_DLX);
+    }
+
+    @Bean
+    public Queue eventJoinDlq() {
+        return buildDlqQueue(EVENT_JOIN_DLQ);
+    }
+
+    @Bean
+    public Binding eventJoinDlqBinding(Queue eventJoinDlq, DirectExchange eventJoinDlx) {
+        return bind(eventJoinDlq, eventJoinDlx, EVENT_JOIN_DLQ);
+    }
+
+    // 빈자리 대기 등록 기록 Queue, Exchange, Binding
+    @Bean
+    public Queue waitlistRegisterQueue() {
+        return QueueBuilder.durable(WAITLIST_REGISTER_QUEUE)
+                .withArgument("x-dead-letter-exchange", WAITLIST_REGISTER_DLX)
+                .withArgument("x-dead-letter-routing-key", WAITLIST_REGISTER_DLQ_ROUTING_KEY)
+                .build();
+    }
+
+    @Bean
+    public DirectExchange waitlistRegisterExchange() {
+        return new DirectExchange(WAITLIST_REGISTER_EXCHANGE);
+    }
+
+    @Bean
+    public Binding waitlistRegisterBinding(Queue waitlistRegisterQueue, DirectExchange waitlistRegisterExchange) {
+        return bind(waitlistRegisterQueue, waitlistRegisterExchange, WAITLIST_REGISTER_ROUTING_KEY);
+    }
+
+    @Bean
+    public DirectExchange waitlistRegisterDlx() {
+        return new DirectExchange(WAITLIST_REGISTER_DLX);
+    }
+
+    @Bean
+    public Queue waitlistRegisterDlq() {
+        return buildDlqQueue(WAITLIST_REGISTER_DLQ);
+    }
+
+    @Bean
+    public Binding waitlistRegisterDlqBinding(Queue waitlistRegisterDlq, DirectExchange waitlistRegisterDlx) {
+        return bind(waitlistRegisterDlq, waitlistRegisterDlx, WAITLIST_REGISTER_DLQ_ROUTING_KEY);
+    }
+
     // 예약 리마인드 등록 Queue, Exchange, Binding
     @Bean
     public Queue reminderRegisterQueue() {
@@ -307,6 +429,52 @@ public class RabbitConfig {
         return factory;
     }
 
+    // 가게 인덱싱 배치 리스너: batchSize 만큼 모이거나 receiveTimeout 동안 추가 메시지가 없으면 배치 전달
+    // 메시지 ack 는 _bulk 응답 확인 후 리스너에서 직접 처리
+    @Bean
+    public SimpleRabbitListenerContainerFactory storeBatchListenerContainerFactory(ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setDefaultRequeueRejected(false);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(STORE_BATCH_SIZE);
+        factory.setPrefetchCount(STORE_BATCH_SIZE);
+        factory.setReceiveTimeout(STORE_BATCH_RECEIVE_TIMEOUT_MILLIS);
+        return factory;
+    }
+
+    // 이벤트 참여 기록 배치 리스너: 배치 전체를 multi-row INSERT 1회로 저장 후 ack, 실패 시 배치 전체 DLQ 이동
+    @Bean
+    public SimpleRabbitListenerContainerFactory eventJoinBatchListenerContainerFactory(ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setDefaultRequeueRejected(false);
+        factory.setMessageConverter(jsonMessageConverter());
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(EVENT_JOIN_BATCH_SIZE);
+        factory.setPrefetchCount(EVENT_JOIN_BATCH_SIZE);
+        factory.setReceiveTimeout(EVENT_JOIN_BATCH_RECEIVE_TIMEOUT_MILLIS);
+        return factory;
+    }
+
+    // 빈자리 대기 등록 배치 리스너: 배치 전체를 INSERT 1회로 저장 후 ack, 실패 시 배치 전체 DLQ 이동
+    @Bean
+    public SimpleRabbitListenerContainerFactory waitlistRegisterBatchListenerContainerFactory(ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setDefaultRequeueRejected(false);
+        factory.setMessageConverter(jsonMessageConverter());
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(WAITLIST_REGISTER_BATCH_SIZE);
+        factory.setPrefetchCount(WAITLIST_REGISTER_BATCH_SIZE);
+        factory.setReceiveTimeout(WAITLIST_REGISTER_BATCH_RECEIVE_TIMEOUT_MILLIS);
+        return factory;
+    }
+
     private Queue buildMainQueue(String queueName, String dlqRoutingKey) {
         return QueueBuilder.durable(queueName)
                 .withArgument("x-dead-letter-exchange", STORE_DLX)
@@ -0,0 +1,30 @@
+package org.example.tablenow.global.config;
+
+import org.example.tablenow.domain.reservation.message.customer.StoreAvailabilityInvalidationListener;
+import org.example.tablenow.global.cache.CacheInvalidationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.CACHE_INVALIDATE_CHANNEL;
+import static org.example.tablenow.global.constant.RedisKeyConstants.STORE_AVAILABILITY_INVALIDATE_CHANNEL;
+
+@Configuration
+public class RedisPubSubConfig {
+
+    // 노드 로컬 캐시(L1) 무효화 브로드캐스트 수신
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            StoreAvailabilityInvalidationListener storeAvailabilityInvalidationListener,
+            CacheInvalidationListener cacheInvalidationListener
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(storeAvailabilityInvalidationListener, new ChannelTopic(STORE_AVAILABILITY_INVALIDATE_CHANNEL));
+        container.addMessageListener(cacheInvalidationListener, new ChannelTopic(CACHE_INVALIDATE_CHANNEL));
+        return container;
+    }
+}
@@ -7,6 +7,7 @@ import org.example.tablenow.global.constant.WebSocketConstants;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
 import org.example.tablenow.global.interceptor.JwtHandshakeInterceptor;
+import org.example.tablenow.global.interceptor.NotificationSubscribeInterceptor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
@@ -25,6 +26,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+    private final NotificationSubscribeInterceptor notificationSubscribeInterceptor;
     private final RabbitMQProperties rabbitMQProperties;
 
     @Value("${spring.rabbitmq.host}")
@@ -40,7 +42,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     /* 클라이언트가 WebSocket 연결을 시도할 엔드포인트 URL 등록 */
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
-        registry.addEndpoint(WebSocketConstants.ENDPOINT_CHAT)
+        registry.addEndpoint(WebSocketConstants.ENDPOINT_CHAT, WebSocketConstants.ENDPOINT_NOTIFICATION)
                 .setAllowedOriginPatterns("*")
                 .addInterceptors(jwtHandshakeInterceptor);
     }
@@ -77,6 +79,6 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 log.info("[WebSocket Inbound] 수신한 메시지: {}", message.getHeaders());
                 return message;
             }
-        });
+        }, notificationSubscribeInterceptor);
     }
 }
@@ -11,6 +11,12 @@ public class RabbitConstant {
     // 이벤트 관련 PREFIX
     public static final String EVENT_PREFIX = "event";
     public static final String EVENT_OPEN_PREFIX = EVENT_PREFIX + ".open";
+    public static final String EVENT_OPEN_SHARD_PREFIX = EVENT_OPEN_PREFIX + ".shard";
+    public static final String EVENT_JOIN_PREFIX = EVENT_PREFIX + ".join";
+
+    // 빈자리 대기 관련 PREFIX
+    public static final String WAITLIST_PREFIX = "waitlist";
+    public static final String WAITLIST_REGISTER_PREFIX = WAITLIST_PREFIX + ".register";
 
     // 채팅 관련 PREFIX
     public static final String CHAT_PREFIX = "chat";
@@ -46,6 +52,41 @@ public class RabbitConstant {
     public static final String EVENT_OPEN_RETRY_EXCHANGE = EVENT_OPEN_PREFIX + ".retry.exchange";
     public static final String EVENT_OPEN_RETRY_ROUTING_KEY = EVENT_OPEN_PREFIX + ".retry.key";
 
+    // 이벤트 오픈 알림 샤드 (수신 대상 유저를 샤드 단위로 분할 발송)
+    public static final String EVENT_OPEN_SHARD_EXCHANGE = EVENT_OPEN_SHARD_PREFIX + ".exchange";
+    public static final String EVENT_OPEN_SHARD_QUEUE = EVENT_OPEN_SHARD_PREFIX + ".queue";
+    public static final String EVENT_OPEN_SHARD_ROUTING_KEY = EVENT_OPEN_SHARD_PREFIX + ".key";
+
+    public static final String EVENT_OPEN_SHARD_DLX = EVENT_OPEN_SHARD_PREFIX + ".dlx";
+    public static final String EVENT_OPEN_SHARD_DLQ = EVENT_OPEN_SHARD_PREFIX + ".dlq";
+    public static final String EVENT_OPEN_SHARD_DLQ_ROUTING_KEY = EVENT_OPEN_SHARD_PREFIX + ".dlq.key";
+
+    public static final String EVENT_OPEN_SHARD_RETRY_QUEUE = EVENT_OPEN_SHARD_PREFIX + ".retry.queue";
+    public static final String EVENT_OPEN_SHARD_RETRY_EXCHANGE = EVENT_OPEN_SHARD_PREFIX + ".retry.exchange";
+    public static final String EVENT_OPEN_SHARD_RETRY_ROUTING_KEY = EVENT_OPEN_SHARD_PREFIX + ".retry.key";
+    public static final int EVENT_OPEN_SHARD_SIZE = 1000;
+
+    // 이벤트 참여 기록 (write-behind)
+    public static final String EVENT_JOIN_EXCHANGE = EVENT_JOIN_PREFIX + ".exchange";
+    public static final String EVENT_JOIN_QUEUE = EVENT_JOIN_PREFIX + ".queue";
+    public static final String EVENT_JOIN_ROUTING_KEY = EVENT_JOIN_PREFIX + ".key";
+    public static final String EVENT_JOIN_DLX = EVENT_JOIN_PREFIX + ".dlx";
+    public static final String EVENT_JOIN_DLQ = EVENT_JOIN_PREFIX + ".dlq";
+    public static final String EVENT_JOIN_BATCH_LISTENER_FACTORY = "eventJoinBatchListenerContainerFactory";
+    public static final int EVENT_JOIN_BATCH_SIZE = 500;
+    public static final long EVENT_JOIN_BATCH_RECEIVE_TIMEOUT_MILLIS = 100;
+
+    // 빈자리 대기 등록 기록 (write-behind)
+    public static final String WAITLIST_REGISTER_EXCHANGE = WAITLIST_REGISTER_PREFIX + ".exchange";
+    public static final String WAITLIST_REGISTER_QUEUE = WAITLIST_REGISTER_PREFIX + ".queue";
+    public static final String WAITLIST_REGISTER_ROUTING_KEY = WAITLIST_REGISTER_PREFIX + ".key";
+    public static final String WAITLIST_REGISTER_DLX = WAITLIST_REGISTER_PREFIX + ".dlx";
+    public static final String WAITLIST_REGISTER_DLQ = WAITLIST_REGISTER_PREFIX + ".dlq";
+    public static final String WAITLIST_REGISTER_DLQ_ROUTING_KEY = WAITLIST_REGISTER_PREFIX + ".dlq.key";
+    public static final String WAITLIST_REGISTER_BATCH_LISTENER_FACTORY = "waitlistRegisterBatchListenerContainerFactory";
+    public static final int WAITLIST_REGISTER_BATCH_SIZE = 200;
+    public static final long WAITLIST_REGISTER_BATCH_RECEIVE_TIMEOUT_MILLIS = 100;
+
     // 가게
     public static final String STORE_EXCHANGE = "store.exchange";
     public static final String STORE_CREATE = "store.create";
@@ -58,6 +99,9 @@ public class RabbitConstant {
     public static final String STORE_CREATE_DLQ = "store.create.dlq";
     public static final String STORE_UPDATE_DLQ = "store.update.dlq";
     public static final String STORE_DELETE_DLQ = "store.delete.dlq";
+    public static final String STORE_BATCH_LISTENER_FACTORY = "storeBatchListenerContainerFactory";
+    public static final int STORE_BATCH_SIZE = 200;
+    public static final long STORE_BATCH_RECEIVE_TIMEOUT_MILLIS = 200;
 
     // 채팅 알림
     public static final String CHAT_EXCHANGE = CHAT_PREFIX + ".exchange";
@@ -8,12 +8,46 @@ public class RedisKeyConstants {
 
     // 예약 관련
     public static final String REMINDER_ZSET_KEY = RESERVATION_PREFIX + "reminder:zset";
+    public static final String REMINDER_PROCESSING_ZSET_KEY = RESERVATION_PREFIX + "reminder:processing";
     public static final String RESERVATION_LOCK_KEY_PREFIX = LOCK_PREFIX + "reservation:";
+    public static final String RESERVATION_CAPACITY_KEY_PREFIX = RESERVATION_PREFIX + "capacity:";
+    public static final String RESERVATION_CAPACITY_LOCK_KEY_PREFIX = LOCK_PREFIX + "reservation:capacity:";
+    public static final String RESERVATION_INVENTORY_RECOUNT_KEY = RESERVATION_PREFIX + "inventory:recount";
+
+    // 빈자리 달력 관련
+    public static final String STORE_AVAILABILITY_KEY_PREFIX = "store:availability:";
+    public static final String STORE_AVAILABILITY_INVALIDATE_CHANNEL = "store:availability:invalidate";
 
     // 이벤트 관련
     public static final String EVENT_JOIN_PREFIX = EVENT_PREFIX + "join:";
     public static final String EVENT_LOCK_KEY_PREFIX = LOCK_PREFIX + "event:";
     public static final String EVENT_OPEN_KEY = EVENT_PREFIX + "open:zset";
+    public static final String EVENT_OPEN_MESSAGE_KEY = EVENT_PREFIX + "open:message";
+    public static final String EVENT_META_PREFIX = EVENT_PREFIX + "meta:";
+    public static final String EVENT_OPEN_FANOUT_PREFIX = EVENT_PREFIX + "open:fanout:";
+
+    // 알림 관련
+    public static final String NOTIFICATION_PREFIX = "notification:";
+    public static final String NOTIFICATION_INBOX_PREFIX = NOTIFICATION_PREFIX + "inbox:";
+    public static final String NOTIFICATION_INBOX_BODY_PREFIX = NOTIFICATION_PREFIX + "inbox:body:";
+    public static final String NOTIFICATION_INBOX_VERSION_PREFIX = NOTIFICATION_PREFIX + "inbox:version:";
+    public static final String NOTIFICATION_UNREAD_COUNT_PREFIX = NOTIFICATION_PREFIX + "unread:";
+    public static final String NOTIFICATION_UNREAD_RECONCILE_KEY = NOTIFICATION_PREFIX + "unread-reconcile";
+    public static final String NOTIFICATION_UNREAD_VERSION_PREFIX = NOTIFICATION_PREFIX + "unread-version:";
+
+    // 빈자리 대기 관련
+    public static final String WAITLIST_PREFIX = "waitlist:";
+    public static final String WAITLIST_QUEUE_PREFIX = WAITLIST_PREFIX + "queue:";
+    public static final String WAITLIST_CLAIM_PREFIX = WAITLIST_PREFIX + "claim:";
+    public static final String WAITLIST_QUEUE_INDEX_KEY = WAITLIST_PREFIX + "queues";
+
+    // 지연 작업 관련 (delayed-job:{jobType}:{shard})
+    public static final String DELAYED_JOB_PREFIX = "delayed-job:";
+    public static final String DELAYED_JOB_NODES_KEY = DELAYED_JOB_PREFIX + "nodes";
+    public static final String DELAYED_JOB_LEASE_PREFIX = DELAYED_JOB_PREFIX + "lease:";
+
+    // 캐시 관련
+    public static final String CACHE_INVALIDATE_CHANNEL = "cache:invalidate";
 
     // 토큰 관련
     public static final String REFRESH_TOKEN_KEY_PREFIX = "refreshToken:";
@@ -4,6 +4,7 @@ public final class WebSocketConstants {
 
     // WebSocket 연결 시 사용할 엔드포인트 (SockJS에서 접속 경로로 사용됨)
     public static final String ENDPOINT_CHAT = "/ws/chat";
+    public static final String ENDPOINT_NOTIFICATION = "/ws/notification";
 
     // 클라이언트가 메시지를 보낼 때 사용하는 prefix
     // ex) stompClient.send("/app/chat/message", ...)
@@ -21,6 +22,17 @@ public final class WebSocketConstants {
     // RabbitMQ Relay 버전 (/exchange/amq.topic/chat/{reservationId})
     public static final String TOPIC_CHAT_PREFIX_RELAY = "/exchange/amq.topic/chat.";
 
+    // 유저별 알림을 푸시할 때 사용하는 prefix (본인 userId 로만 구독 가능)
+    // SimpleBroker 버전 (/topic/notification/{userId})
+    public static final String TOPIC_NOTIFICATION_PREFIX_SIMPLE = "/topic/notification/";
+    // RabbitMQ Relay 버전 (/exchange/amq.topic/notification.{userId})
+    public static final String TOPIC_NOTIFICATION_PREFIX_RELAY = "/exchange/amq.topic/notification.";
+
+    // 재연결 시 놓친 알림을 인박스에서 받아가는 구독 경로 (/app/notification/missed)
+    public static final String NOTIFICATION_MISSED_DEST = "/notification/missed";
+    // 마지막으로 받은 알림 ID 를 전달하는 STOMP 헤더
+    public static final String HEADER_LAST_NOTIFICATION_ID = "lastNotificationId";
+
     private WebSocketConstants() {
         // 인스턴스 생성 방지
     }
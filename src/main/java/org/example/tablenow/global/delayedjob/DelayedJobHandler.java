@@ -0,0 +1,15 @@
+package org.example.tablenow.global.delayedjob;
+
+import java.util.List;
+
+/**
+ * 지연 작업 처리기
+ * 점유한 작업 ID 를 배치로 받아 처리하고, 완료(더 이상 재시도하지 않을) 작업 ID 를 반환한다.
+ * 반환하지 않은 작업은 리스 만료 후 다시 점유되어 재처리된다.
+ */
+public interface DelayedJobHandler {
+
+    DelayedJobType getJobType();
+
+    List<String> handle(List<String> jobIds);
+}
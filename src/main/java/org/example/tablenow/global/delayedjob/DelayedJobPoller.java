@@ -0,0 +1,155 @@
+package org.example.tablenow.global.delayedjob;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 지연 작업 폴러
+ * 소유한 샤드만 100ms 주기로 확인하며, 샤드별로 적응형 백오프를 둔다.
+ * - 배치가 가득 차면 다음 주기에 바로 다시 점유
+ * - 비어 있으면 대기 시간을 MIN_BACKOFF 부터 두 배씩 늘려 MAX_BACKOFF 까지 (최대 지연 약 1초)
+ * 샤드별 도래한 대기 건수(delayed.job.backlog)와 지연 시간(delayed.job.lag)은 소유 노드가 5초마다 갱신한다.
+ */
+@Slf4j
+@Component
+public class DelayedJobPoller {
+
+    private static final String BACKLOG_METRIC = "delayed.job.backlog";
+    private static final String LAG_METRIC = "delayed.job.lag";
+    private static final String PROCESSED_METRIC = "delayed.job.processed";
+
+    public static int CLAIM_BATCH_SIZE = 500;
+    private static final long JOB_LEASE_MILLIS = 60_000;
+    private static final long MIN_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 1_000;
+    private static final long NOT_OWNED = -1;
+
+    private final DelayedJobQueue delayedJobQueue;
+    private final DelayedJobShardCoordinator shardCoordinator;
+    private final List<DelayedJobHandler> handlers;
+
+    private final Map<DelayedJobType, long[]> nextPollAt = new EnumMap<>(DelayedJobType.class);
+    private final Map<DelayedJobType, long[]> backoff = new EnumMap<>(DelayedJobType.class);
+    private final Map<DelayedJobType, AtomicLongArray> backlogs = new EnumMap<>(DelayedJobType.class);
+    private final Map<DelayedJobType, AtomicLongArray> lagMillis = new EnumMap<>(DelayedJobType.class);
+    private final Map<DelayedJobType, Counter> processedCounters = new EnumMap<>(DelayedJobType.class);
+
+    public DelayedJobPoller(DelayedJobQueue delayedJobQueue,
+                            DelayedJobShardCoordinator shardCoordinator,
+                            List<DelayedJobHandler> handlers,
+                            MeterRegistry meterRegistry) {
+        this.delayedJobQueue = delayedJobQueue;
+        this.shardCoordinator = shardCoordinator;
+        this.handlers = handlers;
+
+        for (DelayedJobHandler handler : handlers) {
+            DelayedJobType jobType = handler.getJobType();
+            nextPollAt.put(jobType, new long[DelayedJobQueue.SHARD_COUNT]);
+            backoff.put(jobType, new long[DelayedJobQueue.SHARD_COUNT]);
+            backlogs.put(jobType, newMetricArray());
+            lagMillis.put(jobType, newMetricArray());
+            processedCounters.put(jobType, Counter.builder(PROCESSED_METRIC)
+                    .tag("type", jobType.getKey())
+                    .register(meterRegistry));
+            registerShardGauges(meterRegistry, jobType);
+        }
+    }
+
+    @Scheduled(fixedDelay = 100)
+    public void poll() {
+        for (Integer shard : shardCoordinator.getOwnedShards()) {
+            for (DelayedJobHandler handler : handlers) {
+                pollShard(handler, shard);
+            }
+        }
+    }
+
+    @Scheduled(fixedRate = 5000)
+    public void refreshMetrics() {
+        long now = System.currentTimeMillis();
+        for (DelayedJobHandler handler : handlers) {
+            DelayedJobType jobType = handler.getJobType();
+            for (int shard = 0; shard < DelayedJobQueue.SHARD_COUNT; shard++) {
+                if (!shardCoordinator.getOwnedShards().contains(shard)) {
+                    backlogs.get(jobType).set(shard, NOT_OWNED);
+                    lagMillis.get(jobType).set(shard, NOT_OWNED);
+                    continue;
+                }
+                try {
+                    Long oldestRunAt = delayedJobQueue.getOldestRunAt(jobType, shard);
+                    backlogs.get(jobType).set(shard, delayedJobQueue.getBacklog(jobType, shard, now));
+                    lagMillis.get(jobType).set(shard, oldestRunAt != null ? Math.max(0, now - oldestRunAt) : 0);
+                } catch (Exception e) {
+                    log.warn("[DelayedJob] 지표 갱신 실패 → type={}, shard={}", jobType, shard);
+                }
+            }
+        }
+    }
+
+    private void pollShard(DelayedJobHandler handler, int shard) {
+        DelayedJobType jobType = handler.getJobType();
+        long now = System.currentTimeMillis();
+        if (now < nextPollAt.get(jobType)[shard]) {
+            return;
+        }
+
+        try {
+            List<String> claimed = delayedJobQueue.claim(jobType, shard, now, JOB_LEASE_MILLIS, CLAIM_BATCH_SIZE);
+            if (claimed.isEmpty()) {
+                long[] shardBackoff = backoff.get(jobType);
+                shardBackoff[shard] = Math.min(Math.max(shardBackoff[shard] * 2, MIN_BACKOFF_MILLIS), MAX_BACKOFF_MILLIS);
+                nextPollAt.get(jobType)[shard] = now + shardBackoff[shard];
+                return;
+            }
+
+            List<String> completed = handler.handle(claimed);
+            delayedJobQueue.complete(jobType, shard, completed);
+            processedCounters.get(jobType).increment(completed.size());
+
+            backoff.get(jobType)[shard] = claimed.size() >= CLAIM_BATCH_SIZE ? 0 : MIN_BACKOFF_MILLIS;
+            nextPollAt.get(jobType)[shard] = now + backoff.get(jobType)[shard];
+            log.info("[DelayedJob] 처리 완료 → type={}, shard={}, 점유 {}건, 완료 {}건", jobType, shard, claimed.size(), completed.size());
+        } catch (Exception e) {
+            backoff.get(jobType)[shard] = MAX_BACKOFF_MILLIS;
+            nextPollAt.get(jobType)[shard] = now + MAX_BACKOFF_MILLIS;
+            log.error("[DelayedJob] 처리 실패 → type={}, shard={}", jobType, shard, e);
+        }
+    }
+
+    private void registerShardGauges(MeterRegistry meterRegistry, DelayedJobType jobType) {
+        for (int shard = 0; shard < DelayedJobQueue.SHARD_COUNT; shard++) {
+            int index = shard;
+            Gauge.builder(BACKLOG_METRIC, backlogs, values -> toGaugeValue(values.get(jobType).get(index)))
+                    .tag("type", jobType.getKey())
+                    .tag("shard", String.valueOf(shard))
+                    .register(meterRegistry);
+            Gauge.builder(LAG_METRIC, lagMillis, values -> toGaugeValue(values.get(jobType).get(index)) / 1000.0)
+                    .tag("type", jobType.getKey())
+                    .tag("shard", String.valueOf(shard))
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    // 소유하지 않은 샤드는 다른 노드가 보고하므로 값을 내지 않는다.
+    private static double toGaugeValue(long value) {
+        return value == NOT_OWNED ? Double.NaN : value;
+    }
+
+    private static AtomicLongArray newMetricArray() {
+        AtomicLongArray values = new AtomicLongArray(DelayedJobQueue.SHARD_COUNT);
+        for (int i = 0; i < values.length(); i++) {
+            values.set(i, NOT_OWNED);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.tablenow.global.delayedjob;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.DELAYED_JOB_PREFIX;
+import static org.example.tablenow.global.constant.TimeConstants.ZONE_ID_ASIA_SEOUL;
+
+/**
+ * 샤드 분할 지연 작업 큐
+ * - delayed-job:{jobType}:{shard}            ZSET (member=jobId, score=실행 시각 epoch millis)
+ * - delayed-job:{jobType}:{shard}:processing ZSET (member=jobId, score=리스 만료 시각)
+ * jobId 해시로 샤드를 정하므로 같은 작업의 등록/취소는 항상 같은 샤드로 간다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DelayedJobQueue {
+
+    private final StringRedisTemplate redisTemplate;
+
+    public static final int SHARD_COUNT = 16;
+
+    // KEYS[1]=queueKey, KEYS[2]=processingKey, ARGV[1]=now, ARGV[2]=leaseUntil, ARGV[3]=limit
+    // 리스가 만료된 처리 중 작업을 먼저 재점유하고, 남은 수만큼 도래 작업을 옮긴다.
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local limit = tonumber(ARGV[3])
+            local claimed = redis.call('ZRANGEBYSCORE', KEYS[2], 0, ARGV[1], 'LIMIT', 0, limit)
+            for i = 1, #claimed do
+                redis.call('ZADD', KEYS[2], ARGV[2], claimed[i])
+            end
+            if #claimed < limit then
+                local due = redis.call('ZRANGEBYSCORE', KEYS[1], 0, ARGV[1], 'LIMIT', 0, limit - #claimed)
+                for i = 1, #due do
+                    redis.call('ZREM', KEYS[1], due[i])
+                    redis.call('ZADD', KEYS[2], ARGV[2], due[i])
+                    table.insert(claimed, due[i])
+                end
+            end
+            return claimed
+            """, List.class);
+
+    // KEYS[1]=queueKey, ARGV[1]=runAt, ARGV[2]=jobId
+    // 대기 중인 작업이 없거나 새 실행 시각이 더 이를 때만 갱신한다. (ZADD LT 와 동일, Redis 6.2 미만 호환)
+    private static final RedisScript<Long> SCHEDULE_EARLIEST_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('ZSCORE', KEYS[1], ARGV[2])
+            if current and tonumber(current) <= tonumber(ARGV[1]) then return 0 end
+            redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    public void schedule(DelayedJobType jobType, String jobId, LocalDateTime runAt) {
+        redisTemplate.opsForZSet().add(getQueueKey(jobType, getShard(jobId)), jobId, toEpochMillis(runAt));
+    }
+
+    /**
+     * 이미 대기 중인 작업이 있으면 둘 중 이른 실행 시각을 유지 (디바운스용)
+     * 늦은 예약(선점 만료 재배정 등)이 먼저 잡혀 있어도 새로 들어온 이른 요청이 밀리지 않는다.
+     */
+    public void scheduleEarliest(DelayedJobType jobType, String jobId, LocalDateTime runAt) {
+        redisTemplate.execute(
+                SCHEDULE_EARLIEST_SCRIPT,
+                List.of(getQueueKey(jobType, getShard(jobId))),
+                String.valueOf(toEpochMillis(runAt)),
+                jobId
+        );
+    }
+
+    public void cancel(DelayedJobType jobType, String jobId) {
+        int shard = getShard(jobId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.zRem(getQueueKey(jobType, shard), jobId);
+            conn.zRem(getProcessingKey(jobType, shard), jobId);
+            return null;
+        });
+    }
+
+    public List<String> claim(DelayedJobType jobType, int shard, long nowMillis, long leaseMillis, int limit) {
+        List<?> claimed = redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(getQueueKey(jobType, shard), getProcessingKey(jobType, shard)),
+                String.valueOf(nowMillis),
+                String.valueOf(nowMillis + leaseMillis),
+                String.valueOf(limit)
+        );
+        if (claimed == null) {
+            return List.of();
+        }
+        return claimed.stream().map(String::valueOf).toList();
+    }
+
+    public void complete(DelayedJobType jobType, int shard, Collection<String> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(getProcessingKey(jobType, shard), jobIds.toArray());
+    }
+
+    /**
+     * @return 실행 시각이 도래했지만 아직 점유되지 않은 작업 수 (미래 예약/처리 중 제외)
+     */
+    public long getBacklog(DelayedJobType jobType, int shard, long nowMillis) {
+        Long size = redisTemplate.opsForZSet().count(getQueueKey(jobType, shard), Double.NEGATIVE_INFINITY, nowMillis);
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * @return 가장 오래 밀린 작업의 실행 시각 (없으면 null)
+     */
+    public Long getOldestRunAt(DelayedJobType jobType, int shard) {
+        Set<ZSetOperations.TypedTuple<String>> oldest = redisTemplate.opsForZSet()
+                .rangeWithScores(getQueueKey(jobType, shard), 0, 0);
+        if (oldest == null || oldest.isEmpty()) {
+            return null;
+        }
+        Double score = oldest.iterator().next().getScore();
+        return score != null ? score.longValue() : null;
+    }
+
+    public static int getShard(String jobId) {
+        return Math.floorMod(jobId.hashCode(), SHARD_COUNT);
+    }
+
+    public static String getQueueKey(DelayedJobType jobType, int shard) {
+        return DELAYED_JOB_PREFIX + jobType.getKey() + ":" + shard;
+    }
+
+    public static String getProcessingKey(DelayedJobType jobType, int shard) {
+        return getQueueKey(jobType, shard) + ":processing";
+    }
+
+    public static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZONE_ID_ASIA_SEOUL).toInstant().toEpochMilli();
+    }
+}
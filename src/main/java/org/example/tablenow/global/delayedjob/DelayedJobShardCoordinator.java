@@ -0,0 +1,130 @@
+package org.example.tablenow.global.delayedjob;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.DELAYED_JOB_LEASE_PREFIX;
+import static org.example.tablenow.global.constant.RedisKeyConstants.DELAYED_JOB_NODES_KEY;
+
+/**
+ * 지연 작업 샤드 소유권 관리
+ * 1. 노드마다 1초 주기로 delayed-job:nodes ZSET 에 하트비트(score=시각)를 남기고, NODE_TTL 이 지난 노드는 제거
+ * 2. 살아있는 노드를 ID 순으로 정렬해 shard % 노드 수 == 내 순번인 샤드를 담당
+ * 3. 담당 샤드는 리스(delayed-job:lease:{shard})를 획득/연장한 경우에만 폴링하고, 담당에서 빠진 샤드는 리스를 반납
+ * 노드 증감 시 이전 소유자의 리스가 반납되거나 만료된 뒤에 새 소유자가 가져가므로 한 샤드를 두 노드가 동시에 폴링하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DelayedJobShardCoordinator {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final long NODE_TTL_MILLIS = 5000;
+    private static final long LEASE_TTL_MILLIS = 5000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile Set<Integer> ownedShards = Set.of();
+
+    // KEYS[1]=leaseKey, ARGV[1]=nodeId, ARGV[2]=ttl
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if not owner then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // KEYS[1]=leaseKey, ARGV[1]=nodeId
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    @Scheduled(fixedRate = 1000)
+    public void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().add(DELAYED_JOB_NODES_KEY, nodeId, now);
+            redisTemplate.opsForZSet().removeRangeByScore(DELAYED_JOB_NODES_KEY, 0, now - NODE_TTL_MILLIS);
+
+            Set<String> liveNodes = redisTemplate.opsForZSet().range(DELAYED_JOB_NODES_KEY, 0, -1);
+            rebalance(liveNodes != null ? new ArrayList<>(liveNodes) : List.of(nodeId));
+        } catch (Exception e) {
+            // Redis 장애 시 리스도 곧 만료되므로 폴링을 멈춘다.
+            ownedShards = Set.of();
+            log.error("[DelayedJob] 하트비트 실패 → 샤드 폴링 중단, nodeId={}", nodeId, e);
+        }
+    }
+
+    public Set<Integer> getOwnedShards() {
+        return ownedShards;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ownedShards.forEach(this::release);
+        ownedShards = Set.of();
+        redisTemplate.opsForZSet().remove(DELAYED_JOB_NODES_KEY, nodeId);
+    }
+
+    private void rebalance(List<String> liveNodes) {
+        List<String> nodes = new ArrayList<>(liveNodes);
+        if (!nodes.contains(nodeId)) {
+            nodes.add(nodeId);
+        }
+        Collections.sort(nodes);
+        int nodeCount = nodes.size();
+        int nodeIndex = nodes.indexOf(nodeId);
+
+        Set<Integer> acquired = new HashSet<>();
+        for (int shard = 0; shard < DelayedJobQueue.SHARD_COUNT; shard++) {
+            if (shard % nodeCount != nodeIndex) {
+                if (ownedShards.contains(shard)) {
+                    release(shard);
+                }
+                continue;
+            }
+            if (acquire(shard)) {
+                acquired.add(shard);
+            }
+        }
+
+        if (!acquired.equals(ownedShards)) {
+            log.info("[DelayedJob] 샤드 소유권 변경 → nodeId={}, 노드 수={}, 샤드={}", nodeId, nodeCount, acquired);
+        }
+        ownedShards = Set.copyOf(acquired);
+    }
+
+    private boolean acquire(int shard) {
+        Long result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(getLeaseKey(shard)), nodeId, String.valueOf(LEASE_TTL_MILLIS));
+        return Long.valueOf(1L).equals(result);
+    }
+
+    private void release(int shard) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(getLeaseKey(shard)), nodeId);
+    }
+
+    private static String getLeaseKey(int shard) {
+        return DELAYED_JOB_LEASE_PREFIX + shard;
+    }
+}
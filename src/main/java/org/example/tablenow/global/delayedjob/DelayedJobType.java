@@ -0,0 +1,14 @@
+package org.example.tablenow.global.delayedjob;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum DelayedJobType {
+    RESERVATION_REMINDER("reminder"),
+    EVENT_OPEN("event-open"),
+    VACANCY_DISPATCH("vacancy-dispatch");
+
+    private final String key;
+}
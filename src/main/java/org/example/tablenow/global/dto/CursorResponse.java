@@ -0,0 +1,26 @@
+package org.example.tablenow.global.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorResponse<T> {
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final boolean hasNext;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long totalElements; // 전체 건수 요청 시에만 포함
+
+    @Builder
+    public CursorResponse(List<T> content, int size, String nextCursor, boolean hasNext, Long totalElements) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.totalElements = totalElements;
+    }
+}
@@ -49,6 +49,9 @@ public enum ErrorCode {
     STORE_ELASTICSEARCH_INDEX_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Elasticsearch 인덱스 처리에 실패했습니다"),
     STORE_RABBIT_MQ_MESSAGE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "가게 데이터 메시지 처리 실패했습니다."),
     STORE_SERIALIZATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "가게 메시지를 직렬화하는 데 실패했습니다."),
+    STORE_REINDEX_IN_PROGRESS(HttpStatus.CONFLICT, "가게 인덱스 재색인이 이미 진행 중입니다."),
+    STORE_REINDEX_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "재색인 작업을 찾을 수 없습니다."),
+    STORE_INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 검색 커서입니다. 첫 페이지부터 다시 조회해주세요."),
 
     // RATING
     RATING_NOT_FOUND(HttpStatus.NOT_FOUND, "평점이 존재하지 않습니다."),
@@ -63,6 +66,8 @@ public enum ErrorCode {
     RESERVATION_STATUS_INVALID(HttpStatus.BAD_REQUEST, "예약 상태가 유효하지 않습니다."),
     RESERVATION_STATUS_UPDATE_FORBIDDEN(HttpStatus.BAD_REQUEST, "예약 상태에서만 변경할 수 있습니다."),
     RESERVATION_LOCK_TIMEOUT(HttpStatus.CONFLICT, "예약 신청 대기 중 시간이 초과되었습니다."),
+    RESERVATION_AVAILABILITY_RANGE_INVALID(HttpStatus.BAD_REQUEST, "조회 기간은 시작일부터 최대 60일까지 가능합니다."),
+    RESERVATION_INVENTORY_CONFLICT(HttpStatus.CONFLICT, "동시에 처리된 예약이 있어 실패했습니다. 다시 시도해주세요."),
 
     // EVENT
     EVENT_NOT_FOUND(HttpStatus.NOT_FOUND, "이벤트가 존재하지 않습니다."),
@@ -79,7 +84,10 @@ public enum ErrorCode {
     NOTIFICATION_DISABLED(HttpStatus.FORBIDDEN, "알림 수신을 거부한 사용자입니다."),
     NOTIFICATION_MISMATCH(HttpStatus.FORBIDDEN, "알람을 받은 본인만 읽음 처리를 할 수 있습니다."),
     NOTIFICATION_BAD_REQUEST(HttpStatus.BAD_REQUEST, "가게 아이디 입력 필수입니다."),
+    NOTIFICATION_WAIT_DATE_REQUIRED(HttpStatus.BAD_REQUEST, "빈자리 알림은 대기 날짜 입력 필수입니다."),
     NOTIFICATION_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, " 알람 처리 중 오류 발생"),
+    NOTIFICATION_SUBSCRIBE_FORBIDDEN(HttpStatus.FORBIDDEN, "본인의 알림만 구독할 수 있습니다."),
+    SUBSCRIBE_PATTERN_FORBIDDEN(HttpStatus.FORBIDDEN, "와일드카드 경로는 구독할 수 없습니다."),
 
     // WAITLIST
     WAITLIST_ALREADY_REGISTERED(HttpStatus.CONFLICT, "이미 대기중인 사용자 입니다."),
@@ -0,0 +1,79 @@
+package org.example.tablenow.global.interceptor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.global.constant.WebSocketConstants;
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/*
+ * 알림 토픽 SUBSCRIBE 시 구독 경로의 userId 와 세션의 userId(JWT 인증값)가 같은지 확인한다
+ * SimpleBroker(AntPathMatcher: *, **, ?, {var})와 Relay(amq.topic: *, #)는 구독 경로를 패턴으로 해석하므로
+ * 패턴 문자가 들어간 구독은 모두 거부한다. (/topic/** 나 /exchange/amq.topic/# 로 전체 알림을 받는 것을 차단)
+ */
+@Slf4j
+@Component
+public class NotificationSubscribeInterceptor implements ChannelInterceptor {
+
+    private static final String SUBSCRIBE_PATTERN_CHARS = "*#?{";
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (isPattern(destination)) {
+            log.warn("[WebSocket] 패턴 경로 구독 거부 - destination: {}", destination);
+            throw new HandledException(ErrorCode.SUBSCRIBE_PATTERN_FORBIDDEN);
+        }
+
+        String targetUserId = extractTargetUserId(destination);
+        if (targetUserId == null) {
+            return message;
+        }
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        Object userId = sessionAttributes != null ? sessionAttributes.get("userId") : null;
+        if (userId == null || !targetUserId.equals(String.valueOf(userId))) {
+            log.warn("[WebSocket] 타인 알림 구독 거부 - sessionUserId: {}, destination: {}", userId, accessor.getDestination());
+            throw new HandledException(ErrorCode.NOTIFICATION_SUBSCRIBE_FORBIDDEN);
+        }
+        return message;
+    }
+
+    private boolean isPattern(String destination) {
+        if (destination == null) {
+            return false;
+        }
+        for (char c : SUBSCRIBE_PATTERN_CHARS.toCharArray()) {
+            if (destination.indexOf(c) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String extractTargetUserId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        if (destination.startsWith(WebSocketConstants.TOPIC_NOTIFICATION_PREFIX_SIMPLE)) {
+            return destination.substring(WebSocketConstants.TOPIC_NOTIFICATION_PREFIX_SIMPLE.length());
+        }
+        if (destination.startsWith(WebSocketConstants.TOPIC_NOTIFICATION_PREFIX_RELAY)) {
+            return destination.substring(WebSocketConstants.TOPIC_NOTIFICATION_PREFIX_RELAY.length());
+        }
+        return null;
+    }
+}
@@ -6,6 +6,7 @@ import org.example.tablenow.domain.chat.dto.response.ChatMessageResponse;
 import org.example.tablenow.domain.chat.dto.response.ChatReadStatusResponse;
 import org.example.tablenow.domain.chat.entity.ChatMessage;
 import org.example.tablenow.domain.chat.repository.ChatMessageRepository;
+import org.example.tablenow.domain.chat.service.ChatParticipantCache.ChatParticipants;
 import org.example.tablenow.domain.reservation.entity.Reservation;
 import org.example.tablenow.domain.reservation.service.ReservationService;
 import org.example.tablenow.domain.store.entity.Store;
@@ -27,6 +28,7 @@ import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,9 +36,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class ChatMessageServiceTest {
@@ -49,6 +53,8 @@ class ChatMessageServiceTest {
     private UserService userService;
     @Mock
     private RabbitTemplate rabbitTemplate;
+    @Mock
+    private ChatParticipantCache chatParticipantCache;
 
     @InjectMocks
     private ChatMessageService chatMessageService;
@@ -92,7 +98,9 @@ class ChatMessageServiceTest {
 
             given(chatMessageRepository.findTop1ByReservationIdOrderByCreatedAtDesc(RESERVATION_ID)).willReturn(Optional.empty());
             given(reservationService.getReservationWithStore(RESERVATION_ID)).willReturn(reservation);
-            given(userService.getUser(senderId)).willReturn(sender);
+            given(userService.getUserNames(List.of(OWNER_ID, RESERVATION_USER_ID)))
+                    .willReturn(Map.of(OWNER_ID, "사장님", RESERVATION_USER_ID, "손님"));
+            given(userService.getUserReference(senderId)).willReturn(sender);
             given(chatMessageRepository.save(any(ChatMessage.class))).willReturn(buildChatMessage(request, senderId, reservation));
 
             // when
@@ -100,8 +108,31 @@ class ChatMessageServiceTest {
 
             // then
             assertThat(response.getReservationId()).isEqualTo(RESERVATION_ID);
+            assertThat(response.getSenderName()).isEqualTo("사장님");
+            verify(chatParticipantCache).put(RESERVATION_ID, new ChatParticipants(OWNER_ID, "사장님", RESERVATION_USER_ID, "손님"));
             verify(rabbitTemplate).convertAndSend(anyString(), anyString(), any(ChatMessageResponse.class));
         }
+
+        @Test
+        void 캐시된_참여자_정보가_있으면_DB_조회_없이_저장() {
+            // given
+            Long senderId = RESERVATION_USER_ID;
+            ChatMessageRequest request = new ChatMessageRequest(RESERVATION_ID, "Hello", null);
+
+            given(chatParticipantCache.get(RESERVATION_ID))
+                    .willReturn(new ChatParticipants(OWNER_ID, "사장님", RESERVATION_USER_ID, "손님"));
+            given(userService.getUserReference(senderId)).willReturn(User.builder().id(senderId).build());
+            given(chatMessageRepository.save(any(ChatMessage.class))).willReturn(buildChatMessage(request, senderId, reservation));
+
+            // when
+            ChatMessageResponse response = chatMessageService.saveMessageAndNotify(request, senderId);
+
+            // then
+            assertThat(response.getSenderName()).isEqualTo("손님");
+            verify(chatMessageRepository, never()).findTop1ByReservationIdOrderByCreatedAtDesc(anyLong());
+            verify(reservationService, never()).getReservationWithStore(anyLong());
+            verify(userService, never()).getUserNames(any());
+        }
     }
 
     @Nested
@@ -0,0 +1,144 @@
+package org.example.tablenow.domain.event;
+
+import org.example.tablenow.domain.event.entity.Event;
+import org.example.tablenow.domain.event.message.dto.EventJoinMessage;
+import org.example.tablenow.domain.event.repository.EventJoinBulkRepository;
+import org.example.tablenow.domain.event.repository.EventJoinRepository;
+import org.example.tablenow.domain.event.repository.EventRepository;
+import org.example.tablenow.domain.event.service.EventJoinReconciler;
+import org.example.tablenow.domain.event.service.EventJoinScriptExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventJoinReconcilerTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventJoinRepository eventJoinRepository;
+
+    @Mock
+    private EventJoinBulkRepository eventJoinBulkRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks
+    private EventJoinReconciler eventJoinReconciler;
+
+    private final Long eventId = 1L;
+    private final int limitPeople = 10;
+    private final String joinKey = "event:join:" + eventId;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        event = mock(Event.class);
+        given(event.getId()).willReturn(eventId);
+        given(event.getLimitPeople()).willReturn(limitPeople);
+    }
+
+    private void givenRedisJoins(Object... userIdAndScores) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+        for (int i = 0; i < userIdAndScores.length; i += 2) {
+            tuples.add(new DefaultTypedTuple<>((String) userIdAndScores[i], (Double) userIdAndScores[i + 1]));
+        }
+        given(zSetOperations.rangeWithScores(joinKey, 0, -1)).willReturn(tuples);
+    }
+
+    private EventJoinMessage dbJoin(Long userId, LocalDateTime joinedAt) {
+        return EventJoinMessage.builder().eventId(eventId).userId(userId).joinedAt(joinedAt).build();
+    }
+
+    @Nested
+    class 이벤트_참여_대사 {
+
+        @Test
+        void Redis에만_있는_참여는_참여_시각으로_DB_저장() {
+            // given
+            givenRedisJoins("1", 1_714_000_000_000d, "2", 1_714_000_001_000d);
+            given(eventJoinRepository.findJoinsByEventId(eventId))
+                    .willReturn(List.of(dbJoin(1L, EventJoinScriptExecutor.toLocalDateTime(1_714_000_000_000L))));
+
+            // when
+            eventJoinReconciler.reconcileEvent(event);
+
+            // then
+            ArgumentCaptor<List<EventJoinMessage>> captor = ArgumentCaptor.forClass(List.class);
+            verify(eventJoinBulkRepository).insertIgnoreDuplicates(captor.capture());
+            List<EventJoinMessage> inserted = captor.getValue();
+            assertAll(
+                    () -> assertEquals(1, inserted.size()),
+                    () -> assertEquals(2L, inserted.get(0).getUserId()),
+                    () -> assertEquals(EventJoinScriptExecutor.toLocalDateTime(1_714_000_001_000L), inserted.get(0).getJoinedAt())
+            );
+            verify(redisTemplate).opsForZSet();
+            verifyNoMoreInteractions(redisTemplate);
+        }
+
+        @Test
+        void DB에만_있는_참여는_DB_참여_시각과_정원으로_Redis에_복원() {
+            // given
+            LocalDateTime joinedAt = LocalDateTime.of(2024, 4, 25, 12, 0);
+            givenRedisJoins("1", 1_714_000_000_000d);
+            given(eventJoinRepository.findJoinsByEventId(eventId)).willReturn(List.of(
+                    dbJoin(1L, EventJoinScriptExecutor.toLocalDateTime(1_714_000_000_000L)),
+                    dbJoin(3L, joinedAt)
+            ));
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(joinKey)), any(), any(), any())).willReturn(1L);
+
+            // when
+            eventJoinReconciler.reconcileEvent(event);
+
+            // then
+            verify(eventJoinBulkRepository).insertIgnoreDuplicates(List.of());
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(joinKey)),
+                    eq(String.valueOf(limitPeople)),
+                    eq(String.valueOf(EventJoinScriptExecutor.toEpochMillis(joinedAt))),
+                    eq("3"));
+            verify(zSetOperations, never()).addIfAbsent(anyString(), anyString(), anyDouble());
+        }
+
+        @Test
+        void 일치하면_보정_없음() {
+            // given
+            givenRedisJoins("1", 1_714_000_000_000d);
+            given(eventJoinRepository.findJoinsByEventId(eventId))
+                    .willReturn(List.of(dbJoin(1L, EventJoinScriptExecutor.toLocalDateTime(1_714_000_000_000L))));
+
+            // when
+            eventJoinReconciler.reconcileEvent(event);
+
+            // then
+            verify(eventJoinBulkRepository).insertIgnoreDuplicates(List.of());
+            verify(redisTemplate).opsForZSet();
+            verifyNoMoreInteractions(redisTemplate);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.tablenow.domain.event;
+
+import org.example.tablenow.domain.event.dto.response.EventJoinResponseDto;
+import org.example.tablenow.domain.event.message.dto.EventJoinMessage;
+import org.example.tablenow.domain.event.message.producer.EventJoinProducer;
+import org.example.tablenow.domain.event.service.EventJoinScriptExecutor;
+import org.example.tablenow.domain.event.service.EventMetaCache;
+import org.example.tablenow.domain.user.enums.UserRole;
+import org.example.tablenow.global.dto.AuthUser;
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventJoinScriptExecutorTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private EventMetaCache eventMetaCache;
+
+    @Mock
+    private EventJoinProducer eventJoinProducer;
+
+    @InjectMocks
+    private EventJoinScriptExecutor eventJoinScriptExecutor;
+
+    private final Long eventId = 1L;
+    private final String joinKey = "event:join:" + eventId;
+    private final String metaKey = "event:meta:" + eventId;
+    private final AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.ROLE_USER, "일반회원");
+
+    private void givenScriptResult(Long result, Long... nextResults) {
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of(metaKey, joinKey)), eq("1"), anyString()))
+                .willReturn(result, nextResults);
+    }
+
+    @Nested
+    class 이벤트_참여 {
+
+        @Test
+        void 참여_성공시_참여_기록_발행_후_응답_반환() {
+            // given
+            givenScriptResult(1L);
+            given(eventMetaCache.get(eventId)).willReturn(
+                    new EventMetaCache.EventMeta(100L, "테스트 가게", LocalDateTime.of(2025, 4, 30, 18, 0)));
+
+            // when
+            EventJoinResponseDto response = eventJoinScriptExecutor.execute(eventId, authUser);
+
+            // then
+            ArgumentCaptor<EventJoinMessage> captor = ArgumentCaptor.forClass(EventJoinMessage.class);
+            verify(eventJoinProducer).send(captor.capture());
+            EventJoinMessage message = captor.getValue();
+            assertAll(
+                    () -> assertEquals(eventId, response.getEventId()),
+                    () -> assertNull(response.getEventJoinId()),
+                    () -> assertEquals(100L, response.getStoreId()),
+                    () -> assertEquals("테스트 가게", response.getStoreName()),
+                    () -> assertEquals(eventId, message.getEventId()),
+                    () -> assertEquals(1L, message.getUserId()),
+                    () -> assertEquals(response.getJoinedAt(), message.getJoinedAt())
+            );
+            verify(eventMetaCache, never()).load(any());
+        }
+
+        @Test
+        void 메타_캐시가_없으면_재구성_후_재시도() {
+            // given
+            givenScriptResult(-3L, 1L);
+            given(eventMetaCache.get(eventId)).willReturn(new EventMetaCache.EventMeta(100L, "테스트 가게", null));
+
+            // when
+            eventJoinScriptExecutor.execute(eventId, authUser);
+
+            // then
+            verify(eventMetaCache).load(eventId);
+            verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(), any());
+        }
+
+        @Test
+        void 오픈되지_않은_이벤트면_예외() {
+            // given
+            givenScriptResult(-2L);
+
+            // when & then
+            HandledException ex = assertThrows(HandledException.class, () ->
+                    eventJoinScriptExecutor.execute(eventId, authUser)
+            );
+            assertEquals(ErrorCode.EVENT_NOT_OPENED.getDefaultMessage(), ex.getMessage());
+        }
+
+        @Test
+        void 이미_참여했으면_예외() {
+            // given
+            givenScriptResult(-1L);
+
+            // when & then
+            HandledException ex = assertThrows(HandledException.class, () ->
+                    eventJoinScriptExecutor.execute(eventId, authUser)
+            );
+            assertEquals(ErrorCode.EVENT_ALREADY_JOINED.getDefaultMessage(), ex.getMessage());
+        }
+
+        @Test
+        void 정원_초과시_예외_및_참여_기록_발행_안함() {
+            // given
+            givenScriptResult(0L);
+
+            // when & then
+            HandledException ex = assertThrows(HandledException.class, () ->
+                    eventJoinScriptExecutor.execute(eventId, authUser)
+            );
+            assertEquals(ErrorCode.EVENT_FULL.getDefaultMessage(), ex.getMessage());
+            verifyNoInteractions(eventJoinProducer);
+        }
+
+        @Test
+        void 참여_기록_발행_실패시_자리삭제_및_예외_전파() {
+            // given
+            givenScriptResult(1L);
+            willThrow(new RuntimeException("브로커 연결 실패")).given(eventJoinProducer).send(any());
+            given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+            // when & then
+            assertThrows(RuntimeException.class, () ->
+                    eventJoinScriptExecutor.execute(eventId, authUser)
+            );
+            verify(zSetOperations).remove(joinKey, "1");
+            verify(eventMetaCache, never()).get(any());
+        }
+    }
+}
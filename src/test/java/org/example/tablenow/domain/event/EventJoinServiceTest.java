@@ -8,6 +8,7 @@ import org.example.tablenow.domain.event.enums.EventStatus;
 import org.example.tablenow.domain.event.repository.EventJoinRepository;
 import org.example.tablenow.domain.event.repository.EventRepository;
 import org.example.tablenow.domain.event.service.EventJoinExecutor;
+import org.example.tablenow.domain.event.service.EventJoinScriptExecutor;
 import org.example.tablenow.domain.event.service.EventJoinService;
 import org.example.tablenow.domain.store.entity.Store;
 import org.example.tablenow.domain.user.entity.User;
@@ -43,6 +44,9 @@ public class EventJoinServiceTest {
     @Mock
     private EventJoinExecutor eventJoinExecutor;
 
+    @Mock
+    private EventJoinScriptExecutor eventJoinScriptExecutor;
+
     @InjectMocks
     private EventJoinService eventJoinService;
 
@@ -212,4 +216,24 @@ public class EventJoinServiceTest {
             assertEquals(expected.getEventId(), response.getEventId());
         }
     }
+
+    @Nested
+    class Lua_스크립트_기반_이벤트_참여 {
+
+        @Test
+        void 참여_성공() {
+            // given
+            EventJoinResponseDto expected = EventJoinResponseDto.fromEventJoin(
+                    EventJoin.builder().user(user).event(event).build()
+            );
+            given(eventJoinScriptExecutor.execute(eventId, authUser)).willReturn(expected);
+
+            // when
+            EventJoinResponseDto response = eventJoinService.joinEventWithLuaScript(eventId, authUser);
+
+            // then
+            assertNotNull(response);
+            assertEquals(expected.getEventId(), response.getEventId());
+        }
+    }
 }
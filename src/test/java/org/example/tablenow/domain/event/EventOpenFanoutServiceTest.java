@@ -0,0 +1,162 @@
+package org.example.tablenow.domain.event;
+
+import org.example.tablenow.domain.event.message.dto.EventOpenMessage;
+import org.example.tablenow.domain.event.message.dto.EventOpenShardMessage;
+import org.example.tablenow.domain.event.message.producer.EventOpenShardProducer;
+import org.example.tablenow.domain.event.repository.EventOpenShardDeliveryRepository;
+import org.example.tablenow.domain.event.service.EventOpenFanoutService;
+import org.example.tablenow.domain.notification.enums.NotificationType;
+import org.example.tablenow.domain.notification.service.NotificationService;
+import org.example.tablenow.domain.user.service.UserService;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.example.tablenow.global.constant.RabbitConstant.EVENT_OPEN_SHARD_SIZE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventOpenFanoutServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private EventOpenShardProducer eventOpenShardProducer;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private EventOpenShardDeliveryRepository shardDeliveryRepository;
+
+    @InjectMocks
+    private EventOpenFanoutService eventOpenFanoutService;
+
+    private final Long eventId = 1L;
+    private final String progressKey = "event:open:fanout:" + eventId;
+
+    private final EventOpenMessage message = EventOpenMessage.builder()
+            .eventId(eventId)
+            .storeId(10L)
+            .storeName("테스트 가게")
+            .build();
+
+    private static List<Long> userIds(long fromId, int size) {
+        return LongStream.range(fromId, fromId + size).boxed().toList();
+    }
+
+    @Nested
+    class 샤드_발행 {
+
+        @Test
+        void 유저_ID를_keyset_페이지로_읽어_샤드_발행_및_진행상황_기록() {
+            // given
+            given(redisTemplate.opsForHash()).willReturn(hashOperations);
+            given(hashOperations.entries(progressKey)).willReturn(Map.of());
+            given(userService.getAlarmEnabledUserIdsAfter(0L, EVENT_OPEN_SHARD_SIZE)).willReturn(userIds(1, EVENT_OPEN_SHARD_SIZE));
+            given(userService.getAlarmEnabledUserIdsAfter((long) EVENT_OPEN_SHARD_SIZE, EVENT_OPEN_SHARD_SIZE)).willReturn(userIds(EVENT_OPEN_SHARD_SIZE + 1, 5));
+
+            // when
+            int published = eventOpenFanoutService.fanOut(message);
+
+            // then
+            ArgumentCaptor<EventOpenShardMessage> captor = ArgumentCaptor.forClass(EventOpenShardMessage.class);
+            verify(eventOpenShardProducer, times(2)).send(captor.capture());
+            List<EventOpenShardMessage> shards = captor.getAllValues();
+            assertAll(
+                    () -> assertEquals(2, published),
+                    () -> assertEquals(0, shards.get(0).getShardNo()),
+                    () -> assertEquals(EVENT_OPEN_SHARD_SIZE, shards.get(0).getUserIds().size()),
+                    () -> assertEquals(1, shards.get(1).getShardNo()),
+                    () -> assertEquals(5, shards.get(1).getUserIds().size())
+            );
+            verify(hashOperations).putAll(progressKey, Map.of("cursor", String.valueOf(EVENT_OPEN_SHARD_SIZE + 5), "nextShard", "2"));
+        }
+
+        @Test
+        void 재시도시_기록된_커서부터_이어서_발행() {
+            // given
+            given(redisTemplate.opsForHash()).willReturn(hashOperations);
+            given(hashOperations.entries(progressKey)).willReturn(Map.of("cursor", "1000", "nextShard", "1"));
+            given(userService.getAlarmEnabledUserIdsAfter(1000L, EVENT_OPEN_SHARD_SIZE)).willReturn(userIds(1001, 3));
+
+            // when
+            eventOpenFanoutService.fanOut(message);
+
+            // then
+            ArgumentCaptor<EventOpenShardMessage> captor = ArgumentCaptor.forClass(EventOpenShardMessage.class);
+            verify(eventOpenShardProducer).send(captor.capture());
+            assertEquals(1, captor.getValue().getShardNo());
+            verify(userService, never()).getAlarmEnabledUserIdsAfter(eq(0L), anyInt());
+        }
+    }
+
+    @Nested
+    class 샤드_알림_전송 {
+
+        private final EventOpenShardMessage shard = EventOpenShardMessage.builder()
+                .eventId(eventId)
+                .storeId(10L)
+                .storeName("테스트 가게")
+                .shardNo(3)
+                .userIds(List.of(1L, 2L))
+                .build();
+
+        @Test
+        void 샤드_완료_기록_후_알림_일괄_생성() {
+            // given
+            given(shardDeliveryRepository.insertIgnore(eq(eventId), eq(3), any(LocalDateTime.class))).willReturn(1);
+
+            // when
+            boolean delivered = eventOpenFanoutService.deliverShard(shard);
+
+            // then
+            assertTrue(delivered);
+            verify(notificationService).createNotifications(List.of(1L, 2L), NotificationType.EVENT_OPEN, "테스트 가게의 이벤트가 오픈되었습니다!");
+        }
+
+        @Test
+        void 이미_완료된_샤드는_재전송하지_않음() {
+            // given
+            given(shardDeliveryRepository.insertIgnore(eq(eventId), eq(3), any(LocalDateTime.class))).willReturn(0);
+
+            // when
+            boolean delivered = eventOpenFanoutService.deliverShard(shard);
+
+            // then
+            assertFalse(delivered);
+            verifyNoInteractions(notificationService);
+        }
+
+        @Test
+        void 알림_저장_실패시_예외를_전파해_완료_기록과_함께_롤백() {
+            // given
+            given(shardDeliveryRepository.insertIgnore(eq(eventId), eq(3), any(LocalDateTime.class))).willReturn(1);
+            doThrow(new RuntimeException("DB 오류")).when(notificationService).createNotifications(anyList(), any(), anyString());
+
+            // when & then
+            assertThrows(RuntimeException.class, () -> eventOpenFanoutService.deliverShard(shard));
+        }
+    }
+}
@@ -12,9 +12,13 @@ import org.example.tablenow.domain.event.enums.EventStatus;
 import org.example.tablenow.domain.event.message.dto.EventOpenMessage;
 import org.example.tablenow.domain.event.message.producer.EventOpenProducer;
 import org.example.tablenow.domain.event.repository.EventRepository;
+import org.example.tablenow.domain.event.service.EventMetaCache;
+import org.example.tablenow.domain.event.service.EventOpenMessageStore;
 import org.example.tablenow.domain.event.service.EventService;
 import org.example.tablenow.domain.store.entity.Store;
 import org.example.tablenow.domain.store.service.StoreService;
+import org.example.tablenow.global.delayedjob.DelayedJobQueue;
+import org.example.tablenow.global.delayedjob.DelayedJobType;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
 import org.junit.jupiter.api.Nested;
@@ -32,7 +36,9 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -60,6 +66,15 @@ public class EventServiceTest {
     @Mock
     private EventOpenProducer eventOpenProducer;
 
+    @Mock
+    private EventMetaCache eventMetaCache;
+
+    @Mock
+    private DelayedJobQueue delayedJobQueue;
+
+    @Mock
+    private EventOpenMessageStore eventOpenMessageStore;
+
     @Mock
     private ObjectMapper objectMapper;
 
@@ -124,7 +139,7 @@ public class EventServiceTest {
         }
 
         @Test
-        void 이벤트_생성_성공() throws JsonProcessingException {
+        void 이벤트_생성_성공() {
             // given
             Store store = createStore(1L, "테스트가게");
             EventRequestDto dto = createEventRequestDto(store.getId(), baseTime.plusHours(10), baseTime.plusHours(18));
@@ -132,11 +147,10 @@ public class EventServiceTest {
             given(eventRepository.existsByStore_IdAndEventTime(anyLong(), any())).willReturn(false);
             given(eventRepository.save(any(Event.class))).willAnswer(invocation -> {
                 Event e = invocation.getArgument(0);
+                ReflectionTestUtils.setField(e, "id", 1L);
                 ReflectionTestUtils.setField(e, "openAt", LocalDateTime.of(2025, 4, 30, 10, 0));
                 return e;
             });
-            given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
-            given(objectMapper.writeValueAsString(any())).willReturn("{\"eventId\":1}");
 
             // when
             EventResponseDto response = eventService.createEvent(dto);
@@ -145,7 +159,8 @@ public class EventServiceTest {
             assertNotNull(response);
             assertEquals(store.getId(), response.getStoreId());
             assertEquals(dto.getLimitPeople(), response.getLimitPeople());
-            verify(zSetOperations).add(eq("event:open:zset"), anyString(), anyDouble());
+            verify(delayedJobQueue).schedule(DelayedJobType.EVENT_OPEN, "1", LocalDateTime.of(2025, 4, 30, 10, 0));
+            verify(eventOpenMessageStore).put(any(EventOpenMessage.class));
         }
     }
 
@@ -177,7 +192,7 @@ public class EventServiceTest {
         }
 
         @Test
-        void 이벤트_수정_성공() throws JsonProcessingException {
+        void 이벤트_수정_성공() {
             // given
             Long eventId = 2L;
             Store store = createStore(20L, "정상 수정 매장");
@@ -192,9 +207,6 @@ public class EventServiceTest {
             );
 
             given(eventRepository.findById(eq(eventId))).willReturn(Optional.of(event));
-            given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
-            given(zSetOperations.add(anyString(), anyString(), anyDouble())).willReturn(true);
-            given(objectMapper.writeValueAsString(any())).willReturn("{\"eventId\":1}");
 
             // when
             EventResponseDto response = eventService.updateEvent(eventId, dto);
@@ -204,7 +216,7 @@ public class EventServiceTest {
             assertEquals(dto.getOpenAt(), response.getOpenAt());
             assertEquals(dto.getEventTime(), response.getEventTime());
             assertEquals(dto.getLimitPeople(), response.getLimitPeople());
-            verify(zSetOperations).add(anyString(), anyString(), anyDouble());
+            verify(delayedJobQueue).schedule(DelayedJobType.EVENT_OPEN, "2", dto.getOpenAt());
         }
     }
 
@@ -321,6 +333,8 @@ public class EventServiceTest {
             );
             verify(redisTemplate).delete("event:join:" + eventId);
             verify(zSetOperations).remove(eq("event:open:zset"), anyString());
+            verify(delayedJobQueue).cancel(DelayedJobType.EVENT_OPEN, "2");
+            verify(eventOpenMessageStore).remove(2L);
             verify(eventRepository).delete(event);
         }
     }
@@ -350,8 +364,8 @@ public class EventServiceTest {
             given(objectMapper.readValue(eq(json1), eq(EventOpenMessage.class))).willReturn(message1);
             given(objectMapper.readValue(eq(json2), eq(EventOpenMessage.class))).willReturn(message2);
 
-            given(eventRepository.findById(1L)).willReturn(Optional.of(event1));
-            given(eventRepository.findById(2L)).willReturn(Optional.of(event2));
+            given(eventRepository.findWithStoreById(1L)).willReturn(Optional.of(event1));
+            given(eventRepository.findWithStoreById(2L)).willReturn(Optional.of(event2));
 
             // when
             eventService.openEventsIfDue();
@@ -363,6 +377,8 @@ public class EventServiceTest {
             );
 
             verify(eventOpenProducer, times(2)).send(any(EventOpenMessage.class));
+            verify(eventMetaCache).put(event1);
+            verify(eventMetaCache).put(event2);
             verify(zSetOperations, times(1)).remove("event:open:zset", json1);
             verify(zSetOperations, times(1)).remove("event:open:zset", json2);
         }
@@ -381,7 +397,7 @@ public class EventServiceTest {
             given(zSetOperations.rangeByScore(eq("event:open:zset"), anyDouble(), anyDouble()))
                     .willReturn(Set.of(json));
             given(objectMapper.readValue(eq(json), eq(EventOpenMessage.class))).willReturn(message);
-            given(eventRepository.findById(3L)).willReturn(Optional.of(notReadyEvent));
+            given(eventRepository.findWithStoreById(3L)).willReturn(Optional.of(notReadyEvent));
 
             // when
             eventService.openEventsIfDue();
@@ -404,7 +420,7 @@ public class EventServiceTest {
             eventService.openEventsIfDue();
 
             // then
-            verify(eventRepository, never()).findById(anyLong());
+            verify(eventRepository, never()).findWithStoreById(anyLong());
             verify(eventOpenProducer, never()).send(any());
             verify(zSetOperations, never()).remove(anyString(), anyString());
         }
@@ -419,12 +435,81 @@ public class EventServiceTest {
             eventService.openEventsIfDue();
 
             // then
-            verify(eventRepository, never()).findById(anyLong());
+            verify(eventRepository, never()).findWithStoreById(anyLong());
             verify(eventOpenProducer, never()).send(any());
             verify(zSetOperations, never()).remove(anyString(), anyString());
         }
     }
 
+    @Nested
+    class 지연_작업_이벤트_오픈 {
+
+        @Test
+        void READY_이벤트를_일괄_오픈하고_발행이_확인된_건만_완료_처리() {
+            // given
+            Store store = createStore(1L, "오픈 가게");
+            Event event1 = createEvent(1L, store, EventStatus.OPENED, baseTime, baseTime.plusHours(8));
+            Event event2 = createEvent(2L, store, EventStatus.OPENED, baseTime, baseTime.plusHours(8));
+            EventOpenMessage message1 = EventOpenMessage.fromEvent(event1);
+            EventOpenMessage message2 = EventOpenMessage.fromEvent(event2);
+
+            Map<Long, EventOpenMessage> messages = new LinkedHashMap<>();
+            messages.put(1L, message1);
+            messages.put(2L, message2);
+            given(eventOpenMessageStore.getAll(List.of(1L, 2L))).willReturn(messages);
+            given(eventRepository.openAllReadyByIdIn(eq(messages.keySet()), any(LocalDateTime.class))).willReturn(2);
+            given(eventRepository.findAllWithStoreByIdIn(messages.keySet())).willReturn(List.of(event1, event2));
+            given(eventOpenProducer.sendAll(List.of(message1, message2))).willReturn(List.of(1L));
+
+            // when
+            List<String> completed = eventService.openEvents(List.of("1", "2"));
+
+            // then
+            assertEquals(List.of("1"), completed);
+            verify(eventMetaCache).put(event1);
+            verify(eventMetaCache).put(event2);
+            verify(eventOpenMessageStore).removeAll(List.of(1L));
+            verify(eventRepository, never()).save(any());
+        }
+
+        @Test
+        void 메시지가_없거나_오픈되지_않은_이벤트는_발행없이_완료_처리() {
+            // given
+            Store store = createStore(1L, "오픈 가게");
+            Event closed = createEvent(2L, store, EventStatus.CLOSED, baseTime, baseTime.plusHours(8));
+
+            Map<Long, EventOpenMessage> messages = new LinkedHashMap<>();
+            messages.put(2L, EventOpenMessage.fromEvent(closed));
+            messages.put(3L, EventOpenMessage.builder().eventId(3L).build());
+            given(eventOpenMessageStore.getAll(List.of(1L, 2L, 3L))).willReturn(messages);
+            given(eventRepository.openAllReadyByIdIn(eq(messages.keySet()), any(LocalDateTime.class))).willReturn(0);
+            given(eventRepository.findAllWithStoreByIdIn(messages.keySet())).willReturn(List.of(closed));
+
+            // when
+            List<String> completed = eventService.openEvents(List.of("1", "2", "3"));
+
+            // then
+            assertEquals(List.of("1", "2", "3"), completed);
+            verify(eventOpenProducer, never()).sendAll(any());
+            verify(eventMetaCache, never()).put(any());
+            verify(eventOpenMessageStore).removeAll(List.of(1L, 2L, 3L));
+        }
+
+        @Test
+        void 오픈_메시지가_모두_없으면_DB_조회없이_완료_처리() {
+            // given
+            given(eventOpenMessageStore.getAll(List.of(1L))).willReturn(Map.of());
+
+            // when
+            List<String> completed = eventService.openEvents(List.of("1"));
+
+            // then
+            assertEquals(List.of("1"), completed);
+            verify(eventRepository, never()).openAllReadyByIdIn(any(), any());
+            verify(eventOpenProducer, never()).sendAll(any());
+        }
+    }
+
     @Nested
     class 이벤트_마감 {
 
@@ -449,6 +534,8 @@ public class EventServiceTest {
             assertEquals(eventId, response.getEventId());
             verify(redisTemplate).delete("event:join:" + eventId);
             verify(zSetOperations).remove(anyString(), anyString());
+            verify(delayedJobQueue).cancel(DelayedJobType.EVENT_OPEN, "1");
+            verify(eventMetaCache).put(event);
         }
     }
 
@@ -0,0 +1,290 @@
+package org.example.tablenow.domain.notification.message.vacancy.service;
+
+import org.example.tablenow.domain.notification.dto.request.NotificationRequestDto;
+import org.example.tablenow.domain.notification.service.NotificationService;
+import org.example.tablenow.domain.reservation.service.ReservationService;
+import org.example.tablenow.domain.store.entity.Store;
+import org.example.tablenow.domain.store.service.StoreService;
+import org.example.tablenow.domain.user.entity.User;
+import org.example.tablenow.domain.waitlist.entity.Waitlist;
+import org.example.tablenow.domain.waitlist.repository.WaitlistRepository;
+import org.example.tablenow.domain.waitlist.service.WaitlistClaimStore;
+import org.example.tablenow.domain.waitlist.service.WaitlistQueue;
+import org.example.tablenow.global.delayedjob.DelayedJobQueue;
+import org.example.tablenow.global.delayedjob.DelayedJobType;
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class VacancyDispatcherTest {
+
+    @Mock
+    private DelayedJobQueue delayedJobQueue;
+
+    @Mock
+    private WaitlistQueue waitlistQueue;
+
+    @Mock
+    private WaitlistRepository waitlistRepository;
+
+    @Mock
+    private StoreService storeService;
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private WaitlistClaimStore waitlistClaimStore;
+
+    @InjectMocks
+    private VacancyDispatcher vacancyDispatcher;
+
+    private final Long storeId = 1L;
+    private final LocalDate waitDate = LocalDate.now().plusDays(1);
+
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        store = Store.builder()
+                .id(storeId)
+                .name("테스트 가게")
+                .capacity(10)
+                .build();
+    }
+
+    private Waitlist createWaitlist(Long id, Long userId, boolean isAlarmEnabled) {
+        User user = User.builder().id(userId).build();
+        user.updateAlarmSetting(isAlarmEnabled);
+        Waitlist waitlist = new Waitlist(user, store, waitDate);
+        ReflectionTestUtils.setField(waitlist, "id", id);
+        return waitlist;
+    }
+
+    @Nested
+    class 배정_요청 {
+
+        @Test
+        void 연속_취소는_디바운스_작업_하나로_합쳐짐() {
+            // when
+            vacancyDispatcher.requestDispatch(storeId, waitDate);
+
+            // then
+            verify(delayedJobQueue).scheduleEarliest(eq(DelayedJobType.VACANCY_DISPATCH),
+                    eq(VacancyDispatcher.toJobId(storeId, waitDate)), any(LocalDateTime.class));
+        }
+    }
+
+    // 등록 후 충분히 지나 DB 에 저장됐을 대기자
+    private Map<Long, Long> popped(Long... userIds) {
+        Map<Long, Long> entries = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            entries.put(userId, System.currentTimeMillis() - 600_000);
+        }
+        return entries;
+    }
+
+    @Nested
+    class 빈자리_배정 {
+
+        @Test
+        void 남은_좌석에서_선점_중인_좌석을_뺀_수만큼만_알림() {
+            // given
+            given(waitlistClaimStore.countActive(eq(storeId), eq(waitDate), anyLong())).willReturn(1L);
+            given(storeService.getStore(storeId)).willReturn(store);
+            given(reservationService.getRemainingSeats(store, waitDate)).willReturn(3L);
+            given(waitlistQueue.isLoaded(storeId, waitDate)).willReturn(true);
+            given(waitlistQueue.pop(storeId, waitDate, 2L)).willReturn(popped(11L, 12L));
+            given(waitlistRepository.findWaitingListByUserIdIn(store, waitDate, List.of(11L, 12L)))
+                    .willReturn(List.of(createWaitlist(1L, 11L, true), createWaitlist(2L, 12L, true)));
+            given(waitlistClaimStore.getEarliestExpireAt(storeId, waitDate)).willReturn(System.currentTimeMillis());
+
+            // when
+            int notifiedCount = vacancyDispatcher.dispatch(storeId, waitDate);
+
+            // then
+            assertEquals(2, notifiedCount);
+            ArgumentCaptor<List<NotificationRequestDto>> captor = ArgumentCaptor.forClass(List.class);
+            verify(notificationService).createNotifications(captor.capture());
+            assertEquals(List.of(11L, 12L), captor.getValue().stream().map(NotificationRequestDto::getUserId).toList());
+            verify(waitlistClaimStore).claim(eq(storeId), eq(waitDate), eq(List.of(11L, 12L)), anyLong());
+            verify(delayedJobQueue).scheduleEarliest(eq(DelayedJobType.VACANCY_DISPATCH),
+                    eq(VacancyDispatcher.toJobId(storeId, waitDate)), any(LocalDateTime.class));
+        }
+
+        @Test
+        void 선점이_좌석을_모두_차지하면_알림_없음() {
+            // given
+            given(waitlistClaimStore.countActive(eq(storeId), eq(waitDate), anyLong())).willReturn(2L);
+            given(storeService.getStore(storeId)).willReturn(store);
+            given(reservationService.getRemainingSeats(store, waitDate)).willReturn(2L);
+
+            // when
+            int notifiedCount = vacancyDispatcher.dispatch(storeId, waitDate);
+
+            // then
+            assertEquals(0, notifiedCount);
+            verify(waitlistQueue, never()).pop(anyLong(), any(), anyLong());
+            verify(notificationService, never()).createNotifications(anyList());
+        }
+
+        @Test
+        void 알림_비활성_대기자는_건너뛰고_다음_대기자에게_알림() {
+            // given
+            given(waitlistClaimStore.countActive(eq(storeId), eq(waitDate), anyLong())).willReturn(0L);
+            given(storeService.getStore(storeId)).willReturn(store);
+            given(reservationService.getRemainingSeats(store, waitDate)).willReturn(1L);
+            given(waitlistQueue.isLoaded(storeId, waitDate)).willReturn(true);
+            given(waitlistQueue.pop(storeId, waitDate, 1L)).willReturn(popped(11L), popped(12L));
+            given(waitlistRepository.findWaitingListByUserIdIn(store, waitDate, List.of(11L)))
+                    .willReturn(List.of(createWaitlist(1L, 11L, false)));
+            given(waitlistRepository.findWaitingListByUserIdIn(store, waitDate, List.of(12L)))
+                    .willReturn(List.of(createWaitlist(2L, 12L, true)));
+
+            // when
+            int notifiedCount = vacancyDispatcher.dispatch(storeId, waitDate);
+
+            // then
+            assertEquals(1, notifiedCount);
+            ArgumentCaptor<List<NotificationRequestDto>> captor = ArgumentCaptor.forClass(List.class);
+            verify(notificationService).createNotifications(captor.capture());
+            assertEquals(12L, captor.getValue().get(0).getUserId());
+        }
+
+        @Test
+        void 대기열이_없으면_DB_대기자로_적재_후_배정() {
+            // given
+            List<Waitlist> waitlists = List.of(createWaitlist(1L, 11L, true));
+            given(waitlistClaimStore.countActive(eq(storeId), eq(waitDate), anyLong())).willReturn(0L);
+            given(storeService.getStore(storeId)).willReturn(store);
+            given(reservationService.getRemainingSeats(store, waitDate)).willReturn(1L);
+            given(waitlistQueue.isLoaded(storeId, waitDate)).willReturn(false);
+            given(waitlistRepository.findWaitingList(store, waitDate)).willReturn(waitlists);
+            given(waitlistQueue.pop(storeId, waitDate, 1L)).willReturn(Map.of());
+
+            // when
+            int notifiedCount = vacancyDispatcher.dispatch(storeId, waitDate);
+
+            // then
+            assertEquals(0, notifiedCount);
+            verify(waitlistQueue).load(storeId, waitDate, waitlists);
+        }
+
+        @Test
+        void DB_저장_전인_최근_등록_대기자는_대기열로_되돌리고_다음_대기자에게_알림() {
+            // given
+            Map<Long, Long> pendingEntry = Map.of(11L, System.currentTimeMillis());
+            given(waitlistClaimStore.countActive(eq(storeId), eq(waitDate), anyLong())).willReturn(0L);
+            given(storeService.getStore(storeId)).willReturn(store);
+            given(reservationService.getRemainingSeats(store, waitDate)).willReturn(1L);
+            given(waitlistQueue.isLoaded(storeId, waitDate)).willReturn(true);
+            given(waitlistQueue.pop(storeId, waitDate, 1L)).willReturn(pendingEntry, popped(12L));
+            given(waitlistRepository.findWaitingListByUserIdIn(store, waitDate, List.of(11L))).willReturn(List.of());
+            given(waitlistRepository.findWaitingListByUserIdIn(store, waitDate, List.of(12L)))
+                    .willReturn(List.of(createWaitlist(2L, 12L, true)));
+
+            // when
+            int notifiedCount = vacancyDispatcher.dispatch(storeId, waitDate);
+
+            // then
+            assertEquals(1, notifiedCount);
+            verify(waitlistQueue).requeue(storeId, waitDate, pendingEntry);
+        }
+
+        @Test
+        void 오래된_대기열_항목이_DB에_없으면_되돌리지_않음() {
+            // given
+            given(waitlistClaimStore.countActive(eq(storeId), eq(waitDate), anyLong())).willReturn(0L);
+            given(storeService.getStore(storeId)).willReturn(store);
+            given(reservationService.getRemainingSeats(store, waitDate)).willReturn(1L);
+            given(waitlistQueue.isLoaded(storeId, waitDate)).willReturn(true);
+            given(waitlistQueue.pop(storeId, waitDate, 1L)).willReturn(popped(11L), Map.of());
+            given(waitlistRepository.findWaitingListByUserIdIn(store, waitDate, List.of(11L))).willReturn(List.of());
+
+            // when
+            int notifiedCount = vacancyDispatcher.dispatch(storeId, waitDate);
+
+            // then
+            assertEquals(0, notifiedCount);
+            verify(waitlistQueue).requeue(storeId, waitDate, Map.of());
+        }
+
+        @Test
+        void 알림_생성_실패시_꺼낸_대기자를_대기열로_되돌림() {
+            // given
+            Map<Long, Long> poppedEntries = popped(11L, 12L);
+            given(waitlistClaimStore.countActive(eq(storeId), eq(waitDate), anyLong())).willReturn(0L);
+            given(storeService.getStore(storeId)).willReturn(store);
+            given(reservationService.getRemainingSeats(store, waitDate)).willReturn(2L);
+            given(waitlistQueue.isLoaded(storeId, waitDate)).willReturn(true);
+            given(waitlistQueue.pop(storeId, waitDate, 2L)).willReturn(poppedEntries);
+            given(waitlistRepository.findWaitingListByUserIdIn(store, waitDate, List.of(11L, 12L)))
+                    .willReturn(List.of(createWaitlist(1L, 11L, true), createWaitlist(2L, 12L, true)));
+            willThrow(new RuntimeException("DB 오류")).given(notificationService).createNotifications(anyList());
+
+            // when
+            assertThrows(RuntimeException.class, () -> vacancyDispatcher.dispatch(storeId, waitDate));
+
+            // then
+            verify(waitlistQueue).requeue(storeId, waitDate, poppedEntries);
+            verify(waitlistClaimStore, never()).claim(anyLong(), any(), anyList(), anyLong());
+        }
+
+        @Test
+        void 지난_날짜는_배정하지_않음() {
+            // when
+            int notifiedCount = vacancyDispatcher.dispatch(storeId, LocalDate.now().minusDays(2));
+
+            // then
+            assertEquals(0, notifiedCount);
+            verify(storeService, never()).getStore(anyLong());
+        }
+    }
+
+    @Nested
+    class 지연_작업_처리 {
+
+        @Test
+        void 실패한_작업은_완료에서_제외() {
+            // given
+            String failedJobId = VacancyDispatcher.toJobId(2L, waitDate);
+            String jobId = VacancyDispatcher.toJobId(storeId, waitDate);
+            given(waitlistClaimStore.countActive(anyLong(), eq(waitDate), anyLong())).willReturn(0L);
+            given(storeService.getStore(storeId)).willReturn(store);
+            given(storeService.getStore(2L)).willThrow(new HandledException(ErrorCode.STORE_NOT_FOUND));
+            given(reservationService.getRemainingSeats(store, waitDate)).willReturn(0L);
+
+            // when
+            List<String> completed = vacancyDispatcher.handle(List.of(failedJobId, jobId));
+
+            // then
+            assertEquals(List.of(jobId), completed);
+        }
+    }
+}
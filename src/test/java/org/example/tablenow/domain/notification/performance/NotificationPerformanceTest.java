@@ -0,0 +1,115 @@
+package org.example.tablenow.domain.notification.performance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.notification.entity.Notification;
+import org.example.tablenow.domain.notification.enums.NotificationType;
+import org.example.tablenow.domain.notification.repository.NotificationBulkRepository;
+import org.example.tablenow.domain.notification.repository.NotificationRepository;
+import org.example.tablenow.domain.user.entity.User;
+import org.example.tablenow.domain.user.enums.UserRole;
+import org.example.tablenow.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 알림 전체 읽음 처리 비교 (미읽음 10,000건)
+ * - 기존: 엔티티 전체 조회 후 건별 save (UPDATE N회)
+ * - 변경: ID 조회 1회 + bulk update 1회
+ */
+@SpringBootTest
+@Slf4j
+public class NotificationPerformanceTest {
+
+    private static final int UNREAD_COUNT = 10_000;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationBulkRepository notificationBulkRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate dataJdbcTemplate;
+
+    @Autowired
+    @Qualifier("dataTransactionManager")
+    private PlatformTransactionManager dataTransactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(dataTransactionManager);
+        user = userRepository.save(User.builder()
+                .email("notification-perf-" + UUID.randomUUID() + "@test.com")
+                .name("성능테스트")
+                .phoneNumber("010-0000-0000")
+                .userRole(UserRole.ROLE_USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataJdbcTemplate.update("DELETE FROM notification WHERE user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    private void seedUnreadNotifications() {
+        dataJdbcTemplate.update("DELETE FROM notification WHERE user_id = ?", user.getId());
+        notificationBulkRepository.insertAll(
+                Collections.nCopies(UNREAD_COUNT, user.getId()),
+                NotificationType.REMIND,
+                "성능 테스트 알림",
+                LocalDateTime.now()
+        );
+    }
+
+    @Test
+    void 전체_읽음_처리_건별_save_vs_bulk_update() {
+        // 기존 방식
+        seedUnreadNotifications();
+        Instant start = Instant.now();
+        Integer savedCount = transactionTemplate.execute(status -> {
+            List<Notification> notifications = notificationRepository.findAllByUserAndIsReadFalse(user);
+            for (Notification notification : notifications) {
+                notification.updateRead();
+                notificationRepository.save(notification);
+            }
+            return notifications.size();
+        });
+        long entityMillis = Duration.between(start, Instant.now()).toMillis();
+
+        // 변경 방식
+        seedUnreadNotifications();
+        start = Instant.now();
+        Integer updatedCount = transactionTemplate.execute(status -> {
+            List<Long> unreadIds = notificationRepository.findUnreadIdsByUserId(user.getId());
+            return notificationRepository.updateAllAsReadByUserId(user.getId(), unreadIds.get(unreadIds.size() - 1));
+        });
+        long bulkMillis = Duration.between(start, Instant.now()).toMillis();
+
+        assertEquals(UNREAD_COUNT, savedCount);
+        assertEquals(UNREAD_COUNT, updatedCount);
+        log.info("미읽음 {}건 전체 읽음 처리 → 건별 save: {}ms, bulk update: {}ms", UNREAD_COUNT, entityMillis, bulkMillis);
+    }
+}
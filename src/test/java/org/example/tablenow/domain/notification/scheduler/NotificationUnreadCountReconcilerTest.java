@@ -0,0 +1,60 @@
+package org.example.tablenow.domain.notification.scheduler;
+
+import org.example.tablenow.domain.notification.dto.response.NotificationUnreadCountDto;
+import org.example.tablenow.domain.notification.repository.NotificationRepository;
+import org.example.tablenow.domain.notification.service.NotificationUnreadCounter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCountReconcilerTest {
+
+    @Mock
+    private NotificationUnreadCounter notificationUnreadCounter;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @InjectMocks
+    private NotificationUnreadCountReconciler notificationUnreadCountReconciler;
+
+    @Test
+    void DB_조회_전_버전과_함께_미읽음_수로_카운터를_덮어쓰고_알림이_없는_유저는_0으로_설정() {
+        // given
+        given(notificationUnreadCounter.popReconcileTargets(NotificationUnreadCountReconciler.RECONCILE_BATCH_SIZE))
+                .willReturn(List.of(1L, 2L), List.of());
+        given(notificationUnreadCounter.getVersions(List.of(1L, 2L))).willReturn(Map.of(1L, "4", 2L, "0"));
+        given(notificationRepository.countUnreadByUserIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(new NotificationUnreadCountDto(1L, 3L)));
+
+        // when
+        notificationUnreadCountReconciler.reconcile();
+
+        // then
+        verify(notificationUnreadCounter).setAll(Map.of(1L, 3L, 2L, 0L), Map.of(1L, "4", 2L, "0"));
+    }
+
+    @Test
+    void 대사_대상이_없으면_DB_조회_안함() {
+        // given
+        given(notificationUnreadCounter.popReconcileTargets(NotificationUnreadCountReconciler.RECONCILE_BATCH_SIZE))
+                .willReturn(List.of());
+
+        // when
+        notificationUnreadCountReconciler.reconcile();
+
+        // then
+        verify(notificationRepository, never()).countUnreadByUserIdIn(any());
+    }
+}
@@ -3,13 +3,16 @@ package org.example.tablenow.domain.notification.service;
 import org.example.tablenow.domain.notification.dto.request.NotificationRequestDto;
 import org.example.tablenow.domain.notification.dto.response.NotificationAlarmResponseDto;
 import org.example.tablenow.domain.notification.dto.response.NotificationResponseDto;
+import org.example.tablenow.domain.notification.dto.response.NotificationUnreadCountResponseDto;
 import org.example.tablenow.domain.notification.dto.response.NotificationUpdateReadResponseDto;
 import org.example.tablenow.domain.notification.entity.Notification;
 import org.example.tablenow.domain.notification.enums.NotificationType;
+import org.example.tablenow.domain.notification.repository.NotificationBulkRepository;
 import org.example.tablenow.domain.notification.repository.NotificationRepository;
 import org.example.tablenow.domain.store.entity.Store;
 import org.example.tablenow.domain.store.service.StoreService;
 import org.example.tablenow.domain.user.entity.User;
+import org.example.tablenow.domain.user.repository.UserRepository;
 import org.example.tablenow.domain.user.service.UserService;
 import org.example.tablenow.domain.waitlist.repository.WaitlistRepository;
 import org.example.tablenow.global.exception.ErrorCode;
@@ -17,23 +20,28 @@ import org.example.tablenow.global.exception.HandledException;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
@@ -45,10 +53,7 @@ class NotificationServiceTest {
     private UserService userService;
 
     @Mock
-    private StringRedisTemplate stringRedisTemplate;
-
-    @Mock
-    private ValueOperations<String, String> valueOperations;
+    private NotificationInboxCache notificationInboxCache;
 
     @Mock
     private StoreService storeService;
@@ -56,6 +61,18 @@ class NotificationServiceTest {
     @Mock
     private WaitlistRepository waitlistRepository;
 
+    @Mock
+    private NotificationBulkRepository notificationBulkRepository;
+
+    @Mock
+    private NotificationUnreadCounter notificationUnreadCounter;
+
+    @Mock
+    private NotificationPushService notificationPushService;
+
+    @Mock
+    private UserRepository userRepository;
+
     @Mock
     private User user;
 
@@ -81,6 +98,9 @@ class NotificationServiceTest {
             NotificationResponseDto result = notificationService.createNotification(dto);
 
             assertEquals("예약 알림", result.getContent());
+            verify(notificationInboxCache).append(1L, result);
+            verify(notificationUnreadCounter).increment(1L);
+            verify(notificationPushService).push(1L, result);
         }
 
         @Test
@@ -100,6 +120,112 @@ class NotificationServiceTest {
 
             assertEquals(ErrorCode.USER_NOT_FOUND.getStatus(), exception.getHttpStatus());
         }
+
+        @Test
+        void 알림_일괄_생성시_유저_재조회_없이_배치_저장_및_인박스_일괄_추가() {
+            List<Long> userIds = List.of(1L, 2L, 3L);
+            given(notificationBulkRepository.insertAll(eq(userIds), eq(NotificationType.EVENT_OPEN), eq("이벤트 오픈"), any(LocalDateTime.class)))
+                .willReturn(List.of(101L, 102L, 103L));
+
+            notificationService.createNotifications(userIds, NotificationType.EVENT_OPEN, "이벤트 오픈");
+
+            ArgumentCaptor<Map<Long, List<NotificationResponseDto>>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(notificationInboxCache).appendAll(captor.capture());
+            assertEquals(3, captor.getValue().size());
+            assertEquals(102L, captor.getValue().get(2L).get(0).getNotificationId());
+            verify(userService, never()).getUser(any());
+            verify(notificationUnreadCounter).incrementAll(Map.of(1L, 1L, 2L, 1L, 3L, 1L));
+            verify(notificationPushService).pushAll(captor.getValue());
+        }
+    }
+
+    @Nested
+    class 알림_일괄_생성 {
+
+        private final LocalDate waitDate = LocalDate.now().plusDays(1);
+
+        private NotificationRequestDto request(Long userId, Long storeId, NotificationType type) {
+            return request(userId, storeId, waitDate, type);
+        }
+
+        private NotificationRequestDto request(Long userId, Long storeId, LocalDate waitDate, NotificationType type) {
+            return NotificationRequestDto.builder()
+                .userId(userId)
+                .storeId(storeId)
+                .waitDate(NotificationType.VACANCY.equals(type) ? waitDate : null)
+                .type(type)
+                .content(type.name() + " 알림")
+                .build();
+        }
+
+        @Test
+        void 유저_IN_조회_1회_후_배치_저장_및_빈자리_대기_가게_날짜별_일괄_업데이트() {
+            LocalDate otherDate = waitDate.plusDays(1);
+            List<NotificationRequestDto> dtos = List.of(
+                request(1L, 10L, NotificationType.VACANCY),
+                request(2L, 10L, NotificationType.VACANCY),
+                request(3L, 20L, NotificationType.VACANCY),
+                request(5L, 10L, otherDate, NotificationType.VACANCY),
+                request(4L, null, NotificationType.CHAT)
+            );
+            given(userRepository.findExistingIdsByIdIn(any())).willReturn(List.of(1L, 2L, 3L, 4L, 5L));
+            given(notificationBulkRepository.insertAll(eq(dtos), any(LocalDateTime.class))).willReturn(List.of(11L, 12L, 13L, 15L, 14L));
+
+            int created = notificationService.createNotifications(dtos);
+
+            assertEquals(5, created);
+            verify(waitlistRepository).updateNotifiedByStoreIdAndWaitDateAndUserIds(10L, waitDate, Set.of(1L, 2L));
+            verify(waitlistRepository).updateNotifiedByStoreIdAndWaitDateAndUserIds(10L, otherDate, Set.of(5L));
+            verify(waitlistRepository).updateNotifiedByStoreIdAndWaitDateAndUserIds(20L, waitDate, Set.of(3L));
+            ArgumentCaptor<Map<Long, List<NotificationResponseDto>>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(notificationInboxCache).appendAll(captor.capture());
+            assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), captor.getValue().keySet());
+            assertEquals(14L, captor.getValue().get(4L).get(0).getNotificationId());
+            verify(userService, never()).getUser(any());
+        }
+
+        @Test
+        void 존재하지_않는_유저_알림은_제외() {
+            List<NotificationRequestDto> dtos = List.of(
+                request(1L, null, NotificationType.REMIND),
+                request(99L, null, NotificationType.REMIND)
+            );
+            given(userRepository.findExistingIdsByIdIn(any())).willReturn(List.of(1L));
+            given(notificationBulkRepository.insertAll(eq(List.of(dtos.get(0))), any(LocalDateTime.class))).willReturn(List.of(11L));
+
+            int created = notificationService.createNotifications(dtos);
+
+            assertEquals(1, created);
+            ArgumentCaptor<Map<Long, List<NotificationResponseDto>>> captor = ArgumentCaptor.forClass(Map.class);
+            verify(notificationInboxCache).appendAll(captor.capture());
+            assertEquals(Set.of(1L), captor.getValue().keySet());
+        }
+
+        @Test
+        void 빈자리_알림에_storeId가_없으면_예외() {
+            List<NotificationRequestDto> dtos = List.of(request(1L, null, NotificationType.VACANCY));
+            given(userRepository.findExistingIdsByIdIn(any())).willReturn(List.of(1L));
+
+            HandledException exception = assertThrows(HandledException.class, () ->
+                notificationService.createNotifications(dtos)
+            );
+
+            assertEquals(ErrorCode.NOTIFICATION_BAD_REQUEST.getStatus(), exception.getHttpStatus());
+            verify(notificationBulkRepository, never()).insertAll(anyList(), any(LocalDateTime.class));
+        }
+
+        @Test
+        void 빈자리_알림에_대기_날짜가_없으면_예외() {
+            List<NotificationRequestDto> dtos = List.of(request(1L, 10L, null, NotificationType.VACANCY));
+            given(userRepository.findExistingIdsByIdIn(any())).willReturn(List.of(1L));
+
+            HandledException exception = assertThrows(HandledException.class, () ->
+                notificationService.createNotifications(dtos)
+            );
+
+            assertEquals(ErrorCode.NOTIFICATION_WAIT_DATE_REQUIRED.getDefaultMessage(), exception.getMessage());
+            verify(notificationBulkRepository, never()).insertAll(anyList(), any(LocalDateTime.class));
+        }
     }
 
     @Nested
@@ -152,8 +278,6 @@ class NotificationServiceTest {
         void 알림_정상_조회() {
             PageRequest pageRequest = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
-            given(valueOperations.get(any())).willReturn(null);
             given(userService.getUser(1L)).willReturn(user);
 
             Notification noti1 = new Notification(user, NotificationType.REMIND, "알림1");
@@ -166,6 +290,63 @@ class NotificationServiceTest {
 
             assertEquals("알림1", result.getContent().get(0).getContent());
             assertEquals("알림2", result.getContent().get(1).getContent());
+            verify(notificationInboxCache).load(eq(1L), any(), anyList());
+        }
+
+        @Test
+        void 미읽음_수가_인박스_한도를_넘으면_적재_없이_페이지만_조회() {
+            PageRequest pageRequest = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
+            Notification noti1 = new Notification(user, NotificationType.REMIND, "알림1");
+
+            given(userService.getUser(1L)).willReturn(user);
+            given(notificationUnreadCounter.get(1L)).willReturn((long) NotificationInboxCache.INBOX_MAX_SIZE + 1);
+            given(notificationRepository.findAllByUserAndIsRead(user, false, pageRequest)).willReturn(new PageImpl<>(List.of(noti1)));
+
+            Page<NotificationResponseDto> result = notificationService.findNotifications(1L, 1, 5, false);
+
+            assertEquals("알림1", result.getContent().get(0).getContent());
+            verify(notificationRepository, only()).findAllByUserAndIsRead(user, false, pageRequest);
+            verify(notificationInboxCache, never()).load(any(), any(), anyList());
+        }
+
+        @Test
+        void 인박스_적재시_DB_조회_없이_페이지_반환() {
+            PageRequest pageRequest = PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
+            NotificationResponseDto cached = NotificationResponseDto.builder()
+                .notificationId(6L)
+                .type(NotificationType.REMIND)
+                .content("알림6")
+                .isRead(false)
+                .build();
+
+            given(userService.getUser(1L)).willReturn(user);
+            given(notificationInboxCache.getPage(1L, pageRequest)).willReturn(new PageImpl<>(List.of(cached), pageRequest, 6));
+
+            Page<NotificationResponseDto> result = notificationService.findNotifications(1L, 2, 5, false);
+
+            assertEquals(6, result.getTotalElements());
+            assertEquals("알림6", result.getContent().get(0).getContent());
+            verify(notificationRepository, never()).findAllByUserAndIsRead(any(), any(), any());
+        }
+
+        @Test
+        void 재연결시_마지막_수신_이후_알림만_인박스에서_복구() {
+            PageRequest pageRequest = PageRequest.of(0, NotificationService.MISSED_NOTIFICATION_LIMIT, Sort.by(Sort.Direction.DESC, "createdAt"));
+            List<NotificationResponseDto> cached = List.of(
+                NotificationResponseDto.builder().notificationId(12L).type(NotificationType.REMIND).content("알림12").isRead(false).build(),
+                NotificationResponseDto.builder().notificationId(11L).type(NotificationType.REMIND).content("알림11").isRead(false).build(),
+                NotificationResponseDto.builder().notificationId(10L).type(NotificationType.REMIND).content("알림10").isRead(false).build()
+            );
+
+            given(userService.getUser(1L)).willReturn(user);
+            given(notificationInboxCache.getPage(1L, pageRequest)).willReturn(new PageImpl<>(cached, pageRequest, 3));
+
+            List<NotificationResponseDto> result = notificationService.findMissedNotifications(1L, 10L);
+
+            assertEquals(2, result.size());
+            assertEquals(12L, result.get(0).getNotificationId());
+            assertEquals(11L, result.get(1).getNotificationId());
+            verify(notificationRepository, never()).findAllByUserAndIsRead(any(), any(), any());
         }
 
         @Test
@@ -183,8 +364,6 @@ class NotificationServiceTest {
     @Test
     void 알림_정상_읽음처리() {
         // given
-        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
-        given(valueOperations.get(any())).willReturn(null);
 
         Notification notification = new Notification(user, NotificationType.REMIND, "예약 알림");
         ReflectionTestUtils.setField(notification, "id", 10L);
@@ -199,6 +378,38 @@ class NotificationServiceTest {
         // then
         assertEquals(10L, result.getNotificationId());
         assertTrue(result.getIsRead());
+        verify(notificationUnreadCounter).decrement(1L);
+    }
+
+    @Test
+    void 이미_읽은_알림이면_미읽음_카운터_감소_안함() {
+        // given
+        Notification notification = new Notification(user, NotificationType.REMIND, "예약 알림");
+        ReflectionTestUtils.setField(notification, "id", 10L);
+        notification.updateRead();
+
+        given(user.getId()).willReturn(1L);
+        given(notificationRepository.findById(10L)).willReturn(Optional.of(notification));
+
+        // when
+        notificationService.updateNotificationRead(10L, 1L);
+
+        // then
+        verify(notificationUnreadCounter, never()).decrement(any());
+    }
+
+    @Test
+    void 미읽음_알림_수는_Redis_카운터만_조회() {
+        // given
+        given(notificationUnreadCounter.get(1L)).willReturn(7L);
+
+        // when
+        NotificationUnreadCountResponseDto result = notificationService.getUnreadCount(1L);
+
+        // then
+        assertEquals(7L, result.getUnreadCount());
+        verify(userService, never()).getUser(any());
+        verify(notificationRepository, never()).findUnreadIdsByUserId(any());
     }
 
     @Test
@@ -235,24 +446,37 @@ class NotificationServiceTest {
     @Test
     void 전체_읽음처리_성공() {
         // given
-        Notification n1 = new Notification(user, NotificationType.REMIND, "알림1");
-        Notification n2 = new Notification(user, NotificationType.VACANCY, "알림2");
+        given(userService.getUser(1L)).willReturn(user);
+        given(notificationRepository.findUnreadIdsByUserId(1L)).willReturn(List.of(10L, 11L));
+        given(notificationRepository.updateAllAsReadByUserId(1L, 11L)).willReturn(2);
 
-        ReflectionTestUtils.setField(n1, "id", 10L);
-        ReflectionTestUtils.setField(n2, "id", 11L);
-        ReflectionTestUtils.setField(user, "id", 1L);
+        // when
+        List<NotificationUpdateReadResponseDto> result =
+            notificationService.updateAllNotificationRead(1L);
 
+        // then
+        assertEquals(2, result.size());
+        assertEquals(10L, result.get(0).getNotificationId());
+        assertTrue(result.get(0).getIsRead());
+        assertTrue(result.get(1).getIsRead());
+        verify(notificationRepository, never()).findAllByUserAndIsReadFalse(any());
+        verify(notificationRepository, never()).save(any());
+        verify(notificationUnreadCounter).reset(1L);
+    }
+
+    @Test
+    void 읽지_않은_알림이_없으면_업데이트_안함() {
+        // given
         given(userService.getUser(1L)).willReturn(user);
-        given(notificationRepository.findAllByUserAndIsReadFalse(user)).willReturn(List.of(n1, n2));
+        given(notificationRepository.findUnreadIdsByUserId(1L)).willReturn(List.of());
 
         // when
         List<NotificationUpdateReadResponseDto> result =
             notificationService.updateAllNotificationRead(1L);
 
         // then
-        assertTrue(result.get(0).getIsRead());
-        assertTrue(n1.getIsRead());
-        assertTrue(n2.getIsRead());
+        assertTrue(result.isEmpty());
+        verify(notificationRepository, never()).updateAllAsReadByUserId(any(), any());
     }
 
     @Test
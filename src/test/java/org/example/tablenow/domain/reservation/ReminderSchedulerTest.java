@@ -19,11 +19,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -128,4 +130,37 @@ public class ReminderSchedulerTest {
         }
     }
 
+    @Nested
+    class 배치_점유_발송 {
+        @Test
+        void 점유한_예약을_IN_조회_1회로_읽어_배치_발행하고_ack된_건과_없는_예약만_제거() {
+            // given
+            given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).willReturn(List.of("1", "2"));
+            given(reservationService.getReservationsWithStore(Set.of(1L, 2L))).willReturn(List.of(reservation));
+            given(sendProducer.sendAll(anyList())).willReturn(List.of(1L));
+
+            // when
+            reminderScheduler.claimAndDispatch();
+
+            // then
+            verify(reservationService, never()).getReservationWithStore(any());
+            verify(sendProducer, never()).send(any());
+            verify(zSetOperations).remove("reservation:reminder:processing", "1", "2");
+        }
+
+        @Test
+        void 점유_이후_취소된_예약은_발행하지_않고_제거() {
+            // given
+            Reservation canceled = createReservation(3L, reservedAt, ReservationStatus.CANCELED);
+            given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).willReturn(List.of("3"));
+            given(reservationService.getReservationsWithStore(Set.of(3L))).willReturn(List.of(canceled));
+
+            // when
+            reminderScheduler.claimAndDispatch();
+
+            // then
+            verify(sendProducer, never()).sendAll(anyList());
+            verify(zSetOperations).remove("reservation:reminder:processing", "3");
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package org.example.tablenow.domain.reservation;
+
+import org.example.tablenow.domain.reservation.dto.response.ReservationSlotCountDto;
+import org.example.tablenow.domain.reservation.repository.ReservationRepository;
+import org.example.tablenow.domain.reservation.service.ReservationCapacityLedger;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReservationCapacityLedgerTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RLock lock;
+
+    @InjectMocks
+    private ReservationCapacityLedger capacityLedger;
+
+    private final Long storeId = 1L;
+    private final LocalDate date = LocalDate.of(2099, 1, 1);
+    private final LocalDateTime reservedAt = date.atTime(12, 0);
+    private final String ledgerKey = ReservationCapacityLedger.getLedgerKey(storeId, date);
+    private final String maxCapacity = String.valueOf(Integer.MAX_VALUE);
+
+    @Nested
+    class 검증된_예약_카운터_반영 {
+
+        @Test
+        void 카운터가_있으면_증가만_수행() {
+            // given
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(ledgerKey)), eq(maxCapacity), eq("12:00"))).willReturn(1L);
+
+            // when
+            capacityLedger.applyReserved(storeId, reservedAt);
+
+            // then
+            verifyNoInteractions(redissonClient, reservationRepository);
+        }
+
+        @Test
+        void 카운터가_없으면_저장된_예약까지_집계해_재구성하고_증가하지_않음() throws InterruptedException {
+            // given
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(ledgerKey)), eq(maxCapacity), eq("12:00"))).willReturn(-1L);
+            givenLock();
+            given(redisTemplate.hasKey(ledgerKey)).willReturn(false);
+            given(reservationRepository.countReservedSlotsBetween(storeId, date.atStartOfDay(), date.plusDays(1).atStartOfDay()))
+                    .willReturn(List.of(new ReservationSlotCountDto(reservedAt, 3L)));
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(ledgerKey)), anyString(), eq("3"), eq("12:00"), eq("3"))).willReturn(1L);
+
+            // when
+            capacityLedger.applyReserved(storeId, reservedAt);
+
+            // then
+            verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of(ledgerKey)), eq(maxCapacity), eq("12:00"));
+            verify(lock).unlock();
+        }
+
+        @Test
+        void 진행_중이던_재구성이_먼저_카운터를_만들면_그_위에_증가() throws InterruptedException {
+            // given
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(ledgerKey)), eq(maxCapacity), eq("12:00"))).willReturn(-1L, 1L);
+            givenLock();
+            given(redisTemplate.hasKey(ledgerKey)).willReturn(true);
+
+            // when
+            capacityLedger.applyReserved(storeId, reservedAt);
+
+            // then
+            verify(redisTemplate, times(2)).execute(any(RedisScript.class), eq(List.of(ledgerKey)), eq(maxCapacity), eq("12:00"));
+            verifyNoInteractions(reservationRepository);
+        }
+
+        private void givenLock() throws InterruptedException {
+            given(redissonClient.getLock(anyString())).willReturn(lock);
+            given(lock.tryLock(anyLong(), anyLong(), eq(TimeUnit.SECONDS))).willReturn(true);
+            given(lock.isHeldByCurrentThread()).willReturn(true);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.tablenow.domain.reservation;
 
+import org.example.tablenow.domain.chat.service.ChatParticipantCache;
 import org.example.tablenow.domain.notification.message.vacancy.producer.VacancyProducer;
 import org.example.tablenow.domain.reservation.dto.request.ReservationRequestDto;
 import org.example.tablenow.domain.reservation.dto.request.ReservationStatusChangeRequestDto;
@@ -11,11 +12,17 @@ import org.example.tablenow.domain.reservation.entity.ReservationStatus;
 import org.example.tablenow.domain.reservation.message.dto.ReminderMessage;
 import org.example.tablenow.domain.reservation.message.producer.ReminderRegisterProducer;
 import org.example.tablenow.domain.reservation.repository.ReservationRepository;
+import org.example.tablenow.domain.reservation.service.ReservationCapacityLedger;
 import org.example.tablenow.domain.reservation.service.ReservationService;
+import org.example.tablenow.domain.reservation.service.StoreAvailabilityService;
+import org.example.tablenow.domain.reservation.service.StoreInventoryWriteBehind;
+import org.example.tablenow.domain.reservation.service.StoreSlotInventoryService;
 import org.example.tablenow.domain.store.entity.Store;
 import org.example.tablenow.domain.store.service.StoreService;
 import org.example.tablenow.domain.user.entity.User;
+import org.example.tablenow.domain.waitlist.service.WaitlistClaimStore;
 import org.example.tablenow.domain.user.enums.UserRole;
+import org.example.tablenow.global.delayedjob.DelayedJobQueue;
 import org.example.tablenow.global.dto.AuthUser;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
@@ -64,6 +71,27 @@ public class ReservationServiceTest {
     @Mock
     private ZSetOperations<String, String> zSetOperations;
 
+    @Mock
+    private ReservationCapacityLedger capacityLedger;
+
+    @Mock
+    private StoreSlotInventoryService slotInventoryService;
+
+    @Mock
+    private StoreAvailabilityService storeAvailabilityService;
+
+    @Mock
+    private DelayedJobQueue delayedJobQueue;
+
+    @Mock
+    private ChatParticipantCache chatParticipantCache;
+
+    @Mock
+    private WaitlistClaimStore waitlistClaimStore;
+
+    @Mock
+    private StoreInventoryWriteBehind inventoryWriteBehind;
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -117,7 +145,6 @@ public class ReservationServiceTest {
             // given
             ReservationRequestDto dto = new ReservationRequestDto(storeId, reservedAt);
             given(storeService.getStore(anyLong())).willReturn(store);
-            given(reservationRepository.countReservedTablesByDate(any(), any())).willReturn(0L);
             given(reservationRepository.existsByUser_IdAndStore_IdAndReservedAt(anyLong(), anyLong(), any())).willReturn(false);
             given(reservationRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
 
@@ -135,7 +162,9 @@ public class ReservationServiceTest {
             // given
             ReservationRequestDto dto = new ReservationRequestDto(storeId, reservedAt);
             given(storeService.getStore(anyLong())).willReturn(store);
-            given(reservationRepository.countReservedTablesByDate(any(), any())).willReturn(999L); // 정원 초과
+            given(reservationRepository.existsByUser_IdAndStore_IdAndReservedAt(anyLong(), anyLong(), any())).willReturn(false);
+            willThrow(new HandledException(ErrorCode.STORE_TABLE_CAPACITY_EXCEEDED))
+                    .given(slotInventoryService).reserve(store, reservedAt); // 정원 초과
 
             // when & then
             HandledException exception = assertThrows(HandledException.class, () ->
@@ -150,7 +179,6 @@ public class ReservationServiceTest {
             // given
             ReservationRequestDto dto = new ReservationRequestDto(storeId, reservedAt);
             given(storeService.getStore(anyLong())).willReturn(store);
-            given(reservationRepository.countReservedTablesByDate(any(), any())).willReturn(0L);
             given(reservationRepository.existsByUser_IdAndStore_IdAndReservedAt(anyLong(), anyLong(), any())).willReturn(true);
 
             // when & then
@@ -162,6 +190,63 @@ public class ReservationServiceTest {
         }
     }
 
+    @Nested
+    class 좌석_카운터_기반_예약_생성 {
+
+        @Test
+        void 예약_성공() {
+            // given
+            ReservationRequestDto dto = new ReservationRequestDto(storeId, reservedAt);
+            given(storeService.getStore(anyLong())).willReturn(store);
+            given(reservationRepository.existsByUser_IdAndStore_IdAndReservedAt(anyLong(), anyLong(), any())).willReturn(false);
+            given(capacityLedger.tryReserve(store, reservedAt)).willReturn(true);
+            given(reservationRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            ReservationResponseDto response = reservationService.makeReservationWithCapacityLedger(authUser, dto);
+
+            // then
+            assertNotNull(response);
+            assertEquals(reservedAt, response.getReservedAt());
+            verify(reservationRepository, never()).countReservedTablesByDate(any(), any());
+            verify(inventoryWriteBehind).applyReserved(store, reservedAt);
+            verifyNoInteractions(slotInventoryService);
+        }
+
+        @Test
+        void 정원_초과시_예외_발생() {
+            // given
+            ReservationRequestDto dto = new ReservationRequestDto(storeId, reservedAt);
+            given(storeService.getStore(anyLong())).willReturn(store);
+            given(reservationRepository.existsByUser_IdAndStore_IdAndReservedAt(anyLong(), anyLong(), any())).willReturn(false);
+            given(capacityLedger.tryReserve(store, reservedAt)).willReturn(false);
+
+            // when & then
+            HandledException exception = assertThrows(HandledException.class, () ->
+                    reservationService.makeReservationWithCapacityLedger(authUser, dto)
+            );
+
+            assertEquals(ErrorCode.STORE_TABLE_CAPACITY_EXCEEDED.getDefaultMessage(), exception.getMessage());
+            verify(reservationRepository, never()).save(any());
+        }
+
+        @Test
+        void 중복_예약시_좌석을_선점하지_않음() {
+            // given
+            ReservationRequestDto dto = new ReservationRequestDto(storeId, reservedAt);
+            given(storeService.getStore(anyLong())).willReturn(store);
+            given(reservationRepository.existsByUser_IdAndStore_IdAndReservedAt(anyLong(), anyLong(), any())).willReturn(true);
+
+            // when & then
+            HandledException exception = assertThrows(HandledException.class, () ->
+                    reservationService.makeReservationWithCapacityLedger(authUser, dto)
+            );
+
+            assertEquals(ErrorCode.RESERVATION_DUPLICATE.getDefaultMessage(), exception.getMessage());
+            verify(capacityLedger, never()).tryReserve(any(), any());
+        }
+    }
+
     @Nested
     class 예약_생성 {
 
@@ -225,6 +310,21 @@ public class ReservationServiceTest {
             // then
             verify(reminderRegisterProducer, times(1)).send(any(ReminderMessage.class));
         }
+
+        @Test
+        void 예약_생성_시_빈자리_선점_해제() {
+            // given
+            ReservationRequestDto dto = new ReservationRequestDto(storeId, reservedAt);
+            given(storeService.getStore(anyLong())).willReturn(store);
+            given(reservationRepository.existsByUser_IdAndStore_IdAndReservedAt(anyLong(), any(), any())).willReturn(false);
+            given(reservationRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            reservationService.makeReservation(authUser, dto);
+
+            // then
+            verify(waitlistClaimStore, times(1)).release(storeId, reservedAt.toLocalDate(), userId);
+        }
     }
 
     @Nested
@@ -270,6 +370,7 @@ public class ReservationServiceTest {
             given(reservationRepository.findById(anyLong())).willReturn(Optional.of(reservation));
             given(reservationRepository.existsByStore_IdAndReservedAtAndIdNot(anyLong(), any(), anyLong())).willReturn(false);
             given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+            given(capacityLedger.move(any(Store.class), any(), any())).willReturn(true);
 
             // when
             ReservationResponseDto response = reservationService.updateReservation(authUser, reservationId, dto);
@@ -278,6 +379,25 @@ public class ReservationServiceTest {
             assertNotNull(response);
             assertEquals(dto.getReservedAt(), response.getReservedAt());
         }
+
+        @Test
+        void 변경할_날짜의_정원이_가득_찬_경우_예외_발생() {
+            // given
+            LocalDateTime nextDay = reservedAt.plusDays(1);
+            ReservationUpdateRequestDto dto = new ReservationUpdateRequestDto(nextDay);
+            Reservation reservation = createReservation(reservationId, reservedAt, ReservationStatus.RESERVED);
+            given(reservationRepository.findById(anyLong())).willReturn(Optional.of(reservation));
+            given(reservationRepository.existsByStore_IdAndReservedAtAndIdNot(anyLong(), any(), anyLong())).willReturn(false);
+            given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+            given(capacityLedger.move(store, reservedAt, nextDay)).willReturn(false);
+
+            // when & then
+            HandledException exception = assertThrows(HandledException.class, () ->
+                    reservationService.updateReservation(authUser, reservationId, dto)
+            );
+            assertEquals(ErrorCode.STORE_TABLE_CAPACITY_EXCEEDED.getDefaultMessage(), exception.getMessage());
+            verify(reservationRepository, never()).save(any());
+        }
     }
 
     @Nested
@@ -405,39 +525,16 @@ public class ReservationServiceTest {
         LocalDate date = LocalDate.of(2025, 4, 10);
 
         @Test
-        void 정원이_남아있으면_true_반환() {
+        void 좌석_재고_기준으로_빈자리_여부_반환() {
             // given
-            given(reservationRepository.countReservedTablesByDate(store, date)).willReturn(5L);
+            given(slotInventoryService.hasVacancy(store, date)).willReturn(true);
 
             // when
             boolean result = reservationService.hasVacancyDate(store, date);
 
             // then
             assertTrue(result);
-        }
-
-        @Test
-        void 정원이_가득_찼으면_false_반환() {
-            // given
-            given(reservationRepository.countReservedTablesByDate(store, date)).willReturn(20L);
-
-            // when
-            boolean result = reservationService.hasVacancyDate(store, date);
-
-            // then
-            assertFalse(result);
-        }
-
-        @Test
-        void 정원을_초과했으면_false_반환() {
-            // given
-            given(reservationRepository.countReservedTablesByDate(store, date)).willReturn(21L);
-
-            // when
-            boolean result = reservationService.hasVacancyDate(store, date);
-
-            // then
-            assertFalse(result);
+            verify(reservationRepository, never()).countReservedTablesByDate(any(), any());
         }
     }
 
@@ -471,6 +568,9 @@ public class ReservationServiceTest {
             // then
             assertNotNull(response);
             assertEquals(ReservationStatus.CANCELED, response.getStatus());
+            verify(slotInventoryService, times(1)).release(store, reserved1.getReservedAt());
+            verify(capacityLedger, times(1)).release(storeId, reserved1.getReservedAt());
+            verify(storeAvailabilityService, times(1)).evictDay(storeId, reserved1.getReservedAt().toLocalDate());
         }
 
         @Test
@@ -0,0 +1,195 @@
+package org.example.tablenow.domain.reservation;
+
+import org.example.tablenow.domain.reservation.dto.cache.StoreAvailabilityMeta;
+import org.example.tablenow.domain.reservation.dto.cache.StoreDayAvailability;
+import org.example.tablenow.domain.reservation.dto.response.DailyAvailabilityDto;
+import org.example.tablenow.domain.reservation.dto.response.ReservationSlotCountDto;
+import org.example.tablenow.domain.reservation.dto.response.StoreAvailabilityResponseDto;
+import org.example.tablenow.domain.reservation.repository.ReservationRepository;
+import org.example.tablenow.domain.reservation.service.StoreAvailabilityService;
+import org.example.tablenow.domain.store.service.StoreService;
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.example.tablenow.global.constant.RedisKeyConstants.STORE_AVAILABILITY_INVALIDATE_CHANNEL;
+import static org.example.tablenow.global.constant.RedisKeyConstants.STORE_AVAILABILITY_KEY_PREFIX;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreAvailabilityServiceTest {
+
+    @Mock
+    private StoreService storeService;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @InjectMocks
+    private StoreAvailabilityService storeAvailabilityService;
+
+    private Long storeId;
+    private String key;
+    private LocalDate from;
+    private StoreAvailabilityMeta meta;
+    private String ttlMillis;
+
+    @BeforeEach
+    void setUp() {
+        storeId = 10L;
+        key = STORE_AVAILABILITY_KEY_PREFIX + storeId;
+        from = LocalDate.of(2025, 4, 10);
+        meta = new StoreAvailabilityMeta(20, LocalTime.of(9, 0), LocalTime.of(22, 0));
+        ttlMillis = String.valueOf(Duration.ofHours(1).toMillis());
+    }
+
+    @Nested
+    class 빈자리_달력_조회 {
+
+        @Test
+        void 조회_기간이_60일을_넘으면_예외_발생() {
+            // when & then
+            HandledException exception = assertThrows(HandledException.class, () ->
+                    storeAvailabilityService.getAvailability(storeId, from, from.plusDays(60))
+            );
+            assertEquals(ErrorCode.RESERVATION_AVAILABILITY_RANGE_INVALID.getDefaultMessage(), exception.getMessage());
+        }
+
+        @Test
+        void Redis_미스시_DB_집계_후_캐시_저장() {
+            // given
+            LocalDate to = from.plusDays(1);
+            given(redisTemplate.opsForHash()).willReturn(hashOperations);
+            given(hashOperations.multiGet(key, List.of("meta", "gen"))).willReturn(Arrays.asList(meta.encode(), "3"));
+            given(hashOperations.multiGet(key, List.of(from.toString(), to.toString(), "gen"))).willReturn(Arrays.asList(null, null, "3"));
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(key)), eq("3"), eq(ttlMillis),
+                    anyString(), anyString(), anyString(), anyString())).willReturn(1L);
+            given(reservationRepository.countReservedSlotsBetween(storeId, from.atStartOfDay(), to.plusDays(1).atStartOfDay()))
+                    .willReturn(List.of(
+                            new ReservationSlotCountDto(from.atTime(10, 0), 3L),
+                            new ReservationSlotCountDto(from.atTime(18, 30), 2L)
+                    ));
+
+            // when
+            StoreAvailabilityResponseDto response = storeAvailabilityService.getAvailability(storeId, from, to);
+
+            // then
+            DailyAvailabilityDto first = response.getDays().get(0);
+            DailyAvailabilityDto second = response.getDays().get(1);
+            assertAll(
+                    () -> assertEquals(2, response.getDays().size()),
+                    () -> assertEquals(15, first.getRemainingSeats()),
+                    () -> assertEquals(27, first.getReservedCounts().length), // 09:00 ~ 22:00
+                    () -> assertEquals(3, first.getReservedCounts()[2]),       // 10:00
+                    () -> assertEquals(20, second.getRemainingSeats())
+            );
+            verify(storeService, never()).getStore(anyLong());
+        }
+
+        @Test
+        void 조회_중_무효화되면_캐시_저장_없이_응답만_반환() {
+            // given
+            given(redisTemplate.opsForHash()).willReturn(hashOperations);
+            given(hashOperations.multiGet(key, List.of("meta", "gen"))).willReturn(Arrays.asList(meta.encode(), null));
+            given(hashOperations.multiGet(key, List.of(from.toString(), "gen"))).willReturn(Arrays.asList(null, null));
+            given(reservationRepository.countReservedSlotsBetween(storeId, from.atStartOfDay(), from.plusDays(1).atStartOfDay()))
+                    .willReturn(List.of(new ReservationSlotCountDto(from.atTime(12, 0), 4L)));
+            // DB 조회 사이에 gen 이 올라가 채우기 스크립트가 거부
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(key)), eq("0"), eq(ttlMillis),
+                    eq(from.toString()), anyString())).willReturn(0L);
+
+            // when
+            StoreAvailabilityResponseDto first = storeAvailabilityService.getAvailability(storeId, from, from);
+            storeAvailabilityService.getAvailability(storeId, from, from);
+
+            // then
+            assertEquals(16, first.getDays().get(0).getRemainingSeats());
+            verify(reservationRepository, times(2)).countReservedSlotsBetween(anyLong(), any(), any());
+        }
+
+        @Test
+        void 로컬_캐시_적중시_Redis_조회하지_않음() {
+            // given
+            StoreDayAvailability day = StoreDayAvailability.fromSlotCounts(
+                    List.of(new ReservationSlotCountDto(LocalDateTime.of(from, LocalTime.of(12, 0)), 1L))
+            );
+            given(redisTemplate.opsForHash()).willReturn(hashOperations);
+            given(hashOperations.multiGet(key, List.of("meta", "gen"))).willReturn(Arrays.asList(meta.encode(), null));
+            given(hashOperations.multiGet(key, List.of(from.toString(), "gen"))).willReturn(Arrays.asList(day.encode(), null));
+            storeAvailabilityService.getAvailability(storeId, from, from);
+
+            // when
+            StoreAvailabilityResponseDto response = storeAvailabilityService.getAvailability(storeId, from, from);
+
+            // then
+            assertEquals(19, response.getDays().get(0).getRemainingSeats());
+            verify(hashOperations, times(1)).multiGet(key, List.of(from.toString(), "gen"));
+            verify(reservationRepository, never()).countReservedSlotsBetween(anyLong(), any(), any());
+        }
+
+        @Test
+        void 가게_무효화_메시지_수신시_로컬_캐시_삭제() {
+            // given
+            given(redisTemplate.opsForHash()).willReturn(hashOperations);
+            given(hashOperations.multiGet(key, List.of("meta", "gen"))).willReturn(Arrays.asList(meta.encode(), null));
+            given(hashOperations.multiGet(key, List.of(from.toString(), "gen"))).willReturn(Arrays.asList(StoreDayAvailability.empty().encode(), null));
+            storeAvailabilityService.getAvailability(storeId, from, from);
+
+            // when
+            storeAvailabilityService.evictLocal(String.valueOf(storeId));
+            storeAvailabilityService.getAvailability(storeId, from, from);
+
+            // then
+            verify(hashOperations, times(2)).multiGet(key, List.of("meta", "gen"));
+            verify(hashOperations, times(2)).multiGet(key, List.of(from.toString(), "gen"));
+        }
+    }
+
+    @Nested
+    class 캐시_무효화 {
+
+        @Test
+        void 날짜_무효화시_Redis_필드_삭제와_세대_증가_후_브로드캐스트() {
+            // when
+            storeAvailabilityService.evictDay(storeId, from);
+
+            // then
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(key)), eq(from.toString()), eq(ttlMillis));
+            verify(redisTemplate).convertAndSend(STORE_AVAILABILITY_INVALIDATE_CHANNEL, storeId + ":" + from);
+        }
+
+        @Test
+        void 가게_무효화시_Redis_키_삭제와_세대_증가_후_브로드캐스트() {
+            // when
+            storeAvailabilityService.evictStore(storeId);
+
+            // then
+            verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(key)), eq(ttlMillis));
+            verify(redisTemplate).convertAndSend(STORE_AVAILABILITY_INVALIDATE_CHANNEL, String.valueOf(storeId));
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package org.example.tablenow.domain.reservation;
+
+import org.example.tablenow.domain.reservation.dto.response.ReservationSlotCountDto;
+import org.example.tablenow.domain.reservation.entity.ReservationStatus;
+import org.example.tablenow.domain.reservation.entity.StoreDailyInventory;
+import org.example.tablenow.domain.reservation.entity.StoreSlotInventory;
+import org.example.tablenow.domain.reservation.repository.ReservationRepository;
+import org.example.tablenow.domain.reservation.repository.StoreDailyInventoryRepository;
+import org.example.tablenow.domain.reservation.repository.StoreSlotInventoryRepository;
+import org.example.tablenow.domain.reservation.service.StoreSlotInventoryService;
+import org.example.tablenow.domain.store.entity.Store;
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreSlotInventoryServiceTest {
+
+    @Mock
+    private StoreDailyInventoryRepository dailyInventoryRepository;
+
+    @Mock
+    private StoreSlotInventoryRepository slotInventoryRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @InjectMocks
+    private StoreSlotInventoryService slotInventoryService;
+
+    private Long storeId;
+    private Store store;
+    private LocalDateTime reservedAt;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        storeId = 10L;
+        store = Store.builder()
+                .id(storeId)
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(22, 0))
+                .capacity(20)
+                .build();
+        reservedAt = LocalDateTime.of(2025, 4, 10, 10, 0);
+        date = reservedAt.toLocalDate();
+    }
+
+    @Nested
+    class 좌석_차감 {
+
+        @Test
+        void 정원이_남아있으면_일별_슬롯별_재고_증가() {
+            // given
+            StoreDailyInventory daily = new StoreDailyInventory(storeId, date, 5);
+            StoreSlotInventory slot = new StoreSlotInventory(storeId, reservedAt, 1);
+            given(dailyInventoryRepository.findByStoreIdAndInventoryDate(storeId, date)).willReturn(Optional.of(daily));
+            given(slotInventoryRepository.findByStoreIdAndSlotStart(storeId, reservedAt)).willReturn(Optional.of(slot));
+
+            // when
+            slotInventoryService.reserve(store, reservedAt);
+
+            // then
+            assertEquals(6, daily.getReservedCount());
+            assertEquals(2, slot.getReservedCount());
+            verify(reservationRepository, never()).countReservedTablesByDate(any(), any());
+        }
+
+        @Test
+        void 정원이_가득_찼으면_예외_발생() {
+            // given
+            StoreDailyInventory daily = new StoreDailyInventory(storeId, date, 20);
+            given(dailyInventoryRepository.findByStoreIdAndInventoryDate(storeId, date)).willReturn(Optional.of(daily));
+
+            // when & then
+            HandledException exception = assertThrows(HandledException.class, () ->
+                    slotInventoryService.reserve(store, reservedAt)
+            );
+            assertEquals(ErrorCode.STORE_TABLE_CAPACITY_EXCEEDED.getDefaultMessage(), exception.getMessage());
+            assertEquals(20, daily.getReservedCount());
+        }
+
+        @Test
+        void 재고_행이_없으면_예약_테이블_기준으로_생성() {
+            // given
+            given(dailyInventoryRepository.findByStoreIdAndInventoryDate(storeId, date)).willReturn(Optional.empty());
+            given(reservationRepository.countReservedTablesByDate(store, date)).willReturn(3L);
+            given(dailyInventoryRepository.save(any(StoreDailyInventory.class))).willAnswer(invocation -> invocation.getArgument(0));
+            given(slotInventoryRepository.findByStoreIdAndSlotStart(storeId, reservedAt)).willReturn(Optional.empty());
+            given(reservationRepository.countByStore_IdAndReservedAtAndStatus(storeId, reservedAt, ReservationStatus.RESERVED)).willReturn(1L);
+            given(slotInventoryRepository.save(any(StoreSlotInventory.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            slotInventoryService.reserve(store, reservedAt);
+
+            // then
+            verify(dailyInventoryRepository).save(argThat(daily -> daily.getReservedCount() == 4));
+            verify(slotInventoryRepository).save(argThat(slot -> slot.getReservedCount() == 2));
+        }
+
+        @Test
+        void 재고_행_동시_생성시_충돌_예외_발생() {
+            // given
+            given(dailyInventoryRepository.findByStoreIdAndInventoryDate(storeId, date)).willReturn(Optional.empty());
+            given(reservationRepository.countReservedTablesByDate(store, date)).willReturn(0L);
+            given(dailyInventoryRepository.save(any(StoreDailyInventory.class)))
+                    .willThrow(new DataIntegrityViolationException("uk_store_daily_inventory"));
+
+            // when & then
+            HandledException exception = assertThrows(HandledException.class, () ->
+                    slotInventoryService.reserve(store, reservedAt)
+            );
+            assertEquals(ErrorCode.RESERVATION_INVENTORY_CONFLICT.getDefaultMessage(), exception.getMessage());
+        }
+
+        @Test
+        void 재고_행_버전_충돌시_충돌_예외로_변환() {
+            // given
+            StoreDailyInventory daily = new StoreDailyInventory(storeId, date, 5);
+            StoreSlotInventory slot = new StoreSlotInventory(storeId, reservedAt, 1);
+            given(dailyInventoryRepository.findByStoreIdAndInventoryDate(storeId, date)).willReturn(Optional.of(daily));
+            given(slotInventoryRepository.findByStoreIdAndSlotStart(storeId, reservedAt)).willReturn(Optional.of(slot));
+            willThrow(new ObjectOptimisticLockingFailureException(StoreDailyInventory.class, 1L))
+                    .given(dailyInventoryRepository).flush();
+
+            // when & then
+            HandledException exception = assertThrows(HandledException.class, () ->
+                    slotInventoryService.reserve(store, reservedAt)
+            );
+            assertEquals(ErrorCode.RESERVATION_INVENTORY_CONFLICT.getDefaultMessage(), exception.getMessage());
+        }
+    }
+
+    @Nested
+    class 좌석_반환_및_이동 {
+
+        @Test
+        void 좌석_반환시_재고_감소() {
+            // given
+            StoreDailyInventory daily = new StoreDailyInventory(storeId, date, 5);
+            StoreSlotInventory slot = new StoreSlotInventory(storeId, reservedAt, 1);
+            given(dailyInventoryRepository.findByStoreIdAndInventoryDate(storeId, date)).willReturn(Optional.of(daily));
+            given(slotInventoryRepository.findByStoreIdAndSlotStart(storeId, reservedAt)).willReturn(Optional.of(slot));
+
+            // when
+            slotInventoryService.release(store, reservedAt);
+
+            // then
+            assertEquals(4, daily.getReservedCount());
+            assertEquals(0, slot.getReservedCount());
+        }
+
+        @Test
+        void 같은_날짜_이동시_슬롯_재고만_이동() {
+            // given
+            LocalDateTime movedAt = reservedAt.plusHours(2);
+            StoreSlotInventory from = new StoreSlotInventory(storeId, reservedAt, 1);
+            StoreSlotInventory to = new StoreSlotInventory(storeId, movedAt, 0);
+            given(slotInventoryRepository.findByStoreIdAndSlotStart(storeId, reservedAt)).willReturn(Optional.of(from));
+            given(slotInventoryRepository.findByStoreIdAndSlotStart(storeId, movedAt)).willReturn(Optional.of(to));
+
+            // when
+            slotInventoryService.move(store, reservedAt, movedAt);
+
+            // then
+            assertEquals(0, from.getReservedCount());
+            assertEquals(1, to.getReservedCount());
+            verify(dailyInventoryRepository, never()).findByStoreIdAndInventoryDate(any(), any());
+        }
+    }
+
+    @Nested
+    class 빈자리_여부_조회 {
+
+        @Test
+        void 정원이_남아있으면_true_반환() {
+            // given
+            given(dailyInventoryRepository.findByStoreIdAndInventoryDate(storeId, date))
+                    .willReturn(Optional.of(new StoreDailyInventory(storeId, date, 5)));
+
+            // when & then
+            assertTrue(slotInventoryService.hasVacancy(store, date));
+        }
+
+        @Test
+        void 정원이_가득_찼으면_false_반환() {
+            // given
+            given(dailyInventoryRepository.findByStoreIdAndInventoryDate(storeId, date))
+                    .willReturn(Optional.of(new StoreDailyInventory(storeId, date, 20)));
+
+            // when & then
+            assertFalse(slotInventoryService.hasVacancy(store, date));
+        }
+
+        @Test
+        void 재고_행이_없으면_예약_테이블_집계() {
+            // given
+            given(dailyInventoryRepository.findByStoreIdAndInventoryDate(storeId, date)).willReturn(Optional.empty());
+            given(reservationRepository.countReservedTablesByDate(store, date)).willReturn(21L);
+
+            // when & then
+            assertFalse(slotInventoryService.hasVacancy(store, date));
+        }
+    }
+
+    @Nested
+    class 재고_재계산 {
+
+        @Test
+        void 예약_테이블_집계로_일별_슬롯별_재고를_맞추고_예약이_없는_슬롯은_0() {
+            // given
+            LocalDateTime emptySlot = reservedAt.plusHours(2);
+            StoreDailyInventory daily = new StoreDailyInventory(storeId, date, 9);
+            StoreSlotInventory slot = new StoreSlotInventory(storeId, reservedAt, 1);
+            StoreSlotInventory empty = new StoreSlotInventory(storeId, emptySlot, 2);
+            given(dailyInventoryRepository.findByStoreIdAndInventoryDate(storeId, date)).willReturn(Optional.of(daily));
+            given(slotInventoryRepository.findAllByStoreIdAndSlotStartGreaterThanEqualAndSlotStartLessThanOrderBySlotStart(
+                    storeId, date.atStartOfDay(), date.plusDays(1).atStartOfDay())).willReturn(List.of(slot, empty));
+            given(reservationRepository.countReservedSlotsBetween(storeId, date.atStartOfDay(), date.plusDays(1).atStartOfDay()))
+                    .willReturn(List.of(
+                            new ReservationSlotCountDto(reservedAt, 3L),
+                            new ReservationSlotCountDto(reservedAt.plusHours(4), 1L)
+                    ));
+
+            // when
+            slotInventoryService.recount(storeId, date);
+
+            // then
+            assertAll(
+                    () -> assertEquals(4, daily.getReservedCount()),
+                    () -> assertEquals(3, slot.getReservedCount()),
+                    () -> assertEquals(0, empty.getReservedCount())
+            );
+            verify(dailyInventoryRepository).flush();
+        }
+    }
+}
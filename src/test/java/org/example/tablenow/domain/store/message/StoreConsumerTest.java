@@ -2,22 +2,34 @@ package org.example.tablenow.domain.store.message;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import org.example.tablenow.domain.reservation.service.StoreAvailabilityService;
 import org.example.tablenow.domain.store.entity.StoreDocument;
 import org.example.tablenow.domain.store.message.consumer.StoreConsumer;
-import org.junit.jupiter.api.BeforeEach;
+import org.example.tablenow.domain.store.repository.StoreElasticRepository;
+import org.example.tablenow.domain.store.service.StoreElasticsearchIndexer;
+import org.example.tablenow.domain.store.service.StoreSearchService;
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageBuilder;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,9 +37,139 @@ public class StoreConsumerTest {
 
     @Mock
     private RabbitTemplate rabbitTemplate;
+    @Mock
+    private StoreElasticRepository storeElasticRepository;
+    @Mock
+    private StoreSearchService storeSearchService;
+    @Mock
+    private StoreElasticsearchIndexer storeElasticsearchIndexer;
+    @Mock
+    private StoreAvailabilityService storeAvailabilityService;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    @Mock
+    private Channel channel;
     @InjectMocks
     private StoreConsumer storeConsumer;
 
+    @Nested
+    class 배치_인덱싱 {
+
+        @Test
+        void 같은_가게_수정_메시지는_마지막_문서만_반영_후_모두_ack() throws IOException {
+            // given
+            List<Message> messages = List.of(
+                    toMessage(1L, storeDocument(1L, 4.0)),
+                    toMessage(2L, storeDocument(1L, 4.5)),
+                    toMessage(3L, storeDocument(2L, 3.0))
+            );
+            given(storeElasticRepository.bulkUpdateStoreIndex(anyCollection(), anyCollection())).willReturn(Set.of());
+
+            // when
+            storeConsumer.handleUpdate(messages, channel);
+
+            // then
+            verify(storeElasticRepository).bulkUpdateStoreIndex(
+                    argThat((Collection<StoreDocument> documents) -> documents.size() == 2
+                            && documents.stream().anyMatch(document -> document.getId().equals(1L) && document.getRating() == 4.5)),
+                    eq(List.of())
+            );
+            verify(storeSearchService).evictSearchCacheByStoreId(1L);
+            verify(storeSearchService).evictSearchCacheByStoreId(2L);
+            verify(storeAvailabilityService).evictStore(1L);
+            verify(channel).basicAck(1L, false);
+            verify(channel).basicAck(2L, false);
+            verify(channel).basicAck(3L, false);
+            verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+        }
+
+        @Test
+        void Bulk_항목_실패_가게의_메시지만_nack() throws IOException {
+            // given
+            List<Message> messages = List.of(
+                    toMessage(1L, storeDocument(1L, 4.0)),
+                    toMessage(2L, storeDocument(2L, 3.0))
+            );
+            given(storeElasticRepository.bulkUpdateStoreIndex(anyCollection(), anyCollection())).willReturn(Set.of(2L));
+
+            // when
+            storeConsumer.handleCreate(messages, channel);
+
+            // then
+            verify(channel).basicAck(1L, false);
+            verify(channel).basicNack(2L, false, false);
+            verify(storeSearchService, times(1)).evictSearchCacheForNewStore(any(StoreDocument.class));
+        }
+
+        @Test
+        void Bulk_요청_실패시_전체_nack() throws IOException {
+            // given
+            List<Message> messages = List.of(
+                    toMessage(1L, storeDocument(1L, 4.0)),
+                    toMessage(2L, storeDocument(2L, 3.0))
+            );
+            given(storeElasticRepository.bulkUpdateStoreIndex(anyCollection(), anyCollection()))
+                    .willThrow(new HandledException(ErrorCode.STORE_ELASTICSEARCH_INDEX_FAILED));
+
+            // when
+            storeConsumer.handleUpdate(messages, channel);
+
+            // then
+            verify(channel).basicNack(1L, false, false);
+            verify(channel).basicNack(2L, false, false);
+            verify(channel, never()).basicAck(anyLong(), anyBoolean());
+            verifyNoInteractions(storeSearchService);
+        }
+
+        @Test
+        void 같은_가게_삭제_메시지는_한번만_삭제_요청() throws IOException {
+            // given
+            List<Message> messages = List.of(toMessage(1L, 1L), toMessage(2L, 1L));
+            given(storeElasticRepository.bulkUpdateStoreIndex(anyCollection(), anyCollection())).willReturn(Set.of());
+
+            // when
+            storeConsumer.handleDelete(messages, channel);
+
+            // then
+            verify(storeElasticRepository).bulkUpdateStoreIndex(eq(List.of()),
+                    argThat((Collection<Long> storeIds) -> storeIds.size() == 1 && storeIds.contains(1L)));
+            verify(storeSearchService).evictSearchCacheByStoreId(1L);
+            verify(channel).basicAck(1L, false);
+            verify(channel).basicAck(2L, false);
+        }
+
+        @Test
+        void 역직렬화_실패_메시지는_nack() throws IOException {
+            // given
+            Message invalid = MessageBuilder.withBody("invalid".getBytes())
+                    .setDeliveryTag(1L)
+                    .build();
+
+            // when
+            storeConsumer.handleDelete(List.of(invalid), channel);
+
+            // then
+            verify(channel).basicNack(1L, false, false);
+            verifyNoInteractions(storeElasticRepository);
+        }
+
+        private StoreDocument storeDocument(Long storeId, double rating) {
+            return StoreDocument.builder()
+                    .id(storeId)
+                    .name("맛있는 가게")
+                    .rating(rating)
+                    .ratingCount(10)
+                    .categoryId(1L)
+                    .build();
+        }
+
+        private Message toMessage(long deliveryTag, Object payload) throws JsonProcessingException {
+            return MessageBuilder.withBody(objectMapper.writeValueAsBytes(payload))
+                    .setDeliveryTag(deliveryTag)
+                    .build();
+        }
+    }
+
     @Nested
     class DLQ_테스트 {
         private MessageProperties props = new MessageProperties();
@@ -9,14 +9,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.atMost;
@@ -32,6 +37,9 @@ public class StorePerformanceTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
     @MockitoSpyBean
     StoreRepository storeRepository;
 
@@ -175,4 +183,75 @@ public class StorePerformanceTest {
         }
     }
 
+    @Nested
+    class 가게_검색_v3_캐시_미스 {
+        private static final int ITERATIONS = 200;
+        private static final int PAGE_ITEMS = 10;
+
+        @Test
+        void 캐시_미스_응답_시간_p50_p99() throws Exception {
+            long[] durations = new long[ITERATIONS];
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                // 매 요청마다 다른 페이지를 조회해 캐시 미스 유도
+                Instant start = Instant.now();
+                mockMvc.perform(get("/api/v3/stores")
+                        .param("page", String.valueOf(i + 1))
+                        .param("size", "1")
+                        .param("sort", "rating")
+                        .param("direction", "desc")
+                        .param("categoryId", "1")
+                ).andExpect(status().isOk());
+                durations[i] = Duration.between(start, Instant.now()).toNanos();
+            }
+            logPercentiles("V3 캐시 미스", durations);
+        }
+
+        @Test
+        void 검색_캐시_쓰기_개별_명령_대비_파이프라인() {
+            String payload = "x".repeat(4_096);
+            long ttlSeconds = TimeUnit.DAYS.toSeconds(1);
+            long[] sequential = new long[ITERATIONS];
+            long[] pipelined = new long[ITERATIONS];
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                String cacheKey = "benchmark:store:search:" + i;
+
+                // 기존: SET 1회 + 가게별 SADD, EXPIRE
+                long start = System.nanoTime();
+                stringRedisTemplate.opsForValue().set(cacheKey, payload, ttlSeconds, TimeUnit.SECONDS);
+                for (int storeId = 0; storeId < PAGE_ITEMS; storeId++) {
+                    stringRedisTemplate.opsForSet().add("benchmark:store:cache-keys:" + storeId, cacheKey);
+                    stringRedisTemplate.expire("benchmark:store:cache-keys:" + storeId, ttlSeconds, TimeUnit.SECONDS);
+                }
+                sequential[i] = System.nanoTime() - start;
+
+                // 변경: 동일 명령을 파이프라인 1회 왕복으로 전송
+                start = System.nanoTime();
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                    stringConnection.setEx(cacheKey, ttlSeconds, payload);
+                    for (int storeId = 0; storeId < PAGE_ITEMS; storeId++) {
+                        stringConnection.sAdd("benchmark:store:cache-keys:" + storeId, cacheKey);
+                        stringConnection.expire("benchmark:store:cache-keys:" + storeId, ttlSeconds);
+                    }
+                    return null;
+                });
+                pipelined[i] = System.nanoTime() - start;
+            }
+
+            logPercentiles("개별 명령", sequential);
+            logPercentiles("파이프라인", pipelined);
+            stringRedisTemplate.delete(stringRedisTemplate.keys("benchmark:store:*"));
+        }
+
+        private void logPercentiles(String label, long[] durations) {
+            long[] sorted = durations.clone();
+            Arrays.sort(sorted);
+            log.info("[{}] p50: {}ms, p99: {}ms",
+                    label,
+                    sorted[(int) Math.ceil(sorted.length * 0.50) - 1] / 1_000_000.0,
+                    sorted[(int) Math.ceil(sorted.length * 0.99) - 1] / 1_000_000.0);
+        }
+    }
 }
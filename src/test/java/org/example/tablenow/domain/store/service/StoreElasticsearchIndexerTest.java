@@ -1,23 +1,39 @@
 package org.example.tablenow.domain.store.service;
 
+import org.example.tablenow.domain.store.dto.response.StoreReindexResponseDto;
 import org.example.tablenow.domain.store.entity.Store;
 import org.example.tablenow.domain.store.entity.StoreDocument;
+import org.example.tablenow.domain.store.enums.StoreReindexStatus;
+import org.example.tablenow.domain.store.repository.StoreElasticRepository;
 import org.example.tablenow.domain.store.repository.StoreRepository;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.IndexOperations;
-
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
+import static org.example.tablenow.domain.store.service.StoreElasticsearchIndexer.INDEX_BATCH_SIZE;
+import static org.example.tablenow.domain.store.util.StoreConstant.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.BDDMockito.given;
 
@@ -33,54 +49,189 @@ public class StoreElasticsearchIndexerTest {
     @Mock
     private IndexOperations indexOperations;
 
+    @Mock
+    private IndexOperations newIndexOperations;
+
+    @Mock
+    private StoreElasticRepository storeElasticRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
     @InjectMocks
     private StoreElasticsearchIndexer storeElasticsearchIndexer;
 
-    @Test
-    void Elasticsearch_인덱스_일괄_삭제_중_예외_발생() {
-        // given
-        Store store = mock(Store.class);
-        StoreDocument storeDocument = mock(StoreDocument.class);
+    @Nested
+    class 무중단_재색인 {
+
+        @Test
+        void 새_버전_인덱스_적재_후_변경분_재반영_및_alias_전환() {
+            // given
+            Store store = mock(Store.class);
+            given(store.getId()).willReturn(1L);
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(STORE_REINDEX_TARGET_KEY), startsWith(STORE_INDEX_VERSION_PREFIX), any(Duration.class))).willReturn(true);
+            given(storeElasticRepository.findStoreIndices()).willReturn(Set.of(STORE_INDEX));
+            given(operations.indexOps(StoreDocument.class)).willReturn(indexOperations);
+            given(operations.indexOps(any(IndexCoordinates.class))).willReturn(newIndexOperations);
+            given(indexOperations.createSettings()).willReturn(new Settings());
+            given(indexOperations.createMapping()).willReturn(Document.create());
+            given(storeRepository.findMaxId()).willReturn(1L);
+            given(storeRepository.findNextBatchWithUserAndCategory(eq(0L), eq(1L), any(Pageable.class))).willReturn(List.of(store));
+            given(storeElasticRepository.bulkUpdateStoreIndex(anyString(), anyCollection(), anyCollection())).willReturn(Set.of());
+            given(redisTemplate.opsForSet()).willReturn(setOperations);
+            // 적재 중 가게 2 삭제 이벤트 발생
+            given(setOperations.pop(STORE_REINDEX_CHANGED_KEY, INDEX_BATCH_SIZE)).willReturn(List.of("2"), List.of());
+            given(storeRepository.findAllWithUserAndCategoryByIdIn(Set.of(2L))).willReturn(List.of());
+
+            // when
+            storeElasticsearchIndexer.reindexAllStoresWithAlias();
 
-        given(storeRepository.findAllWithUserAndCategory()).willReturn(List.of(store));
-        given(operations.indexOps(StoreDocument.class)).willReturn(indexOperations);
-        given(indexOperations.exists()).willReturn(true);
-        given(operations.save(anyList())).willThrow(new HandledException(ErrorCode.STORE_ELASTICSEARCH_INDEX_FAILED)); // 인덱스 저장 중 예외 발생
+            // then
+            verify(newIndexOperations).create(argThat(settings -> "-1".equals(settings.get("index.refresh_interval"))), any(Document.class));
+            verify(storeElasticRepository).bulkUpdateStoreIndex(startsWith(STORE_INDEX_VERSION_PREFIX),
+                    argThat((Collection<StoreDocument> documents) -> documents.size() == 1), eq(List.of()));
+            verify(storeElasticRepository).bulkUpdateStoreIndex(startsWith(STORE_INDEX_VERSION_PREFIX), eq(List.of()), eq(Set.of(2L)));
+            verify(storeElasticRepository).completeBulkLoad(startsWith(STORE_INDEX_VERSION_PREFIX));
+            verify(storeElasticRepository).switchStoreAlias(startsWith(STORE_INDEX_VERSION_PREFIX), eq(Set.of(STORE_INDEX)));
+            verify(redisTemplate).delete(STORE_REINDEX_TARGET_KEY);
+            verify(valueOperations).set(startsWith(STORE_REINDEX_STATUS_PREFIX), eq(StoreReindexStatus.COMPLETED.name()), any(Duration.class));
+            verify(indexOperations, never()).delete();
+        }
 
-        try (MockedStatic<StoreDocument> storeDocStaticMock = mockStatic(StoreDocument.class)) {
-            storeDocStaticMock.when(() -> StoreDocument.fromStore(store))
-                    .thenReturn(storeDocument);
+        @Test
+        void 적재_실패시_새_인덱스_삭제_및_alias_유지() {
+            // given
+            Store store = mock(Store.class);
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(STORE_REINDEX_TARGET_KEY), anyString(), any(Duration.class))).willReturn(true);
+            given(storeElasticRepository.findStoreIndices()).willReturn(Set.of(STORE_INDEX));
+            given(operations.indexOps(StoreDocument.class)).willReturn(indexOperations);
+            given(operations.indexOps(any(IndexCoordinates.class))).willReturn(newIndexOperations);
+            given(indexOperations.createSettings()).willReturn(new Settings());
+            given(indexOperations.createMapping()).willReturn(Document.create());
+            given(storeRepository.findMaxId()).willReturn(1L);
+            given(storeRepository.findNextBatchWithUserAndCategory(eq(0L), eq(1L), any(Pageable.class))).willReturn(List.of(store));
+            given(storeElasticRepository.bulkUpdateStoreIndex(anyString(), anyCollection(), anyCollection())).willReturn(Set.of(1L));
 
             // when & then
-            HandledException exception = assertThrows(HandledException.class, () -> {
-                storeElasticsearchIndexer.reindexAllStores();
-            });
-            assertEquals(exception.getMessage(), ErrorCode.STORE_ELASTICSEARCH_INDEX_FAILED.getDefaultMessage());
+            HandledException exception = assertThrows(HandledException.class, () ->
+                    storeElasticsearchIndexer.reindexAllStoresWithAlias()
+            );
+            assertEquals(ErrorCode.STORE_ELASTICSEARCH_INDEX_FAILED.getDefaultMessage(), exception.getMessage());
+            verify(storeElasticRepository).deleteIndex(startsWith(STORE_INDEX_VERSION_PREFIX));
+            verify(storeElasticRepository, never()).switchStoreAlias(anyString(), anyCollection());
         }
-    }
 
-    @Test
-    void Elasticsearch_인덱스_일괄_삭제_및_생성() {
-        // given
-        Store store = mock(Store.class);
-        StoreDocument storeDocument = mock(StoreDocument.class);
+        @Test
+        void 전환_후_재반영_실패해도_완료_상태_저장_및_변경_기록_삭제() {
+            // given
+            Store store = mock(Store.class);
+            given(store.getId()).willReturn(1L);
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(STORE_REINDEX_TARGET_KEY), startsWith(STORE_INDEX_VERSION_PREFIX), any(Duration.class))).willReturn(true);
+            given(storeElasticRepository.findStoreIndices()).willReturn(Set.of(STORE_INDEX));
+            given(operations.indexOps(StoreDocument.class)).willReturn(indexOperations);
+            given(operations.indexOps(any(IndexCoordinates.class))).willReturn(newIndexOperations);
+            given(indexOperations.createSettings()).willReturn(new Settings());
+            given(indexOperations.createMapping()).willReturn(Document.create());
+            given(storeRepository.findMaxId()).willReturn(1L);
+            given(storeRepository.findNextBatchWithUserAndCategory(eq(0L), eq(1L), any(Pageable.class))).willReturn(List.of(store));
+            given(storeElasticRepository.bulkUpdateStoreIndex(startsWith(STORE_INDEX_VERSION_PREFIX), anyCollection(), anyCollection())).willReturn(Set.of());
+            given(redisTemplate.opsForSet()).willReturn(setOperations);
+            // 전환 전에는 변경 없음, 전환 직후 가게 2 변경분 재반영 실패
+            given(setOperations.pop(STORE_REINDEX_CHANGED_KEY, INDEX_BATCH_SIZE)).willReturn(List.of(), List.of("2"));
+            given(storeRepository.findAllWithUserAndCategoryByIdIn(Set.of(2L))).willReturn(List.of());
+            given(storeElasticRepository.bulkUpdateStoreIndex(eq(STORE_INDEX), anyCollection(), anyCollection())).willReturn(Set.of(2L));
+
+            // when
+            storeElasticsearchIndexer.reindexAllStoresWithAlias();
+
+            // then
+            verify(storeElasticRepository).switchStoreAlias(startsWith(STORE_INDEX_VERSION_PREFIX), eq(Set.of(STORE_INDEX)));
+            verify(redisTemplate, times(2)).delete(STORE_REINDEX_CHANGED_KEY);
+            verify(valueOperations).set(startsWith(STORE_REINDEX_STATUS_PREFIX), eq(StoreReindexStatus.COMPLETED.name()), any(Duration.class));
+            verify(storeElasticRepository, never()).deleteIndex(anyString());
+        }
+
+        @Test
+        void 이미_진행_중이면_예외_발생() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(STORE_REINDEX_TARGET_KEY), anyString(), any(Duration.class))).willReturn(false);
+
+            // when & then
+            HandledException exception = assertThrows(HandledException.class, () ->
+                    storeElasticsearchIndexer.reindexAllStoresWithAlias()
+            );
+            assertEquals(ErrorCode.STORE_REINDEX_IN_PROGRESS.getDefaultMessage(), exception.getMessage());
+            verifyNoInteractions(storeElasticRepository);
+        }
+
+        @Test
+        void 비동기_시작시_진행_중이면_예외_발생() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.setIfAbsent(eq(STORE_REINDEX_TARGET_KEY), anyString(), any(Duration.class))).willReturn(false);
+
+            // when & then
+            HandledException exception = assertThrows(HandledException.class, () ->
+                    storeElasticsearchIndexer.startReindexWithAlias()
+            );
+            assertEquals(ErrorCode.STORE_REINDEX_IN_PROGRESS.getDefaultMessage(), exception.getMessage());
+            verifyNoInteractions(storeElasticRepository);
+        }
 
-        given(storeRepository.findAllWithUserAndCategory()).willReturn(List.of(store));
-        given(operations.indexOps(StoreDocument.class)).willReturn(indexOperations);
-        given(indexOperations.exists()).willReturn(true);
+        @Test
+        void 작업_ID로_진행_상태_조회() {
+            // given
+            String jobId = STORE_INDEX_VERSION_PREFIX + 1L;
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(STORE_REINDEX_STATUS_PREFIX + jobId)).willReturn(StoreReindexStatus.COMPLETED.name());
+
+            // when
+            StoreReindexResponseDto response = storeElasticsearchIndexer.getReindexStatus(jobId);
+
+            // then
+            assertEquals(jobId, response.getJobId());
+            assertEquals(StoreReindexStatus.COMPLETED, response.getStatus());
+        }
+
+        @Test
+        void 없는_작업_ID_조회시_예외_발생() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(anyString())).willReturn(null);
+
+            // when & then
+            HandledException exception = assertThrows(HandledException.class, () ->
+                    storeElasticsearchIndexer.getReindexStatus("store_v0")
+            );
+            assertEquals(ErrorCode.STORE_REINDEX_JOB_NOT_FOUND.getDefaultMessage(), exception.getMessage());
+        }
 
-        try (MockedStatic<StoreDocument> storeDocStaticMock = mockStatic(StoreDocument.class)) {
-            storeDocStaticMock.when(() -> StoreDocument.fromStore(store))
-                    .thenReturn(storeDocument);
+        @Test
+        void 진행_중일_때만_변경된_가게_기록() {
+            // given
+            given(redisTemplate.hasKey(STORE_REINDEX_TARGET_KEY)).willReturn(true, false);
+            given(redisTemplate.opsForSet()).willReturn(setOperations);
 
             // when
-            storeElasticsearchIndexer.reindexAllStores();
+            storeElasticsearchIndexer.recordChangedStores(List.of(1L, 2L));
+            storeElasticsearchIndexer.recordChangedStores(List.of(3L));
 
             // then
-            verify(indexOperations).delete();
-            verify(indexOperations).create();
-            verify(indexOperations).putMapping();
-            verify(operations).save(List.of(storeDocument));
+            verify(setOperations).add(STORE_REINDEX_CHANGED_KEY, "1", "2");
+            verify(setOperations, never()).add(STORE_REINDEX_CHANGED_KEY, "3");
         }
     }
 }
@@ -0,0 +1,211 @@
+package org.example.tablenow.domain.store.service;
+
+import org.example.tablenow.domain.store.dto.response.StoreSearchResponseDto;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.tablenow.domain.store.util.StoreConstant.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreListCacheServiceTest {
+
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private SetOperations<String, String> setOperations;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private Cache cache;
+    @Mock
+    private StringRedisConnection connection;
+    @InjectMocks
+    private StoreListCacheService storeListCacheService;
+
+    private final Long STORE_ID = 1L;
+    private final Long CATEGORY_ID = 1L;
+    private final String STORE_INDEX_KEY = STORE_LIST_CACHE_STORE_KEY + STORE_ID;
+    private final String CATEGORY_INDEX_KEY = STORE_LIST_CACHE_CATEGORY_KEY + CATEGORY_ID;
+    private final String ALL_INDEX_KEY = STORE_LIST_CACHE_CATEGORY_KEY + STORE_LIST_CACHE_ALL_CATEGORY;
+
+    @Nested
+    class 캐시_저장 {
+
+        private final String GEN_KEY = STORE_LIST_CACHE_GEN_KEY + CATEGORY_ID;
+
+        @Test
+        void 세대가_그대로면_페이지_저장_후_포함된_가게와_카테고리_역인덱스에_등록() {
+            // given
+            String cacheKey = "page=1:size=10:sort=name:direction=asc:categoryId=1:keyword=";
+            StoreSearchResponseDto store1 = StoreSearchResponseDto.builder().storeId(1L).build();
+            StoreSearchResponseDto store2 = StoreSearchResponseDto.builder().storeId(2L).build();
+            PageImpl<StoreSearchResponseDto> page = new PageImpl<>(List.of(store1, store2));
+            given(cacheManager.getCache(STORE_LIST_CACHE_NAME)).willReturn(cache);
+            given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).willReturn(1L);
+
+            // when
+            storeListCacheService.put(cacheKey, CATEGORY_ID, "3", page);
+
+            // then
+            InOrder inOrder = inOrder(cache, redisTemplate);
+            inOrder.verify(cache).put(cacheKey, page);
+            inOrder.verify(redisTemplate).execute(any(RedisScript.class),
+                    eq(List.of(GEN_KEY, CATEGORY_INDEX_KEY, STORE_LIST_CACHE_STORE_KEY + 1L, STORE_LIST_CACHE_STORE_KEY + 2L)),
+                    eq("3"), eq(cacheKey), eq(String.valueOf(TimeUnit.DAYS.toSeconds(1))));
+            verify(cache, never()).evict(any());
+        }
+
+        @Test
+        void 조회_중_세대가_바뀌었으면_저장한_페이지_삭제() {
+            // given
+            String cacheKey = "page=1:size=10:sort=name:direction=asc:categoryId=1:keyword=";
+            PageImpl<StoreSearchResponseDto> page = new PageImpl<>(List.of());
+            given(cacheManager.getCache(STORE_LIST_CACHE_NAME)).willReturn(cache);
+            given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).willReturn(0L);
+
+            // when
+            storeListCacheService.put(cacheKey, CATEGORY_ID, "3", page);
+
+            // then
+            InOrder inOrder = inOrder(cache);
+            inOrder.verify(cache).put(cacheKey, page);
+            inOrder.verify(cache).evict(cacheKey);
+        }
+
+        @Test
+        void 카테고리_조건이_없으면_전체_세대와_역인덱스로_등록() {
+            // given
+            String cacheKey = "page=1:size=10:sort=name:direction=asc:categoryId=:keyword=";
+            given(cacheManager.getCache(STORE_LIST_CACHE_NAME)).willReturn(cache);
+            given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).willReturn(1L);
+
+            // when
+            storeListCacheService.put(cacheKey, null, "0", new PageImpl<>(List.of()));
+
+            // then
+            verify(redisTemplate).execute(any(RedisScript.class),
+                    eq(List.of(STORE_LIST_CACHE_GEN_KEY + STORE_LIST_CACHE_ALL_CATEGORY, ALL_INDEX_KEY)),
+                    eq("0"), eq(cacheKey), anyString());
+        }
+
+        @Test
+        void 세대가_없으면_0으로_조회() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(GEN_KEY)).willReturn(null);
+
+            // when
+            String generation = storeListCacheService.getGeneration(CATEGORY_ID);
+
+            // then
+            assertEquals("0", generation);
+        }
+    }
+
+    @Nested
+    class 캐시_무효화 {
+
+        @Test
+        void 노출_정보만_수정되면_해당_가게가_포함된_페이지만_삭제() {
+            // given
+            given(cacheManager.getCache(STORE_LIST_CACHE_NAME)).willReturn(cache);
+            given(redisTemplate.opsForSet()).willReturn(setOperations);
+            given(setOperations.members(STORE_INDEX_KEY)).willReturn(Set.of("key1", "key2"));
+
+            // when
+            storeListCacheService.evictForUpdate(STORE_ID, CATEGORY_ID, CATEGORY_ID, false);
+
+            // then
+            verify(cache).evict("key1");
+            verify(cache).evict("key2");
+            verify(setOperations, never()).members(CATEGORY_INDEX_KEY);
+            verify(setOperations, never()).members(ALL_INDEX_KEY);
+            verify(cache, never()).clear();
+        }
+
+        @Test
+        void 카테고리_변경시_기존_변경_카테고리와_전체_목록_삭제() {
+            // given
+            Long newCategoryId = 2L;
+            given(cacheManager.getCache(STORE_LIST_CACHE_NAME)).willReturn(cache);
+            given(redisTemplate.opsForSet()).willReturn(setOperations);
+            given(setOperations.members(anyString())).willReturn(Set.of());
+            given(setOperations.members(CATEGORY_INDEX_KEY)).willReturn(Set.of("key1"));
+            given(setOperations.members(STORE_LIST_CACHE_CATEGORY_KEY + newCategoryId)).willReturn(Set.of("key2"));
+
+            // when
+            storeListCacheService.evictForUpdate(STORE_ID, CATEGORY_ID, newCategoryId, false);
+
+            // then
+            verify(cache).evict("key1");
+            verify(cache).evict("key2");
+            verify(setOperations).members(ALL_INDEX_KEY);
+            verify(redisTemplate).delete(argThat((Collection<String> keys) -> keys.size() == 4));
+        }
+
+        @Test
+        void 역인덱스_조회_전에_관련_카테고리와_전체_세대_증가() {
+            // given
+            Long newCategoryId = 2L;
+            given(cacheManager.getCache(STORE_LIST_CACHE_NAME)).willReturn(cache);
+            given(redisTemplate.opsForSet()).willReturn(setOperations);
+            given(redisTemplate.executePipelined(any(RedisCallback.class))).willAnswer(invocation -> {
+                RedisCallback<?> callback = invocation.getArgument(0);
+                callback.doInRedis(connection);
+                return List.of();
+            });
+
+            // when
+            storeListCacheService.evictForUpdate(STORE_ID, CATEGORY_ID, newCategoryId, false);
+
+            // then
+            InOrder inOrder = inOrder(connection, setOperations);
+            inOrder.verify(connection).incr(STORE_LIST_CACHE_GEN_KEY + CATEGORY_ID);
+            inOrder.verify(connection).incr(STORE_LIST_CACHE_GEN_KEY + newCategoryId);
+            inOrder.verify(connection).incr(STORE_LIST_CACHE_GEN_KEY + STORE_LIST_CACHE_ALL_CATEGORY);
+            inOrder.verify(setOperations).members(STORE_INDEX_KEY);
+        }
+
+        @Test
+        void 가게_등록시_카테고리와_전체_목록만_삭제() {
+            // given
+            given(cacheManager.getCache(STORE_LIST_CACHE_NAME)).willReturn(cache);
+            given(redisTemplate.opsForSet()).willReturn(setOperations);
+            given(setOperations.members(CATEGORY_INDEX_KEY)).willReturn(Set.of("key1"));
+            given(setOperations.members(ALL_INDEX_KEY)).willReturn(Set.of("key2"));
+
+            // when
+            storeListCacheService.evictForCreate(CATEGORY_ID);
+
+            // then
+            verify(cache).evict("key1");
+            verify(cache).evict("key2");
+            verify(setOperations, never()).members(startsWith(STORE_LIST_CACHE_STORE_KEY));
+        }
+    }
+}
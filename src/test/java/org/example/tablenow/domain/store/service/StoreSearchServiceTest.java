@@ -1,31 +1,33 @@
 package org.example.tablenow.domain.store.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.tablenow.domain.category.entity.Category;
 import org.example.tablenow.domain.store.dto.response.StoreDocumentResponseDto;
 import org.example.tablenow.domain.store.entity.StoreDocument;
 import org.example.tablenow.domain.store.enums.StoreSortField;
 import org.example.tablenow.domain.store.repository.StoreElasticRepository;
 import org.example.tablenow.domain.store.util.StoreKeyGenerator;
+import org.example.tablenow.domain.store.util.StoreSearchCursor;
 import org.example.tablenow.domain.user.entity.User;
 import org.example.tablenow.domain.user.enums.UserRole;
+import org.example.tablenow.global.cache.CachePayloadStore;
 import org.example.tablenow.global.dto.AuthUser;
+import org.example.tablenow.global.dto.CursorResponse;
 import org.example.tablenow.global.dto.PageResponse;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
-import org.springframework.data.redis.connection.RedisConnection;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
 import org.springframework.data.redis.core.*;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -33,13 +35,11 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
-import static org.example.tablenow.domain.store.util.StoreConstant.STORE_CACHE_KEY;
-import static org.example.tablenow.domain.store.util.StoreConstant.STORE_SEARCH_KEY;
+import static org.example.tablenow.domain.store.util.StoreConstant.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class StoreSearchServiceTest {
@@ -54,18 +54,13 @@ public class StoreSearchServiceTest {
     @Mock
     private StringRedisTemplate stringRedisTemplate;
     @Mock
-    private ValueOperations<String, String> valueOperations;
-    @Mock
     private SetOperations<String, String> setOperations;
     @Mock
-    private ObjectMapper objectMapper;
-
-    @Mock
-    private RedisConnectionFactory redisConnectionFactory;
+    private CachePayloadStore cachePayloadStore;
     @Mock
-    private RedisConnection redisConnection;
+    private StringRedisConnection stringRedisConnection;
     @Mock
-    private Cursor<byte[]> cursor;
+    private RedisStringCommands stringCommands;
 
     @InjectMocks
     private StoreSearchService storeSearchService;
@@ -111,7 +106,7 @@ public class StoreSearchServiceTest {
         }
 
         @Test
-        void 가게_검색_cache_hit_시_Redis_캐시값을_파싱하여_반환_성공() throws JsonProcessingException {
+        void 가게_검색_cache_hit_시_Redis_캐시값을_파싱하여_반환_성공() {
             // given
             String sortField = "ratingCount";
             String sortOrder = "desc";
@@ -120,12 +115,7 @@ public class StoreSearchServiceTest {
             StoreDocument storeDocument = mockStoreDocument(STORE_ID, OWNER_ID, CATEGORY_ID);
 
             PageResponse<StoreDocumentResponseDto> expectedResponse = new PageResponse<>(new PageImpl<>(List.of(StoreDocumentResponseDto.fromStoreDocument(storeDocument))));
-            // template.opsForValue().get(key) 결과
-            String cachedJson = "{\"content\":[{\"storeId\":1,\"name\":\"맛있는 가게\",\"categoryId\":1,\"categoryName\":\"한식\",\"imageUrl\":null,\"startTime\":\"09:00\",\"endTime\":\"21:30\",\"rating\":4.5,\"ratingCount\":100}],\"totalElements\":1}";
-
-            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
-            given(valueOperations.get(anyString())).willReturn(cachedJson);
-            given(objectMapper.readValue(anyString(), any(JavaType.class))).willReturn(expectedResponse);
+            given(cachePayloadStore.get(anyString(), any(JavaType.class))).willReturn(expectedResponse);
 
             // when
             PageResponse<StoreDocumentResponseDto> response = storeSearchService.getStoresV3(authUser, 1, 10, sortField, sortOrder, null, null);
@@ -144,8 +134,6 @@ public class StoreSearchServiceTest {
             String sortOrder = "desc";
             AuthUser authUser = new AuthUser(USER_ID, "user@a.com", UserRole.ROLE_USER, "일반회원");
 
-            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
-
             Page<StoreDocument> result = new PageImpl<>(Collections.emptyList());
             given(storeElasticRepository.searchByKeywordAndCategoryId(anyString(), anyLong(), any(Pageable.class))).willReturn(result);
 
@@ -154,7 +142,7 @@ public class StoreSearchServiceTest {
 
             // then
             assertNotNull(response);
-            verify(stringRedisTemplate.opsForValue(), never()).set(anyString(), any());
+            verify(storeElasticRepository).searchByKeywordAndCategoryId(anyString(), anyLong(), any(Pageable.class));
         }
 
         @Test
@@ -168,8 +156,9 @@ public class StoreSearchServiceTest {
             AuthUser authUser = new AuthUser(USER_ID, "user@a.com", UserRole.ROLE_USER, "일반회원");
             StoreDocument storeDocument = mockStoreDocument(STORE_ID, OWNER_ID, CATEGORY_ID);
 
-            given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
-            given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+            byte[] payload = new byte[]{0x00, 0x01};
+            given(cachePayloadStore.encode(any())).willReturn(payload);
+            given(stringRedisConnection.stringCommands()).willReturn(stringCommands);
 
             Page<StoreDocument> result = new PageImpl<>(List.of(storeDocument));
             given(storeElasticRepository.searchByKeywordAndCategoryId(null, null, pageable)).willReturn(result);
@@ -182,84 +171,169 @@ public class StoreSearchServiceTest {
                     () -> assertNotNull(response),
                     () -> assertEquals(response.getContent().get(0).getStoreId(), STORE_ID)
             );
-            verify(stringRedisTemplate.opsForValue()).set(anyString(), isNull(), anyLong(), any(TimeUnit.class));
-            verify(stringRedisTemplate.opsForSet()).add(anyString(), anyString());
-            verify(stringRedisTemplate).expire(anyString(), anyLong(), any(TimeUnit.class));
+            verify(storeTextAnalyzerService, never()).analyzeText(anyString(), anyString(), any());
+
+            // 파이프라인 1회로 캐시 저장 + 역인덱스 등록
+            ArgumentCaptor<RedisCallback<Object>> callbackCaptor = ArgumentCaptor.forClass(RedisCallback.class);
+            verify(stringRedisTemplate).executePipelined(callbackCaptor.capture());
+            callbackCaptor.getValue().doInRedis(stringRedisConnection);
+
+            long ttlSeconds = TimeUnit.DAYS.toSeconds(1);
+            verify(stringCommands).setEx(any(byte[].class), eq(ttlSeconds), eq(payload));
+            verify(stringRedisConnection).sAdd(eq(STORE_CACHE_KEY + STORE_ID), anyString());
+            verify(stringRedisConnection).sAdd(eq(STORE_SEARCH_TOKEN_KEY + STORE_SEARCH_ALL_TOKEN), anyString());
+            verify(stringRedisConnection, times(2)).expire(anyString(), eq(ttlSeconds));
+        }
+
+        @Test
+        void 검색어_조회_cache_miss_시_ES_분석_없이_검색어_ngram_토큰으로_역인덱스_등록() {
+            // given
+            String sortField = "ratingCount";
+            String sortOrder = "desc";
+            AuthUser authUser = new AuthUser(USER_ID, "user@a.com", UserRole.ROLE_USER, "일반회원");
+            StoreDocument storeDocument = mockStoreDocument(STORE_ID, OWNER_ID, CATEGORY_ID);
+
+            given(cachePayloadStore.encode(any())).willReturn(new byte[]{0x00});
+            given(stringRedisConnection.stringCommands()).willReturn(stringCommands);
+            given(storeElasticRepository.searchByKeywordAndCategoryId(eq("Pasta"), isNull(), any(Pageable.class)))
+                    .willReturn(new PageImpl<>(List.of(storeDocument)));
+
+            // when
+            storeSearchService.getStoresV3(authUser, 1, 10, sortField, sortOrder, null, "Pasta");
+
+            // then
+            verifyNoInteractions(storeTextAnalyzerService);
+
+            ArgumentCaptor<RedisCallback<Object>> callbackCaptor = ArgumentCaptor.forClass(RedisCallback.class);
+            verify(stringRedisTemplate).executePipelined(callbackCaptor.capture());
+            callbackCaptor.getValue().doInRedis(stringRedisConnection);
+
+            // pasta → pa, as, st, ta, pas, ast, sta
+            for (String token : List.of("pa", "as", "st", "ta", "pas", "ast", "sta")) {
+                verify(stringRedisConnection).sAdd(eq(STORE_SEARCH_TOKEN_KEY + token), anyString());
+            }
+            verify(stringRedisConnection, never()).sAdd(eq(STORE_SEARCH_TOKEN_KEY + "past"), anyString());
+            verify(stringRedisConnection, never()).sAdd(eq(STORE_SEARCH_TOKEN_KEY + STORE_SEARCH_ALL_TOKEN), anyString());
         }
     }
 
     @Nested
-    class 가게_등록_시_캐시_무효화 {
+    class 가게_검색_v4 {
+        String sortField = "rating";
+        String sortOrder = "desc";
+        Sort sortOption = Sort.by(Sort.Direction.DESC, "rating");
 
         @Test
-        void 가게명_기준_예상_검색어_호출_실패_삭제_키_없음() {
+        void 첫_페이지_조회_시_다음_커서_발급_및_인기_검색어_저장() {
             // given
+            AuthUser authUser = new AuthUser(USER_ID, "user@a.com", UserRole.ROLE_USER, "일반회원");
             StoreDocument storeDocument = mockStoreDocument(STORE_ID, OWNER_ID, CATEGORY_ID);
+            List<FieldValue> lastSortValues = List.of(FieldValue.of(4.5), FieldValue.of(STORE_ID));
 
-            Set<String> analyzeResult = new HashSet<>();
-            given(storeTextAnalyzerService.analyzeText(anyString(), anyString(), anyString())).willReturn(analyzeResult);
-            given(stringRedisTemplate.getConnectionFactory()).willReturn(redisConnectionFactory);
+            given(storeElasticRepository.searchAfterByKeywordAndCategoryId("맛있는", CATEGORY_ID, sortOption, List.of(), 1, false))
+                    .willReturn(new StoreElasticRepository.SearchAfterSlice(List.of(storeDocument), lastSortValues, true, null));
 
             // when
-            storeSearchService.evictSearchCacheForNewStore(storeDocument);
+            CursorResponse<StoreDocumentResponseDto> response = storeSearchService.getStoresV4(authUser, 1, sortField, sortOrder, CATEGORY_ID, "맛있는", null, false);
 
             // then
-            verify(stringRedisTemplate, never()).delete(Collections.emptySet());
+            assertAll(
+                    () -> assertEquals(STORE_ID, response.getContent().get(0).getStoreId()),
+                    () -> assertTrue(response.isHasNext()),
+                    () -> assertNull(response.getTotalElements()),
+                    () -> assertEquals(2, StoreSearchCursor.decode(response.getNextCursor(), "rating", "DESC").size())
+            );
+            verify(storeService).savePopularKeyword(authUser, "맛있는");
         }
 
         @Test
-        void 가게명_기준_예상_검색어_호출_키_삭제_성공() {
+        void 커서로_이어서_조회_시_search_after_전달_및_인기_검색어_미집계() {
             // given
-            StoreDocument storeDocument = mockStoreDocument(STORE_ID, OWNER_ID, CATEGORY_ID);
+            AuthUser authUser = new AuthUser(USER_ID, "user@a.com", UserRole.ROLE_USER, "일반회원");
+            List<FieldValue> sortValues = List.of(FieldValue.of(4.5), FieldValue.of(STORE_ID));
+            String cursor = StoreSearchCursor.encode("rating", "DESC", sortValues);
 
-            Set<String> analyzeResult = Set.of("맛있", "는");
-            String key1 = STORE_SEARCH_KEY + StoreKeyGenerator.generateStoreListKey(1, 10, "ratingCount", "desc", null, "맛있");
-            String key2 = STORE_SEARCH_KEY + StoreKeyGenerator.generateStoreListKey(1, 10, "ratingCount", "desc", null, "는");
+            given(storeElasticRepository.searchAfterByKeywordAndCategoryId(isNull(), isNull(), eq(sortOption), anyList(), eq(10), eq(true)))
+                    .willReturn(new StoreElasticRepository.SearchAfterSlice(List.of(), List.of(), false, 11L));
 
-            String serializedKey1 = new StringRedisSerializer().deserialize(key1.getBytes());
-            String serializedKey2 = new StringRedisSerializer().deserialize(key2.getBytes());
-            Set<String> scanResult = Set.of(serializedKey1, serializedKey2);
+            // when
+            CursorResponse<StoreDocumentResponseDto> response = storeSearchService.getStoresV4(authUser, 10, sortField, sortOrder, null, null, cursor, true);
 
-            given(storeTextAnalyzerService.analyzeText(anyString(), anyString(), anyString())).willReturn(analyzeResult);
+            // then
+            assertAll(
+                    () -> assertFalse(response.isHasNext()),
+                    () -> assertNull(response.getNextCursor()),
+                    () -> assertEquals(11L, response.getTotalElements())
+            );
+            verify(storeElasticRepository).searchAfterByKeywordAndCategoryId(isNull(), isNull(), eq(sortOption),
+                    argThat(values -> values.size() == 2 && values.get(0).doubleValue() == 4.5 && values.get(1).longValue() == STORE_ID),
+                    eq(10), eq(true));
+            verify(storeService, never()).savePopularKeyword(any(), any());
+        }
 
-            given(stringRedisTemplate.getConnectionFactory()).willReturn(redisConnectionFactory);
-            given(redisConnectionFactory.getConnection()).willReturn(redisConnection);
-            given(redisConnection.scan(any(ScanOptions.class))).willReturn(cursor);
-            given(cursor.hasNext()).willReturn(true, true, false);
-            given(cursor.next()).willReturn(key1.getBytes(), key2.getBytes());
+        @Test
+        void 정렬_조건이_다른_커서_사용_시_예외_발생() {
+            // given
+            String cursor = StoreSearchCursor.encode("ratingCount", "DESC", List.of(FieldValue.of(100L), FieldValue.of(STORE_ID)));
+
+            // when & then
+            HandledException exception = assertThrows(HandledException.class, () ->
+                    storeSearchService.getStoresV4(null, 10, sortField, sortOrder, null, null, cursor, false)
+            );
+            assertEquals(ErrorCode.STORE_INVALID_CURSOR.getDefaultMessage(), exception.getMessage());
+        }
+
+        @Test
+        void 변조된_커서_사용_시_예외_발생() {
+            // when & then
+            HandledException exception = assertThrows(HandledException.class, () ->
+                    storeSearchService.getStoresV4(null, 10, sortField, sortOrder, null, null, "not-a-cursor!", false)
+            );
+            assertEquals(ErrorCode.STORE_INVALID_CURSOR.getDefaultMessage(), exception.getMessage());
+        }
+    }
+
+    @Nested
+    class 가게_등록_시_캐시_무효화 {
+
+        @Test
+        void 역인덱스에_캐시_키가_없으면_삭제하지_않음() {
+            // given
+            StoreDocument storeDocument = mockStoreDocument(STORE_ID, OWNER_ID, CATEGORY_ID);
+
+            given(storeTextAnalyzerService.analyzeText(anyString(), anyString(), anyString())).willReturn(Collections.emptySet());
+            given(stringRedisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of(Collections.emptySet()));
 
             // when
             storeSearchService.evictSearchCacheForNewStore(storeDocument);
 
             // then
-            verify(stringRedisTemplate).delete(scanResult);
+            verify(stringRedisTemplate, never()).delete(anyCollection());
         }
 
         @Test
-        void 카테고리_ID_기준_키_삭제_성공() {
+        void 가게명_토큰_역인덱스만_조회_후_키_삭제_성공() {
             // given
             StoreDocument storeDocument = mockStoreDocument(STORE_ID, OWNER_ID, CATEGORY_ID);
 
-            String key1 = STORE_SEARCH_KEY + StoreKeyGenerator.generateStoreListKey(1, 10, "ratingCount", "desc", 1L, null);
-            String key2 = STORE_SEARCH_KEY + StoreKeyGenerator.generateStoreListKey(1, 10, "rating", "desc", 1L, null);
-
-            String serializedKey1 = new StringRedisSerializer().deserialize(key1.getBytes());
-            String serializedKey2 = new StringRedisSerializer().deserialize(key2.getBytes());
-            Set<String> scanResult = Set.of(serializedKey1, serializedKey2);
-
-            given(storeTextAnalyzerService.analyzeText(anyString(), anyString(), anyString())).willReturn(Collections.emptySet());
+            String key1 = STORE_SEARCH_KEY + StoreKeyGenerator.generateStoreListKey(1, 10, "ratingCount", "desc", null, "맛있");
+            String key2 = STORE_SEARCH_KEY + StoreKeyGenerator.generateStoreListKey(1, 10, "ratingCount", "desc", null, "맛있는집");
+            String key3 = STORE_SEARCH_KEY + StoreKeyGenerator.generateStoreListKey(1, 10, "rating", "desc", 1L, null);
 
-            given(stringRedisTemplate.getConnectionFactory()).willReturn(redisConnectionFactory);
-            given(redisConnectionFactory.getConnection()).willReturn(redisConnection);
-            given(redisConnection.scan(any(ScanOptions.class))).willReturn(cursor);
-            given(cursor.hasNext()).willReturn(true, true, false);
-            given(cursor.next()).willReturn(key1.getBytes(), key2.getBytes());
+            given(storeTextAnalyzerService.analyzeText(anyString(), anyString(), anyString())).willReturn(Set.of("맛있"));
+            given(stringRedisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of(Set.of(key3), Set.of(key1, key2)));
 
             // when
             storeSearchService.evictSearchCacheForNewStore(storeDocument);
 
             // then
-            verify(stringRedisTemplate).delete(scanResult);
+            verify(stringRedisTemplate).delete(Set.of(
+                    key1, key2, key3,
+                    STORE_SEARCH_TOKEN_KEY + STORE_SEARCH_ALL_TOKEN,
+                    STORE_SEARCH_TOKEN_KEY + "맛있"
+            ));
+            verify(stringRedisTemplate, never()).opsForSet();
+            verify(stringRedisTemplate, never()).getConnectionFactory();
         }
     }
 
@@ -10,6 +10,7 @@ import org.example.tablenow.domain.store.entity.Store;
 import org.example.tablenow.domain.store.message.producer.StoreProducer;
 import org.example.tablenow.domain.store.repository.StoreRepository;
 import org.example.tablenow.domain.store.util.StoreConstant;
+import org.example.tablenow.domain.store.util.StoreKeyGenerator;
 import org.example.tablenow.domain.user.entity.User;
 import org.example.tablenow.domain.user.enums.UserRole;
 import org.example.tablenow.global.dto.AuthUser;
@@ -27,14 +28,15 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -53,11 +55,11 @@ public class StoreServiceTest {
     @Mock
     private StringRedisTemplate redisTemplate;
     @Mock
-    private ValueOperations<String, String> valueOperations;
-    @Mock
     private ZSetOperations<String, String> zSetOperations;
     @Mock
     private StoreProducer storeProducer;
+    @Mock
+    private StoreListCacheService storeListCacheService;
     @InjectMocks
     private StoreService storeService;
 
@@ -148,6 +150,7 @@ public class StoreServiceTest {
             assertEquals(response.getUserId(), authOwner.getId());
             assertEquals(response.getCategoryId(), category.getId());
             verify(storeProducer, times(1)).publishStoreCreate(any(Store.class));
+            verify(storeListCacheService).evictForCreate(CATEGORY_ID);
         }
     }
 
@@ -440,6 +443,7 @@ public class StoreServiceTest {
                     () -> assertEquals(response.getCategoryId(), dto.getCategoryId())
             );
             verify(storeProducer, times(1)).publishStoreUpdate(any(Store.class));
+            verify(storeListCacheService).evictForUpdate(eq(STORE_ID), eq(CATEGORY_ID), eq(categoryId2), anyBoolean());
         }
     }
 
@@ -529,6 +533,7 @@ public class StoreServiceTest {
             assertNotNull(response);
             assertEquals(response.getStoreId(), STORE_ID);
             verify(storeProducer, times(1)).publishStoreDelete(store.getId());
+            verify(storeListCacheService).evictForDelete(STORE_ID, CATEGORY_ID);
         }
     }
 
@@ -580,6 +585,7 @@ public class StoreServiceTest {
             Store store = mockStore(STORE_ID, OWNER_ID, CATEGORY_ID);
 
             Page<StoreSearchResponseDto> result = new PageImpl<>(List.of(StoreSearchResponseDto.fromStore(store)));
+            given(storeListCacheService.getGeneration(CATEGORY_ID)).willReturn("3");
             given(storeRepository.searchStores(any(Pageable.class), anyLong(), anyString())).willReturn(result);
 
             // when
@@ -593,6 +599,12 @@ public class StoreServiceTest {
                     () -> assertEquals(dto.getRating(), store.getRating()),
                     () -> assertEquals(dto.getRatingCount(), store.getRatingCount())
             );
+            verify(storeListCacheService).put(
+                    StoreKeyGenerator.generateStoreListKey(page, size, sortField, sortOrder, CATEGORY_ID, ""),
+                    CATEGORY_ID,
+                    "3",
+                    result
+            );
         }
 
         @Test
@@ -607,8 +619,6 @@ public class StoreServiceTest {
             AuthUser authUser = new AuthUser(USER_ID, "user@a.com", UserRole.ROLE_USER, "일반회원");
             Store store = mockStore(STORE_ID, OWNER_ID, CATEGORY_ID);
 
-            given(redisTemplate.hasKey(anyString())).willReturn(true);
-
             Page<StoreSearchResponseDto> result = new PageImpl<>(List.of(StoreSearchResponseDto.fromStore(store)));
             given(storeRepository.searchStores(any(Pageable.class), anyLong(), anyString())).willReturn(result);
 
@@ -638,7 +648,6 @@ public class StoreServiceTest {
             AuthUser authUser = new AuthUser(USER_ID, "user@a.com", UserRole.ROLE_USER, "일반회원");
             Store store = mockStore(STORE_ID, OWNER_ID, CATEGORY_ID);
 
-            given(redisTemplate.hasKey(anyString())).willReturn(true);
             Page<StoreSearchResponseDto> result = new PageImpl<>(List.of(StoreSearchResponseDto.fromStore(store)));
             given(storeRepository.searchStores(any(Pageable.class), anyLong(), anyString())).willReturn(result);
 
@@ -697,11 +706,7 @@ public class StoreServiceTest {
 
             String hourKey = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHH"));
             String rankKey = StoreConstant.STORE_KEYWORD_RANK_KEY + ":" + hourKey;
-
-            given(redisTemplate.hasKey(anyString())).willReturn(false);
-            given(redisTemplate.opsForValue()).willReturn(valueOperations);
-            given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
-            given(zSetOperations.incrementScore(rankKey, search, 1L)).willReturn(1.0);
+            String userKey = StoreConstant.STORE_KEYWORD_USER_KEY + search + ":" + USER_ID;
 
             Page<StoreSearchResponseDto> result = new PageImpl<>(List.of(StoreSearchResponseDto.fromStore(store)));
             given(storeRepository.searchStores(any(Pageable.class), anyLong(), anyString())).willReturn(result);
@@ -718,6 +723,12 @@ public class StoreServiceTest {
                     () -> assertEquals(dto.getRating(), store.getRating()),
                     () -> assertEquals(dto.getRatingCount(), store.getRatingCount())
             );
+            verify(redisTemplate).execute(
+                    any(RedisScript.class),
+                    eq(List.of(userKey, rankKey)),
+                    eq(search),
+                    eq(String.valueOf(TimeUnit.DAYS.toSeconds(1)))
+            );
         }
     }
 
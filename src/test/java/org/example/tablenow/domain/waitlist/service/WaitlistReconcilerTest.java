@@ -0,0 +1,108 @@
+package org.example.tablenow.domain.waitlist.service;
+
+import org.example.tablenow.domain.store.entity.Store;
+import org.example.tablenow.domain.user.entity.User;
+import org.example.tablenow.domain.waitlist.entity.Waitlist;
+import org.example.tablenow.domain.waitlist.message.dto.WaitlistRegisterMessage;
+import org.example.tablenow.domain.waitlist.repository.WaitlistBulkRepository;
+import org.example.tablenow.domain.waitlist.repository.WaitlistRepository;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistReconcilerTest {
+
+    @Mock
+    private WaitlistQueue waitlistQueue;
+
+    @Mock
+    private WaitlistRepository waitlistRepository;
+
+    @Mock
+    private WaitlistBulkRepository waitlistBulkRepository;
+
+    @InjectMocks
+    private WaitlistReconciler waitlistReconciler;
+
+    private final Long storeId = 10L;
+    private final LocalDate waitDate = LocalDate.now().plusDays(1);
+    private final String indexMember = WaitlistQueue.toIndexMember(10L, LocalDate.now().plusDays(1));
+
+    private Waitlist createWaitlist(Long userId) {
+        Store store = Store.builder().id(storeId).build();
+        return new Waitlist(User.builder().id(userId).build(), store, waitDate);
+    }
+
+    @Nested
+    class 대기열_대사 {
+
+        @Test
+        void Redis에만_있는_대기는_DB에_저장하고_DB에만_있는_대기는_대기열에_복원() {
+            // given
+            long now = System.currentTimeMillis();
+            Map<Long, Long> redisEntries = new LinkedHashMap<>();
+            redisEntries.put(1L, now - 120_000); // 저장 누락
+            redisEntries.put(2L, now - 120_000); // 정상
+            redisEntries.put(3L, now);           // 저장 대기 중
+            Waitlist saved = createWaitlist(2L);
+            Waitlist missingInRedis = createWaitlist(4L);
+
+            given(waitlistQueue.isLoaded(storeId, waitDate)).willReturn(true);
+            given(waitlistQueue.getEntries(storeId, waitDate)).willReturn(redisEntries);
+            given(waitlistRepository.findAllByStore_IdAndWaitDateAndIsNotifiedFalse(storeId, waitDate))
+                    .willReturn(List.of(saved, missingInRedis));
+            given(waitlistBulkRepository.insertIgnoreDuplicates(anyList())).willReturn(1);
+
+            // when
+            waitlistReconciler.reconcileQueue(indexMember);
+
+            // then
+            ArgumentCaptor<List<WaitlistRegisterMessage>> captor = ArgumentCaptor.forClass(List.class);
+            verify(waitlistBulkRepository).insertIgnoreDuplicates(captor.capture());
+            assertEquals(List.of(1L), captor.getValue().stream().map(WaitlistRegisterMessage::getUserId).toList());
+            verify(waitlistQueue).load(storeId, waitDate, List.of(missingInRedis));
+        }
+
+        @Test
+        void 지난_날짜의_대기열은_대사_대상에서_제외() {
+            // given
+            LocalDate pastDate = LocalDate.now().minusDays(1);
+
+            // when
+            waitlistReconciler.reconcileQueue(WaitlistQueue.toIndexMember(storeId, pastDate));
+
+            // then
+            verify(waitlistQueue).removeFromIndex(WaitlistQueue.toIndexMember(storeId, pastDate));
+            verify(waitlistRepository, never()).findAllByStore_IdAndWaitDateAndIsNotifiedFalse(anyLong(), any());
+        }
+
+        @Test
+        void 대기열이_비어_키가_없으면_대사_대상에서_제외() {
+            // given
+            given(waitlistQueue.isLoaded(storeId, waitDate)).willReturn(false);
+
+            // when
+            waitlistReconciler.reconcileQueue(indexMember);
+
+            // then
+            verify(waitlistQueue).removeFromIndex(indexMember);
+            verify(waitlistBulkRepository, never()).insertIgnoreDuplicates(anyList());
+        }
+    }
+}
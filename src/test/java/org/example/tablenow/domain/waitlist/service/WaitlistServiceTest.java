@@ -9,9 +9,12 @@ import org.example.tablenow.domain.waitlist.dto.request.WaitlistRequestDto;
 import org.example.tablenow.domain.waitlist.dto.response.WaitlistFindResponseDto;
 import org.example.tablenow.domain.waitlist.dto.response.WaitlistResponseDto;
 import org.example.tablenow.domain.waitlist.entity.Waitlist;
+import org.example.tablenow.domain.waitlist.message.dto.WaitlistRegisterMessage;
+import org.example.tablenow.domain.waitlist.message.producer.WaitlistRegisterProducer;
 import org.example.tablenow.domain.waitlist.repository.WaitlistRepository;
 import org.example.tablenow.global.exception.ErrorCode;
 import org.example.tablenow.global.exception.HandledException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +23,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.amqp.AmqpException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
@@ -29,10 +33,15 @@ import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,6 +65,12 @@ class WaitlistServiceTest {
     @Mock
     private RedissonClient redissonClient;
 
+    @Mock
+    private WaitlistQueue waitlistQueue;
+
+    @Mock
+    private WaitlistRegisterProducer waitlistRegisterProducer;
+
     @Mock
     private User user;
 
@@ -90,6 +105,7 @@ class WaitlistServiceTest {
 
             assertEquals(1L, result.getWaitlistId());
             assertEquals(10L, result.getStoreId());
+            verify(waitlistQueue).appendIfLoaded(any(Waitlist.class));
         }
 
         @Test
@@ -235,6 +251,95 @@ class WaitlistServiceTest {
         }
     }
 
+    @Nested
+    class 대기등록_Redis대기열 {
+        private final LocalDate testDate = LocalDate.of(2025, 5, 20);
+        private WaitlistRequestDto requestDto;
+
+        @BeforeEach
+        void setUp() {
+            requestDto = new WaitlistRequestDto();
+            ReflectionTestUtils.setField(requestDto, "storeId", 10L);
+            ReflectionTestUtils.setField(requestDto, "waitDate", testDate);
+
+            given(store.getId()).willReturn(10L);
+            given(storeService.getStore(10L)).willReturn(store);
+            given(reservationService.hasVacancyDate(store, testDate)).willReturn(false);
+        }
+
+        @Test
+        void 대기열_등록_후_비동기_저장_발행() {
+            // given
+            given(store.getName()).willReturn("테스트 가게");
+            given(waitlistQueue.register(eq(10L), eq(testDate), eq(1L), anyLong(), eq(100), eq(false))).willReturn(1L);
+
+            // when
+            WaitlistResponseDto result = waitlistService.registerScriptWaitlist(1L, requestDto);
+
+            // then
+            assertNull(result.getWaitlistId());
+            assertEquals(10L, result.getStoreId());
+            verify(waitlistRegisterProducer).send(any(WaitlistRegisterMessage.class));
+            verify(userRepository, never()).findById(anyLong());
+            verify(waitlistRepository, never()).save(any());
+        }
+
+        @Test
+        void 대기열이_없으면_DB_대기자로_적재_후_재시도() {
+            // given
+            given(store.getName()).willReturn("테스트 가게");
+            given(waitlistQueue.register(eq(10L), eq(testDate), eq(1L), anyLong(), eq(100), eq(false)))
+                .willReturn(WaitlistQueue.NOT_LOADED);
+            given(waitlistRepository.findWaitingList(store, testDate)).willReturn(List.of());
+            given(waitlistQueue.register(eq(10L), eq(testDate), eq(1L), anyLong(), eq(100), eq(true))).willReturn(1L);
+
+            // when
+            waitlistService.registerScriptWaitlist(1L, requestDto);
+
+            // then
+            verify(waitlistQueue).load(10L, testDate, List.of());
+            verify(waitlistRegisterProducer).send(any(WaitlistRegisterMessage.class));
+        }
+
+        @Test
+        void 이미_대기중이면_예외_발생() {
+            // given
+            given(waitlistQueue.register(eq(10L), eq(testDate), eq(1L), anyLong(), eq(100), eq(false)))
+                .willReturn(WaitlistQueue.ALREADY_REGISTERED);
+
+            // when & then
+            HandledException exception = assertThrows(HandledException.class, () ->
+                waitlistService.registerScriptWaitlist(1L, requestDto)
+            );
+            assertEquals(ErrorCode.WAITLIST_ALREADY_REGISTERED.getDefaultMessage(), exception.getMessage());
+            verify(waitlistRegisterProducer, never()).send(any());
+        }
+
+        @Test
+        void 대기_인원_초과시_예외_발생() {
+            // given
+            given(waitlistQueue.register(eq(10L), eq(testDate), eq(1L), anyLong(), eq(100), eq(false)))
+                .willReturn(WaitlistQueue.FULL);
+
+            // when & then
+            HandledException exception = assertThrows(HandledException.class, () ->
+                waitlistService.registerScriptWaitlist(1L, requestDto)
+            );
+            assertEquals(ErrorCode.WAITLIST_FULL.getDefaultMessage(), exception.getMessage());
+        }
+
+        @Test
+        void 발행_실패시_대기열에서_제거() {
+            // given
+            given(waitlistQueue.register(eq(10L), eq(testDate), eq(1L), anyLong(), eq(100), eq(false))).willReturn(1L);
+            willThrow(new AmqpException("발행 실패")).given(waitlistRegisterProducer).send(any(WaitlistRegisterMessage.class));
+
+            // when & then
+            assertThrows(AmqpException.class, () -> waitlistService.registerScriptWaitlist(1L, requestDto));
+            verify(waitlistQueue).remove(10L, testDate, 1L);
+        }
+    }
+
     @Nested
     class 내대기목록조회 {
 
@@ -0,0 +1,108 @@
+package org.example.tablenow.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LayeredCacheTest {
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCache remoteCache;
+    private LayeredCache layeredCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        remoteCache = new ConcurrentMapCache("stores");
+        com.github.benmanes.caffeine.cache.Cache<Object, Cache.ValueWrapper> localCache = Caffeine.newBuilder().build();
+        layeredCache = new LayeredCache("stores", localCache, remoteCache, invalidationPublisher, meterRegistry);
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.layered.requests")
+                .tag("cache", "stores")
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    @Nested
+    class 조회 {
+
+        @Test
+        void L2_적중시_L1_채우고_다음_조회는_L1_적중() {
+            // given
+            remoteCache.put("key", "value");
+
+            // when
+            Cache.ValueWrapper first = layeredCache.get("key");
+            remoteCache.evict("key");
+            Cache.ValueWrapper second = layeredCache.get("key");
+
+            // then
+            assertEquals("value", first.get());
+            assertEquals("value", second.get());
+            assertEquals(1, count("l1", "miss"));
+            assertEquals(1, count("l2", "hit"));
+            assertEquals(1, count("l1", "hit"));
+        }
+
+        @Test
+        void 모두_미스시_로더_결과를_저장() {
+            // when
+            String value = layeredCache.get("key", () -> "loaded");
+
+            // then
+            assertEquals("loaded", value);
+            assertEquals("loaded", remoteCache.get("key").get());
+            assertEquals(1, count("l2", "miss"));
+            verify(invalidationPublisher).publishEvict("stores", "key");
+        }
+    }
+
+    @Nested
+    class 무효화 {
+
+        @Test
+        void 전체_삭제시_양쪽_캐시_비우고_브로드캐스트() {
+            // given
+            layeredCache.put("key", "value");
+
+            // when
+            layeredCache.clear();
+
+            // then
+            assertNull(layeredCache.get("key"));
+            assertNull(remoteCache.get("key"));
+            verify(invalidationPublisher).publishClear("stores");
+        }
+
+        @Test
+        void 원격_무효화는_L1만_삭제() {
+            // given
+            layeredCache.put("key", "value");
+
+            // when
+            layeredCache.clearLocal();
+
+            // then
+            assertEquals("value", layeredCache.get("key").get());
+            assertEquals(1, count("l2", "hit"));
+        }
+    }
+}
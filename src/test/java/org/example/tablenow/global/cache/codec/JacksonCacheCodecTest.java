@@ -0,0 +1,199 @@
+package org.example.tablenow.global.cache.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.example.tablenow.domain.notification.dto.response.NotificationResponseDto;
+import org.example.tablenow.domain.notification.enums.NotificationType;
+import org.example.tablenow.domain.store.dto.response.StoreDocumentResponseDto;
+import org.example.tablenow.global.dto.PageResponse;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class JacksonCacheCodecTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+    private static final int COMPRESS_THRESHOLD = 1024;
+
+    private static final JavaType STORE_PAGE_TYPE = TypeFactory.defaultInstance()
+            .constructParametricType(PageResponse.class, StoreDocumentResponseDto.class);
+    private static final JavaType NOTIFICATION_LIST_TYPE = TypeFactory.defaultInstance()
+            .constructCollectionType(List.class, NotificationResponseDto.class);
+
+    @Nested
+    class 인코딩_디코딩 {
+
+        @Test
+        void Smile_검색_결과_페이지_왕복_성공() {
+            // given
+            JacksonCacheCodec codec = new JacksonCacheCodec(OBJECT_MAPPER, CacheCodecFormat.SMILE, COMPRESS_THRESHOLD);
+            PageResponse<StoreDocumentResponseDto> page = storePage(10);
+
+            // when
+            PageResponse<StoreDocumentResponseDto> decoded = codec.decode(codec.encode(page), STORE_PAGE_TYPE);
+
+            // then
+            assertAll(
+                    () -> assertEquals(page.getTotalElements(), decoded.getTotalElements()),
+                    () -> assertEquals(10, decoded.getContent().size()),
+                    () -> assertEquals(page.getContent().get(3).getName(), decoded.getContent().get(3).getName()),
+                    () -> assertEquals(page.getContent().get(3).getRating(), decoded.getContent().get(3).getRating())
+            );
+        }
+
+        @Test
+        void 임계값_이상이면_압축하여_저장() {
+            // given
+            JacksonCacheCodec codec = new JacksonCacheCodec(OBJECT_MAPPER, CacheCodecFormat.JSON, COMPRESS_THRESHOLD);
+            List<NotificationResponseDto> notifications = notifications(50);
+
+            // when
+            byte[] encoded = codec.encode(notifications);
+            List<NotificationResponseDto> decoded = codec.decode(encoded, NOTIFICATION_LIST_TYPE);
+
+            // then
+            assertEquals(PayloadCompressor.DEFLATE, encoded[0]);
+            assertEquals(50, decoded.size());
+            assertEquals(notifications.get(49).getCreatedAt(), decoded.get(49).getCreatedAt());
+        }
+
+        @Test
+        void 임계값_미만이면_압축하지_않음() {
+            // given
+            JacksonCacheCodec codec = new JacksonCacheCodec(OBJECT_MAPPER, CacheCodecFormat.SMILE, COMPRESS_THRESHOLD);
+
+            // when
+            byte[] encoded = codec.encode(notifications(1));
+
+            // then
+            assertEquals(PayloadCompressor.PLAIN, encoded[0]);
+        }
+
+        @Test
+        void 코덱_헤더가_없는_기존_JSON_값은_예외_발생() {
+            // given
+            JacksonCacheCodec codec = new JacksonCacheCodec(OBJECT_MAPPER, CacheCodecFormat.SMILE, COMPRESS_THRESHOLD);
+            byte[] legacy = "[{\"notificationId\":1}]".getBytes(StandardCharsets.UTF_8);
+
+            // when & then
+            assertThrows(SerializationException.class, () -> codec.decode(legacy, NOTIFICATION_LIST_TYPE));
+        }
+    }
+
+    @Nested
+    class 포맷별_비교 {
+        private static final int ITERATIONS = 2_000;
+
+        @Test
+        void 저장_크기_인코딩_디코딩_시간_할당량_비교() {
+            PageResponse<StoreDocumentResponseDto> page = storePage(20);
+            List<NotificationResponseDto> notifications = notifications(100);
+
+            for (CacheCodecFormat format : CacheCodecFormat.values()) {
+                for (int threshold : new int[]{Integer.MAX_VALUE, COMPRESS_THRESHOLD}) {
+                    JacksonCacheCodec codec = new JacksonCacheCodec(OBJECT_MAPPER, format, threshold);
+                    String label = format + (threshold == Integer.MAX_VALUE ? "" : "+deflate");
+                    measure(label + " 검색 페이지", codec, page, STORE_PAGE_TYPE);
+                    measure(label + " 알림 목록", codec, notifications, NOTIFICATION_LIST_TYPE);
+                }
+            }
+        }
+
+        private void measure(String label, JacksonCacheCodec codec, Object value, JavaType type) {
+            byte[] encoded = codec.encode(value);
+
+            // 워밍업
+            for (int i = 0; i < ITERATIONS; i++) {
+                codec.decode(codec.encode(value), type);
+            }
+
+            long[] encodeNanos = new long[ITERATIONS];
+            long encodeBytes = allocatedBytes(() -> {
+                for (int i = 0; i < ITERATIONS; i++) {
+                    long start = System.nanoTime();
+                    codec.encode(value);
+                    encodeNanos[i] = System.nanoTime() - start;
+                }
+                return null;
+            });
+
+            long[] decodeNanos = new long[ITERATIONS];
+            long decodeBytes = allocatedBytes(() -> {
+                for (int i = 0; i < ITERATIONS; i++) {
+                    long start = System.nanoTime();
+                    codec.decode(encoded, type);
+                    decodeNanos[i] = System.nanoTime() - start;
+                }
+                return null;
+            });
+
+            log.info("[{}] 크기: {}B, 인코딩 p50: {}us ({}B/op), 디코딩 p50: {}us ({}B/op)",
+                    label,
+                    encoded.length,
+                    median(encodeNanos) / 1_000.0, encodeBytes / ITERATIONS,
+                    median(decodeNanos) / 1_000.0, decodeBytes / ITERATIONS);
+        }
+
+        private long allocatedBytes(Supplier<Void> task) {
+            com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long threadId = Thread.currentThread().getId();
+            long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            task.get();
+            return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+        }
+
+        private long median(long[] nanos) {
+            long[] sorted = nanos.clone();
+            Arrays.sort(sorted);
+            return sorted[sorted.length / 2];
+        }
+    }
+
+    private static PageResponse<StoreDocumentResponseDto> storePage(int size) {
+        List<StoreDocumentResponseDto> content = IntStream.rangeClosed(1, size)
+                .mapToObj(i -> StoreDocumentResponseDto.builder()
+                        .storeId((long) i)
+                        .name("맛있는 가게 " + i)
+                        .categoryId(1L)
+                        .categoryName("한식")
+                        .imageUrl("https://table-now.s3.ap-northeast-2.amazonaws.com/store/" + i + "/image.jpg")
+                        .startTime("09:00")
+                        .endTime("21:00")
+                        .rating(4.5)
+                        .ratingCount(100 + i)
+                        .build())
+                .toList();
+        return new PageResponse<>(new PageImpl<>(content, PageRequest.of(0, size), 1_000));
+    }
+
+    private static List<NotificationResponseDto> notifications(int size) {
+        List<NotificationResponseDto> notifications = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            notifications.add(NotificationResponseDto.builder()
+                    .notificationId((long) i)
+                    .type(NotificationType.REMIND)
+                    .content("맛있는 가게 " + i + " 예약 1시간 전입니다.")
+                    .isRead(false)
+                    .createdAt(LocalDateTime.of(2025, 4, 10, 12, 0).plusMinutes(i))
+                    .build());
+        }
+        return notifications;
+    }
+}
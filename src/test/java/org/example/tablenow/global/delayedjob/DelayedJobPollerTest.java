@@ -0,0 +1,98 @@
+package org.example.tablenow.global.delayedjob;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DelayedJobPollerTest {
+
+    @Mock
+    private DelayedJobQueue delayedJobQueue;
+
+    @Mock
+    private DelayedJobShardCoordinator shardCoordinator;
+
+    @Mock
+    private DelayedJobHandler handler;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DelayedJobPoller delayedJobPoller;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(handler.getJobType()).willReturn(DelayedJobType.RESERVATION_REMINDER);
+        delayedJobPoller = new DelayedJobPoller(delayedJobQueue, shardCoordinator, List.of(handler), meterRegistry);
+    }
+
+    @Nested
+    class 폴링 {
+
+        @Test
+        void 소유한_샤드만_점유하고_완료된_작업만_제거() {
+            // given
+            given(shardCoordinator.getOwnedShards()).willReturn(Set.of(3));
+            given(delayedJobQueue.claim(eq(DelayedJobType.RESERVATION_REMINDER), eq(3), anyLong(), anyLong(), anyInt()))
+                    .willReturn(List.of("1", "2"));
+            given(handler.handle(List.of("1", "2"))).willReturn(List.of("1"));
+
+            // when
+            delayedJobPoller.poll();
+
+            // then
+            verify(delayedJobQueue, times(1)).claim(any(), anyInt(), anyLong(), anyLong(), anyInt());
+            verify(delayedJobQueue).complete(DelayedJobType.RESERVATION_REMINDER, 3, List.of("1"));
+            assertEquals(1, meterRegistry.get("delayed.job.processed").tag("type", "reminder").counter().count());
+        }
+
+        @Test
+        void 비어있는_샤드는_백오프_동안_다시_점유하지_않음() {
+            // given
+            given(shardCoordinator.getOwnedShards()).willReturn(Set.of(0));
+            given(delayedJobQueue.claim(eq(DelayedJobType.RESERVATION_REMINDER), eq(0), anyLong(), anyLong(), anyInt()))
+                    .willReturn(List.of());
+
+            // when
+            delayedJobPoller.poll();
+            delayedJobPoller.poll();
+
+            // then
+            verify(delayedJobQueue, times(1)).claim(any(), anyInt(), anyLong(), anyLong(), anyInt());
+            verify(handler, never()).handle(anyList());
+        }
+    }
+
+    @Nested
+    class 지표 {
+
+        @Test
+        void 소유한_샤드의_대기_건수와_지연_시간_갱신() {
+            // given
+            given(shardCoordinator.getOwnedShards()).willReturn(Set.of(1));
+            given(delayedJobQueue.getBacklog(eq(DelayedJobType.RESERVATION_REMINDER), eq(1), anyLong())).willReturn(42L);
+            given(delayedJobQueue.getOldestRunAt(DelayedJobType.RESERVATION_REMINDER, 1))
+                    .willReturn(System.currentTimeMillis() - 3_000);
+
+            // when
+            delayedJobPoller.refreshMetrics();
+
+            // then
+            assertEquals(42, meterRegistry.get("delayed.job.backlog").tag("shard", "1").gauge().value());
+            assertTrue(meterRegistry.get("delayed.job.lag").tag("shard", "1").gauge().value() >= 3.0);
+            assertTrue(Double.isNaN(meterRegistry.get("delayed.job.backlog").tag("shard", "0").gauge().value()));
+        }
+    }
+}
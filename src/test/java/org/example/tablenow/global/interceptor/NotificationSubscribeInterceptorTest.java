@@ -0,0 +1,91 @@
+package org.example.tablenow.global.interceptor;
+
+import org.example.tablenow.global.exception.ErrorCode;
+import org.example.tablenow.global.exception.HandledException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationSubscribeInterceptorTest {
+
+    private final NotificationSubscribeInterceptor interceptor = new NotificationSubscribeInterceptor();
+
+    private Message<byte[]> subscribe(String destination, Long sessionUserId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put("userId", sessionUserId);
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Nested
+    class 알림_구독 {
+
+        @Test
+        void 본인_알림_구독_성공() {
+            // given
+            Message<byte[]> message = subscribe("/topic/notification/1", 1L);
+
+            // when
+            Message<?> result = interceptor.preSend(message, null);
+
+            // then
+            assertThat(result).isSameAs(message);
+        }
+
+        @Test
+        void 타인_알림_구독시_예외처리() {
+            // given
+            Message<byte[]> message = subscribe("/exchange/amq.topic/notification.2", 1L);
+
+            // when & then
+            assertThatThrownBy(() -> interceptor.preSend(message, null))
+                    .isInstanceOf(HandledException.class)
+                    .hasMessageContaining(ErrorCode.NOTIFICATION_SUBSCRIBE_FORBIDDEN.getDefaultMessage());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "/topic/**",
+                "/topic/notification/*",
+                "/topic/notification/{userId}",
+                "/topic/notification/?",
+                "/exchange/amq.topic/#",
+                "/exchange/amq.topic/notification.*"
+        })
+        void 와일드카드_경로_구독시_예외처리(String destination) {
+            // given
+            Message<byte[]> message = subscribe(destination, 1L);
+
+            // when & then
+            assertThatThrownBy(() -> interceptor.preSend(message, null))
+                    .isInstanceOf(HandledException.class)
+                    .hasMessageContaining(ErrorCode.SUBSCRIBE_PATTERN_FORBIDDEN.getDefaultMessage());
+        }
+
+        @Test
+        void 채팅_토픽은_그대로_구독() {
+            // given
+            Message<byte[]> message = subscribe("/topic/chat/10", 1L);
+
+            // when
+            Message<?> result = interceptor.preSend(message, null);
+
+            // then
+            assertThat(result).isSameAs(message);
+        }
+    }
+}